@@ -0,0 +1,82 @@
+# scripts/compare-thread-modes.ps1
+# Runs the same ApacheBench load against the platform-thread and virtual-thread modes
+# of the docker-compose stack (2 CPUs, like the production pods) and prints a summary.
+# Requires docker compose and ab (apache2-utils) on the PATH.
+param(
+    [int[]]$Concurrency = @(50, 200, 1000),
+    [int]$Requests = 20000,
+    [int]$Seed = 200
+)
+
+$ErrorActionPreference = "Stop"
+$compose = "docker/docker-compose.yml"
+$baseUrl = "http://localhost:8080/api/v1/properties"
+$results = @()
+
+function Wait-ForApi {
+    for ($i = 0; $i -lt 60; $i++) {
+        try {
+            Invoke-RestMethod "${baseUrl}?limit=1" | Out-Null
+            return
+        } catch {
+            Start-Sleep -Seconds 2
+        }
+    }
+    throw "API did not become ready"
+}
+
+function Invoke-Ab([string]$url, [int]$c) {
+    $output = ab -q -n $Requests -c $c -s 30 $url 2>&1 | Out-String
+    [pscustomobject]@{
+        Throughput = [double]([regex]::Match($output, 'Requests per second:\s+([\d.]+)').Groups[1].Value)
+        P50        = [int]([regex]::Match($output, '\s50%\s+(\d+)').Groups[1].Value)
+        P99        = [int]([regex]::Match($output, '\s99%\s+(\d+)').Groups[1].Value)
+        Failed     = [int]([regex]::Match($output, 'Failed requests:\s+(\d+)').Groups[1].Value)
+        Non2xx     = [int]([regex]::Match($output, 'Non-2xx responses:\s+(\d+)').Groups[1].Value)
+    }
+}
+
+foreach ($mode in @("platform", "virtual")) {
+    Write-Host "`n=== $mode threads ===" -ForegroundColor Cyan
+    $env:VIRTUAL_THREADS_ENABLED = if ($mode -eq "virtual") { "true" } else { "false" }
+    docker compose -f $compose down -v | Out-Null
+    docker compose -f $compose up -d --build | Out-Null
+    Wait-ForApi
+
+    $ids = @()
+    for ($i = 0; $i -lt $Seed; $i++) {
+        $body = @{ address = "$i Benchmark Street"; type = "APARTMENT"; rentPrice = 1000 + $i } | ConvertTo-Json
+        $ids += (Invoke-RestMethod -Method Post -Uri $baseUrl -ContentType "application/json" -Body $body).id
+    }
+
+    $targets = [ordered]@{
+        "list"   = "${baseUrl}?limit=50"
+        "get"    = "$baseUrl/$($ids[0])"
+        "search" = "$baseUrl/search?address=street&limit=20"
+    }
+    foreach ($c in $Concurrency) {
+        foreach ($name in $targets.Keys) {
+            $r = Invoke-Ab $targets[$name] $c
+            Write-Host ("{0,-7} c={1,-5} {2,8:N0} req/s  p50={3}ms  p99={4}ms  failed={5} non2xx={6}" -f `
+                $name, $c, $r.Throughput, $r.P50, $r.P99, $r.Failed, $r.Non2xx)
+            $results += [pscustomobject]@{
+                Mode = $mode; Endpoint = $name; Concurrency = $c
+                Throughput = $r.Throughput; P50 = $r.P50; P99 = $r.P99; Failed = $r.Failed; Non2xx = $r.Non2xx
+            }
+        }
+    }
+}
+
+docker compose -f $compose down -v | Out-Null
+Remove-Item Env:VIRTUAL_THREADS_ENABLED
+
+Write-Host "`n=== Virtual vs platform ===" -ForegroundColor Yellow
+foreach ($row in $results | Where-Object Mode -eq "virtual") {
+    $base = $results | Where-Object { $_.Mode -eq "platform" -and $_.Endpoint -eq $row.Endpoint -and $_.Concurrency -eq $row.Concurrency }
+    $gain = if ($base.Throughput -gt 0) { ($row.Throughput / $base.Throughput - 1) * 100 } else { 0 }
+    Write-Host ("{0,-7} c={1,-5} throughput {2,7:N1}%  p99 {3}ms -> {4}ms" -f `
+        $row.Endpoint, $row.Concurrency, $gain, $base.P99, $row.P99)
+}
+New-Item -ItemType Directory -Force -Path "target" | Out-Null
+$results | Export-Csv -NoTypeInformation -Path "target/thread-mode-comparison.csv"
+Write-Host "`n[OK] Results written to target/thread-mode-comparison.csv" -ForegroundColor Green
@@ -0,0 +1,48 @@
+package com.propertymanagement.benchmark;
+
+import com.propertymanagement.domain.Property;
+import com.propertymanagement.domain.PropertyStatus;
+import com.propertymanagement.domain.PropertyType;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+/**
+ * Deterministic fixtures, so every run and every fork measures the same data.
+ */
+final class BenchmarkData {
+
+    private static final PropertyStatus[] STATUSES = PropertyStatus.values();
+    private static final PropertyType[] TYPES = PropertyType.values();
+
+    private BenchmarkData() {
+    }
+
+    static List<Property> properties(int count) {
+        SplittableRandom random = new SplittableRandom(42);
+        LocalDateTime createdAt = LocalDateTime.of(2024, 1, 1, 0, 0);
+        List<Property> properties = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Property property = new Property();
+            property.setId(new UUID(random.nextLong(), random.nextLong()));
+            property.setAddress(i + " Benchmark Street, Springfield");
+            property.setType(TYPES[random.nextInt(TYPES.length)]);
+            property.setBedrooms(random.nextInt(6));
+            property.setBathrooms(1 + random.nextInt(3));
+            property.setSquareMeters(25 + random.nextInt(200) + 0.5);
+            // Scale 2, like values read from the DECIMAL(10, 2) column
+            property.setRentPrice(BigDecimal.valueOf(50_000 + random.nextInt(500_000), 2));
+            property.setStatus(STATUSES[random.nextInt(STATUSES.length)]);
+            property.setDescription("Bright unit with balcony and storage, close to transport.");
+            property.setCreatedAt(createdAt.plusMinutes(i));
+            property.setUpdatedAt(createdAt.plusMinutes(i));
+            property.setVersion(0L);
+            properties.add(property);
+        }
+        return properties;
+    }
+}
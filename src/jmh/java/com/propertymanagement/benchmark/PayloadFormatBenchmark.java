@@ -0,0 +1,95 @@
+package com.propertymanagement.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.github.luben.zstd.Zstd;
+import com.propertymanagement.api.dto.response.PropertyResponse;
+import com.propertymanagement.infrastructure.codec.PropertyProtobuf;
+import com.propertymanagement.infrastructure.mapper.PropertyMapperImpl;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * The negotiable representations of a property list: encode and decode cost per format,
+ * and what gzip (Tomcat) and zstd (level 3, as configured) add on top. Payload sizes are
+ * printed once per trial.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PayloadFormatBenchmark {
+
+    @Param({"100", "1000"})
+    private int size;
+
+    @Param({"json", "cbor", "smile", "protobuf"})
+    private String format;
+
+    private ObjectWriter writer;
+    private ObjectReader reader;
+    private List<PropertyResponse> responses;
+    private byte[] payload;
+
+    @Setup
+    public void setUp() throws IOException {
+        PropertyMapperImpl mapper = new PropertyMapperImpl();
+        responses = BenchmarkData.properties(size).stream().map(mapper::toResponse).toList();
+        ObjectMapper objectMapper = switch (format) {
+            case "cbor" -> Jackson2ObjectMapperBuilder.json().factory(new CBORFactory()).build();
+            case "smile" -> Jackson2ObjectMapperBuilder.json().factory(new SmileFactory()).build();
+            default -> Jackson2ObjectMapperBuilder.json().build();
+        };
+        writer = objectMapper.writerFor(objectMapper.getTypeFactory()
+                .constructCollectionType(List.class, PropertyResponse.class));
+        reader = objectMapper.readerFor(objectMapper.getTypeFactory()
+                .constructCollectionType(List.class, PropertyResponse.class));
+        payload = serialize();
+        System.out.printf("%n%s x %d: %d bytes, gzip %d, zstd %d%n",
+                format, size, payload.length, gzip().length, zstd().length);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws IOException {
+        if ("protobuf".equals(format)) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            PropertyProtobuf.writeList(responses, out);
+            return out.toByteArray();
+        }
+        return writer.writeValueAsBytes(responses);
+    }
+
+    @Benchmark
+    public List<PropertyResponse> deserialize() throws IOException {
+        if ("protobuf".equals(format)) {
+            return PropertyProtobuf.readList(new ByteArrayInputStream(payload));
+        }
+        return reader.readValue(payload);
+    }
+
+    @Benchmark
+    public byte[] gzip() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(payload.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(payload);
+        }
+        return out.toByteArray();
+    }
+
+    @Benchmark
+    public byte[] zstd() {
+        return Zstd.compress(payload, 3);
+    }
+}
@@ -0,0 +1,73 @@
+package com.propertymanagement.benchmark;
+
+import com.propertymanagement.domain.Property;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BigDecimal comparisons on rent prices. Prices carry scale 2 while request parameters
+ * such as "3000" arrive with scale 0, so compareTo has to rescale one side; the
+ * positivity check in validation can use signum instead of comparing against ZERO.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PriceComparisonBenchmark {
+
+    @Param({"1000"})
+    private int size;
+
+    private BigDecimal[] prices;
+    private final BigDecimal boundSameScale = new BigDecimal("3000.00");
+    private final BigDecimal boundMixedScale = new BigDecimal("3000");
+    private final BigDecimal boundLargeMixedScale = new BigDecimal("999999999");
+
+    @Setup
+    public void setUp() {
+        List<Property> properties = BenchmarkData.properties(size);
+        prices = properties.stream().map(Property::getRentPrice).toArray(BigDecimal[]::new);
+    }
+
+    @Benchmark
+    public void compareSameScale(Blackhole blackhole) {
+        for (BigDecimal price : prices) {
+            blackhole.consume(price.compareTo(boundSameScale) <= 0);
+        }
+    }
+
+    @Benchmark
+    public void compareMixedScale(Blackhole blackhole) {
+        for (BigDecimal price : prices) {
+            blackhole.consume(price.compareTo(boundMixedScale) <= 0);
+        }
+    }
+
+    // The original default upper bound when only minPrice was given
+    @Benchmark
+    public void compareLargeMixedScale(Blackhole blackhole) {
+        for (BigDecimal price : prices) {
+            blackhole.consume(price.compareTo(boundLargeMixedScale) <= 0);
+        }
+    }
+
+    @Benchmark
+    public void compareToZero(Blackhole blackhole) {
+        for (BigDecimal price : prices) {
+            blackhole.consume(price.compareTo(BigDecimal.ZERO) <= 0);
+        }
+    }
+
+    @Benchmark
+    public void signum(Blackhole blackhole) {
+        for (BigDecimal price : prices) {
+            blackhole.consume(price.signum() <= 0);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.propertymanagement.benchmark;
+
+import com.propertymanagement.domain.Property;
+import com.propertymanagement.domain.PropertyStatus;
+import com.propertymanagement.domain.PropertyType;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The in-memory filtering the list endpoint did before filters moved into the query
+ * (PropertySpecifications): load everything, then filter by status/type and price range.
+ * Kept as the baseline that shows what each request paid per loaded row.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PropertyFilterBenchmark {
+
+    @Param({"10", "100", "1000", "10000"})
+    private int size;
+
+    private final PropertyStatus status = PropertyStatus.AVAILABLE;
+    private final PropertyType type = PropertyType.APARTMENT;
+    private final BigDecimal minPrice = new BigDecimal("1000");
+    private final BigDecimal maxPrice = new BigDecimal("3000");
+    private List<Property> properties;
+
+    @Setup
+    public void setUp() {
+        properties = BenchmarkData.properties(size);
+    }
+
+    @Benchmark
+    public List<Property> statusAndType() {
+        return properties.stream()
+                .filter(p -> p.getStatus() == status && p.getType() == type)
+                .toList();
+    }
+
+    // Two passes and two intermediate lists, as in the original controller
+    @Benchmark
+    public List<Property> statusTypeThenPriceRange() {
+        List<Property> matching = statusAndType();
+        return matching.stream()
+                .filter(p -> p.getRentPrice().compareTo(minPrice) >= 0
+                        && p.getRentPrice().compareTo(maxPrice) <= 0)
+                .toList();
+    }
+
+    @Benchmark
+    public List<Property> singlePass() {
+        return properties.stream()
+                .filter(p -> p.getStatus() == status && p.getType() == type
+                        && p.getRentPrice().compareTo(minPrice) >= 0
+                        && p.getRentPrice().compareTo(maxPrice) <= 0)
+                .toList();
+    }
+}
@@ -0,0 +1,40 @@
+package com.propertymanagement.benchmark;
+
+import com.propertymanagement.api.dto.response.PropertyResponse;
+import com.propertymanagement.domain.Property;
+import com.propertymanagement.infrastructure.mapper.PropertyMapper;
+import com.propertymanagement.infrastructure.mapper.PropertyMapperImpl;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity to DTO mapping, done once per property in every list response.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PropertyMapperBenchmark {
+
+    @Param({"10", "100", "1000", "10000"})
+    private int size;
+
+    private final PropertyMapper mapper = new PropertyMapperImpl();
+    private List<Property> properties;
+
+    @Setup
+    public void setUp() {
+        properties = BenchmarkData.properties(size);
+    }
+
+    @Benchmark
+    public List<PropertyResponse> toResponse() {
+        return properties.stream()
+                .map(mapper::toResponse)
+                .toList();
+    }
+}
@@ -0,0 +1,137 @@
+package com.propertymanagement.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Stream;
+
+/**
+ * Open-loop load: request i is due at {@code start + i / rate} no matter how earlier
+ * requests fare, and its latency is measured from that due time. Time spent queued
+ * behind a slow server is therefore recorded instead of silently skipped, which is
+ * the coordinated-omission correction a closed-loop client would need to estimate.
+ */
+final class LoadGenerator {
+
+    private final HttpClient client;
+    private final URI base;
+    private final List<UUID> ids;
+    private final LoadTestConfig config;
+    private final Operation[] weighted;
+
+    LoadGenerator(HttpClient client, URI base, List<UUID> ids, LoadTestConfig config) {
+        this.client = client;
+        this.base = base;
+        this.ids = ids;
+        this.config = config;
+        this.weighted = config.mix().entrySet().stream()
+                .flatMap(entry -> Stream.generate(entry::getKey).limit(entry.getValue()))
+                .toArray(Operation[]::new);
+    }
+
+    Result run(Duration length) throws InterruptedException {
+        Map<Operation, Recorder> recorders = new EnumMap<>(Operation.class);
+        Map<Operation, LongAdder> errors = new EnumMap<>(Operation.class);
+        for (Operation operation : config.mix().keySet()) {
+            recorders.put(operation, new Recorder(3));
+            errors.put(operation, new LongAdder());
+        }
+        
+        ExecutorService workers = Executors.newFixedThreadPool(config.concurrency());
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / config.rate();
+        long requests = length.toNanos() / intervalNanos;
+        long start = System.nanoTime();
+        for (long i = 0; i < requests; i++) {
+            long due = start + i * intervalNanos;
+            long wait;
+            while ((wait = due - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            Operation operation = weighted[ThreadLocalRandom.current().nextInt(weighted.length)];
+            workers.execute(new Request(operation, due, recorders.get(operation), errors.get(operation)));
+        }
+        workers.shutdown();
+        if (!workers.awaitTermination(length.toMillis() + config.timeout().toMillis() * 2, TimeUnit.MILLISECONDS)) {
+            // Requests still queued when the server stalled are the worst of the run: count
+            // them as failed at the time waited so far, or they drop out of the tail
+            for (Runnable queued : workers.shutdownNow()) {
+                ((Request) queued).fail();
+            }
+            workers.awaitTermination(config.timeout().toMillis(), TimeUnit.MILLISECONDS);
+        }
+        long elapsedNanos = System.nanoTime() - start;
+        
+        Map<Operation, Histogram> histograms = new EnumMap<>(Operation.class);
+        Map<Operation, Long> errorCounts = new EnumMap<>(Operation.class);
+        recorders.forEach((operation, recorder) -> histograms.put(operation, recorder.getIntervalHistogram()));
+        errors.forEach((operation, count) -> errorCounts.put(operation, count.sum()));
+        return new Result(histograms, errorCounts, Duration.ofNanos(elapsedNanos));
+    }
+
+    private final class Request implements Runnable {
+
+        private final Operation operation;
+        private final long due;
+        private final Recorder recorder;
+        private final LongAdder errors;
+
+        Request(Operation operation, long due, Recorder recorder, LongAdder errors) {
+            this.operation = operation;
+            this.due = due;
+            this.recorder = recorder;
+            this.errors = errors;
+        }
+
+        @Override
+        public void run() {
+            boolean ok = send(operation);
+            record();
+            if (!ok) {
+                errors.increment();
+            }
+        }
+
+        void fail() {
+            record();
+            errors.increment();
+        }
+
+        private void record() {
+            recorder.recordValue(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - due));
+        }
+    }
+
+    private boolean send(Operation operation) {
+        UUID id = ids.get(ThreadLocalRandom.current().nextInt(ids.size()));
+        try {
+            HttpResponse<Void> response = client.send(
+                    operation.request(base, id).timeout(config.timeout()).build(),
+                    HttpResponse.BodyHandlers.discarding());
+            return response.statusCode() < 400;
+        } catch (IOException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    // Latencies in microseconds, from each request's due time to its completion
+    record Result(Map<Operation, Histogram> histograms, Map<Operation, Long> errors, Duration elapsed) {
+    }
+}
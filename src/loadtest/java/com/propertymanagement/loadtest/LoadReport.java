@@ -0,0 +1,110 @@
+package com.propertymanagement.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Percentiles and throughput per operation and overall, printed as a table and written
+ * to {@code report.json}, plus one HdrHistogram {@code .hgrm} percentile file per row
+ * for plotting. Latencies are reported in milliseconds.
+ */
+final class LoadReport {
+
+    static final String ALL = "all";
+
+    private final LoadTestConfig config;
+    private final LoadGenerator.Result result;
+    private final Histogram all;
+
+    LoadReport(LoadTestConfig config, LoadGenerator.Result result) {
+        this.config = config;
+        this.result = result;
+        this.all = new Histogram(3);
+        result.histograms().values().forEach(all::add);
+    }
+
+    record Row(String operation, long requests, long errors, double throughput,
+               double p50, double p99, double p999, double max) {
+    }
+
+    record Report(int targetRate, long durationSeconds, List<Row> operations, List<String> sloBreaches) {
+    }
+
+    List<Row> rows() {
+        List<Row> rows = new ArrayList<>();
+        result.histograms().forEach((operation, histogram) ->
+                rows.add(row(operation.label(), histogram, result.errors().get(operation))));
+        rows.add(row(ALL, all, result.errors().values().stream().mapToLong(Long::longValue).sum()));
+        return rows;
+    }
+
+    List<String> sloBreaches() {
+        List<String> breaches = new ArrayList<>();
+        for (LoadTestConfig.Slo slo : config.slos()) {
+            Histogram histogram = slo.operation() == null ? all : result.histograms().get(slo.operation());
+            if (histogram == null || histogram.getTotalCount() == 0) {
+                continue;
+            }
+            double actual = millis(histogram.getValueAtPercentile(slo.percentile()));
+            if (actual > slo.maxMillis()) {
+                String operation = slo.operation() == null ? ALL : slo.operation().label();
+                breaches.add("%s %s %.2f ms > %d ms".formatted(operation, slo.label(), actual, slo.maxMillis()));
+            }
+        }
+        long errors = result.errors().values().stream().mapToLong(Long::longValue).sum();
+        double errorRate = all.getTotalCount() == 0 ? 0 : (double) errors / all.getTotalCount();
+        if (errorRate > config.maxErrorRate()) {
+            breaches.add("error rate %.4f > %.4f".formatted(errorRate, config.maxErrorRate()));
+        }
+        return breaches;
+    }
+
+    void print(PrintStream out) {
+        out.printf("%n%-8s %9s %7s %10s %9s %9s %9s %9s%n",
+                "op", "requests", "errors", "req/s", "p50 ms", "p99 ms", "p999 ms", "max ms");
+        for (Row row : rows()) {
+            out.printf("%-8s %9d %7d %10.1f %9.2f %9.2f %9.2f %9.2f%n", row.operation(), row.requests(),
+                    row.errors(), row.throughput(), row.p50(), row.p99(), row.p999(), row.max());
+        }
+    }
+
+    void write(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        Report report = new Report(config.rate(), config.duration().toSeconds(), rows(), sloBreaches());
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(directory.resolve("report.json").toFile(), report);
+        
+        for (Map.Entry<Operation, Histogram> entry : result.histograms().entrySet()) {
+            writeDistribution(directory.resolve(entry.getKey().label() + ".hgrm"), entry.getValue());
+        }
+        writeDistribution(directory.resolve(ALL + ".hgrm"), all);
+    }
+
+    private Row row(String operation, Histogram histogram, long errors) {
+        double seconds = result.elapsed().toNanos() / 1e9;
+        return new Row(operation, histogram.getTotalCount(), errors, histogram.getTotalCount() / seconds,
+                millis(histogram.getValueAtPercentile(50)),
+                millis(histogram.getValueAtPercentile(99)),
+                millis(histogram.getValueAtPercentile(99.9)),
+                millis(histogram.getMaxValue()));
+    }
+
+    private static void writeDistribution(Path file, Histogram histogram) throws IOException {
+        try (PrintStream out = new PrintStream(Files.newOutputStream(file))) {
+            histogram.outputPercentileDistribution(out, 1000.0);
+        }
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+}
@@ -0,0 +1,111 @@
+package com.propertymanagement.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.propertymanagement.PropertyManagementApplication;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Drives the configured traffic mix against the API at a fixed arrival rate and fails
+ * (exit code 1) when an SLO in {@code loadtest.properties} is breached. Without a
+ * {@code target} the application is started in-process, on H2 or a local PostgreSQL
+ * depending on {@code profile}.
+ * <p>
+ * {@code mvn -P loadtest -DskipTests verify -Dloadtest.args="--rate=500"}
+ */
+public final class LoadTest {
+
+    private static final Path REPORT_DIRECTORY = Path.of("target", "loadtest");
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.load(args);
+        ConfigurableApplicationContext application = null;
+        List<String> breaches;
+        try {
+            String target = config.target();
+            if (target.isEmpty()) {
+                application = start(config);
+                target = "http://localhost:" + ((WebServerApplicationContext) application).getWebServer().getPort();
+            }
+            URI base = URI.create(target.endsWith("/") ? target : target + "/").resolve("api/v1/");
+            HttpClient client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(config.timeout())
+                    .build();
+            
+            List<UUID> ids = seed(client, base, config.seed());
+            LoadGenerator generator = new LoadGenerator(client, base, ids, config);
+            System.out.printf("Warming up for %s at %d req/s%n", config.warmup(), config.rate());
+            generator.run(config.warmup());
+            System.out.printf("Measuring for %s at %d req/s against %s%n", config.duration(), config.rate(), base);
+            LoadReport report = new LoadReport(config, generator.run(config.duration()));
+            
+            report.print(System.out);
+            report.write(REPORT_DIRECTORY);
+            breaches = report.sloBreaches();
+        } finally {
+            if (application != null) {
+                application.close();
+            }
+        }
+        
+        if (!breaches.isEmpty()) {
+            System.out.println("\nSLO breached:");
+            breaches.forEach(breach -> System.out.println("  " + breach));
+            System.exit(1);
+        }
+        System.out.println("\nAll SLOs met; report in " + REPORT_DIRECTORY.resolve("report.json"));
+        System.exit(0);
+    }
+
+    // SQL and bind-parameter logging would dominate the measurement
+    private static ConfigurableApplicationContext start(LoadTestConfig config) {
+        Map<String, Object> defaults = new LinkedHashMap<>();
+        defaults.put("server.port", 0);
+        defaults.put("management.server.port", 0);
+        defaults.put("spring.profiles.active", config.profile());
+        defaults.put("spring.jpa.show-sql", false);
+        defaults.put("logging.level.com.propertymanagement", "INFO");
+        defaults.put("logging.level.org.hibernate.SQL", "WARN");
+        defaults.put("logging.level.org.hibernate.type.descriptor.sql.BasicBinder", "WARN");
+        defaults.putAll(config.appProperties());
+        
+        // As command-line arguments, so they win over the profile's own configuration
+        String[] args = defaults.entrySet().stream()
+                .map(entry -> "--" + entry.getKey() + "=" + entry.getValue())
+                .toArray(String[]::new);
+        return SpringApplication.run(PropertyManagementApplication.class, args);
+    }
+
+    private static List<UUID> seed(HttpClient client, URI base, int count) throws IOException, InterruptedException {
+        ObjectMapper objectMapper = new ObjectMapper();
+        List<UUID> ids = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            HttpResponse<String> response = client.send(HttpRequest.newBuilder(base.resolve("properties"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(Operation.body(i)))
+                    .build(), HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 201) {
+                throw new IllegalStateException("Seeding failed with " + response.statusCode() + ": " + response.body());
+            }
+            ids.add(UUID.fromString(objectMapper.readTree(response.body()).get("id").asText()));
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,96 @@
+package com.propertymanagement.loadtest;
+
+import org.springframework.boot.convert.DurationStyle;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Settings from {@code loadtest.properties}, overridden by {@code --key=value} arguments.
+ */
+record LoadTestConfig(
+        String target,
+        String profile,
+        Map<String, String> appProperties,
+        int rate,
+        Duration warmup,
+        Duration duration,
+        int concurrency,
+        Duration timeout,
+        int seed,
+        Map<Operation, Integer> mix,
+        List<Slo> slos,
+        double maxErrorRate
+) {
+
+    // A latency bound in milliseconds at a percentile; operation is null for all traffic
+    record Slo(Operation operation, double percentile, String label, long maxMillis) {
+    }
+
+    private static final Map<String, Double> PERCENTILES = Map.of("p50", 50.0, "p99", 99.0, "p999", 99.9);
+
+    static LoadTestConfig load(String[] args) {
+        Properties properties = new Properties();
+        try (InputStream in = LoadTestConfig.class.getResourceAsStream("/loadtest.properties")) {
+            properties.load(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --key=value but got: " + arg);
+            }
+            int split = arg.indexOf('=');
+            properties.setProperty(arg.substring(2, split), arg.substring(split + 1));
+        }
+        
+        Map<String, String> appProperties = new LinkedHashMap<>();
+        Map<Operation, Integer> mix = new EnumMap<>(Operation.class);
+        List<Slo> slos = new ArrayList<>();
+        for (String key : properties.stringPropertyNames()) {
+            String value = properties.getProperty(key).trim();
+            if (key.startsWith("app.")) {
+                appProperties.put(key.substring("app.".length()), value);
+            } else if (key.startsWith("mix.")) {
+                mix.put(Operation.parse(key.substring("mix.".length())), Integer.parseInt(value));
+            } else if (key.startsWith("slo.") && !key.equals("slo.error-rate")) {
+                slos.add(slo(key, value));
+            }
+        }
+        if (mix.values().stream().mapToInt(Integer::intValue).sum() <= 0) {
+            throw new IllegalArgumentException("The traffic mix needs at least one positive weight");
+        }
+        
+        return new LoadTestConfig(
+                properties.getProperty("target", "").trim(),
+                properties.getProperty("profile", "test").trim(),
+                appProperties,
+                Integer.parseInt(properties.getProperty("rate")),
+                DurationStyle.detectAndParse(properties.getProperty("warmup")),
+                DurationStyle.detectAndParse(properties.getProperty("duration")),
+                Integer.parseInt(properties.getProperty("concurrency")),
+                DurationStyle.detectAndParse(properties.getProperty("timeout")),
+                Integer.parseInt(properties.getProperty("seed")),
+                mix,
+                slos,
+                Double.parseDouble(properties.getProperty("slo.error-rate", "0")));
+    }
+
+    // slo.<operation|all>.<p50|p99|p999>
+    private static Slo slo(String key, String value) {
+        String[] parts = key.split("\\.");
+        if (parts.length != 3 || !PERCENTILES.containsKey(parts[2])) {
+            throw new IllegalArgumentException("Expected slo.<operation|all>.<p50|p99|p999> but got: " + key);
+        }
+        Operation operation = parts[1].equals("all") ? null : Operation.parse(parts[1]);
+        return new Slo(operation, PERCENTILES.get(parts[2]), parts[2], Long.parseLong(value));
+    }
+}
@@ -0,0 +1,70 @@
+package com.propertymanagement.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * The request kinds in the traffic mix, shaped like the calls real clients make.
+ */
+enum Operation {
+
+    LIST {
+        @Override
+        HttpRequest.Builder request(URI base, UUID id) {
+            return HttpRequest.newBuilder(base.resolve("properties?limit=50&status=AVAILABLE")).GET();
+        }
+    },
+    GET {
+        @Override
+        HttpRequest.Builder request(URI base, UUID id) {
+            return HttpRequest.newBuilder(base.resolve("properties/" + id)).GET();
+        }
+    },
+    SEARCH {
+        @Override
+        HttpRequest.Builder request(URI base, UUID id) {
+            String term = STREETS[ThreadLocalRandom.current().nextInt(STREETS.length)];
+            return HttpRequest.newBuilder(base.resolve("properties/search?limit=20&address=" + term)).GET();
+        }
+    },
+    CREATE {
+        @Override
+        HttpRequest.Builder request(URI base, UUID id) {
+            return HttpRequest.newBuilder(base.resolve("properties"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body(ThreadLocalRandom.current().nextInt(100_000))));
+        }
+    },
+    UPDATE {
+        @Override
+        HttpRequest.Builder request(URI base, UUID id) {
+            return HttpRequest.newBuilder(base.resolve("properties/" + id))
+                    .header("Content-Type", "application/json")
+                    .PUT(HttpRequest.BodyPublishers.ofString(body(ThreadLocalRandom.current().nextInt(100_000))));
+        }
+    };
+
+    static final String[] STREETS = {"Oak", "Maple", "Harbor", "Station", "Mill"};
+
+    // base ends in /api/v1/; id is one of the seeded properties
+    abstract HttpRequest.Builder request(URI base, UUID id);
+
+    String label() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+
+    static Operation parse(String label) {
+        return valueOf(label.toUpperCase(Locale.ROOT));
+    }
+
+    static String body(int n) {
+        return """
+                {"address":"%d %s Street","type":"APARTMENT","bedrooms":%d,"bathrooms":1,\
+                "squareMeters":%d.5,"rentPrice":%d.00,"status":"AVAILABLE",\
+                "description":"Load test property"}""".formatted(
+                n, STREETS[n % STREETS.length], n % 5, 30 + n % 150, 500 + n % 4_000);
+    }
+}
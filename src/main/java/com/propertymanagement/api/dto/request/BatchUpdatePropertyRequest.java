@@ -0,0 +1,19 @@
+package com.propertymanagement.api.dto.request;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@EqualsAndHashCode(callSuper = true)
+@ToString(callSuper = true)
+public class BatchUpdatePropertyRequest extends UpdatePropertyRequest {
+    
+    @NotNull(message = "Id is required")
+    private UUID id;
+}
@@ -0,0 +1,21 @@
+package com.propertymanagement.api.dto.request;
+
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.util.UUID;
+
+/**
+ * One row of an import feed. With an id the row replaces that property (or creates
+ * it under that id); without one a new property is created.
+ */
+@Data
+@NoArgsConstructor
+@EqualsAndHashCode(callSuper = true)
+@ToString(callSuper = true)
+public class ImportPropertyRequest extends CreatePropertyRequest {
+    
+    private UUID id;
+}
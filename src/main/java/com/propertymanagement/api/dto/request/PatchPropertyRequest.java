@@ -0,0 +1,53 @@
+package com.propertymanagement.api.dto.request;
+
+import com.propertymanagement.domain.PropertyStatus;
+import com.propertymanagement.domain.PropertyType;
+import jakarta.validation.constraints.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * Same constraints as {@link UpdatePropertyRequest}, but every field is optional:
+ * absent or null fields are left unchanged.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PatchPropertyRequest {
+    
+    @Size(min = 1, max = 255, message = "Address must be between 1 and 255 characters")
+    private String address;
+    
+    private PropertyType type;
+    
+    @Min(value = 0, message = "Bedrooms must be 0 or greater")
+    @Max(value = 50, message = "Bedrooms must not exceed 50")
+    private Integer bedrooms;
+    
+    @Min(value = 0, message = "Bathrooms must be 0 or greater")
+    @Max(value = 20, message = "Bathrooms must not exceed 20")
+    private Integer bathrooms;
+    
+    @DecimalMin(value = "0.01", message = "Square meters must be greater than 0")
+    private Double squareMeters;
+    
+    @DecimalMin(value = "0.01", message = "Rent price must be greater than 0")
+    @Digits(integer = 8, fraction = 2, message = "Rent price must have at most 8 integer digits and 2 decimal places")
+    private BigDecimal rentPrice;
+    
+    private PropertyStatus status;
+    
+    @Size(max = 2000, message = "Description must not exceed 2000 characters")
+    private String description;
+    
+    @DecimalMin(value = "-90.0", message = "Latitude must be between -90 and 90")
+    @DecimalMax(value = "90.0", message = "Latitude must be between -90 and 90")
+    private Double latitude;
+    
+    @DecimalMin(value = "-180.0", message = "Longitude must be between -180 and 180")
+    @DecimalMax(value = "180.0", message = "Longitude must be between -180 and 180")
+    private Double longitude;
+}
@@ -42,4 +42,12 @@ public class UpdatePropertyRequest {
     
     @Size(max = 2000, message = "Description must not exceed 2000 characters")
     private String description;
-}
\ No newline at end of file
+    
+    @DecimalMin(value = "-90.0", message = "Latitude must be between -90 and 90")
+    @DecimalMax(value = "90.0", message = "Latitude must be between -90 and 90")
+    private Double latitude;
+    
+    @DecimalMin(value = "-180.0", message = "Longitude must be between -180 and 180")
+    @DecimalMax(value = "180.0", message = "Longitude must be between -180 and 180")
+    private Double longitude;
+}
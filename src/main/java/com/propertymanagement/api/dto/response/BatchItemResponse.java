@@ -0,0 +1,20 @@
+package com.propertymanagement.api.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchItemResponse {
+    
+    private int index;          // Position in the request array
+    private UUID id;
+    private int status;         // HTTP status the item would have had as a single request
+    private PropertyResponse property;
+    private List<String> errors;
+}
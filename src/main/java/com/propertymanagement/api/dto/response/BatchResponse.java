@@ -0,0 +1,25 @@
+package com.propertymanagement.api.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchResponse {
+    
+    private int total;
+    private int succeeded;
+    private int failed;
+    private List<BatchItemResponse> results;
+    
+    public static BatchResponse of(List<BatchItemResponse> results) {
+        int succeeded = (int) results.stream()
+                .filter(result -> result.getStatus() < 300)
+                .count();
+        return new BatchResponse(results.size(), succeeded, results.size() - succeeded, results);
+    }
+}
@@ -0,0 +1,34 @@
+package com.propertymanagement.api.dto.response;
+
+import com.propertymanagement.domain.service.ImportResult;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportResponse {
+    
+    private long imported;
+    private long rejected;
+    private List<RejectedRow> rejections;
+    
+    public static ImportResponse of(ImportResult result) {
+        List<RejectedRow> rejections = result.rejections().stream()
+                .map(row -> new RejectedRow(row.line(), row.errors()))
+                .toList();
+        return new ImportResponse(result.imported(), result.rejected(), rejections);
+    }
+    
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RejectedRow {
+        
+        private long line;
+        private List<String> errors;
+    }
+}
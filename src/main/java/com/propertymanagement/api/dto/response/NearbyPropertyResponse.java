@@ -0,0 +1,17 @@
+package com.propertymanagement.api.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// A full property plus its distance from the search origin, as one flat JSON object
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class NearbyPropertyResponse {
+    
+    @JsonUnwrapped
+    private PropertyResponse property;
+    private double distanceKm;
+}
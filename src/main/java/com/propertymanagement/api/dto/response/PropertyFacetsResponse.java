@@ -0,0 +1,25 @@
+package com.propertymanagement.api.dto.response;
+
+import com.propertymanagement.domain.PropertyStatus;
+import com.propertymanagement.domain.PropertyType;
+import com.propertymanagement.domain.search.PropertyFacets;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PropertyFacetsResponse {
+    
+    private long total;
+    private Map<PropertyStatus, Long> byStatus;
+    private Map<PropertyType, Long> byType;
+    private Map<Integer, Long> byBedrooms;  // Only the bedroom counts that occur
+    
+    public static PropertyFacetsResponse of(PropertyFacets facets) {
+        return new PropertyFacetsResponse(facets.total(), facets.byStatus(), facets.byType(), facets.byBedrooms());
+    }
+}
@@ -24,6 +24,8 @@ public class PropertyResponse {
     private BigDecimal rentPrice;
     private PropertyStatus status;
     private String description;
+    private Double latitude;
+    private Double longitude;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 }
\ No newline at end of file
@@ -0,0 +1,44 @@
+package com.propertymanagement.api.dto.response;
+
+import com.propertymanagement.domain.PropertyStatus;
+import com.propertymanagement.domain.PropertyType;
+import com.propertymanagement.domain.service.PropertyStats;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PropertyStatsResponse {
+    
+    private long total;
+    private Map<PropertyStatus, Long> byStatus;
+    private Map<PropertyType, Long> byType;
+    private double occupancyRate;  // Share of all properties that are RENTED
+    private PriceSummary rentPrice;
+    private PriceSummary rentPerSquareMeter;
+    
+    public static PropertyStatsResponse of(PropertyStats stats) {
+        return new PropertyStatsResponse(stats.total(), stats.byStatus(), stats.byType(), stats.occupancyRate(),
+                PriceSummary.of(stats.rent()), PriceSummary.of(stats.rentPerSquareMeter()));
+    }
+    
+    // Median and p90 come from a 2% log-scale histogram and are within 1% of the exact value
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class PriceSummary {
+        
+        private BigDecimal average;
+        private BigDecimal median;
+        private BigDecimal p90;
+        
+        static PriceSummary of(PropertyStats.PriceStats stats) {
+            return new PriceSummary(stats.average(), stats.median(), stats.p90());
+        }
+    }
+}
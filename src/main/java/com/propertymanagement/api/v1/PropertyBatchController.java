@@ -0,0 +1,132 @@
+package com.propertymanagement.api.v1;
+
+import com.propertymanagement.api.dto.request.BatchUpdatePropertyRequest;
+import com.propertymanagement.api.dto.request.CreatePropertyRequest;
+import com.propertymanagement.api.dto.response.BatchItemResponse;
+import com.propertymanagement.api.dto.response.BatchResponse;
+import com.propertymanagement.domain.Property;
+import com.propertymanagement.domain.service.BatchItemResult;
+import com.propertymanagement.domain.service.PropertyBatchService;
+import com.propertymanagement.infrastructure.mapper.PropertyMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Bulk variants of the single-item endpoints. Every item is validated on its own and
+ * reported in the response; one bad item never fails the whole request.
+ */
+@RestController
+@RequestMapping("/api/v1/properties/batch")
+@RequiredArgsConstructor
+public class PropertyBatchController {
+    
+    private final PropertyBatchService propertyBatchService;
+    private final PropertyMapper propertyMapper;
+    private final Validator validator;
+    
+    @PostMapping
+    public ResponseEntity<BatchResponse> createProperties(
+            @RequestBody List<CreatePropertyRequest> requests) {
+        
+        BatchResponse response = run(requests, request -> null, HttpStatus.CREATED,
+                valid -> propertyBatchService.createAll(valid.stream()
+                        .map(propertyMapper::toDomain)
+                        .toList()));
+        
+        return ResponseEntity.ok(response);
+    }
+    
+    @PutMapping
+    public ResponseEntity<BatchResponse> updateProperties(
+            @RequestBody List<BatchUpdatePropertyRequest> requests) {
+        
+        BatchResponse response = run(requests, BatchUpdatePropertyRequest::getId, HttpStatus.OK,
+                valid -> propertyBatchService.updateAll(valid.stream()
+                        .map(this::toDomainForUpdate)
+                        .toList()));
+        
+        return ResponseEntity.ok(response);
+    }
+    
+    @DeleteMapping
+    public ResponseEntity<BatchResponse> deleteProperties(@RequestBody List<UUID> ids) {
+        BatchResponse response = run(ids, Function.identity(), HttpStatus.NO_CONTENT,
+                propertyBatchService::deleteAll);
+        
+        return ResponseEntity.ok(response);
+    }
+    
+    // Validates each item, sends the valid ones to the service and merges both
+    // outcomes back into request order
+    private <T> BatchResponse run(
+            List<T> requests,
+            Function<T, UUID> idOf,
+            HttpStatus successStatus,
+            Function<List<T>, List<BatchItemResult>> operation) {
+        
+        BatchItemResponse[] responses = new BatchItemResponse[requests.size()];
+        List<Integer> validIndexes = new ArrayList<>();
+        List<T> valid = new ArrayList<>();
+        
+        for (int i = 0; i < requests.size(); i++) {
+            T request = requests.get(i);
+            List<String> errors = validate(request);
+            if (errors.isEmpty()) {
+                validIndexes.add(i);
+                valid.add(request);
+            } else {
+                UUID id = request != null ? idOf.apply(request) : null;
+                responses[i] = new BatchItemResponse(i, id, HttpStatus.BAD_REQUEST.value(), null, errors);
+            }
+        }
+        
+        List<BatchItemResult> results = valid.isEmpty() ? List.of() : operation.apply(valid);
+        for (int k = 0; k < results.size(); k++) {
+            int index = validIndexes.get(k);
+            responses[index] = toItemResponse(index, results.get(k), successStatus);
+        }
+        
+        return BatchResponse.of(Arrays.asList(responses));
+    }
+    
+    private <T> List<String> validate(T request) {
+        if (request == null) {
+            return List.of("Item must not be null");
+        }
+        return validator.validate(request).stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .toList();
+    }
+    
+    private BatchItemResponse toItemResponse(int index, BatchItemResult result, HttpStatus successStatus) {
+        HttpStatus status = switch (result.outcome()) {
+            case SUCCEEDED -> successStatus;
+            case REJECTED -> HttpStatus.BAD_REQUEST;
+            case NOT_FOUND -> HttpStatus.NOT_FOUND;
+            case FAILED -> HttpStatus.INTERNAL_SERVER_ERROR;
+        };
+        return new BatchItemResponse(
+                index,
+                result.id(),
+                status.value(),
+                result.property() != null ? propertyMapper.toResponse(result.property()) : null,
+                result.error() != null ? List.of(result.error()) : null);
+    }
+    
+    private Property toDomainForUpdate(BatchUpdatePropertyRequest request) {
+        Property property = propertyMapper.toDomainForUpdate(request);
+        property.setId(request.getId());
+        return property;
+    }
+}
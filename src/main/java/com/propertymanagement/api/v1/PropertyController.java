@@ -1,74 +1,144 @@
 package com.propertymanagement.api.v1;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import com.propertymanagement.api.dto.request.CreatePropertyRequest;
+import com.propertymanagement.api.dto.request.PatchPropertyRequest;
 import com.propertymanagement.api.dto.request.UpdatePropertyRequest;
+import com.propertymanagement.api.dto.response.NearbyPropertyResponse;
+import com.propertymanagement.api.dto.response.PropertyFacetsResponse;
 import com.propertymanagement.api.dto.response.PropertyResponse;
 import com.propertymanagement.domain.Property;
-import com.propertymanagement.domain.PropertyStatus;
-import com.propertymanagement.domain.PropertyType;
+import com.propertymanagement.domain.PropertyFilter;
+import com.propertymanagement.domain.pagination.CursorPage;
+import com.propertymanagement.domain.projection.PropertyField;
+import com.propertymanagement.domain.projection.PropertyProjection;
+import com.propertymanagement.domain.search.BoundingBox;
+import com.propertymanagement.domain.search.GeoPoint;
 import com.propertymanagement.domain.service.PropertyService;
+import com.propertymanagement.infrastructure.cache.PropertyResponseByteCache;
+import com.propertymanagement.infrastructure.codec.ResponseBodyEncoder;
 import com.propertymanagement.infrastructure.mapper.PropertyMapper;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.HttpMediaTypeNotAcceptableException;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
-import java.math.BigDecimal;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
 
 @RestController
 @RequestMapping("/api/v1/properties")
 @RequiredArgsConstructor
 public class PropertyController {
     
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    private static final String DEFAULT_LIMIT = "" + PropertyService.DEFAULT_PAGE_SIZE;
+    
     private final PropertyService propertyService;
     private final PropertyMapper propertyMapper;
+    private final ObjectMapper objectMapper;
+    private final ResponseBodyEncoder responseBodyEncoder;
+    private final PropertyResponseByteCache responseBytes;
     
     @GetMapping
     public ResponseEntity<List<PropertyResponse>> getAllProperties(
-            @RequestParam(required = false) PropertyStatus status,
-            @RequestParam(required = false) PropertyType type,
-            @RequestParam(required = false) BigDecimal minPrice,
-            @RequestParam(required = false) BigDecimal maxPrice) {
-        
-        List<Property> properties;
-        
-        if (status != null && type != null) {
-            properties = propertyService.findAll().stream()
-                    .filter(p -> p.getStatus() == status && p.getType() == type)
-                    .toList();
-        } else if (status != null) {
-            properties = propertyService.findByStatus(status);
-        } else if (type != null) {
-            properties = propertyService.findByType(type);
-        } else {
-            properties = propertyService.findAll();
+            @ParameterObject PropertyFilter filter,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = DEFAULT_LIMIT) int limit,
+            WebRequest request) {
+        
+        CursorPage<Property> page = propertyService.findPage(filter, cursor, limit);
+        
+        // Checked before mapping, so an unchanged page costs only the query
+        String etag = pageEtag(page.items(), Property::getId, Property::getVersion);
+        if (request.checkNotModified(etag)) {
+            return null;
         }
         
-        // Filter by price range if provided
-        if (minPrice != null || maxPrice != null) {
-            BigDecimal min = minPrice != null ? minPrice : BigDecimal.ZERO;
-            BigDecimal max = maxPrice != null ? maxPrice : new BigDecimal("999999999");
-            properties = properties.stream()
-                    .filter(p -> p.getRentPrice().compareTo(min) >= 0 && 
-                                p.getRentPrice().compareTo(max) <= 0)
-                    .toList();
+        return toPageResponse(page.map(propertyMapper::toResponse), etag);
+    }
+    
+    // Sparse fieldset: only the listed columns are selected and serialized
+    @GetMapping(params = "fields", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<List<Map<String, Object>>> getPropertyFields(
+            @ParameterObject PropertyFilter filter,
+            @RequestParam String fields,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = DEFAULT_LIMIT) int limit,
+            WebRequest request) {
+        
+        CursorPage<PropertyProjection> page = propertyService.findPage(
+                filter, PropertyField.parse(fields), cursor, limit);
+        
+        String etag = pageEtag(page.items(), PropertyProjection::id, PropertyProjection::version);
+        if (request.checkNotModified(etag)) {
+            return null;
         }
         
-        List<PropertyResponse> responses = properties.stream()
-                .map(propertyMapper::toResponse)
-                .toList();
+        return toPageResponse(page.map(PropertyProjection::fields), etag);
+    }
+    
+    // Full-catalogue export for sync jobs: rows are mapped and written one at a
+    // time, so memory stays flat regardless of table size
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportProperties(@ParameterObject PropertyFilter filter) {
+        ObjectWriter writer = objectMapper.writerFor(PropertyResponse.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .withRootValueSeparator("");
         
-        return ResponseEntity.ok(responses);
+        StreamingResponseBody body = out -> {
+            try (JsonGenerator generator = writer.createGenerator(out)) {
+                propertyService.export(filter,
+                        property -> writeLine(writer, generator, propertyMapper.toResponse(property)));
+            }
+        };
+        
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
     }
     
+    // The body is encoded once per version and media type and then copied out as bytes
     @GetMapping("/{id}")
-    public ResponseEntity<PropertyResponse> getPropertyById(@PathVariable UUID id) {
+    @ApiResponse(responseCode = "200", content = @Content(schema = @Schema(implementation = PropertyResponse.class)))
+    public ResponseEntity<byte[]> getPropertyById(@PathVariable UUID id, NativeWebRequest request)
+            throws HttpMediaTypeNotAcceptableException {
+        MediaType mediaType = responseBodyEncoder.negotiate(request, PropertyResponse.class);
+        // Revalidation looks up the version alone and answers 304 without loading the row
+        if (request.getHeader(HttpHeaders.IF_NONE_MATCH) != null
+                && request.checkNotModified(etag(propertyService.findVersion(id), mediaType))) {
+            return null;
+        }
+        
         Property property = propertyService.findById(id);
-        PropertyResponse response = propertyMapper.toResponse(property);
-        return ResponseEntity.ok(response);
+        byte[] body = responseBytes.get(id, property.getVersion(), mediaType,
+                () -> responseBodyEncoder.encode(propertyMapper.toResponse(property), mediaType));
+        return ResponseEntity.ok()
+                .eTag(etag(property.getVersion(), mediaType))
+                .contentType(mediaType)
+                .body(body);
     }
     
     @PostMapping
@@ -87,13 +157,31 @@ public class PropertyController {
     @PutMapping("/{id}")
     public ResponseEntity<PropertyResponse> updateProperty(
             @PathVariable UUID id,
-            @Valid @RequestBody UpdatePropertyRequest request) {
+            @Valid @RequestBody UpdatePropertyRequest request,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         
         Property propertyToUpdate = propertyMapper.toDomainForUpdate(request);
-        Property updated = propertyService.update(id, propertyToUpdate);
+        Property updated = propertyService.update(id, propertyToUpdate, expectedVersion(ifMatch));
         PropertyResponse response = propertyMapper.toResponse(updated);
         
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok()
+                .eTag(etag(updated.getVersion()))
+                .body(response);
+    }
+    
+    // Sparse update in a single statement; also accepts application/merge-patch+json
+    @PatchMapping("/{id}")
+    public ResponseEntity<PropertyResponse> patchProperty(
+            @PathVariable UUID id,
+            @Valid @RequestBody PatchPropertyRequest request,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        
+        Property patched = propertyService.patch(id, propertyMapper.toPatch(request), expectedVersion(ifMatch));
+        PropertyResponse response = propertyMapper.toResponse(patched);
+        
+        return ResponseEntity.ok()
+                .eTag(etag(patched.getVersion()))
+                .body(response);
     }
     
     @DeleteMapping("/{id}")
@@ -102,15 +190,168 @@ public class PropertyController {
         return ResponseEntity.noContent().build();
     }
     
+    // Best trigram match first; the next page is advertised like the list's
     @GetMapping("/search")
     public ResponseEntity<List<PropertyResponse>> searchProperties(
-            @RequestParam String address) {
+            @RequestParam String address,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = DEFAULT_LIMIT) int limit,
+            WebRequest request) {
+        
+        CursorPage<Property> page = propertyService.searchByAddress(address, cursor, limit);
         
-        List<Property> properties = propertyService.searchByAddress(address);
-        List<PropertyResponse> responses = properties.stream()
+        String etag = pageEtag(page.items(), Property::getId, Property::getVersion);
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        
+        return toPageResponse(page.map(propertyMapper::toResponse), etag);
+    }
+    
+    @GetMapping(value = "/search", params = "fields", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<List<Map<String, Object>>> searchPropertyFields(
+            @RequestParam String address,
+            @RequestParam String fields,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = DEFAULT_LIMIT) int limit,
+            WebRequest request) {
+        
+        CursorPage<PropertyProjection> page = propertyService.searchByAddress(
+                address, PropertyField.parse(fields), cursor, limit);
+        
+        String etag = pageEtag(page.items(), PropertyProjection::id, PropertyProjection::version);
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        
+        return toPageResponse(page.map(PropertyProjection::fields), etag);
+    }
+    
+    // Counts per status, type and bedroom count for the same filter as the list
+    @GetMapping("/facets")
+    public ResponseEntity<PropertyFacetsResponse> getPropertyFacets(@ParameterObject PropertyFilter filter) {
+        return ResponseEntity.ok(PropertyFacetsResponse.of(propertyService.facets(filter)));
+    }
+    
+    // Full-text search over address and description, best match first
+    @GetMapping("/search/text")
+    public ResponseEntity<List<PropertyResponse>> searchPropertiesByText(
+            @RequestParam String q,
+            @ParameterObject PropertyFilter filter,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = DEFAULT_LIMIT) int limit,
+            WebRequest request) {
+        
+        CursorPage<Property> page = propertyService.searchText(q, filter, cursor, limit);
+        
+        String etag = pageEtag(page.items(), Property::getId, Property::getVersion);
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        
+        return toPageResponse(page.map(propertyMapper::toResponse), etag);
+    }
+    
+    // Nearest first within the radius; combinable with the list filters
+    @GetMapping("/nearby")
+    public ResponseEntity<List<NearbyPropertyResponse>> getNearbyProperties(
+            @RequestParam double lat,
+            @RequestParam double lon,
+            @RequestParam double radiusKm,
+            @ParameterObject PropertyFilter filter,
+            @RequestParam(defaultValue = DEFAULT_LIMIT) int limit) {
+        
+        List<NearbyPropertyResponse> responses = propertyService
+                .findNearby(new GeoPoint(lat, lon), radiusKm, filter, limit).stream()
                 .map(propertyMapper::toResponse)
                 .toList();
         
         return ResponseEntity.ok(responses);
     }
+    
+    // Bounding box, e.g. the visible map area; ordered by distance from its center
+    @GetMapping("/within")
+    public ResponseEntity<List<NearbyPropertyResponse>> getPropertiesWithin(
+            @RequestParam double minLat,
+            @RequestParam double minLon,
+            @RequestParam double maxLat,
+            @RequestParam double maxLon,
+            @ParameterObject PropertyFilter filter,
+            @RequestParam(defaultValue = DEFAULT_LIMIT) int limit) {
+        
+        List<NearbyPropertyResponse> responses = propertyService
+                .findWithin(new BoundingBox(minLat, minLon, maxLat, maxLon), filter, limit).stream()
+                .map(propertyMapper::toResponse)
+                .toList();
+        
+        return ResponseEntity.ok(responses);
+    }
+    
+    // Body stays a plain array; the next page is advertised via headers
+    private static <T> ResponseEntity<List<T>> toPageResponse(CursorPage<T> page, String etag) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok().eTag(etag);
+        if (page.hasNext()) {
+            String nextLink = ServletUriComponentsBuilder.fromCurrentRequest()
+                    .replaceQueryParam("cursor", page.nextCursor())
+                    .toUriString();
+            builder.header(NEXT_CURSOR_HEADER, page.nextCursor())
+                    .header(HttpHeaders.LINK, "<" + nextLink + ">; rel=\"next\"");
+        }
+        
+        return builder.body(page.items());
+    }
+    
+    private static String etag(long version) {
+        return "\"" + version + "\"";
+    }
+    
+    // Strong per representation: the CBOR, Smile and protobuf bytes of a version are not the JSON ones
+    private static String etag(long version, MediaType mediaType) {
+        return MediaType.APPLICATION_JSON.equalsTypeAndSubtype(mediaType)
+                ? etag(version)
+                : "\"" + version + "-" + mediaType.getSubtype() + "\"";
+    }
+    
+    // A page changes exactly when one of its rows or their order changes. Weak: it is only
+    // revalidated, and Tomcat refuses to gzip a response with a strong ETag
+    private static <T> String pageEtag(List<T> items, Function<T, UUID> id, ToLongFunction<T> version) {
+        ByteBuffer buffer = ByteBuffer.allocate(items.size() * 3 * Long.BYTES);
+        for (T item : items) {
+            buffer.putLong(id.apply(item).getMostSignificantBits())
+                    .putLong(id.apply(item).getLeastSignificantBits())
+                    .putLong(version.applyAsLong(item));
+        }
+        return "W/\"" + DigestUtils.md5DigestAsHex(buffer.array()) + "\"";
+    }
+    
+    // Only a single ETag of ours can be matched against the stored version; * matches any. Whether
+    // gzip weakened it or which representation it names does not change the version it carries
+    private static Long expectedVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.startsWith("W/")) {
+            tag = tag.substring(2);
+        }
+        if (tag.length() < 2 || !tag.startsWith("\"") || !tag.endsWith("\"")) {
+            return -1L;
+        }
+        String opaque = tag.substring(1, tag.length() - 1);
+        int representation = opaque.indexOf('-');
+        try {
+            return Long.valueOf(representation < 0 ? opaque : opaque.substring(0, representation));
+        } catch (NumberFormatException e) {
+            return -1L;
+        }
+    }
+    
+    private static void writeLine(ObjectWriter writer, JsonGenerator generator, PropertyResponse response) {
+        try {
+            writer.writeValue(generator, response);
+            generator.writeRaw('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
 }
\ No newline at end of file
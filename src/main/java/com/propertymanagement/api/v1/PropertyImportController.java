@@ -0,0 +1,42 @@
+package com.propertymanagement.api.v1;
+
+import com.propertymanagement.api.dto.response.ImportResponse;
+import com.propertymanagement.domain.service.ImportResult;
+import com.propertymanagement.domain.service.PropertyImportService;
+import com.propertymanagement.infrastructure.ingest.PropertyRecordReader;
+import com.propertymanagement.infrastructure.ingest.PropertyRecordReaders;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+
+/**
+ * Bulk ingestion of CSV or NDJSON feeds. The body is parsed as it arrives, so feeds of
+ * any size run in constant memory. Rejected rows are reported by line number; the rest
+ * are imported.
+ */
+@RestController
+@RequestMapping("/api/v1/properties/import")
+@RequiredArgsConstructor
+public class PropertyImportController {
+    
+    private final PropertyImportService propertyImportService;
+    private final PropertyRecordReaders propertyRecordReaders;
+    
+    @PostMapping(consumes = {"text/csv", MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<ImportResponse> importProperties(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+            HttpServletRequest request) throws IOException {
+        
+        ImportResult result;
+        try (PropertyRecordReader records = propertyRecordReaders.open(request.getInputStream(), contentType)) {
+            result = propertyImportService.importProperties(records);
+        }
+        
+        return ResponseEntity.ok(ImportResponse.of(result));
+    }
+}
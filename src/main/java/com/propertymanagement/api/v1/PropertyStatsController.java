@@ -0,0 +1,32 @@
+package com.propertymanagement.api.v1;
+
+import com.propertymanagement.api.dto.response.PropertyStatsResponse;
+import com.propertymanagement.domain.service.PropertyStatsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Dashboard figures for the whole portfolio, read from database-maintained summaries
+ * rather than aggregated over the property list on each request.
+ */
+@RestController
+@RequestMapping("/api/v1/properties/stats")
+@RequiredArgsConstructor
+public class PropertyStatsController {
+    
+    private final PropertyStatsService propertyStatsService;
+    
+    // Dashboards poll; a few seconds of staleness spares the database repeated refreshes
+    @GetMapping
+    public ResponseEntity<PropertyStatsResponse> getStats() {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(5, TimeUnit.SECONDS))
+                .body(PropertyStatsResponse.of(propertyStatsService.stats()));
+    }
+}
@@ -0,0 +1,128 @@
+package com.propertymanagement.api.v2;
+
+import com.propertymanagement.api.dto.response.PropertyResponse;
+import com.propertymanagement.domain.Property;
+import com.propertymanagement.domain.PropertyFilter;
+import com.propertymanagement.domain.PropertyStatus;
+import com.propertymanagement.domain.PropertyType;
+import com.propertymanagement.domain.exception.PropertyNotFoundException;
+import com.propertymanagement.domain.service.PropertyService;
+import com.propertymanagement.infrastructure.exception.ErrorResponse;
+import com.propertymanagement.infrastructure.mapper.PropertyMapper;
+import com.propertymanagement.persistence.repository.ReactivePropertyRepository;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Read-only, non-blocking counterpart of the v1 property endpoints. Lists and search
+ * results stream with backpressure: as a JSON array by default, or one object per
+ * line with {@code Accept: application/x-ndjson}. Paths are relative to {@code /api/v2}.
+ */
+public class PropertyReadHandler {
+
+    private final ReactivePropertyRepository repository;
+    private final PropertyMapper propertyMapper;
+
+    public PropertyReadHandler(ReactivePropertyRepository repository, PropertyMapper propertyMapper) {
+        this.repository = repository;
+        this.propertyMapper = propertyMapper;
+    }
+
+    public RouterFunction<ServerResponse> routes() {
+        // Deferred so that argument errors thrown while building a response reach onError
+        return RouterFunctions.route()
+                .GET("/properties/search", request -> Mono.defer(() -> search(request)))
+                .GET("/properties/{id}", request -> Mono.defer(() -> getById(request)))
+                .GET("/properties", request -> Mono.defer(() -> list(request)))
+                .onError(PropertyNotFoundException.class, (e, request) -> error(HttpStatus.NOT_FOUND, e, request))
+                .onError(IllegalArgumentException.class, (e, request) -> error(HttpStatus.BAD_REQUEST, e, request))
+                .build();
+    }
+
+    Mono<ServerResponse> list(ServerRequest request) {
+        Integer limit = param(request, "limit", Integer::valueOf);
+        if (limit != null && limit < 1) {
+            throw new IllegalArgumentException("Limit must be greater than zero");
+        }
+        return stream(request, repository.findAll(filter(request), limit));
+    }
+
+    Mono<ServerResponse> getById(ServerRequest request) {
+        UUID id = UUID.fromString(request.pathVariable("id"));
+        return repository.findById(id)
+                .switchIfEmpty(Mono.error(() -> new PropertyNotFoundException(id)))
+                .map(propertyMapper::toResponse)
+                .flatMap(response -> ServerResponse.ok()
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .bodyValue(response));
+    }
+
+    Mono<ServerResponse> search(ServerRequest request) {
+        String address = request.queryParam("address")
+                .filter(value -> !value.isBlank())
+                .orElseThrow(() -> new IllegalArgumentException("Search term is required"));
+        Integer limit = Optional.ofNullable(param(request, "limit", Integer::valueOf))
+                .orElse(PropertyService.DEFAULT_PAGE_SIZE);
+        if (limit < 1) {
+            throw new IllegalArgumentException("Limit must be greater than zero");
+        }
+        return stream(request, repository.searchByAddress(address.trim(), Math.min(limit, PropertyService.MAX_PAGE_SIZE)));
+    }
+
+    private Mono<ServerResponse> stream(ServerRequest request, Flux<Property> properties) {
+        MediaType contentType = request.headers().accept().stream()
+                .anyMatch(MediaType.APPLICATION_NDJSON::equalsTypeAndSubtype)
+                ? MediaType.APPLICATION_NDJSON
+                : MediaType.APPLICATION_JSON;
+        return ServerResponse.ok()
+                .contentType(contentType)
+                .body(properties.map(propertyMapper::toResponse), PropertyResponse.class);
+    }
+
+    private static PropertyFilter filter(ServerRequest request) {
+        return new PropertyFilter(
+                param(request, "status", PropertyStatus::valueOf),
+                param(request, "type", PropertyType::valueOf),
+                param(request, "minPrice", BigDecimal::new),
+                param(request, "maxPrice", BigDecimal::new),
+                param(request, "minBedrooms", Integer::valueOf),
+                param(request, "maxBedrooms", Integer::valueOf),
+                param(request, "minBathrooms", Integer::valueOf),
+                param(request, "maxBathrooms", Integer::valueOf),
+                param(request, "minSquareMeters", Double::valueOf),
+                param(request, "maxSquareMeters", Double::valueOf));
+    }
+
+    // Malformed values surface as IllegalArgumentException (NumberFormatException included)
+    private static <T> T param(ServerRequest request, String name, Function<String, T> parser) {
+        return request.queryParam(name)
+                .filter(value -> !value.isBlank())
+                .map(value -> {
+                    try {
+                        return parser.apply(value);
+                    } catch (IllegalArgumentException e) {
+                        throw new IllegalArgumentException("Invalid value for " + name + ": " + value);
+                    }
+                })
+                .orElse(null);
+    }
+
+    private static Mono<ServerResponse> error(HttpStatus status, Throwable e, ServerRequest request) {
+        ErrorResponse body = new ErrorResponse(status.value(), status.getReasonPhrase(), e.getMessage(),
+                request.requestPath().value());
+        return ServerResponse.status(status)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(body);
+    }
+}
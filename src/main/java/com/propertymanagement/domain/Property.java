@@ -1,6 +1,8 @@
 package com.propertymanagement.domain;
 
+import com.propertymanagement.domain.search.Geohash;
 import jakarta.persistence.*;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -8,6 +10,7 @@ import lombok.Setter;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.UUID;
 
 @Entity
@@ -47,12 +50,27 @@ public class Property {
     @Column(columnDefinition = "TEXT")
     private String description;
     
+    // Optional; set both or neither
+    private Double latitude;
+    
+    private Double longitude;
+    
+    // Derived from latitude/longitude on every write; the key location searches range over
+    @Setter(AccessLevel.NONE)
+    @Column(length = Geohash.PRECISION)
+    private String geohash;
+    
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
     
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
     
+    // Bumped on every update; served as the ETag and checked against If-Match
+    @Version
+    @Column(nullable = false)
+    private Long version;
+    
     // Business methods (domain logic)
     public boolean isAvailable() {
         return status == PropertyStatus.AVAILABLE;
@@ -66,17 +84,30 @@ public class Property {
         this.status = PropertyStatus.AVAILABLE;
     }
     
+    // Truncated to the database's microsecond precision so keyset cursors built
+    // from in-memory entities compare exactly against stored values
     @PrePersist
     protected void onCreate() {
-        createdAt = LocalDateTime.now();
-        updatedAt = LocalDateTime.now();
+        createdAt = now();
+        updatedAt = createdAt;
         if (status == null) {
             status = PropertyStatus.AVAILABLE;
         }
+        geohash = geohash(latitude, longitude);
     }
     
     @PreUpdate
     protected void onUpdate() {
-        updatedAt = LocalDateTime.now();
+        updatedAt = now();
+        geohash = geohash(latitude, longitude);
+    }
+    
+    public static String geohash(Double latitude, Double longitude) {
+        return latitude != null && longitude != null ? Geohash.encode(latitude, longitude) : null;
+    }
+    
+    // Also stamps rows written outside JPA, so they sort with these in keyset order
+    public static LocalDateTime now() {
+        return LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
     }
 }
\ No newline at end of file
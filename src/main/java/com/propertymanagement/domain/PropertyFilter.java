@@ -0,0 +1,24 @@
+package com.propertymanagement.domain;
+
+import java.math.BigDecimal;
+
+/**
+ * Optional list criteria; a null component means "no restriction".
+ * Ranges are inclusive on both ends.
+ */
+public record PropertyFilter(
+        PropertyStatus status,
+        PropertyType type,
+        BigDecimal minPrice,
+        BigDecimal maxPrice,
+        Integer minBedrooms,
+        Integer maxBedrooms,
+        Integer minBathrooms,
+        Integer maxBathrooms,
+        Double minSquareMeters,
+        Double maxSquareMeters) {
+
+    public static PropertyFilter none() {
+        return new PropertyFilter(null, null, null, null, null, null, null, null, null, null);
+    }
+}
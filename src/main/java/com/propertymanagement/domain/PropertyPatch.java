@@ -0,0 +1,25 @@
+package com.propertymanagement.domain;
+
+import java.math.BigDecimal;
+
+/**
+ * Sparse update; a null component leaves that field unchanged.
+ */
+public record PropertyPatch(
+        String address,
+        PropertyType type,
+        Integer bedrooms,
+        Integer bathrooms,
+        Double squareMeters,
+        BigDecimal rentPrice,
+        PropertyStatus status,
+        String description,
+        Double latitude,
+        Double longitude) {
+
+    public boolean isEmpty() {
+        return address == null && type == null && bedrooms == null && bathrooms == null
+                && squareMeters == null && rentPrice == null && status == null && description == null
+                && latitude == null && longitude == null;
+    }
+}
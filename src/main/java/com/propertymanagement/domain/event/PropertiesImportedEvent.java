@@ -0,0 +1,9 @@
+package com.propertymanagement.domain.event;
+
+/**
+ * Published by {@code PropertyImportService} when a bulk import wrote rows. The rows are
+ * merged in the database, so no per-property events exist; listeners that keep derived
+ * state drop or reload all of it after commit.
+ */
+public record PropertiesImportedEvent(long imported) {
+}
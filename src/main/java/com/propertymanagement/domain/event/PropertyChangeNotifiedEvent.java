@@ -0,0 +1,22 @@
+package com.propertymanagement.domain.event;
+
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Published when the database announces committed property changes, whichever replica
+ * or bulk load made them. Carries ids only; listeners reload the rows they keep.
+ * {@code anyChanged} means the changed rows are not named, because a statement touched
+ * too many to list or notifications may have been lost (e.g. while the listening
+ * connection was down), so anything may have changed.
+ */
+public record PropertyChangeNotifiedEvent(Set<UUID> ids, boolean anyChanged) {
+
+    public static PropertyChangeNotifiedEvent of(Set<UUID> ids) {
+        return new PropertyChangeNotifiedEvent(Set.copyOf(ids), false);
+    }
+
+    public static PropertyChangeNotifiedEvent any() {
+        return new PropertyChangeNotifiedEvent(Set.of(), true);
+    }
+}
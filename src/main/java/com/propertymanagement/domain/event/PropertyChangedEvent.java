@@ -0,0 +1,35 @@
+package com.propertymanagement.domain.event;
+
+import com.propertymanagement.domain.Property;
+
+import java.util.UUID;
+
+/**
+ * Published by {@code PropertyService} for every successful write. Listeners that keep
+ * derived state (search indexes, caches) should react after commit.
+ * {@code property} is null for deletions.
+ */
+public record PropertyChangedEvent(Type type, UUID id, Property property) {
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    public static PropertyChangedEvent created(Property property) {
+        return new PropertyChangedEvent(Type.CREATED, property.getId(), property);
+    }
+
+    public static PropertyChangedEvent updated(Property property) {
+        return new PropertyChangedEvent(Type.UPDATED, property.getId(), property);
+    }
+
+    public static PropertyChangedEvent deleted(UUID id) {
+        return new PropertyChangedEvent(Type.DELETED, id, null);
+    }
+
+    public boolean isDeletion() {
+        return type == Type.DELETED;
+    }
+}
@@ -0,0 +1,10 @@
+package com.propertymanagement.domain.exception;
+
+import java.util.UUID;
+
+public class PropertyVersionMismatchException extends RuntimeException {
+    
+    public PropertyVersionMismatchException(UUID id, long expectedVersion) {
+        super("Property with id " + id + " is no longer at version " + expectedVersion);
+    }
+}
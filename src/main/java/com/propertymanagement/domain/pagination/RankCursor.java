@@ -0,0 +1,41 @@
+package com.propertymanagement.domain.pagination;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Keyset position in a relevance ordering: rank descending, then id. The rank is
+ * carried as the exact float the search produced, so the next page starts precisely
+ * after the last hit.
+ */
+public record RankCursor(float rank, UUID id) {
+
+    private static final String SEPARATOR = "|";
+
+    // Strictly after this position: lower rank, or the same rank and a later id
+    public boolean precedes(float rank, UUID id) {
+        return rank < this.rank || (rank == this.rank && id.toString().compareTo(this.id.toString()) > 0);
+    }
+
+    public String encode() {
+        String raw = rank + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static RankCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            return new RankCursor(
+                    Float.parseFloat(raw.substring(0, separator)),
+                    UUID.fromString(raw.substring(separator + 1)));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+    }
+}
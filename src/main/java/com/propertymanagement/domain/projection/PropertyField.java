@@ -0,0 +1,58 @@
+package com.propertymanagement.domain.projection;
+
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Fields a client can select with {@code fields=}. Names match both the entity
+ * attributes and the JSON properties of a full response.
+ */
+public enum PropertyField {
+    ID("id"),
+    ADDRESS("address"),
+    TYPE("type"),
+    BEDROOMS("bedrooms"),
+    BATHROOMS("bathrooms"),
+    SQUARE_METERS("squareMeters"),
+    RENT_PRICE("rentPrice"),
+    STATUS("status"),
+    DESCRIPTION("description"),
+    LATITUDE("latitude"),
+    LONGITUDE("longitude"),
+    CREATED_AT("createdAt"),
+    UPDATED_AT("updatedAt");
+
+    private final String attribute;
+
+    PropertyField(String attribute) {
+        this.attribute = attribute;
+    }
+
+    public String attribute() {
+        return attribute;
+    }
+
+    /**
+     * Parses a comma-separated list such as {@code address,rentPrice}. The id is
+     * always selected, whether listed or not.
+     */
+    public static Set<PropertyField> parse(String fields) {
+        Set<PropertyField> selected = EnumSet.of(ID);
+        for (String name : fields.split(",")) {
+            if (!name.isBlank()) {
+                selected.add(forAttribute(name.trim()));
+            }
+        }
+        return selected;
+    }
+
+    private static PropertyField forAttribute(String name) {
+        for (PropertyField field : values()) {
+            if (field.attribute.toLowerCase(Locale.ROOT).equals(name.toLowerCase(Locale.ROOT))) {
+                return field;
+            }
+        }
+        throw new IllegalArgumentException("Unknown field: " + name);
+    }
+}
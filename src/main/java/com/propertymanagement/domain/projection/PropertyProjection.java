@@ -0,0 +1,19 @@
+package com.propertymanagement.domain.projection;
+
+import com.propertymanagement.domain.pagination.Cursor;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * The selected columns of one property, keyed by attribute name in {@link PropertyField}
+ * order. Keyset position and version are carried alongside for paging and ETags,
+ * whether or not they were selected.
+ */
+public record PropertyProjection(UUID id, LocalDateTime createdAt, long version, Map<String, Object> fields) {
+
+    public Cursor cursor() {
+        return new Cursor(createdAt, id);
+    }
+}
@@ -0,0 +1,14 @@
+package com.propertymanagement.domain.search;
+
+import com.propertymanagement.domain.Property;
+import com.propertymanagement.domain.pagination.RankCursor;
+
+/**
+ * An address search hit and its trigram similarity to the query; higher first.
+ */
+public record AddressMatch(Property property, float rank) {
+
+    public RankCursor cursor() {
+        return new RankCursor(rank, property.getId());
+    }
+}
@@ -0,0 +1,23 @@
+package com.propertymanagement.domain.search;
+
+import com.propertymanagement.domain.pagination.RankCursor;
+
+import java.util.List;
+
+/**
+ * Case-insensitive substring search over property addresses, ranked by trigram
+ * similarity to the query (best match first).
+ */
+public interface AddressSearch {
+
+    /**
+     * Matches ordered by similarity descending, then id, starting strictly after
+     * {@code after} (null for the first page); at most {@code limit}.
+     */
+    List<AddressMatch> search(String query, RankCursor after, int limit);
+
+    /**
+     * Same matches and order as {@link #search}, as positions only.
+     */
+    List<RankCursor> rank(String query, RankCursor after, int limit);
+}
@@ -0,0 +1,48 @@
+package com.propertymanagement.domain.search;
+
+/**
+ * Latitude/longitude rectangle, edges inclusive. Boxes do not wrap the antimeridian;
+ * a circle that would cross it is widened to every longitude.
+ */
+public record BoundingBox(double south, double west, double north, double east) {
+
+    private static final double KM_PER_DEGREE = Math.toRadians(GeoPoint.EARTH_RADIUS_KM);
+
+    public BoundingBox {
+        new GeoPoint(south, west);
+        new GeoPoint(north, east);
+        if (south > north) {
+            throw new IllegalArgumentException("Minimum latitude must not exceed maximum latitude");
+        }
+        if (west > east) {
+            throw new IllegalArgumentException("Minimum longitude must not exceed maximum longitude");
+        }
+    }
+
+    // Smallest box containing every point within radiusKm of center
+    public static BoundingBox around(GeoPoint center, double radiusKm) {
+        double dLat = radiusKm / KM_PER_DEGREE;
+        double south = Math.max(-90, center.latitude() - dLat);
+        double north = Math.min(90, center.latitude() + dLat);
+        if (south == -90 || north == 90) {
+            return new BoundingBox(south, -180, north, 180);
+        }
+        
+        double dLon = Math.toDegrees(Math.asin(Math.min(1, Math.sin(radiusKm / GeoPoint.EARTH_RADIUS_KM)
+                / Math.cos(Math.toRadians(center.latitude())))));
+        double west = center.longitude() - dLon;
+        double east = center.longitude() + dLon;
+        if (west < -180 || east > 180) {
+            return new BoundingBox(south, -180, north, 180);
+        }
+        return new BoundingBox(south, west, north, east);
+    }
+
+    public GeoPoint center() {
+        return new GeoPoint((south + north) / 2, (west + east) / 2);
+    }
+
+    public boolean contains(double latitude, double longitude) {
+        return latitude >= south && latitude <= north && longitude >= west && longitude <= east;
+    }
+}
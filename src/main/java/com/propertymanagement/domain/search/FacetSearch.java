@@ -0,0 +1,12 @@
+package com.propertymanagement.domain.search;
+
+import com.propertymanagement.domain.PropertyFilter;
+
+/**
+ * Facet counts for the list filter, for filter UIs that show how many properties each
+ * further choice would leave.
+ */
+public interface FacetSearch {
+
+    PropertyFacets facets(PropertyFilter filter);
+}
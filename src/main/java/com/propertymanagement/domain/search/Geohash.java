@@ -0,0 +1,137 @@
+package com.propertymanagement.domain.search;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Geohash encoding. Keys sort like the Z-order curve, so every cell is one contiguous key
+ * range and a bounding box is covered by a handful of B-tree range scans (or sorted map
+ * slices). Ranges are {@code [from, to)} over the stored {@link #PRECISION}-character keys.
+ */
+public final class Geohash {
+
+    // ~4 cm cells: the stored key never needs recomputing for a finer query
+    public static final int PRECISION = 12;
+
+    // Upper bound on cells per cover; finer cells mean tighter ranges but more of them
+    static final int MAX_COVER_CELLS = 16;
+
+    private static final char[] BASE32 = "0123456789bcdefghjkmnpqrstuvwxyz".toCharArray();
+    private static final int BITS_PER_CHAR = 5;
+
+    private Geohash() {
+    }
+
+    public static String encode(double latitude, double longitude) {
+        return encode(latitude, longitude, PRECISION);
+    }
+
+    static String encode(double latitude, double longitude, int precision) {
+        int bits = precision * BITS_PER_CHAR;
+        long x = cellIndex(longitude, -180, 360, lonBits(bits));
+        long y = cellIndex(latitude, -90, 180, latBits(bits));
+        return toKey(interleave(x, y, bits), precision);
+    }
+
+    /**
+     * Key ranges covering the box, using the finest precision that needs at most
+     * {@value #MAX_COVER_CELLS} cells. Adjacent cells are merged into one range.
+     */
+    public static List<Range> cover(BoundingBox box) {
+        int precision = 0;
+        for (int candidate = 1; candidate <= PRECISION; candidate++) {
+            if (cellCount(box, candidate) > MAX_COVER_CELLS) {
+                break;
+            }
+            precision = candidate;
+        }
+        if (precision == 0) {
+            return List.of(new Range("", null));
+        }
+        
+        int bits = precision * BITS_PER_CHAR;
+        long x0 = cellIndex(box.west(), -180, 360, lonBits(bits));
+        long x1 = cellIndex(box.east(), -180, 360, lonBits(bits));
+        long y0 = cellIndex(box.south(), -90, 180, latBits(bits));
+        long y1 = cellIndex(box.north(), -90, 180, latBits(bits));
+        List<Long> cells = new ArrayList<>();
+        for (long x = x0; x <= x1; x++) {
+            for (long y = y0; y <= y1; y++) {
+                cells.add(interleave(x, y, bits));
+            }
+        }
+        cells.sort(null);
+        
+        List<Range> ranges = new ArrayList<>();
+        long start = cells.get(0);
+        long end = start + 1;
+        for (long cell : cells.subList(1, cells.size())) {
+            if (cell != end) {
+                ranges.add(range(start, end, precision));
+                start = cell;
+            }
+            end = cell + 1;
+        }
+        ranges.add(range(start, end, precision));
+        return ranges;
+    }
+
+    private static long cellCount(BoundingBox box, int precision) {
+        int bits = precision * BITS_PER_CHAR;
+        long columns = cellIndex(box.east(), -180, 360, lonBits(bits)) - cellIndex(box.west(), -180, 360, lonBits(bits)) + 1;
+        long rows = cellIndex(box.north(), -90, 180, latBits(bits)) - cellIndex(box.south(), -90, 180, latBits(bits)) + 1;
+        return columns * rows;
+    }
+
+    private static Range range(long start, long end, int precision) {
+        boolean last = end == 1L << (precision * BITS_PER_CHAR);
+        return new Range(toKey(start, precision), last ? null : toKey(end, precision));
+    }
+
+    private static long cellIndex(double value, double min, double span, int bits) {
+        long cells = 1L << bits;
+        long index = (long) Math.floor((value - min) / span * cells);
+        return Math.max(0, Math.min(cells - 1, index));
+    }
+
+    // Bits alternate longitude, latitude, ... starting with longitude
+    private static long interleave(long x, long y, int bits) {
+        int lonBits = lonBits(bits);
+        int latBits = latBits(bits);
+        long hash = 0;
+        for (int i = 0; i < bits; i++) {
+            long bit = i % 2 == 0
+                    ? (x >>> (lonBits - 1 - i / 2)) & 1
+                    : (y >>> (latBits - 1 - i / 2)) & 1;
+            hash = (hash << 1) | bit;
+        }
+        return hash;
+    }
+
+    private static int lonBits(int bits) {
+        return (bits + 1) / 2;
+    }
+
+    private static int latBits(int bits) {
+        return bits / 2;
+    }
+
+    private static String toKey(long hash, int precision) {
+        char[] key = new char[precision];
+        for (int i = precision - 1; i >= 0; i--) {
+            key[i] = BASE32[(int) (hash & 31)];
+            hash >>>= BITS_PER_CHAR;
+        }
+        return new String(key);
+    }
+
+    /**
+     * Keys {@code k} with {@code from <= k < to}; a null {@code to} is unbounded.
+     */
+    public record Range(String from, String to) {
+
+        public boolean contains(String key) {
+            return key.compareTo(from) >= 0 && (to == null || key.compareTo(to) < 0);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.propertymanagement.domain.search;
+
+import com.propertymanagement.domain.PropertyFilter;
+
+import java.util.List;
+
+/**
+ * Location search over properties that have coordinates, combined with the list filter.
+ * Results are ordered by distance, nearest first.
+ */
+public interface LocationSearch {
+
+    /**
+     * Properties within {@code radiusKm} of {@code center}.
+     */
+    List<NearbyProperty> nearby(GeoPoint center, double radiusKm, PropertyFilter filter, int limit);
+
+    /**
+     * Properties inside the box, ordered by distance from its center.
+     */
+    List<NearbyProperty> within(BoundingBox box, PropertyFilter filter, int limit);
+}
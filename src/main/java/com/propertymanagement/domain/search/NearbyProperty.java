@@ -0,0 +1,9 @@
+package com.propertymanagement.domain.search;
+
+import com.propertymanagement.domain.Property;
+
+/**
+ * A location search hit and its great-circle distance from the search origin.
+ */
+public record NearbyProperty(Property property, double distanceKm) {
+}
@@ -0,0 +1,38 @@
+package com.propertymanagement.domain.search;
+
+import com.propertymanagement.domain.PropertyStatus;
+import com.propertymanagement.domain.PropertyType;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Counts of the properties matching a filter, broken down by status, type and bedroom
+ * count. Status and type cover every enum constant, zero included; bedrooms lists only
+ * the counts that occur, and properties without one are left out of it.
+ */
+public record PropertyFacets(
+        long total,
+        Map<PropertyStatus, Long> byStatus,
+        Map<PropertyType, Long> byType,
+        Map<Integer, Long> byBedrooms
+) {
+
+    // Status and type counts indexed by enum ordinal
+    public static PropertyFacets of(long[] statusCounts, long[] typeCounts, Map<Integer, Long> bedroomCounts) {
+        long total = 0;
+        Map<PropertyStatus, Long> byStatus = new EnumMap<>(PropertyStatus.class);
+        for (PropertyStatus status : PropertyStatus.values()) {
+            byStatus.put(status, statusCounts[status.ordinal()]);
+            total += statusCounts[status.ordinal()];
+        }
+        Map<PropertyType, Long> byType = new EnumMap<>(PropertyType.class);
+        for (PropertyType type : PropertyType.values()) {
+            byType.put(type, typeCounts[type.ordinal()]);
+        }
+        return new PropertyFacets(total, Collections.unmodifiableMap(byStatus),
+                Collections.unmodifiableMap(byType), Collections.unmodifiableMap(new TreeMap<>(bedroomCounts)));
+    }
+}
@@ -0,0 +1,21 @@
+package com.propertymanagement.domain.search;
+
+import com.propertymanagement.domain.Property;
+import com.propertymanagement.domain.PropertyFilter;
+import com.propertymanagement.domain.pagination.Cursor;
+
+import java.util.List;
+
+/**
+ * Optional in-process read model of all properties. When present it answers filtered
+ * lists and facet counts without a database round trip; it trails committed writes by
+ * the time it takes to apply their change events.
+ */
+public interface PropertySnapshot extends FacetSearch {
+
+    /**
+     * Matches in (created_at, id) order, starting strictly after {@code after} (null for
+     * the first page); at most {@code limit}.
+     */
+    List<Property> find(PropertyFilter filter, Cursor after, int limit);
+}
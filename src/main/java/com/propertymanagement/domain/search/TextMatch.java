@@ -0,0 +1,14 @@
+package com.propertymanagement.domain.search;
+
+import com.propertymanagement.domain.Property;
+import com.propertymanagement.domain.pagination.RankCursor;
+
+/**
+ * A full-text search hit and its relevance; higher ranks first.
+ */
+public record TextMatch(Property property, float rank) {
+
+    public RankCursor cursor() {
+        return new RankCursor(rank, property.getId());
+    }
+}
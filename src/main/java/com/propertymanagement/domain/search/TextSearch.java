@@ -0,0 +1,20 @@
+package com.propertymanagement.domain.search;
+
+import com.propertymanagement.domain.PropertyFilter;
+import com.propertymanagement.domain.pagination.RankCursor;
+
+import java.util.List;
+
+/**
+ * Full-text search over address and description, combined with the list filter. The
+ * query uses web search syntax: words must all match, {@code "quoted phrases"} and
+ * {@code -excluded} words are supported. Address matches outrank description matches.
+ */
+public interface TextSearch {
+
+    /**
+     * Matches ordered by rank descending, then id, starting strictly after {@code after}
+     * (null for the first page); at most {@code limit}.
+     */
+    List<TextMatch> search(String query, PropertyFilter filter, RankCursor after, int limit);
+}
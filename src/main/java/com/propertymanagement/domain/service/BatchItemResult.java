@@ -0,0 +1,39 @@
+package com.propertymanagement.domain.service;
+
+import com.propertymanagement.domain.Property;
+
+import java.util.UUID;
+
+/**
+ * Outcome of one item in a bulk operation. {@code property} is set for successful
+ * creates and updates; {@code error} for anything that did not succeed.
+ */
+public record BatchItemResult(Outcome outcome, UUID id, Property property, String error) {
+
+    public enum Outcome {
+        SUCCEEDED,
+        REJECTED,
+        NOT_FOUND,
+        FAILED
+    }
+
+    public static BatchItemResult succeeded(UUID id, Property property) {
+        return new BatchItemResult(Outcome.SUCCEEDED, id, property, null);
+    }
+
+    public static BatchItemResult rejected(UUID id, String error) {
+        return new BatchItemResult(Outcome.REJECTED, id, null, error);
+    }
+
+    public static BatchItemResult notFound(UUID id) {
+        return new BatchItemResult(Outcome.NOT_FOUND, id, null, "Property with id " + id + " not found");
+    }
+
+    public static BatchItemResult failed(UUID id, String error) {
+        return new BatchItemResult(Outcome.FAILED, id, null, error);
+    }
+
+    public boolean isSuccess() {
+        return outcome == Outcome.SUCCEEDED;
+    }
+}
@@ -0,0 +1,24 @@
+package com.propertymanagement.domain.service;
+
+import com.propertymanagement.domain.Property;
+
+import java.util.List;
+
+/**
+ * One parsed row of an import feed. {@code line} is where the row starts in the
+ * source, so rejections can be traced back to it.
+ */
+public record ImportRecord(long line, Property property, List<String> errors) {
+
+    public static ImportRecord valid(long line, Property property) {
+        return new ImportRecord(line, property, List.of());
+    }
+
+    public static ImportRecord invalid(long line, List<String> errors) {
+        return new ImportRecord(line, null, errors);
+    }
+
+    public boolean isValid() {
+        return errors.isEmpty();
+    }
+}
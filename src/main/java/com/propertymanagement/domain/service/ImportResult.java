@@ -0,0 +1,14 @@
+package com.propertymanagement.domain.service;
+
+import java.util.List;
+
+/**
+ * Summary of an import. {@code rejections} lists at most the first
+ * {@link PropertyImportService#MAX_REPORTED_REJECTIONS} rejected rows;
+ * {@code rejected} counts all of them.
+ */
+public record ImportResult(long imported, long rejected, List<RejectedRow> rejections) {
+
+    public record RejectedRow(long line, List<String> errors) {
+    }
+}
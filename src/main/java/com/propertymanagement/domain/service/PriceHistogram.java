@@ -0,0 +1,60 @@
+package com.propertymanagement.domain.service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Log-scale price histogram as maintained by the {@code property_price_histogram} trigger.
+ * Each bucket spans {@value #BUCKET_GROWTH}x, so a percentile read from the bucket's
+ * geometric midpoint is within 1% of the exact value.
+ */
+public final class PriceHistogram {
+
+    // Must match ln(1.02) in apply_property_stats_delta()
+    public static final double BUCKET_GROWTH = 1.02;
+    private static final double LOG_GROWTH = Math.log(BUCKET_GROWTH);
+
+    private final NavigableMap<Integer, Long> buckets;
+    private final long count;
+
+    public PriceHistogram(Map<Integer, Long> buckets) {
+        this.buckets = new TreeMap<>();
+        buckets.forEach((bucket, count) -> {
+            if (count > 0) {
+                this.buckets.put(bucket, count);
+            }
+        });
+        this.count = this.buckets.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    public static int bucketOf(double value) {
+        return (int) Math.floor(Math.log(value) / LOG_GROWTH);
+    }
+
+    public long count() {
+        return count;
+    }
+
+    // Nearest-rank percentile, q in (0, 1]; null when the histogram is empty
+    public BigDecimal percentile(double q) {
+        if (count == 0) {
+            return null;
+        }
+        long rank = Math.max(1, (long) Math.ceil(q * count));
+        long seen = 0;
+        for (Map.Entry<Integer, Long> bucket : buckets.entrySet()) {
+            seen += bucket.getValue();
+            if (seen >= rank) {
+                return midpoint(bucket.getKey());
+            }
+        }
+        return midpoint(buckets.lastKey());
+    }
+
+    private static BigDecimal midpoint(int bucket) {
+        return BigDecimal.valueOf(Math.exp((bucket + 0.5) * LOG_GROWTH)).setScale(2, RoundingMode.HALF_UP);
+    }
+}
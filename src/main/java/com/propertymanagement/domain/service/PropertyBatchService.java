@@ -0,0 +1,161 @@
+package com.propertymanagement.domain.service;
+
+import com.propertymanagement.domain.Property;
+import com.propertymanagement.domain.event.PropertyChangedEvent;
+import com.propertymanagement.persistence.repository.PropertyRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Bulk writes. Items are processed in chunks, each committed in its own transaction,
+ * so Hibernate can group the statements into JDBC batches and a failing chunk does
+ * not undo the ones before it. Results are returned in input order.
+ */
+@Slf4j
+@Service
+public class PropertyBatchService {
+
+    static final String CHUNK_FAILED = "Not saved: the batch chunk containing this item was rolled back";
+
+    private final PropertyRepository propertyRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final int maxItems;
+
+    public PropertyBatchService(
+            PropertyRepository propertyRepository,
+            ApplicationEventPublisher eventPublisher,
+            PlatformTransactionManager transactionManager,
+            @Value("${property-management.batch.chunk-size:500}") int chunkSize,
+            @Value("${property-management.batch.max-items:10000}") int maxItems) {
+        this.propertyRepository = propertyRepository;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        this.maxItems = maxItems;
+    }
+
+    public List<BatchItemResult> createAll(List<Property> properties) {
+        return inChunks(properties, property -> null, (chunk, results) -> {
+            List<Integer> accepted = new ArrayList<>();
+            for (int i : chunk) {
+                try {
+                    PropertyService.validateProperty(properties.get(i));
+                    accepted.add(i);
+                } catch (IllegalArgumentException e) {
+                    results[i] = BatchItemResult.rejected(null, e.getMessage());
+                }
+            }
+            
+            List<Property> saved = propertyRepository.saveAll(
+                    accepted.stream().map(properties::get).toList());
+            for (int k = 0; k < accepted.size(); k++) {
+                Property property = saved.get(k);
+                results[accepted.get(k)] = BatchItemResult.succeeded(property.getId(), property);
+                eventPublisher.publishEvent(PropertyChangedEvent.created(property));
+            }
+        });
+    }
+
+    /**
+     * Each element carries the target id plus the full replacement state.
+     */
+    public List<BatchItemResult> updateAll(List<Property> changes) {
+        return inChunks(changes, Property::getId, (chunk, results) -> {
+            // One SELECT ... IN per chunk instead of one lookup per item
+            Set<UUID> ids = chunk.stream().map(i -> changes.get(i).getId()).collect(Collectors.toSet());
+            Map<UUID, Property> existing = propertyRepository.findAllById(ids).stream()
+                    .collect(Collectors.toMap(Property::getId, Function.identity()));
+            
+            for (int i : chunk) {
+                Property change = changes.get(i);
+                Property current = existing.get(change.getId());
+                if (current == null) {
+                    results[i] = BatchItemResult.notFound(change.getId());
+                    continue;
+                }
+                try {
+                    PropertyService.validateProperty(change);
+                } catch (IllegalArgumentException e) {
+                    results[i] = BatchItemResult.rejected(change.getId(), e.getMessage());
+                    continue;
+                }
+                PropertyService.applyChanges(current, change);
+                results[i] = BatchItemResult.succeeded(current.getId(), current);
+                eventPublisher.publishEvent(PropertyChangedEvent.updated(current));
+            }
+        });
+    }
+
+    public List<BatchItemResult> deleteAll(List<UUID> ids) {
+        return inChunks(ids, Function.identity(), (chunk, results) -> {
+            Set<UUID> existing = new HashSet<>(propertyRepository.findExistingIds(
+                    chunk.stream().map(ids::get).toList()));
+            // A single DELETE ... WHERE id IN (...) for the whole chunk
+            propertyRepository.deleteAllByIdInBatch(existing);
+            
+            for (int i : chunk) {
+                UUID id = ids.get(i);
+                if (existing.contains(id)) {
+                    results[i] = BatchItemResult.succeeded(id, null);
+                    eventPublisher.publishEvent(PropertyChangedEvent.deleted(id));
+                } else {
+                    results[i] = BatchItemResult.notFound(id);
+                }
+            }
+        });
+    }
+
+    // requestedId names an item in failure results: the caller's id, or null for creates
+    private <T> List<BatchItemResult> inChunks(List<T> items, Function<T, UUID> requestedId, ChunkWork work) {
+        if (items.size() > maxItems) {
+            throw new IllegalArgumentException("Batch must not exceed " + maxItems + " items");
+        }
+        
+        BatchItemResult[] results = new BatchItemResult[items.size()];
+        for (int from = 0; from < items.size(); from += chunkSize) {
+            int to = Math.min(from + chunkSize, items.size());
+            List<Integer> chunk = new ArrayList<>(to - from);
+            for (int i = from; i < to; i++) {
+                chunk.add(i);
+            }
+            
+            try {
+                transactionTemplate.executeWithoutResult(status -> work.run(chunk, results));
+            } catch (DataAccessException | TransactionException e) {
+                log.warn("Batch chunk {}-{} rolled back", from, to - 1, e);
+                // Rejections stand; anything that would have been written was not
+                for (int i : chunk) {
+                    if (results[i] == null || results[i].isSuccess()) {
+                        results[i] = BatchItemResult.failed(requestedId.apply(items.get(i)), CHUNK_FAILED);
+                    }
+                }
+            }
+        }
+        return Arrays.asList(results);
+    }
+
+    @FunctionalInterface
+    private interface ChunkWork {
+        
+        // Fills results for the chunk's indexes
+        void run(List<Integer> chunk, BatchItemResult[] results);
+    }
+}
@@ -0,0 +1,86 @@
+package com.propertymanagement.domain.service;
+
+import com.propertymanagement.domain.Property;
+import org.springframework.cache.Cache;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+
+/**
+ * Read-through cache for {@link PropertyService#findById}. A reader that loaded a row
+ * before a write committed must not cache it after the write's eviction, or the stale
+ * version would be served (and confirmed by its ETag) until the next write. Every
+ * eviction therefore bumps a generation for the id, and a load only stays cached if
+ * the generation it started at is still current.
+ * <p>
+ * With read replicas the load may also start after the eviction and still see the old
+ * row, on a replica that has not replayed the write yet. Such loads are served but not
+ * cached: for {@code replicaLag} after an eviction, nothing is put for the id.
+ * <p>
+ * Generations and eviction times are striped by id hash, so an eviction may also cost a
+ * concurrent or recent load of an unrelated id its cache entry, never its correctness.
+ */
+public class PropertyCache {
+
+    private static final int STRIPES = 1024;
+
+    private final Cache cache;
+    private final AtomicLongArray generations = new AtomicLongArray(STRIPES);
+    private final AtomicLongArray evictedAtMillis = new AtomicLongArray(STRIPES);
+    private final long replicaLagMillis;
+    private final Clock clock;
+
+    public PropertyCache(Cache cache) {
+        this(cache, Duration.ZERO, Clock.systemUTC());
+    }
+
+    public PropertyCache(Cache cache, Duration replicaLag, Clock clock) {
+        this.cache = cache;
+        this.replicaLagMillis = replicaLag.toMillis();
+        this.clock = clock;
+    }
+
+    // Cached instances are shared between callers and must be treated as read-only
+    public Property get(UUID id, Supplier<Property> loader) {
+        Property cached = cache.get(id, Property.class);
+        if (cached != null) {
+            return cached;
+        }
+        int stripe = stripe(id);
+        long generation = generations.get(stripe);
+        Property loaded = loader.get();
+        if (replicaLagMillis > 0 && clock.millis() - evictedAtMillis.get(stripe) < replicaLagMillis) {
+            return loaded;
+        }
+        cache.put(id, loaded);
+        // An eviction that bumped the generation before our put may have missed it
+        if (generations.get(stripe) != generation) {
+            cache.evict(id);
+        }
+        return loaded;
+    }
+
+    // Call after the write has committed
+    public void evict(UUID id) {
+        int stripe = stripe(id);
+        evictedAtMillis.set(stripe, clock.millis());
+        generations.incrementAndGet(stripe);
+        cache.evict(id);
+    }
+
+    public void evictAll() {
+        long now = clock.millis();
+        for (int i = 0; i < STRIPES; i++) {
+            evictedAtMillis.set(i, now);
+            generations.incrementAndGet(i);
+        }
+        cache.clear();
+    }
+
+    private static int stripe(UUID id) {
+        return id.hashCode() & (STRIPES - 1);
+    }
+}
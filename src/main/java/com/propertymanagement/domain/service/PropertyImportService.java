@@ -0,0 +1,81 @@
+package com.propertymanagement.domain.service;
+
+import com.propertymanagement.domain.Property;
+import com.propertymanagement.domain.PropertyStatus;
+import com.propertymanagement.domain.event.PropertiesImportedEvent;
+import com.propertymanagement.persistence.repository.PropertyCopyRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.UUID;
+import java.util.stream.StreamSupport;
+
+/**
+ * Feed ingestion. Records are validated as they stream in; accepted ones are
+ * COPYed into a staging table and merged into {@code properties} in one statement.
+ * Rows with an id replace the existing property, rows without one are inserted.
+ * The whole import is a single transaction, announced by one {@link PropertiesImportedEvent}.
+ */
+@Service
+@RequiredArgsConstructor
+public class PropertyImportService {
+    
+    public static final int MAX_REPORTED_REJECTIONS = 1000;
+    
+    private final PropertyCopyRepository propertyCopyRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    
+    @Transactional
+    public ImportResult importProperties(Iterator<ImportRecord> records) {
+        List<ImportResult.RejectedRow> rejections = new ArrayList<>();
+        long[] rejected = {0};
+        
+        Iterator<ImportRecord> accepted = StreamSupport
+                .stream(Spliterators.spliteratorUnknownSize(records, Spliterator.ORDERED), false)
+                .map(PropertyImportService::check)
+                .filter(record -> {
+                    if (record.isValid()) {
+                        return true;
+                    }
+                    rejected[0]++;
+                    if (rejections.size() < MAX_REPORTED_REJECTIONS) {
+                        rejections.add(new ImportResult.RejectedRow(record.line(), record.errors()));
+                    }
+                    return false;
+                })
+                .iterator();
+        
+        long imported = propertyCopyRepository.upsert(accepted);
+        if (imported > 0) {
+            eventPublisher.publishEvent(new PropertiesImportedEvent(imported));
+        }
+        return new ImportResult(imported, rejected[0], rejections);
+    }
+    
+    // Same business rules as single creates, plus the defaults JPA would have applied
+    private static ImportRecord check(ImportRecord record) {
+        if (!record.isValid()) {
+            return record;
+        }
+        Property property = record.property();
+        try {
+            PropertyService.validateProperty(property);
+        } catch (IllegalArgumentException e) {
+            return ImportRecord.invalid(record.line(), List.of(e.getMessage()));
+        }
+        if (property.getId() == null) {
+            property.setId(UUID.randomUUID());
+        }
+        if (property.getStatus() == null) {
+            property.setStatus(PropertyStatus.AVAILABLE);
+        }
+        return record;
+    }
+}
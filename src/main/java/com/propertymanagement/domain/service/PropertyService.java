@@ -1,82 +1,362 @@
 package com.propertymanagement.domain.service;
 
 import com.propertymanagement.domain.Property;
+import com.propertymanagement.domain.PropertyFilter;
+import com.propertymanagement.domain.PropertyPatch;
+import com.propertymanagement.domain.event.PropertyChangedEvent;
 import com.propertymanagement.domain.exception.PropertyNotFoundException;
+import com.propertymanagement.domain.exception.PropertyVersionMismatchException;
+import com.propertymanagement.domain.pagination.Cursor;
+import com.propertymanagement.domain.pagination.CursorPage;
+import com.propertymanagement.domain.pagination.RankCursor;
+import com.propertymanagement.domain.projection.PropertyField;
+import com.propertymanagement.domain.projection.PropertyProjection;
+import com.propertymanagement.domain.search.AddressMatch;
+import com.propertymanagement.domain.search.AddressSearch;
+import com.propertymanagement.domain.search.BoundingBox;
+import com.propertymanagement.domain.search.FacetSearch;
+import com.propertymanagement.domain.search.GeoPoint;
+import com.propertymanagement.domain.search.LocationSearch;
+import com.propertymanagement.domain.search.NearbyProperty;
+import com.propertymanagement.domain.search.PropertyFacets;
+import com.propertymanagement.domain.search.PropertySnapshot;
+import com.propertymanagement.domain.search.TextMatch;
+import com.propertymanagement.domain.search.TextSearch;
 import com.propertymanagement.persistence.repository.PropertyRepository;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static com.propertymanagement.persistence.repository.PropertySpecifications.KEYSET_ORDER;
+import static com.propertymanagement.persistence.repository.PropertySpecifications.after;
+import static com.propertymanagement.persistence.repository.PropertySpecifications.idIn;
+import static com.propertymanagement.persistence.repository.PropertySpecifications.matching;
 
 @Service
 @RequiredArgsConstructor
 @Transactional
+@Timed("property.service")
 public class PropertyService {
     
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    public static final int MAX_PAGE_SIZE = 500;
+    public static final String PROPERTY_CACHE = "properties";
+    public static final double MAX_RADIUS_KM = 100;
+    static final String RESULT_SIZE_METRIC = "property.query.results";
+    
     private final PropertyRepository propertyRepository;
+    private final AddressSearch addressSearch;
+    private final LocationSearch locationSearch;
+    private final TextSearch textSearch;
+    private final FacetSearch facetSearch;
+    private final ObjectProvider<PropertySnapshot> snapshot;
+    private final ReadCoalescer reads;
+    private final PropertyCache cache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MeterRegistry meterRegistry;
     
     public Property create(Property property) {
         // Business validation
         validateProperty(property);
         
-        return propertyRepository.save(property);
+        Property created = propertyRepository.save(property);
+        eventPublisher.publishEvent(PropertyChangedEvent.created(created));
+        return created;
     }
     
-    @Transactional(readOnly = true)
+    // Cached instances are shared between callers and must be treated as read-only.
+    // SUPPORTS, as on every coalesced read: the shared query runs in ReadCoalescer's
+    // read-only transaction, so callers waiting for it hold no connection
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
     public Property findById(UUID id) {
-        return propertyRepository.findById(id)
-                .orElseThrow(() -> new PropertyNotFoundException(id));
+        return cache.get(id, () -> reads.read("by_id", List.of(id), () -> load(id)));
     }
     
-    @Transactional(readOnly = true)
-    public List<Property> findAll() {
-        return propertyRepository.findAll();
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
+    public long findVersion(UUID id) {
+        return reads.read("version", List.of(id), () -> propertyRepository.findVersionById(id)
+                .orElseThrow(() -> new PropertyNotFoundException(id)));
     }
     
     public Property update(UUID id, Property updatedProperty) {
-        Property existing = findById(id);
+        return update(id, updatedProperty, null);
+    }
+    
+    // expectedVersion guards against lost updates; @Version catches writers racing past the check
+    public Property update(UUID id, Property updatedProperty, Long expectedVersion) {
+        Property existing = load(id);
+        if (expectedVersion != null && !expectedVersion.equals(existing.getVersion())) {
+            throw new PropertyVersionMismatchException(id, expectedVersion);
+        }
         
         // Business validation
         validateProperty(updatedProperty);
         
         // Update fields
-        existing.setAddress(updatedProperty.getAddress());
-        existing.setType(updatedProperty.getType());
-        existing.setBedrooms(updatedProperty.getBedrooms());
-        existing.setBathrooms(updatedProperty.getBathrooms());
-        existing.setSquareMeters(updatedProperty.getSquareMeters());
-        existing.setRentPrice(updatedProperty.getRentPrice());
-        existing.setStatus(updatedProperty.getStatus());
-        existing.setDescription(updatedProperty.getDescription());
+        applyChanges(existing, updatedProperty);
         
-        return propertyRepository.save(existing);
+        Property saved = propertyRepository.save(existing);
+        eventPublisher.publishEvent(PropertyChangedEvent.updated(saved));
+        return saved;
+    }
+    
+    // One UPDATE ... RETURNING; the row is only read again when nothing matched
+    public Property patch(UUID id, PropertyPatch patch, Long expectedVersion) {
+        validatePatch(patch);
+        
+        Property patched = propertyRepository.patch(id, patch, expectedVersion)
+                .orElseThrow(() -> expectedVersion != null && propertyRepository.findVersionById(id).isPresent()
+                        ? new PropertyVersionMismatchException(id, expectedVersion)
+                        : new PropertyNotFoundException(id));
+        eventPublisher.publishEvent(PropertyChangedEvent.updated(patched));
+        return patched;
     }
     
     public void delete(UUID id) {
-        Property property = findById(id);
-        propertyRepository.delete(property);
+        if (propertyRepository.deleteRowById(id) == 0) {
+            throw new PropertyNotFoundException(id);
+        }
+        eventPublisher.publishEvent(PropertyChangedEvent.deleted(id));
     }
     
-    @Transactional(readOnly = true)
-    public List<Property> findByStatus(com.propertymanagement.domain.PropertyStatus status) {
-        return propertyRepository.findByStatus(status);
+    // Served from the snapshot when it is enabled, without taking a connection; otherwise
+    // identical concurrent pages share one query
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
+    public CursorPage<Property> findPage(PropertyFilter filter, String cursor, int limit) {
+        PropertySnapshot snapshot = this.snapshot.getIfAvailable();
+        CursorPage<Property> page;
+        if (snapshot != null) {
+            int pageSize = pageSize(limit);
+            List<Property> rows = snapshot.find(filter, decode(cursor), pageSize + 1);
+            page = toPage(rows, pageSize, row -> Cursor.of(row).encode());
+        } else {
+            page = reads.read("page", Arrays.asList(filter, cursor, pageSize(limit)),
+                    () -> page(matching(filter), cursor, limit));
+        }
+        recordResultSize("page", page.items());
+        return page;
     }
     
-    @Transactional(readOnly = true)
-    public List<Property> findByType(com.propertymanagement.domain.PropertyType type) {
-        return propertyRepository.findByType(type);
+    // Counts for the filter as given; from the snapshot when enabled, else one grouped query
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
+    public PropertyFacets facets(PropertyFilter filter) {
+        if (snapshot.getIfAvailable() != null) {
+            return facetSearch.facets(filter);
+        }
+        return reads.read("facets", Arrays.asList(filter), () -> facetSearch.facets(filter));
+    }
+    
+    // Summary view: only the selected columns are read, no entities are loaded
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
+    public CursorPage<PropertyProjection> findPage(PropertyFilter filter, Set<PropertyField> fields,
+                                                   String cursor, int limit) {
+        int pageSize = pageSize(limit);
+        CursorPage<PropertyProjection> page = reads.read("page_projection",
+                Arrays.asList(filter, fields, cursor, pageSize), () -> {
+                    List<PropertyProjection> rows = propertyRepository.findProjected(
+                            Specification.where(matching(filter)).and(after(decode(cursor))),
+                            fields, KEYSET_ORDER, pageSize + 1);
+                    return toPage(rows, pageSize, row -> row.cursor().encode());
+                });
+        recordResultSize("page_projection", page.items());
+        return page;
     }
     
+    // Unpaginated export; entities are handed to the sink one at a time
     @Transactional(readOnly = true)
-    public List<Property> searchByAddress(String address) {
-        return propertyRepository.findByAddressContainingIgnoreCase(address);
+    public void export(PropertyFilter filter, Consumer<Property> sink) {
+        int[] rows = {0};
+        propertyRepository.scan(matching(filter), property -> {
+            rows[0]++;
+            sink.accept(property);
+        });
+        resultSize("export").record(rows[0]);
+    }
+    
+    // Best match first; paginated by a (similarity, id) keyset like text search
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
+    public CursorPage<Property> searchByAddress(String address, String cursor, int limit) {
+        String term = searchTerm(address);
+        int pageSize = pageSize(limit);
+        RankCursor after = cursor != null ? RankCursor.decode(cursor) : null;
+        CursorPage<Property> page = reads.read("search", Arrays.asList(term, cursor, pageSize), () -> {
+            List<AddressMatch> matches = addressSearch.search(term, after, pageSize + 1);
+            return toPage(matches, pageSize, match -> match.cursor().encode()).map(AddressMatch::property);
+        });
+        recordResultSize("search", page.items());
+        return page;
+    }
+    
+    // Ranks ids first, then reads only the selected columns of the hits
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
+    public CursorPage<PropertyProjection> searchByAddress(String address, Set<PropertyField> fields,
+                                                          String cursor, int limit) {
+        String term = searchTerm(address);
+        int pageSize = pageSize(limit);
+        RankCursor after = cursor != null ? RankCursor.decode(cursor) : null;
+        CursorPage<PropertyProjection> page = reads.read("search_projection",
+                Arrays.asList(term, fields, cursor, pageSize),
+                () -> rankedProjections(term, fields, after, pageSize));
+        recordResultSize("search_projection", page.items());
+        return page;
+    }
+    
+    private CursorPage<PropertyProjection> rankedProjections(String term, Set<PropertyField> fields,
+                                                             RankCursor after, int pageSize) {
+        List<RankCursor> ranked = addressSearch.rank(term, after, pageSize + 1);
+        if (ranked.isEmpty()) {
+            return new CursorPage<>(List.of(), null);
+        }
+        
+        Map<UUID, PropertyProjection> found = propertyRepository
+                .findProjected(idIn(ranked.stream().map(RankCursor::id).toList()), fields, Sort.unsorted(),
+                        ranked.size()).stream()
+                .collect(Collectors.toMap(PropertyProjection::id, Function.identity()));
+        List<RankCursor> hits = ranked.stream()
+                .filter(hit -> found.containsKey(hit.id()))
+                .toList();
+        return toPage(hits, pageSize, RankCursor::encode).map(hit -> found.get(hit.id()));
+    }
+    
+    // Best match first; paginated by a (rank, id) keyset rather than (created_at, id)
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
+    public CursorPage<Property> searchText(String query, PropertyFilter filter, String cursor, int limit) {
+        String term = searchTerm(query);
+        int pageSize = pageSize(limit);
+        RankCursor after = cursor != null ? RankCursor.decode(cursor) : null;
+        CursorPage<Property> page = reads.read("text", Arrays.asList(term, filter, cursor, pageSize), () -> {
+            List<TextMatch> matches = textSearch.search(term, filter, after, pageSize + 1);
+            return toPage(matches, pageSize, match -> match.cursor().encode()).map(TextMatch::property);
+        });
+        recordResultSize("text", page.items());
+        return page;
+    }
+    
+    // Nearest first, capped by limit rather than keyset-paginated
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
+    public List<NearbyProperty> findNearby(GeoPoint center, double radiusKm, PropertyFilter filter, int limit) {
+        if (!(radiusKm > 0 && radiusKm <= MAX_RADIUS_KM)) {
+            throw new IllegalArgumentException("Radius must be greater than zero and at most " + MAX_RADIUS_KM + " km");
+        }
+        int pageSize = pageSize(limit);
+        return recordResultSize("nearby", reads.read("nearby", Arrays.asList(center, radiusKm, filter, pageSize),
+                () -> locationSearch.nearby(center, radiusKm, filter, pageSize)));
+    }
+    
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
+    public List<NearbyProperty> findWithin(BoundingBox box, PropertyFilter filter, int limit) {
+        int pageSize = pageSize(limit);
+        return recordResultSize("within", reads.read("within", Arrays.asList(box, filter, pageSize),
+                () -> locationSearch.within(box, filter, pageSize)));
+    }
+    
+    // Rows handed back per call; large values point at missing filters or limits
+    private <C extends Collection<?>> C recordResultSize(String query, C results) {
+        resultSize(query).record(results.size());
+        return results;
+    }
+    
+    private DistributionSummary resultSize(String query) {
+        return DistributionSummary.builder(RESULT_SIZE_METRIC)
+                .baseUnit("rows")
+                .tag("query", query)
+                .register(meterRegistry);
+    }
+    
+    // Keyset pagination: fetch one extra row to learn whether another page exists
+    private CursorPage<Property> page(Specification<Property> spec, String cursor, int limit) {
+        int pageSize = pageSize(limit);
+        
+        List<Property> rows = propertyRepository.findBy(
+                Specification.where(spec).and(after(decode(cursor))),
+                query -> query.sortBy(KEYSET_ORDER).limit(pageSize + 1).all());
+        
+        return toPage(rows, pageSize, row -> Cursor.of(row).encode());
+    }
+    
+    private static <T> CursorPage<T> toPage(List<T> rows, int pageSize, Function<T, String> position) {
+        if (rows.size() <= pageSize) {
+            return new CursorPage<>(rows, null);
+        }
+        List<T> items = rows.subList(0, pageSize);
+        return new CursorPage<>(items, position.apply(items.get(pageSize - 1)));
+    }
+    
+    private static Cursor decode(String cursor) {
+        return cursor != null ? Cursor.decode(cursor) : null;
+    }
+    
+    private static String searchTerm(String address) {
+        if (address == null || address.isBlank()) {
+            throw new IllegalArgumentException("Search term is required");
+        }
+        return address.trim();
+    }
+    
+    // Writes always start from a managed entity, never from the shared cache
+    private Property load(UUID id) {
+        return propertyRepository.findById(id)
+                .orElseThrow(() -> new PropertyNotFoundException(id));
+    }
+    
+    private static int pageSize(int limit) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("Limit must be greater than zero");
+        }
+        return Math.min(limit, MAX_PAGE_SIZE);
+    }
+    
+    static void applyChanges(Property existing, Property changes) {
+        existing.setAddress(changes.getAddress());
+        existing.setType(changes.getType());
+        existing.setBedrooms(changes.getBedrooms());
+        existing.setBathrooms(changes.getBathrooms());
+        existing.setSquareMeters(changes.getSquareMeters());
+        existing.setRentPrice(changes.getRentPrice());
+        existing.setStatus(changes.getStatus());
+        existing.setDescription(changes.getDescription());
+        existing.setLatitude(changes.getLatitude());
+        existing.setLongitude(changes.getLongitude());
+    }
+    
+    // Business validation for the fields a patch actually sets
+    static void validatePatch(PropertyPatch patch) {
+        if (patch.isEmpty()) {
+            throw new IllegalArgumentException("Patch must change at least one field");
+        }
+        
+        if (patch.rentPrice() != null && patch.rentPrice().compareTo(BigDecimal.ZERO) <= 0) {
+            throw new IllegalArgumentException("Rent price must be greater than zero");
+        }
+        
+        if (patch.address() != null && patch.address().trim().isEmpty()) {
+            throw new IllegalArgumentException("Address is required");
+        }
+        
+        validateLocation(patch.latitude(), patch.longitude());
     }
     
     // Business validation
-    private void validateProperty(Property property) {
+    static void validateProperty(Property property) {
         if (property.getRentPrice() == null || 
             property.getRentPrice().compareTo(BigDecimal.ZERO) <= 0) {
             throw new IllegalArgumentException("Rent price must be greater than zero");
@@ -89,5 +369,17 @@ public class PropertyService {
         if (property.getType() == null) {
             throw new IllegalArgumentException("Property type is required");
         }
+        
+        validateLocation(property.getLatitude(), property.getLongitude());
+    }
+    
+    // A geohash needs both coordinates
+    private static void validateLocation(Double latitude, Double longitude) {
+        if ((latitude == null) != (longitude == null)) {
+            throw new IllegalArgumentException("Latitude and longitude must be given together");
+        }
+        if (latitude != null) {
+            new GeoPoint(latitude, longitude);
+        }
     }
 }
\ No newline at end of file
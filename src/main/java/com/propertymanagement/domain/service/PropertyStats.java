@@ -0,0 +1,24 @@
+package com.propertymanagement.domain.service;
+
+import com.propertymanagement.domain.PropertyStatus;
+import com.propertymanagement.domain.PropertyType;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+/**
+ * Portfolio-wide figures; counts cover every enum constant, zero included.
+ */
+public record PropertyStats(
+        long total,
+        Map<PropertyStatus, Long> byStatus,
+        Map<PropertyType, Long> byType,
+        double occupancyRate,
+        PriceStats rent,
+        PriceStats rentPerSquareMeter
+) {
+    
+    // All null when no property contributes to the figure
+    public record PriceStats(BigDecimal average, BigDecimal median, BigDecimal p90) {
+    }
+}
@@ -0,0 +1,69 @@
+package com.propertymanagement.domain.service;
+
+import com.propertymanagement.domain.PropertyStatus;
+import com.propertymanagement.domain.PropertyType;
+import com.propertymanagement.persistence.repository.PropertyStatsRepository;
+import com.propertymanagement.persistence.repository.PropertyStatsRepository.SummaryRow;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Portfolio statistics from the summary tables the database keeps current, so the cost
+ * does not grow with the number of properties.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class PropertyStatsService {
+    
+    private final PropertyStatsRepository statsRepository;
+    
+    public PropertyStats stats() {
+        List<SummaryRow> rows = statsRepository.findSummary();
+        
+        Map<PropertyStatus, Long> byStatus = new EnumMap<>(PropertyStatus.class);
+        for (PropertyStatus status : PropertyStatus.values()) {
+            byStatus.put(status, 0L);
+        }
+        Map<PropertyType, Long> byType = new EnumMap<>(PropertyType.class);
+        for (PropertyType type : PropertyType.values()) {
+            byType.put(type, 0L);
+        }
+        
+        long total = 0;
+        long sized = 0;
+        BigDecimal rentTotal = BigDecimal.ZERO;
+        BigDecimal rentPerSquareMeterTotal = BigDecimal.ZERO;
+        for (SummaryRow row : rows) {
+            byStatus.merge(row.status(), row.count(), Long::sum);
+            byType.merge(row.type(), row.count(), Long::sum);
+            total += row.count();
+            sized += row.sizedCount();
+            rentTotal = rentTotal.add(row.rentTotal());
+            rentPerSquareMeterTotal = rentPerSquareMeterTotal.add(row.rentPerSquareMeterTotal());
+        }
+        
+        double occupancyRate = total == 0 ? 0 : (double) byStatus.get(PropertyStatus.RENTED) / total;
+        return new PropertyStats(total, byStatus, byType, occupancyRate,
+                priceStats(rentTotal, total, PropertyStatsRepository.RENT),
+                priceStats(rentPerSquareMeterTotal, sized, PropertyStatsRepository.RENT_PER_SQM));
+    }
+    
+    private PropertyStats.PriceStats priceStats(BigDecimal sum, long count, String metric) {
+        if (count == 0) {
+            return new PropertyStats.PriceStats(null, null, null);
+        }
+        PriceHistogram histogram = new PriceHistogram(statsRepository.findHistogram(metric));
+        return new PropertyStats.PriceStats(
+                sum.divide(BigDecimal.valueOf(count), 2, RoundingMode.HALF_UP),
+                histogram.percentile(0.5),
+                histogram.percentile(0.9));
+    }
+}
@@ -0,0 +1,161 @@
+package com.propertymanagement.domain.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Single-flight reads: concurrent callers asking the same query with the same arguments
+ * share one execution and its result, so database load follows distinct queries rather
+ * than concurrent users. The first caller (leader) runs the query in a read-only
+ * transaction; the others (followers) wait without holding a connection, at most
+ * {@code timeout}, after which they run the query themselves.
+ * <p>
+ * Results and exceptions are shared between callers and must be treated as read-only.
+ * Callers already inside a transaction, or for which {@code bypass} holds (e.g. reads
+ * pinned to the primary after the client's own write), always run their own query.
+ * <p>
+ * Every committed write must be reported through {@link #recordWrite()}. A caller never
+ * joins a query that started before the last write it could have seen, so a client
+ * reading right after its own write gets a fresh query instead of pre-write state.
+ */
+public class ReadCoalescer {
+
+    static final String METRIC = "property.query.coalescing";
+
+    private final TransactionOperations readOnlyTransactions;
+    private final boolean enabled;
+    private final Duration timeout;
+    private final BooleanSupplier bypass;
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentMap<Key, Flight> inFlight = new ConcurrentHashMap<>();
+    private final AtomicLong writes = new AtomicLong();
+
+    public ReadCoalescer(TransactionOperations readOnlyTransactions, boolean enabled, Duration timeout,
+                         BooleanSupplier bypass, MeterRegistry meterRegistry) {
+        this.readOnlyTransactions = readOnlyTransactions;
+        this.enabled = enabled;
+        this.timeout = timeout;
+        this.bypass = bypass;
+        this.meterRegistry = meterRegistry;
+    }
+
+    private record Key(String query, List<?> arguments) {
+    }
+
+    // generation: the write count when the leader started its query
+    private record Flight(long generation, CompletableFuture<Object> result) {
+    }
+
+    enum Role {
+        LEADER,
+        FOLLOWER,
+        TIMEOUT,
+        STALE,
+        BYPASS
+    }
+
+    // arguments must be normalized by the caller: equal lists mean the same result
+    public <T> T read(String query, List<?> arguments, Supplier<T> loader) {
+        if (!enabled || TransactionSynchronizationManager.isActualTransactionActive() || bypass.getAsBoolean()) {
+            count(query, Role.BYPASS);
+            return execute(loader);
+        }
+
+        Key key = new Key(query, arguments);
+        Flight flight = new Flight(writes.get(), new CompletableFuture<>());
+        while (true) {
+            Flight leader = inFlight.putIfAbsent(key, flight);
+            if (leader == null) {
+                count(query, Role.LEADER);
+                return lead(key, flight, loader);
+            }
+            if (leader.generation() >= flight.generation()) {
+                return follow(query, leader, loader);
+            }
+            // Started before a write this caller may depend on: take its place for later callers
+            if (inFlight.replace(key, leader, flight)) {
+                count(query, Role.STALE);
+                return lead(key, flight, loader);
+            }
+        }
+    }
+
+    /**
+     * Marks a committed write. Queries already in flight may predate it, so they stop
+     * taking followers. Call after commit: a query starting between the mark and the
+     * commit would otherwise be shared as if it had seen the write.
+     */
+    public void recordWrite() {
+        writes.incrementAndGet();
+    }
+
+    int inFlight() {
+        return inFlight.size();
+    }
+
+    private <T> T lead(Key key, Flight flight, Supplier<T> loader) {
+        try {
+            T result = execute(loader);
+            flight.result().complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            flight.result().completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T follow(String query, Flight leader, Supplier<T> loader) {
+        try {
+            T result = (T) leader.result().get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+            count(query, Role.FOLLOWER);
+            return result;
+        } catch (TimeoutException e) {
+            count(query, Role.TIMEOUT);
+            return execute(loader);
+        } catch (ExecutionException e) {
+            count(query, Role.FOLLOWER);
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a shared " + query + " query", e);
+        }
+    }
+
+    private <T> T execute(Supplier<T> loader) {
+        return readOnlyTransactions.execute(status -> loader.get());
+    }
+
+    // followers / (leaders + stale + followers) is the share of queries saved
+    private void count(String query, Role role) {
+        Counter.builder(METRIC)
+                .description("Reads by coalescing role; followers shared a leader's query, timeouts gave up "
+                        + "waiting, stale replaced a query that started before a write")
+                .tag("query", query)
+                .tag("role", role.name().toLowerCase())
+                .register(meterRegistry)
+                .increment();
+    }
+}
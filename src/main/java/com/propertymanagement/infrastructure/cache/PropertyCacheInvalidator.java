@@ -0,0 +1,53 @@
+package com.propertymanagement.infrastructure.cache;
+
+import com.propertymanagement.domain.event.PropertiesImportedEvent;
+import com.propertymanagement.domain.event.PropertyChangedEvent;
+import com.propertymanagement.domain.service.PropertyCache;
+import com.propertymanagement.domain.service.ReadCoalescer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.UUID;
+
+/**
+ * Evicts cached properties, and their encoded responses, on this replica once a write
+ * has committed, and keeps reads from sharing a query that started before it. Other
+ * replicas learn about the change through {@link PropertyChangeNotificationListener}.
+ */
+@Component
+public class PropertyCacheInvalidator {
+
+    private final PropertyCache cache;
+    private final PropertyResponseByteCache responseBytes;
+    private final ReadCoalescer reads;
+
+    public PropertyCacheInvalidator(PropertyCache cache, PropertyResponseByteCache responseBytes,
+                                    ReadCoalescer reads) {
+        this.cache = cache;
+        this.responseBytes = responseBytes;
+        this.reads = reads;
+    }
+
+    @TransactionalEventListener
+    public void onPropertyChanged(PropertyChangedEvent event) {
+        evict(event.id());
+    }
+
+    // Imports do not name the rows they replaced
+    @TransactionalEventListener
+    public void onPropertiesImported(PropertiesImportedEvent event) {
+        evictAll();
+    }
+
+    public void evict(UUID id) {
+        reads.recordWrite();
+        cache.evict(id);
+        responseBytes.evict(id);
+    }
+
+    public void evictAll() {
+        reads.recordWrite();
+        cache.evictAll();
+        responseBytes.evictAll();
+    }
+}
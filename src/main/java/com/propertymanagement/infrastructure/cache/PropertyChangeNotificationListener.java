@@ -0,0 +1,142 @@
+package com.propertymanagement.infrastructure.cache;
+
+import com.propertymanagement.domain.event.PropertyChangeNotifiedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Listens on the {@value #CHANNEL} channel, fed by the {@code trg_properties_notify_*}
+ * statement triggers, evicts the named properties from this replica's cache and publishes
+ * a {@link PropertyChangeNotifiedEvent} per batch of notifications for other in-process
+ * copies. A payload lists the ids a statement changed, or is {@value #ANY} when it changed
+ * too many to list. Uses its own connection so the pool is never short of one.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "property-management.cache.cross-replica-invalidation", havingValue = "true")
+public class PropertyChangeNotificationListener implements SmartLifecycle {
+
+    static final String CHANNEL = "property_changed";
+    static final String ANY = "*";
+    private static final int POLL_TIMEOUT_MILLIS = 5_000;
+    private static final long RECONNECT_DELAY_MILLIS = 5_000;
+
+    private final DataSourceProperties dataSourceProperties;
+    private final PropertyCacheInvalidator invalidator;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private volatile boolean running;
+    private Thread worker;
+
+    public PropertyChangeNotificationListener(
+            DataSourceProperties dataSourceProperties,
+            PropertyCacheInvalidator invalidator,
+            ApplicationEventPublisher eventPublisher) {
+        this.dataSourceProperties = dataSourceProperties;
+        this.invalidator = invalidator;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        worker = new Thread(this::listen, "property-change-listener");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        worker.interrupt();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void listen() {
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(
+                    dataSourceProperties.determineUrl(),
+                    dataSourceProperties.determineUsername(),
+                    dataSourceProperties.determinePassword())) {
+
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + CHANNEL);
+                }
+                // Anything published while we were not listening is lost
+                invalidator.evictAll();
+                publish(PropertyChangeNotifiedEvent.any());
+
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(POLL_TIMEOUT_MILLIS);
+                    if (notifications != null) {
+                        handle(notifications);
+                    }
+                }
+            } catch (SQLException e) {
+                if (running) {
+                    log.warn("Lost LISTEN connection on {}, reconnecting", CHANNEL, e);
+                    pause();
+                }
+            }
+        }
+    }
+
+    void handle(PGNotification[] notifications) {
+        Set<UUID> ids = new HashSet<>();
+        for (PGNotification notification : notifications) {
+            if (ANY.equals(notification.getParameter())) {
+                invalidator.evictAll();
+                publish(PropertyChangeNotifiedEvent.any());
+                return;
+            }
+            try {
+                for (String id : notification.getParameter().split(",")) {
+                    ids.add(UUID.fromString(id));
+                }
+            } catch (IllegalArgumentException e) {
+                log.warn("Ignoring malformed {} payload: {}", CHANNEL, notification.getParameter());
+            }
+        }
+        ids.forEach(invalidator::evict);
+        if (!ids.isEmpty()) {
+            publish(PropertyChangeNotifiedEvent.of(ids));
+        }
+    }
+
+    // A failing listener must not stop cache invalidation
+    private void publish(PropertyChangeNotifiedEvent event) {
+        try {
+            eventPublisher.publishEvent(event);
+        } catch (RuntimeException e) {
+            log.warn("Listener failed on {} notification of {} properties", CHANNEL, event.ids().size(), e);
+        }
+    }
+
+    private void pause() {
+        try {
+            Thread.sleep(RECONNECT_DELAY_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.propertymanagement.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Encoded single-property response bodies, one per media type, so reading an unchanged
+ * property skips both mapping and serialization. An entry remembers the version it was
+ * encoded from and is only served for that version; {@link PropertyCacheInvalidator}
+ * drops it when the property is written. Bounded by encoded bytes rather than entries,
+ * since a JSON body is several times the size of the protobuf one.
+ */
+@Component
+public class PropertyResponseByteCache implements MeterBinder {
+
+    static final String CACHE_NAME = "propertyResponseBytes";
+    // Key, value and Caffeine node, charged on top of the body
+    static final int ENTRY_OVERHEAD_BYTES = 120;
+
+    private final Cache<Key, Encoded> cache;
+    // Every media type ever cached, so one id can be evicted without scanning the cache
+    private final Set<MediaType> mediaTypes = ConcurrentHashMap.newKeySet();
+
+    public PropertyResponseByteCache(
+            @Value("${property-management.cache.response-bytes.max-size:64MB}") DataSize maxSize) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxSize.toBytes())
+                .weigher((Key key, Encoded encoded) -> ENTRY_OVERHEAD_BYTES + encoded.bytes().length)
+                .recordStats()
+                .build();
+    }
+
+    private record Key(UUID id, MediaType mediaType) {
+    }
+
+    private record Encoded(long version, byte[] bytes) {
+    }
+
+    // The returned array is shared and must not be modified
+    public byte[] get(UUID id, long version, MediaType mediaType, Supplier<byte[]> encoder) {
+        Key key = new Key(id, mediaType);
+        Encoded cached = cache.getIfPresent(key);
+        if (cached != null && cached.version() == version) {
+            return cached.bytes();
+        }
+        byte[] bytes = encoder.get();
+        mediaTypes.add(mediaType);
+        // A reader still holding an older version must not displace a newer entry
+        cache.asMap().merge(key, new Encoded(version, bytes),
+                (current, encoded) -> current.version() > encoded.version() ? current : encoded);
+        return bytes;
+    }
+
+    public void evict(UUID id) {
+        mediaTypes.forEach(mediaType -> cache.invalidate(new Key(id, mediaType)));
+    }
+
+    public void evictAll() {
+        cache.invalidateAll();
+    }
+
+    public long weightedSize() {
+        cache.cleanUp();
+        return cache.policy().eviction().orElseThrow().weightedSize().orElse(0);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, CACHE_NAME);
+        Gauge.builder("cache.weighted.size", this, PropertyResponseByteCache::weightedSize)
+                .tag("cache", CACHE_NAME)
+                .baseUnit("bytes")
+                .description("Encoded bytes held, against property-management.cache.response-bytes.max-size")
+                .register(registry);
+    }
+}
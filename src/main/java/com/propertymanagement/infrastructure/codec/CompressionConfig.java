@@ -0,0 +1,52 @@
+package com.propertymanagement.infrastructure.codec;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.web.ServerProperties;
+import org.springframework.boot.autoconfigure.web.servlet.DispatcherServletAutoConfiguration;
+import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
+import org.springframework.boot.web.server.Compression;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.util.MimeType;
+import org.springframework.util.unit.DataSize;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * zstd response compression next to the container's gzip. It follows the same
+ * {@code server.compression} MIME types and minimum size, so both encodings apply to
+ * the same responses.
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnProperty(name = "property-management.compression.zstd.enabled", havingValue = "true")
+public class CompressionConfig {
+
+    @Bean
+    public FilterRegistrationBean<ZstdCompressionFilter> zstdCompressionFilter(
+            ServerProperties serverProperties,
+            @Value("${property-management.compression.zstd.level:3}") int level) {
+        Compression compression = serverProperties.getCompression();
+        List<MimeType> mimeTypes = Arrays.stream(compression.getMimeTypes()).map(MimeType::valueOf).toList();
+        DataSize minResponseSize = compression.getMinResponseSize();
+        FilterRegistrationBean<ZstdCompressionFilter> registration = new FilterRegistrationBean<>(
+                new ZstdCompressionFilter(mimeTypes, (int) minResponseSize.toBytes(), level));
+        // Outermost, so headers set by the other filters are in place when compression starts
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        // MVC only: the reactive API writes asynchronously and is left to gzip
+        registration.setServletNames(List.of(DispatcherServletAutoConfiguration.DEFAULT_DISPATCHER_SERVLET_BEAN_NAME));
+        return registration;
+    }
+
+    // Otherwise Tomcat gzips the zstd bodies a second time
+    @Bean
+    public WebServerFactoryCustomizer<TomcatServletWebServerFactory> zstdAwareProtocol() {
+        return factory -> factory.setProtocol(ZstdAwareHttp11NioProtocol.class.getName());
+    }
+}
@@ -0,0 +1,314 @@
+package com.propertymanagement.infrastructure.codec;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.WireFormat;
+import com.propertymanagement.api.dto.request.CreatePropertyRequest;
+import com.propertymanagement.api.dto.response.PropertyResponse;
+import com.propertymanagement.domain.PropertyStatus;
+import com.propertymanagement.domain.PropertyType;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Wire encoding of the messages in {@code src/main/proto/property.proto}, written against
+ * protobuf-java's coded streams instead of generated classes so the DTOs stay the single
+ * model. Follows proto3 rules: implicit-presence fields are omitted at their default,
+ * {@code optional} fields are written whenever set, unknown fields are skipped on read.
+ */
+public final class PropertyProtobuf {
+
+    private static final int VARINT = WireFormat.WIRETYPE_VARINT;
+    private static final int FIXED64 = WireFormat.WIRETYPE_FIXED64;
+    private static final int LENGTH_DELIMITED = WireFormat.WIRETYPE_LENGTH_DELIMITED;
+
+    // PropertyList
+    private static final int PROPERTIES = 1;
+
+    // Property
+    private static final int ID = 1;
+    private static final int ADDRESS = 2;
+    private static final int TYPE = 3;
+    private static final int BEDROOMS = 4;
+    private static final int BATHROOMS = 5;
+    private static final int SQUARE_METERS = 6;
+    private static final int RENT_PRICE_CENTS = 7;
+    private static final int STATUS = 8;
+    private static final int DESCRIPTION = 9;
+    private static final int LATITUDE = 10;
+    private static final int LONGITUDE = 11;
+    private static final int CREATED_AT = 12;
+    private static final int UPDATED_AT = 13;
+
+    // CreatePropertyRequest
+    private static final int REQUEST_ADDRESS = 1;
+    private static final int REQUEST_TYPE = 2;
+    private static final int REQUEST_BEDROOMS = 3;
+    private static final int REQUEST_BATHROOMS = 4;
+    private static final int REQUEST_SQUARE_METERS = 5;
+    private static final int REQUEST_RENT_PRICE_CENTS = 6;
+    private static final int REQUEST_STATUS = 7;
+    private static final int REQUEST_DESCRIPTION = 8;
+    private static final int REQUEST_LATITUDE = 9;
+    private static final int REQUEST_LONGITUDE = 10;
+
+    // google.protobuf.Timestamp
+    private static final int SECONDS = 1;
+    private static final int NANOS = 2;
+
+    private static final PropertyType[] TYPES = PropertyType.values();
+    private static final PropertyStatus[] STATUSES = PropertyStatus.values();
+
+    private PropertyProtobuf() {
+    }
+
+    public static void writeList(Collection<PropertyResponse> responses, OutputStream out) throws IOException {
+        CodedOutputStream coded = CodedOutputStream.newInstance(out);
+        for (PropertyResponse response : responses) {
+            coded.writeTag(PROPERTIES, LENGTH_DELIMITED);
+            coded.writeUInt32NoTag(size(response));
+            write(coded, response);
+        }
+        coded.flush();
+    }
+
+    public static void write(PropertyResponse response, OutputStream out) throws IOException {
+        CodedOutputStream coded = CodedOutputStream.newInstance(out);
+        write(coded, response);
+        coded.flush();
+    }
+
+    public static void write(CreatePropertyRequest request, OutputStream out) throws IOException {
+        CodedOutputStream coded = CodedOutputStream.newInstance(out);
+        writeString(coded, REQUEST_ADDRESS, request.getAddress());
+        writeEnum(coded, REQUEST_TYPE, request.getType());
+        writeInt32(coded, REQUEST_BEDROOMS, request.getBedrooms());
+        writeInt32(coded, REQUEST_BATHROOMS, request.getBathrooms());
+        writeDouble(coded, REQUEST_SQUARE_METERS, request.getSquareMeters());
+        if (request.getRentPrice() != null) {
+            coded.writeInt64(REQUEST_RENT_PRICE_CENTS, cents(request.getRentPrice()));
+        }
+        writeEnum(coded, REQUEST_STATUS, request.getStatus());
+        writeOptionalString(coded, REQUEST_DESCRIPTION, request.getDescription());
+        writeDouble(coded, REQUEST_LATITUDE, request.getLatitude());
+        writeDouble(coded, REQUEST_LONGITUDE, request.getLongitude());
+        coded.flush();
+    }
+
+    public static List<PropertyResponse> readList(InputStream in) throws IOException {
+        CodedInputStream coded = CodedInputStream.newInstance(in);
+        List<PropertyResponse> responses = new ArrayList<>();
+        for (int tag = coded.readTag(); tag != 0; tag = coded.readTag()) {
+            if (tag == (PROPERTIES << 3 | LENGTH_DELIMITED)) {
+                int limit = coded.pushLimit(coded.readRawVarint32());
+                responses.add(readResponse(coded));
+                coded.popLimit(limit);
+            } else {
+                coded.skipField(tag);
+            }
+        }
+        return responses;
+    }
+
+    public static PropertyResponse readResponse(InputStream in) throws IOException {
+        return readResponse(CodedInputStream.newInstance(in));
+    }
+
+    public static CreatePropertyRequest readRequest(InputStream in) throws IOException {
+        CodedInputStream coded = CodedInputStream.newInstance(in);
+        CreatePropertyRequest request = new CreatePropertyRequest();
+        for (int tag = coded.readTag(); tag != 0; tag = coded.readTag()) {
+            switch (tag) {
+                case REQUEST_ADDRESS << 3 | LENGTH_DELIMITED -> request.setAddress(coded.readStringRequireUtf8());
+                case REQUEST_TYPE << 3 | VARINT -> request.setType(enumValue(TYPES, coded.readEnum()));
+                case REQUEST_BEDROOMS << 3 | VARINT -> request.setBedrooms(coded.readInt32());
+                case REQUEST_BATHROOMS << 3 | VARINT -> request.setBathrooms(coded.readInt32());
+                case REQUEST_SQUARE_METERS << 3 | FIXED64 -> request.setSquareMeters(coded.readDouble());
+                case REQUEST_RENT_PRICE_CENTS << 3 | VARINT -> request.setRentPrice(BigDecimal.valueOf(coded.readInt64(), 2));
+                case REQUEST_STATUS << 3 | VARINT -> request.setStatus(enumValue(STATUSES, coded.readEnum()));
+                case REQUEST_DESCRIPTION << 3 | LENGTH_DELIMITED -> request.setDescription(coded.readStringRequireUtf8());
+                case REQUEST_LATITUDE << 3 | FIXED64 -> request.setLatitude(coded.readDouble());
+                case REQUEST_LONGITUDE << 3 | FIXED64 -> request.setLongitude(coded.readDouble());
+                default -> coded.skipField(tag);
+            }
+        }
+        return request;
+    }
+
+    private static void write(CodedOutputStream coded, PropertyResponse response) throws IOException {
+        if (response.getId() != null) {
+            coded.writeString(ID, response.getId().toString());
+        }
+        writeString(coded, ADDRESS, response.getAddress());
+        writeEnum(coded, TYPE, response.getType());
+        writeInt32(coded, BEDROOMS, response.getBedrooms());
+        writeInt32(coded, BATHROOMS, response.getBathrooms());
+        writeDouble(coded, SQUARE_METERS, response.getSquareMeters());
+        if (response.getRentPrice() != null && response.getRentPrice().signum() != 0) {
+            coded.writeInt64(RENT_PRICE_CENTS, cents(response.getRentPrice()));
+        }
+        writeEnum(coded, STATUS, response.getStatus());
+        writeOptionalString(coded, DESCRIPTION, response.getDescription());
+        writeDouble(coded, LATITUDE, response.getLatitude());
+        writeDouble(coded, LONGITUDE, response.getLongitude());
+        writeTimestamp(coded, CREATED_AT, response.getCreatedAt());
+        writeTimestamp(coded, UPDATED_AT, response.getUpdatedAt());
+    }
+
+    // Must agree field for field with write(CodedOutputStream, PropertyResponse)
+    private static int size(PropertyResponse response) {
+        int size = 0;
+        if (response.getId() != null) {
+            size += CodedOutputStream.computeStringSize(ID, response.getId().toString());
+        }
+        size += stringSize(ADDRESS, response.getAddress());
+        size += enumSize(TYPE, response.getType());
+        size += int32Size(BEDROOMS, response.getBedrooms());
+        size += int32Size(BATHROOMS, response.getBathrooms());
+        size += doubleSize(SQUARE_METERS, response.getSquareMeters());
+        if (response.getRentPrice() != null && response.getRentPrice().signum() != 0) {
+            size += CodedOutputStream.computeInt64Size(RENT_PRICE_CENTS, cents(response.getRentPrice()));
+        }
+        size += enumSize(STATUS, response.getStatus());
+        if (response.getDescription() != null) {
+            size += CodedOutputStream.computeStringSize(DESCRIPTION, response.getDescription());
+        }
+        size += doubleSize(LATITUDE, response.getLatitude());
+        size += doubleSize(LONGITUDE, response.getLongitude());
+        size += timestampSize(CREATED_AT, response.getCreatedAt());
+        size += timestampSize(UPDATED_AT, response.getUpdatedAt());
+        return size;
+    }
+
+    private static PropertyResponse readResponse(CodedInputStream coded) throws IOException {
+        PropertyResponse response = new PropertyResponse();
+        for (int tag = coded.readTag(); tag != 0; tag = coded.readTag()) {
+            switch (tag) {
+                case ID << 3 | LENGTH_DELIMITED -> response.setId(UUID.fromString(coded.readStringRequireUtf8()));
+                case ADDRESS << 3 | LENGTH_DELIMITED -> response.setAddress(coded.readStringRequireUtf8());
+                case TYPE << 3 | VARINT -> response.setType(enumValue(TYPES, coded.readEnum()));
+                case BEDROOMS << 3 | VARINT -> response.setBedrooms(coded.readInt32());
+                case BATHROOMS << 3 | VARINT -> response.setBathrooms(coded.readInt32());
+                case SQUARE_METERS << 3 | FIXED64 -> response.setSquareMeters(coded.readDouble());
+                case RENT_PRICE_CENTS << 3 | VARINT -> response.setRentPrice(BigDecimal.valueOf(coded.readInt64(), 2));
+                case STATUS << 3 | VARINT -> response.setStatus(enumValue(STATUSES, coded.readEnum()));
+                case DESCRIPTION << 3 | LENGTH_DELIMITED -> response.setDescription(coded.readStringRequireUtf8());
+                case LATITUDE << 3 | FIXED64 -> response.setLatitude(coded.readDouble());
+                case LONGITUDE << 3 | FIXED64 -> response.setLongitude(coded.readDouble());
+                case CREATED_AT << 3 | LENGTH_DELIMITED -> response.setCreatedAt(readTimestamp(coded));
+                case UPDATED_AT << 3 | LENGTH_DELIMITED -> response.setUpdatedAt(readTimestamp(coded));
+                default -> coded.skipField(tag);
+            }
+        }
+        return response;
+    }
+
+    private static void writeString(CodedOutputStream coded, int field, String value) throws IOException {
+        if (value != null && !value.isEmpty()) {
+            coded.writeString(field, value);
+        }
+    }
+
+    private static void writeOptionalString(CodedOutputStream coded, int field, String value) throws IOException {
+        if (value != null) {
+            coded.writeString(field, value);
+        }
+    }
+
+    private static void writeEnum(CodedOutputStream coded, int field, Enum<?> value) throws IOException {
+        if (value != null) {
+            coded.writeEnum(field, value.ordinal() + 1);
+        }
+    }
+
+    private static void writeInt32(CodedOutputStream coded, int field, Integer value) throws IOException {
+        if (value != null) {
+            coded.writeInt32(field, value);
+        }
+    }
+
+    private static void writeDouble(CodedOutputStream coded, int field, Double value) throws IOException {
+        if (value != null) {
+            coded.writeDouble(field, value);
+        }
+    }
+
+    private static void writeTimestamp(CodedOutputStream coded, int field, LocalDateTime value) throws IOException {
+        if (value != null) {
+            long seconds = value.toEpochSecond(ZoneOffset.UTC);
+            int nanos = value.getNano();
+            coded.writeTag(field, LENGTH_DELIMITED);
+            coded.writeUInt32NoTag(timestampBodySize(seconds, nanos));
+            if (seconds != 0) {
+                coded.writeInt64(SECONDS, seconds);
+            }
+            if (nanos != 0) {
+                coded.writeInt32(NANOS, nanos);
+            }
+        }
+    }
+
+    private static LocalDateTime readTimestamp(CodedInputStream coded) throws IOException {
+        int limit = coded.pushLimit(coded.readRawVarint32());
+        long seconds = 0;
+        int nanos = 0;
+        for (int tag = coded.readTag(); tag != 0; tag = coded.readTag()) {
+            switch (tag) {
+                case SECONDS << 3 | VARINT -> seconds = coded.readInt64();
+                case NANOS << 3 | VARINT -> nanos = coded.readInt32();
+                default -> coded.skipField(tag);
+            }
+        }
+        coded.popLimit(limit);
+        return LocalDateTime.ofEpochSecond(seconds, nanos, ZoneOffset.UTC);
+    }
+
+    private static int stringSize(int field, String value) {
+        return value != null && !value.isEmpty() ? CodedOutputStream.computeStringSize(field, value) : 0;
+    }
+
+    private static int enumSize(int field, Enum<?> value) {
+        return value != null ? CodedOutputStream.computeEnumSize(field, value.ordinal() + 1) : 0;
+    }
+
+    private static int int32Size(int field, Integer value) {
+        return value != null ? CodedOutputStream.computeInt32Size(field, value) : 0;
+    }
+
+    private static int doubleSize(int field, Double value) {
+        return value != null ? CodedOutputStream.computeDoubleSize(field, value) : 0;
+    }
+
+    private static int timestampSize(int field, LocalDateTime value) {
+        if (value == null) {
+            return 0;
+        }
+        int body = timestampBodySize(value.toEpochSecond(ZoneOffset.UTC), value.getNano());
+        return CodedOutputStream.computeTagSize(field) + CodedOutputStream.computeUInt32SizeNoTag(body) + body;
+    }
+
+    private static int timestampBodySize(long seconds, int nanos) {
+        return (seconds != 0 ? CodedOutputStream.computeInt64Size(SECONDS, seconds) : 0)
+                + (nanos != 0 ? CodedOutputStream.computeInt32Size(NANOS, nanos) : 0);
+    }
+
+    // Prices have two decimals (DECIMAL(10, 2)); anything finer is rounded like the column does
+    private static long cents(BigDecimal price) {
+        return price.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    // 0 is UNSPECIFIED, and numbers this build does not know are treated the same: absent
+    private static <E extends Enum<E>> E enumValue(E[] values, int number) {
+        return number > 0 && number <= values.length ? values[number - 1] : null;
+    }
+}
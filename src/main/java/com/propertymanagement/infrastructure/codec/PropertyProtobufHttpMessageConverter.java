@@ -0,0 +1,86 @@
+package com.propertymanagement.infrastructure.codec;
+
+import com.propertymanagement.api.dto.request.CreatePropertyRequest;
+import com.propertymanagement.api.dto.response.PropertyResponse;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * {@code application/x-protobuf} for the property payloads: reads
+ * {@link CreatePropertyRequest}, writes a {@link PropertyResponse} or a list of them
+ * (as {@code PropertyList}). Other bodies are left to the other converters, so asking
+ * for protobuf elsewhere gets a 406.
+ */
+public class PropertyProtobufHttpMessageConverter extends AbstractGenericHttpMessageConverter<Object> {
+
+    public static final MediaType APPLICATION_PROTOBUF = new MediaType("application", "x-protobuf");
+
+    public PropertyProtobufHttpMessageConverter() {
+        super(APPLICATION_PROTOBUF);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return clazz == PropertyResponse.class || clazz == CreatePropertyRequest.class;
+    }
+
+    @Override
+    public boolean canRead(Type type, Class<?> contextClass, MediaType mediaType) {
+        return type == CreatePropertyRequest.class && canRead(mediaType);
+    }
+
+    @Override
+    public boolean canWrite(Type type, Class<?> clazz, MediaType mediaType) {
+        Type target = type != null ? type : clazz;
+        return (target == PropertyResponse.class || isResponseList(target)) && canWrite(mediaType);
+    }
+
+    // Asked with the raw class of the value, which for lists says nothing about the elements
+    @Override
+    public List<MediaType> getSupportedMediaTypes(Class<?> clazz) {
+        return supports(clazz) || Collection.class.isAssignableFrom(clazz) ? getSupportedMediaTypes() : List.of();
+    }
+
+    @Override
+    public Object read(Type type, Class<?> contextClass, HttpInputMessage inputMessage) throws IOException {
+        return readInternal(CreatePropertyRequest.class, inputMessage);
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) throws IOException {
+        try {
+            return PropertyProtobuf.readRequest(inputMessage.getBody());
+        } catch (IOException | RuntimeException e) {
+            throw new HttpMessageNotReadableException("Invalid protobuf CreatePropertyRequest: " + e.getMessage(),
+                    e, inputMessage);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected void writeInternal(Object body, Type type, HttpOutputMessage outputMessage) throws IOException {
+        if (body instanceof PropertyResponse response) {
+            PropertyProtobuf.write(response, outputMessage.getBody());
+        } else if (body instanceof Collection<?> responses) {
+            PropertyProtobuf.writeList((Collection<PropertyResponse>) responses, outputMessage.getBody());
+        } else {
+            throw new HttpMessageNotWritableException("No protobuf message for " + body.getClass().getName());
+        }
+    }
+
+    private static boolean isResponseList(Type type) {
+        ResolvableType resolved = ResolvableType.forType(type);
+        return Collection.class.isAssignableFrom(resolved.toClass())
+                && resolved.asCollection().resolveGeneric() == PropertyResponse.class;
+    }
+}
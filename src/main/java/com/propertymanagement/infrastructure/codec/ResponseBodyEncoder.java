@@ -0,0 +1,92 @@
+package com.propertymanagement.infrastructure.codec;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.stereotype.Component;
+import org.springframework.web.HttpMediaTypeNotAcceptableException;
+import org.springframework.web.accept.ContentNegotiationManager;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Content negotiation and encoding with MVC's own message converters, for handlers that
+ * keep encoded bodies and return them as bytes. A body encoded here is identical to the
+ * one MVC would have written for the same {@code Accept} header.
+ */
+@Component
+public class ResponseBodyEncoder {
+
+    private final RequestMappingHandlerAdapter handlerAdapter;
+    private final ContentNegotiationManager contentNegotiationManager;
+    private final Map<Class<?>, List<MediaType>> producibleTypes = new ConcurrentHashMap<>();
+
+    public ResponseBodyEncoder(RequestMappingHandlerAdapter handlerAdapter,
+            ContentNegotiationManager contentNegotiationManager) {
+        this.handlerAdapter = handlerAdapter;
+        this.contentNegotiationManager = contentNegotiationManager;
+    }
+
+    // First acceptable type, in the client's order, that a converter can write; JSON for */*
+    public MediaType negotiate(NativeWebRequest request, Class<?> bodyType) throws HttpMediaTypeNotAcceptableException {
+        List<MediaType> producible = producibleTypes.computeIfAbsent(bodyType, this::producible);
+        for (MediaType acceptable : contentNegotiationManager.resolveMediaTypes(request)) {
+            for (MediaType mediaType : producible) {
+                if (acceptable.isCompatibleWith(mediaType)) {
+                    return mediaType;
+                }
+            }
+        }
+        throw new HttpMediaTypeNotAcceptableException(producible);
+    }
+
+    @SuppressWarnings("unchecked")
+    public byte[] encode(Object body, MediaType mediaType) {
+        for (HttpMessageConverter<?> converter : handlerAdapter.getMessageConverters()) {
+            if (converter.canWrite(body.getClass(), mediaType)) {
+                BufferedOutputMessage message = new BufferedOutputMessage();
+                try {
+                    ((HttpMessageConverter<Object>) converter).write(body, mediaType, message);
+                } catch (IOException e) {
+                    throw new HttpMessageNotWritableException("Could not encode " + body.getClass().getSimpleName(), e);
+                }
+                return message.body.toByteArray();
+            }
+        }
+        throw new HttpMessageNotWritableException("No converter for " + body.getClass().getName() + " as " + mediaType);
+    }
+
+    private List<MediaType> producible(Class<?> bodyType) {
+        return handlerAdapter.getMessageConverters().stream()
+                .filter(converter -> converter.canWrite(bodyType, null))
+                .flatMap(converter -> converter.getSupportedMediaTypes(bodyType).stream())
+                .filter(MediaType::isConcrete)
+                .distinct()
+                .toList();
+    }
+
+    private static final class BufferedOutputMessage implements HttpOutputMessage {
+
+        private final HttpHeaders headers = new HttpHeaders();
+        private final ByteArrayOutputStream body = new ByteArrayOutputStream(1024);
+
+        @Override
+        public OutputStream getBody() {
+            return body;
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.propertymanagement.infrastructure.codec;
+
+import org.apache.coyote.Request;
+import org.apache.coyote.Response;
+import org.apache.coyote.http11.Http11NioProtocol;
+
+/**
+ * Tomcat's NIO connector, except that it leaves bodies {@link ZstdCompressionFilter} has
+ * compressed alone. Tomcat 10.1.16 only takes {@code gzip} and {@code br} as an existing
+ * {@code Content-Encoding}; anything else it gzips again and relabels as gzip.
+ */
+public class ZstdAwareHttp11NioProtocol extends Http11NioProtocol {
+
+    @Override
+    public boolean useCompression(Request request, Response response) {
+        String contentEncoding = response.getMimeHeaders().getHeader("Content-Encoding");
+        return !ZstdCompressionFilter.ZSTD.equalsIgnoreCase(contentEncoding) && super.useCompression(request, response);
+    }
+}
@@ -0,0 +1,324 @@
+package com.propertymanagement.infrastructure.codec;
+
+import com.github.luben.zstd.ZstdOutputStream;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.util.MimeType;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+
+/**
+ * {@code Content-Encoding: zstd} for clients that accept it. Tomcat only offers gzip;
+ * zstd compresses property lists about as well at a fraction of the CPU. The first
+ * {@code minResponseSize} bytes are held back: smaller bodies go out unchanged, larger
+ * ones of a compressible type are compressed from there on as they are written. Responses
+ * written asynchronously (streamed exports) are left to gzip.
+ *
+ * <p>A strong ETag names the uncompressed bytes. The zstd body gets one of its own, the
+ * same tag with a {@code -zstd} suffix, which is stripped again from {@code If-Match} and
+ * {@code If-None-Match} so controllers only ever see the tags they issued. Tomcat refuses
+ * to gzip a response with a strong ETag, so for gzip-only clients it is weakened instead.
+ */
+public class ZstdCompressionFilter extends OncePerRequestFilter {
+
+    static final String ZSTD = "zstd";
+    static final String GZIP = "gzip";
+    static final String ETAG_SUFFIX = "-" + ZSTD;
+
+    private final List<MimeType> mimeTypes;
+    private final int minResponseSize;
+    private final int level;
+
+    public ZstdCompressionFilter(List<MimeType> mimeTypes, int minResponseSize, int level) {
+        this.mimeTypes = mimeTypes;
+        this.minResponseSize = minResponseSize;
+        this.level = level;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        HttpServletRequest conditional = withoutEtagSuffix(request);
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        String coding = accepts(acceptEncoding, ZSTD) ? ZSTD : accepts(acceptEncoding, GZIP) ? GZIP : null;
+        if (coding == null || "HEAD".equals(request.getMethod())) {
+            chain.doFilter(conditional, response);
+            return;
+        }
+        if (ZSTD.equals(coding)) {
+            // Tomcat adds its own for gzip
+            response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        }
+        CompressingResponse compressing = new CompressingResponse(request, response, coding);
+        chain.doFilter(conditional, compressing);
+        if (!request.isAsyncStarted()) {
+            compressing.finish();
+        }
+    }
+
+    // The coding listed without q=0
+    static boolean accepts(String acceptEncoding, String coding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String accepted : StringUtils.tokenizeToStringArray(acceptEncoding, ",")) {
+            String[] parts = StringUtils.tokenizeToStringArray(accepted, ";");
+            if (parts.length > 0 && coding.equalsIgnoreCase(parts[0])) {
+                for (int i = 1; i < parts.length; i++) {
+                    if (parts[i].replace(" ", "").matches("q=0(\\.0*)?")) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // "3-zstd" and "3" identify the same representation
+    static String withoutEtagSuffix(String etags) {
+        return etags == null ? null : etags.replace(ETAG_SUFFIX + "\"", "\"");
+    }
+
+    private static HttpServletRequest withoutEtagSuffix(HttpServletRequest request) {
+        if (request.getHeader(HttpHeaders.IF_MATCH) == null && request.getHeader(HttpHeaders.IF_NONE_MATCH) == null) {
+            return request;
+        }
+        return new HttpServletRequestWrapper(request) {
+            @Override
+            public String getHeader(String name) {
+                return conditional(name) ? withoutEtagSuffix(super.getHeader(name)) : super.getHeader(name);
+            }
+
+            @Override
+            public Enumeration<String> getHeaders(String name) {
+                if (!conditional(name)) {
+                    return super.getHeaders(name);
+                }
+                return Collections.enumeration(Collections.list(super.getHeaders(name)).stream()
+                        .map(ZstdCompressionFilter::withoutEtagSuffix)
+                        .toList());
+            }
+
+            private boolean conditional(String name) {
+                return HttpHeaders.IF_MATCH.equalsIgnoreCase(name) || HttpHeaders.IF_NONE_MATCH.equalsIgnoreCase(name);
+            }
+        };
+    }
+
+    private boolean compressible(HttpServletResponse response) {
+        int status = response.getStatus();
+        if (status < HttpStatus.OK.value() || status == HttpStatus.NO_CONTENT.value()
+                || status == HttpStatus.NOT_MODIFIED.value()
+                || response.getHeader(HttpHeaders.CONTENT_ENCODING) != null
+                || response.getContentType() == null) {
+            return false;
+        }
+        MimeType contentType = MimeType.valueOf(response.getContentType());
+        return mimeTypes.stream().anyMatch(type -> type.includes(contentType));
+    }
+
+    // Buffers up to minResponseSize, then commits to either compressed or plain output
+    private final class CompressingResponse extends HttpServletResponseWrapper {
+
+        private final HttpServletRequest request;
+        private final String coding;
+        private final ByteArrayOutputStream pending = new ByteArrayOutputStream();
+        private OutputStream target;
+        private long declaredLength = -1;
+        private ServletOutputStream outputStream;
+        private PrintWriter writer;
+
+        CompressingResponse(HttpServletRequest request, HttpServletResponse response, String coding) {
+            super(response);
+            this.request = request;
+            this.coding = coding;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            if (outputStream == null) {
+                outputStream = new ServletOutputStream() {
+                    @Override
+                    public void write(int b) throws IOException {
+                        write(new byte[]{(byte) b}, 0, 1);
+                    }
+
+                    @Override
+                    public void write(byte[] bytes, int offset, int length) throws IOException {
+                        CompressingResponse.this.write(bytes, offset, length);
+                    }
+
+                    @Override
+                    public void flush() throws IOException {
+                        if (target != null) {
+                            target.flush();
+                        }
+                    }
+
+                    @Override
+                    public boolean isReady() {
+                        return true;
+                    }
+
+                    @Override
+                    public void setWriteListener(WriteListener listener) {
+                        throw new UnsupportedOperationException("Non-blocking writes are not compressed");
+                    }
+                };
+            }
+            return outputStream;
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            if (writer == null) {
+                String encoding = getCharacterEncoding();
+                Charset charset = encoding != null ? Charset.forName(encoding) : StandardCharsets.ISO_8859_1;
+                writer = new PrintWriter(new OutputStreamWriter(getOutputStream(), charset));
+            }
+            return writer;
+        }
+
+        @Override
+        public void setContentLength(int length) {
+            setContentLengthLong(length);
+        }
+
+        @Override
+        public void setContentLengthLong(long length) {
+            if (target == null) {
+                declaredLength = length;
+            } else if (!(target instanceof ZstdOutputStream)) {
+                super.setContentLengthLong(length);
+            }
+        }
+
+        @Override
+        public void setHeader(String name, String value) {
+            if (HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) {
+                setContentLengthLong(Long.parseLong(value));
+            } else {
+                super.setHeader(name, value);
+            }
+        }
+
+        @Override
+        public void addHeader(String name, String value) {
+            if (HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) {
+                setContentLengthLong(Long.parseLong(value));
+            } else {
+                super.addHeader(name, value);
+            }
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            if (writer != null) {
+                writer.flush();
+            }
+            if (target != null) {
+                target.flush();
+                super.flushBuffer();
+            }
+        }
+
+        @Override
+        public void resetBuffer() {
+            if (target == null) {
+                pending.reset();
+            }
+            super.resetBuffer();
+        }
+
+        @Override
+        public void reset() {
+            if (target == null) {
+                pending.reset();
+                declaredLength = -1;
+            }
+            super.reset();
+        }
+
+        private void write(byte[] bytes, int offset, int length) throws IOException {
+            if (target == null) {
+                if (request.isAsyncStarted() || (declaredLength >= 0 && declaredLength < minResponseSize)) {
+                    plain();
+                } else if (pending.size() + length < minResponseSize) {
+                    pending.write(bytes, offset, length);
+                    return;
+                } else if (compressible(this)) {
+                    if (ZSTD.equals(coding)) {
+                        compressed();
+                    } else {
+                        gzipped();
+                    }
+                } else {
+                    plain();
+                }
+            }
+            target.write(bytes, offset, length);
+        }
+
+        private void plain() throws IOException {
+            if (declaredLength >= 0) {
+                super.setContentLengthLong(declaredLength);
+            }
+            target = super.getOutputStream();
+            pending.writeTo(target);
+        }
+
+        private void compressed() throws IOException {
+            super.setHeader(HttpHeaders.CONTENT_ENCODING, ZSTD);
+            String etag = getHeader(HttpHeaders.ETAG);
+            if (etag != null && !etag.startsWith("W/") && etag.endsWith("\"")) {
+                super.setHeader(HttpHeaders.ETAG, etag.substring(0, etag.length() - 1) + ETAG_SUFFIX + "\"");
+            }
+            target = new ZstdOutputStream(super.getOutputStream(), level);
+            pending.writeTo(target);
+        }
+
+        // Written plain; Tomcat compresses it once the ETag no longer claims byte equality
+        private void gzipped() throws IOException {
+            String etag = getHeader(HttpHeaders.ETAG);
+            if (etag != null && !etag.startsWith("W/")) {
+                super.setHeader(HttpHeaders.ETAG, "W/" + etag);
+            }
+            plain();
+        }
+
+        void finish() throws IOException {
+            if (writer != null) {
+                writer.flush();
+            }
+            if (target == null) {
+                plain();
+            }
+            if (target instanceof ZstdOutputStream zstd) {
+                // Ends the frame; also closes the response stream, as the body is complete
+                zstd.close();
+            } else {
+                target.flush();
+            }
+        }
+    }
+}
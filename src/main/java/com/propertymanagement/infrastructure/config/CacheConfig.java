@@ -0,0 +1,31 @@
+package com.propertymanagement.infrastructure.config;
+
+import com.propertymanagement.domain.service.PropertyCache;
+import com.propertymanagement.domain.service.PropertyService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * Caches are declared under {@code spring.cache}; Caffeine provides size and TTL eviction.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    // findById reads in a read-only transaction, which goes to a replica when they are enabled
+    @Bean
+    public PropertyCache propertyCache(
+            CacheManager cacheManager,
+            @Value("${property-management.read-replicas.enabled:false}") boolean replicas,
+            @Value("${property-management.read-replicas.max-lag:2s}") Duration maxLag) {
+        return new PropertyCache(Objects.requireNonNull(cacheManager.getCache(PropertyService.PROPERTY_CACHE)),
+                replicas ? maxLag : Duration.ZERO, Clock.systemUTC());
+    }
+}
@@ -0,0 +1,32 @@
+package com.propertymanagement.infrastructure.config;
+
+import com.propertymanagement.domain.service.ReadCoalescer;
+import com.propertymanagement.infrastructure.datasource.ReadYourWrites;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+
+/**
+ * Single-flight reads for {@code PropertyService}. A leader may have read a replica, so
+ * requests pinned to the primary by read-your-writes never wait on one. Committed writes,
+ * local or notified by other replicas, are reported by {@code PropertyCacheInvalidator}.
+ */
+@Configuration
+public class ReadCoalescingConfig {
+
+    @Bean
+    public ReadCoalescer readCoalescer(
+            PlatformTransactionManager transactionManager,
+            @Value("${property-management.read-coalescing.enabled:true}") boolean enabled,
+            @Value("${property-management.read-coalescing.timeout:2s}") Duration timeout,
+            MeterRegistry meterRegistry) {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        return new ReadCoalescer(readOnly, enabled, timeout, ReadYourWrites::requiresPrimary, meterRegistry);
+    }
+}
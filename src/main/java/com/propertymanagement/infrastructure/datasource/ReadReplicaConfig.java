@@ -0,0 +1,122 @@
+package com.propertymanagement.infrastructure.datasource;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.web.servlet.DispatcherServletAutoConfiguration;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Replaces the auto-configured DataSource with one that routes read-only transactions to
+ * the replicas in {@code property-management.read-replicas.urls}. Every pool, primary and
+ * replicas alike, takes its settings from {@code spring.datasource.hikari}. Call sites
+ * don't change: {@code @Transactional(readOnly = true)} is the routing signal.
+ */
+@Configuration
+@ConditionalOnProperty(name = "property-management.read-replicas.enabled", havingValue = "true")
+public class ReadReplicaConfig implements DisposableBean {
+
+    private final List<HikariDataSource> pools = new ArrayList<>();
+    private ScheduledExecutorService healthChecker;
+
+    @Bean
+    @Primary
+    public DataSource dataSource(
+            DataSourceProperties dataSourceProperties,
+            Environment environment,
+            ObjectProvider<MeterRegistry> meterRegistry,
+            @Value("${property-management.read-replicas.urls}") List<String> urls,
+            @Value("${property-management.read-replicas.health-check-interval:5s}") Duration interval) {
+        
+        // Boot only instruments DataSource beans it can unwrap to a pool, which these are not
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        HikariDataSource primary = pool(dataSourceProperties, environment, registry, "primary",
+                dataSourceProperties.determineUrl(), false);
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        for (String url : urls) {
+            if (!url.isBlank()) {
+                String name = "replica-" + replicas.size();
+                replicas.put(name, pool(dataSourceProperties, environment, registry, name, url.trim(), true));
+            }
+        }
+        if (replicas.isEmpty()) {
+            throw new IllegalStateException("property-management.read-replicas.urls must name at least one replica");
+        }
+        
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(primary, replicas);
+        healthChecker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "read-replica-health");
+            thread.setDaemon(true);
+            return thread;
+        });
+        healthChecker.scheduleWithFixedDelay(routing::checkReplicas, 0, interval.toMillis(), TimeUnit.MILLISECONDS);
+        
+        // Defers the physical connection to the first statement, when the read-only flag is known
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+
+    @Bean
+    public FilterRegistrationBean<ReadYourWritesFilter> readYourWritesFilter(
+            @Value("${property-management.read-replicas.read-your-writes-window:0s}") Duration window) {
+        FilterRegistrationBean<ReadYourWritesFilter> registration =
+                new FilterRegistrationBean<>(new ReadYourWritesFilter(window, Clock.systemUTC()));
+        registration.setEnabled(!window.isZero() && !window.isNegative());
+        // Routing applies to the JDBC DataSource; the reactive API reads the primary over R2DBC
+        registration.setServletNames(List.of(DispatcherServletAutoConfiguration.DEFAULT_DISPATCHER_SERVLET_BEAN_NAME));
+        return registration;
+    }
+
+    @Override
+    public void destroy() {
+        if (healthChecker != null) {
+            healthChecker.shutdownNow();
+        }
+        pools.forEach(HikariDataSource::close);
+    }
+
+    private HikariDataSource pool(DataSourceProperties dataSourceProperties, Environment environment,
+                                  MeterRegistry registry, String name, String url, boolean replica) {
+        HikariConfig config = new HikariConfig();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(config));
+        config.setPoolName("property-db-" + name);
+        config.setJdbcUrl(url);
+        config.setUsername(dataSourceProperties.determineUsername());
+        config.setPassword(dataSourceProperties.determinePassword());
+        config.setDriverClassName(dataSourceProperties.determineDriverClassName());
+        if (registry != null) {
+            config.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry));
+        }
+        if (replica) {
+            config.setReadOnly(true);
+            // A replica that is down at startup is left to the health check instead of failing the boot
+            config.setInitializationFailTimeout(-1);
+        }
+        HikariDataSource pool = new HikariDataSource(config);
+        pools.add(pool);
+        return pool;
+    }
+}
@@ -0,0 +1,125 @@
+package com.propertymanagement.infrastructure.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sends connections for {@code @Transactional(readOnly = true)} work to the read replicas,
+ * round-robin, and everything else to the primary. A replica that fails a health check
+ * or a connection attempt is skipped until it passes {@link #checkReplicas()} again;
+ * with no healthy replica, reads fall back to the primary.
+ * <p>
+ * The routing decision needs the transaction's read-only flag, which Spring sets after
+ * the transaction manager opened its connection, so this must sit behind a
+ * {@code LazyConnectionDataSourceProxy}.
+ */
+@Slf4j
+public class ReadWriteRoutingDataSource extends AbstractDataSource {
+
+    private static final int VALIDATION_TIMEOUT_SECONDS = 2;
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReadWriteRoutingDataSource(DataSource primary, Map<String, DataSource> replicas) {
+        this.primary = primary;
+        this.replicas = replicas.entrySet().stream()
+                .map(entry -> new Replica(entry.getKey(), entry.getValue()))
+                .toList();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        boolean readOnly = TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+        if (!readOnly && TransactionSynchronizationManager.isActualTransactionActive()) {
+            ReadYourWrites.recordWrite();
+        }
+        if (!readOnly || ReadYourWrites.requiresPrimary()) {
+            return primary.getConnection();
+        }
+        
+        Replica replica = nextHealthyReplica();
+        if (replica != null) {
+            try {
+                return replica.dataSource.getConnection();
+            } catch (SQLException e) {
+                replica.markUnhealthy(e);
+            }
+        }
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        throw new SQLFeatureNotSupportedException("Credentials are configured per pool");
+    }
+
+    // Called on a schedule; a replica rejoins the rotation once it answers again
+    public void checkReplicas() {
+        for (Replica replica : replicas) {
+            try (Connection connection = replica.dataSource.getConnection()) {
+                if (connection.isValid(VALIDATION_TIMEOUT_SECONDS)) {
+                    replica.markHealthy();
+                } else {
+                    replica.markUnhealthy(null);
+                }
+            } catch (SQLException e) {
+                replica.markUnhealthy(e);
+            }
+        }
+    }
+
+    public boolean isHealthy(String replica) {
+        return replicas.stream().anyMatch(r -> r.name.equals(replica) && r.healthy);
+    }
+
+    private Replica nextHealthyReplica() {
+        int size = replicas.size();
+        int start = next.getAndIncrement();
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get(Math.floorMod(start + i, size));
+            if (replica.healthy) {
+                return replica;
+            }
+        }
+        return null;
+    }
+
+    private static final class Replica {
+
+        private final String name;
+        private final DataSource dataSource;
+        // Unknown until the first check, so startup never waits on an unreachable replica
+        private volatile boolean healthy;
+
+        private Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+
+        private void markHealthy() {
+            if (!healthy) {
+                log.info("Read replica {} is available", name);
+                healthy = true;
+            }
+        }
+
+        private void markUnhealthy(SQLException cause) {
+            if (healthy) {
+                log.warn("Read replica {} is unavailable, reading from the primary: {}", name,
+                        cause != null ? cause.getMessage() : "connection is not valid");
+                healthy = false;
+            }
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.propertymanagement.infrastructure.datasource;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.function.LongConsumer;
+
+/**
+ * Per-request view of when the calling client last wrote. Reads inside the window after
+ * a write go to the primary, so a client never reads a replica that has not caught up
+ * with its own change. Without a bound session every read may use a replica.
+ */
+public final class ReadYourWrites {
+
+    private static final ThreadLocal<Session> CURRENT = new ThreadLocal<>();
+
+    private ReadYourWrites() {
+    }
+
+    static void bind(Session session) {
+        CURRENT.set(session);
+    }
+
+    static void unbind() {
+        CURRENT.remove();
+    }
+
+    public static boolean requiresPrimary() {
+        Session session = CURRENT.get();
+        return session != null && session.withinWindow();
+    }
+
+    static void recordWrite() {
+        Session session = CURRENT.get();
+        if (session != null) {
+            session.recordWrite();
+        }
+    }
+
+    static final class Session {
+
+        private final Duration window;
+        private final Clock clock;
+        private final LongConsumer onFirstWrite;
+        private long lastWriteMillis;
+        private boolean written;
+
+        // lastWriteMillis comes from the client (0 when unknown); onFirstWrite hands out the new mark
+        Session(Duration window, Clock clock, long lastWriteMillis, LongConsumer onFirstWrite) {
+            this.window = window;
+            this.clock = clock;
+            this.lastWriteMillis = lastWriteMillis;
+            this.onFirstWrite = onFirstWrite;
+        }
+
+        private boolean withinWindow() {
+            return clock.millis() - lastWriteMillis < window.toMillis();
+        }
+
+        private void recordWrite() {
+            lastWriteMillis = clock.millis();
+            if (!written) {
+                written = true;
+                onFirstWrite.accept(lastWriteMillis);
+            }
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package com.propertymanagement.infrastructure.ingest;
+
+import com.propertymanagement.api.dto.request.ImportPropertyRequest;
+import com.propertymanagement.domain.PropertyStatus;
+import com.propertymanagement.domain.PropertyType;
+import com.propertymanagement.domain.service.ImportRecord;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * RFC 4180 CSV with a header row. Headers match the JSON field names, case-insensitively
+ * and with or without underscores ({@code rentPrice}, {@code rent_price}). Quoted fields
+ * may contain commas, doubled quotes and line breaks; records are reported by the line
+ * they start on.
+ */
+class CsvPropertyRecordReader extends PropertyRecordReader {
+
+    private final Reader reader;
+    private final RequestMapper mapper;
+    private final List<Column> columns;
+
+    private long line = 1;
+    private boolean unterminatedQuote;
+
+    CsvPropertyRecordReader(Reader reader, RequestMapper mapper) throws IOException {
+        this.reader = reader;
+        this.mapper = mapper;
+        List<String> header = readRow();
+        this.columns = header == null ? List.of() : header.stream().map(Column::forHeader).toList();
+    }
+
+    @Override
+    protected ImportRecord readNext() throws IOException {
+        while (true) {
+            long start = line;
+            List<String> fields = readRow();
+            if (fields == null) {
+                return null;
+            }
+            if (fields.size() == 1 && fields.get(0).isEmpty()) {
+                continue;
+            }
+            if (unterminatedQuote) {
+                return ImportRecord.invalid(start, List.of("Unterminated quoted field"));
+            }
+            if (fields.size() != columns.size()) {
+                return ImportRecord.invalid(start, List.of(
+                        "Expected " + columns.size() + " fields but found " + fields.size()));
+            }
+            
+            ImportPropertyRequest request = new ImportPropertyRequest();
+            List<String> errors = new ArrayList<>();
+            for (int i = 0; i < fields.size(); i++) {
+                String value = fields.get(i);
+                if (value.isBlank()) {
+                    continue;
+                }
+                try {
+                    columns.get(i).apply(request, value.trim());
+                } catch (IllegalArgumentException e) {
+                    errors.add(columns.get(i).header + ": invalid value '" + value + "'");
+                }
+            }
+            return errors.isEmpty() ? mapper.map(start, request) : ImportRecord.invalid(start, errors);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    // One record, or null at end of input
+    private List<String> readRow() throws IOException {
+        int c = reader.read();
+        if (c == -1) {
+            return null;
+        }
+        
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        while (true) {
+            if (quoted) {
+                if (c == -1) {
+                    unterminatedQuote = true;
+                    fields.add(field.toString());
+                    return fields;
+                }
+                if (c == '"') {
+                    c = reader.read();
+                    if (c != '"') {
+                        quoted = false;
+                        continue;
+                    }
+                }
+                if (c == '\n') {
+                    line++;
+                }
+                field.append((char) c);
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n' || c == -1) {
+                if (c == '\n') {
+                    line++;
+                }
+                fields.add(field.toString());
+                return fields;
+            } else if (c != '\r') {
+                field.append((char) c);
+            }
+            c = reader.read();
+        }
+    }
+
+    private enum Column {
+        ID("id", (request, value) -> request.setId(UUID.fromString(value))),
+        ADDRESS("address", ImportPropertyRequest::setAddress),
+        TYPE("type", (request, value) -> request.setType(parseEnum(PropertyType::valueOf, value))),
+        BEDROOMS("bedrooms", (request, value) -> request.setBedrooms(Integer.valueOf(value))),
+        BATHROOMS("bathrooms", (request, value) -> request.setBathrooms(Integer.valueOf(value))),
+        SQUARE_METERS("squareMeters", (request, value) -> request.setSquareMeters(Double.valueOf(value))),
+        RENT_PRICE("rentPrice", (request, value) -> request.setRentPrice(new BigDecimal(value))),
+        STATUS("status", (request, value) -> request.setStatus(parseEnum(PropertyStatus::valueOf, value))),
+        DESCRIPTION("description", ImportPropertyRequest::setDescription),
+        LATITUDE("latitude", (request, value) -> request.setLatitude(Double.valueOf(value))),
+        LONGITUDE("longitude", (request, value) -> request.setLongitude(Double.valueOf(value)));
+
+        private final String header;
+        private final BiConsumer<ImportPropertyRequest, String> setter;
+
+        Column(String header, BiConsumer<ImportPropertyRequest, String> setter) {
+            this.header = header;
+            this.setter = setter;
+        }
+
+        void apply(ImportPropertyRequest request, String value) {
+            setter.accept(request, value);
+        }
+
+        static Column forHeader(String header) {
+            String normalized = normalize(header);
+            for (Column column : values()) {
+                if (normalize(column.header).equals(normalized)) {
+                    return column;
+                }
+            }
+            throw new IllegalArgumentException("Unknown CSV column: " + header.trim());
+        }
+
+        private static String normalize(String header) {
+            return header.replace("\uFEFF", "").replace("_", "").trim().toLowerCase(Locale.ROOT);
+        }
+
+        private static <E> E parseEnum(Function<String, E> valueOf, String value) {
+            return valueOf.apply(value.toUpperCase(Locale.ROOT));
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.propertymanagement.infrastructure.ingest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.propertymanagement.api.dto.request.ImportPropertyRequest;
+import com.propertymanagement.domain.service.ImportRecord;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * One JSON object per line, with the same fields as the create request plus an optional id.
+ */
+class NdjsonPropertyRecordReader extends PropertyRecordReader {
+
+    private final BufferedReader reader;
+    private final ObjectReader objectReader;
+    private final RequestMapper mapper;
+    private long line;
+
+    NdjsonPropertyRecordReader(BufferedReader reader, ObjectMapper objectMapper, RequestMapper mapper) {
+        this.reader = reader;
+        this.objectReader = objectMapper.readerFor(ImportPropertyRequest.class);
+        this.mapper = mapper;
+    }
+
+    @Override
+    protected ImportRecord readNext() throws IOException {
+        String text;
+        while ((text = reader.readLine()) != null) {
+            line++;
+            if (text.isBlank()) {
+                continue;
+            }
+            try {
+                return mapper.map(line, objectReader.readValue(text));
+            } catch (JsonProcessingException e) {
+                return ImportRecord.invalid(line, List.of("Malformed JSON: " + e.getOriginalMessage()));
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
@@ -0,0 +1,55 @@
+package com.propertymanagement.infrastructure.ingest;
+
+import com.propertymanagement.api.dto.request.ImportPropertyRequest;
+import com.propertymanagement.domain.service.ImportRecord;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Lazily parses an import feed one record at a time. Malformed rows come back as
+ * invalid records rather than exceptions, so one bad line never aborts the feed.
+ */
+public abstract class PropertyRecordReader implements Iterator<ImportRecord>, Closeable {
+
+    private ImportRecord next;
+
+    @Override
+    public boolean hasNext() {
+        if (next == null) {
+            try {
+                next = readNext();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return next != null;
+    }
+
+    @Override
+    public ImportRecord next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        ImportRecord record = next;
+        next = null;
+        return record;
+    }
+
+    /**
+     * @return the next record, or null at end of input
+     */
+    protected abstract ImportRecord readNext() throws IOException;
+
+    /**
+     * Turns a parsed row into a record, applying request validation and mapping.
+     */
+    @FunctionalInterface
+    public interface RequestMapper {
+
+        ImportRecord map(long line, ImportPropertyRequest request);
+    }
+}
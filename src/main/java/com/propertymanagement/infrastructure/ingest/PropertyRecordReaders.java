@@ -0,0 +1,61 @@
+package com.propertymanagement.infrastructure.ingest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.propertymanagement.api.dto.request.ImportPropertyRequest;
+import com.propertymanagement.domain.Property;
+import com.propertymanagement.domain.service.ImportRecord;
+import com.propertymanagement.infrastructure.mapper.PropertyMapper;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Opens a {@link PropertyRecordReader} for a feed's media type. Rows get the same
+ * bean validation as {@code POST /api/v1/properties}.
+ */
+@Component
+@RequiredArgsConstructor
+public class PropertyRecordReaders {
+
+    public static final MediaType TEXT_CSV = MediaType.parseMediaType("text/csv");
+
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final PropertyMapper propertyMapper;
+
+    public PropertyRecordReader open(InputStream in, MediaType contentType) throws IOException {
+        Charset charset = contentType.getCharset() != null ? contentType.getCharset() : StandardCharsets.UTF_8;
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, charset));
+        
+        if (TEXT_CSV.isCompatibleWith(contentType)) {
+            return new CsvPropertyRecordReader(reader, this::toRecord);
+        }
+        if (MediaType.APPLICATION_NDJSON.isCompatibleWith(contentType)) {
+            return new NdjsonPropertyRecordReader(reader, objectMapper, this::toRecord);
+        }
+        throw new IllegalArgumentException("Unsupported import format: " + contentType);
+    }
+
+    private ImportRecord toRecord(long line, ImportPropertyRequest request) {
+        List<String> errors = validator.validate(request).stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .toList();
+        if (!errors.isEmpty()) {
+            return ImportRecord.invalid(line, errors);
+        }
+        
+        Property property = propertyMapper.toDomain(request);
+        property.setId(request.getId());
+        return ImportRecord.valid(line, property);
+    }
+}
@@ -1,9 +1,13 @@
 package com.propertymanagement.infrastructure.mapper;
 
 import com.propertymanagement.api.dto.request.CreatePropertyRequest;
+import com.propertymanagement.api.dto.request.PatchPropertyRequest;
 import com.propertymanagement.api.dto.request.UpdatePropertyRequest;
+import com.propertymanagement.api.dto.response.NearbyPropertyResponse;
 import com.propertymanagement.api.dto.response.PropertyResponse;
 import com.propertymanagement.domain.Property;
+import com.propertymanagement.domain.PropertyPatch;
+import com.propertymanagement.domain.search.NearbyProperty;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.MappingTarget;
@@ -15,11 +19,18 @@ public interface PropertyMapper {
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
+    @Mapping(target = "version", ignore = true)
     Property toDomain(CreatePropertyRequest request);
     
     // Convert Property → PropertyResponse (for responses)
     PropertyResponse toResponse(Property property);
     
+    // Distance rounded to the metre
+    default NearbyPropertyResponse toResponse(NearbyProperty nearby) {
+        return new NearbyPropertyResponse(toResponse(nearby.property()),
+                Math.round(nearby.distanceKm() * 1000) / 1000.0);
+    }
+    
     // Helper method to convert UpdatePropertyRequest → Property (for updating)
     default Property toDomainForUpdate(UpdatePropertyRequest request) {
         Property property = new Property();
@@ -31,6 +42,23 @@ public interface PropertyMapper {
         property.setRentPrice(request.getRentPrice());
         property.setStatus(request.getStatus());
         property.setDescription(request.getDescription());
+        property.setLatitude(request.getLatitude());
+        property.setLongitude(request.getLongitude());
         return property;
     }
+    
+    // Convert PatchPropertyRequest → PropertyPatch (for sparse updates)
+    default PropertyPatch toPatch(PatchPropertyRequest request) {
+        return new PropertyPatch(
+                request.getAddress(),
+                request.getType(),
+                request.getBedrooms(),
+                request.getBathrooms(),
+                request.getSquareMeters(),
+                request.getRentPrice(),
+                request.getStatus(),
+                request.getDescription(),
+                request.getLatitude(),
+                request.getLongitude());
+    }
 }
\ No newline at end of file
@@ -0,0 +1,101 @@
+package com.propertymanagement.infrastructure.reactive;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.propertymanagement.api.v2.PropertyReadHandler;
+import com.propertymanagement.infrastructure.mapper.PropertyMapper;
+import com.propertymanagement.persistence.repository.ReactivePropertyRepository;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.web.servlet.ServletRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.http.server.reactive.HttpHandler;
+import org.springframework.http.server.reactive.TomcatHttpHandlerAdapter;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.web.reactive.function.server.HandlerStrategies;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+
+import java.time.Duration;
+
+/**
+ * Mounts the reactive v2 API on the existing Tomcat under {@code /api/v2/*}. Requests
+ * are served with Servlet non-blocking I/O and queries run on R2DBC, so a slow client
+ * holds neither a thread nor a connection while it reads.
+ * <p>
+ * The R2DBC pool is kept out of the application context on purpose: a
+ * {@code ConnectionFactory} bean would switch off the JDBC DataSource auto-configuration
+ * JPA relies on. Likewise the routes are turned into an {@link HttpHandler} directly,
+ * because {@code @EnableWebFlux} cannot coexist with Spring MVC in one context.
+ * <p>
+ * Off by default. When enabled, its pool opens {@code pool-size} connections on top of
+ * Hikari's, so the database's {@code max_connections} must cover both on every replica.
+ * The servlet filters (statement budget, zstd, read-your-writes) are mapped to the MVC
+ * dispatcher servlet only and do not see these requests.
+ */
+@Configuration
+@ConditionalOnProperty(name = "property-management.reactive.enabled", havingValue = "true")
+public class ReactiveApiConfig implements DisposableBean {
+
+    static final String MAPPING = "/api/v2/*";
+
+    private ConnectionPool connectionPool;
+
+    @Bean
+    public ServletRegistrationBean<TomcatHttpHandlerAdapter> reactiveApiServlet(
+            DataSourceProperties dataSourceProperties,
+            ObjectMapper objectMapper,
+            PropertyMapper propertyMapper,
+            @Value("${property-management.reactive.r2dbc-url}") String url,
+            @Value("${property-management.reactive.pool-size:10}") int poolSize,
+            @Value("${property-management.reactive.fetch-size:250}") int fetchSize) {
+        
+        connectionPool = connectionPool(url, dataSourceProperties, poolSize);
+        ReactivePropertyRepository repository =
+                new ReactivePropertyRepository(DatabaseClient.create(connectionPool), fetchSize);
+        
+        // Same JSON shape as the MVC endpoints
+        HandlerStrategies strategies = HandlerStrategies.builder()
+                .codecs(codecs -> {
+                    codecs.defaultCodecs().jackson2JsonEncoder(new Jackson2JsonEncoder(objectMapper));
+                    codecs.defaultCodecs().jackson2JsonDecoder(new Jackson2JsonDecoder(objectMapper));
+                })
+                .build();
+        HttpHandler httpHandler = RouterFunctions.toHttpHandler(
+                new PropertyReadHandler(repository, propertyMapper).routes(), strategies);
+        
+        ServletRegistrationBean<TomcatHttpHandlerAdapter> registration =
+                new ServletRegistrationBean<>(new TomcatHttpHandlerAdapter(httpHandler), MAPPING);
+        registration.setName("reactiveApi");
+        registration.setAsyncSupported(true);
+        registration.setLoadOnStartup(1);
+        return registration;
+    }
+
+    @Override
+    public void destroy() {
+        if (connectionPool != null) {
+            connectionPool.dispose();
+        }
+    }
+
+    // A small fixed pool is enough: connections are never held while waiting on a client
+    private static ConnectionPool connectionPool(String url, DataSourceProperties dataSourceProperties, int size) {
+        ConnectionFactoryOptions options = ConnectionFactoryOptions.parse(url).mutate()
+                .option(ConnectionFactoryOptions.USER, dataSourceProperties.determineUsername())
+                .option(ConnectionFactoryOptions.PASSWORD, dataSourceProperties.determinePassword())
+                .build();
+        return new ConnectionPool(ConnectionPoolConfiguration.builder(ConnectionFactories.get(options))
+                .initialSize(size)
+                .maxSize(size)
+                .maxAcquireTime(Duration.ofSeconds(5))
+                .build());
+    }
+}
@@ -0,0 +1,146 @@
+package com.propertymanagement.infrastructure.search;
+
+import com.propertymanagement.domain.Property;
+import com.propertymanagement.domain.PropertyFilter;
+import com.propertymanagement.domain.event.PropertiesImportedEvent;
+import com.propertymanagement.domain.event.PropertyChangedEvent;
+import com.propertymanagement.domain.search.BoundingBox;
+import com.propertymanagement.domain.search.GeoPoint;
+import com.propertymanagement.domain.search.Geohash;
+import com.propertymanagement.domain.search.LocationSearch;
+import com.propertymanagement.domain.search.NearbyProperty;
+import com.propertymanagement.persistence.repository.PropertyRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import static com.propertymanagement.persistence.repository.PropertySpecifications.idIn;
+import static com.propertymanagement.persistence.repository.PropertySpecifications.matching;
+
+/**
+ * In-process stand-in for idx_properties_geohash, used where location search should not
+ * depend on the database (the H2 test profile). Coordinates live in a sorted map keyed by
+ * geohash, sliced with the same cell cover the SQL query uses; the list filter is then
+ * applied in the database to the nearest candidates, one chunk at a time.
+ */
+@Component
+@ConditionalOnProperty(name = "property-management.search.location-index", havingValue = "memory")
+public class GeohashLocationIndex implements LocationSearch {
+
+    private static final int FILTER_CHUNK = 200;
+
+    private final PropertyRepository propertyRepository;
+    private final Map<UUID, GeoPoint> points = new ConcurrentHashMap<>();
+    // geohash + id, so properties sharing a cell get distinct keys
+    private final NavigableMap<String, UUID> cells = new ConcurrentSkipListMap<>();
+
+    public GeohashLocationIndex(PropertyRepository propertyRepository) {
+        this.propertyRepository = propertyRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        propertyRepository.scan(Specification.where(null),
+                property -> put(property.getId(), property.getLatitude(), property.getLongitude()));
+    }
+
+    @TransactionalEventListener
+    public void onPropertyChanged(PropertyChangedEvent event) {
+        if (event.isDeletion()) {
+            remove(event.id());
+        } else {
+            put(event.id(), event.property().getLatitude(), event.property().getLongitude());
+        }
+    }
+
+    // Imports publish no per-row events, so every location is re-read once they commit
+    @TransactionalEventListener
+    @Transactional(readOnly = true, propagation = Propagation.REQUIRES_NEW)
+    public void onPropertiesImported(PropertiesImportedEvent event) {
+        rebuild();
+    }
+
+    @Override
+    public List<NearbyProperty> nearby(GeoPoint center, double radiusKm, PropertyFilter filter, int limit) {
+        return nearest(BoundingBox.around(center, radiusKm), center, distance -> distance <= radiusKm, filter, limit);
+    }
+
+    @Override
+    public List<NearbyProperty> within(BoundingBox box, PropertyFilter filter, int limit) {
+        return nearest(box, box.center(), distance -> true, filter, limit);
+    }
+
+    synchronized void put(UUID id, Double latitude, Double longitude) {
+        remove(id);
+        if (latitude == null || longitude == null) {
+            return;
+        }
+        GeoPoint point = new GeoPoint(latitude, longitude);
+        points.put(id, point);
+        cells.put(key(id, point), id);
+    }
+
+    synchronized void remove(UUID id) {
+        GeoPoint previous = points.remove(id);
+        if (previous != null) {
+            cells.remove(key(id, previous));
+        }
+    }
+
+    private List<NearbyProperty> nearest(BoundingBox box, GeoPoint origin, Predicate<Double> inRange,
+                                         PropertyFilter filter, int limit) {
+        List<Map.Entry<UUID, Double>> candidates = new ArrayList<>();
+        for (Geohash.Range range : Geohash.cover(box)) {
+            NavigableMap<String, UUID> slice = range.to() != null
+                    ? cells.subMap(range.from(), true, range.to(), false)
+                    : cells.tailMap(range.from(), true);
+            for (UUID id : slice.values()) {
+                GeoPoint point = points.get(id);
+                if (point != null && box.contains(point.latitude(), point.longitude())) {
+                    double distance = origin.distanceKm(point.latitude(), point.longitude());
+                    if (inRange.test(distance)) {
+                        candidates.add(Map.entry(id, distance));
+                    }
+                }
+            }
+        }
+        candidates.sort(Map.Entry.<UUID, Double>comparingByValue().thenComparing(entry -> entry.getKey().toString()));
+        
+        List<NearbyProperty> hits = new ArrayList<>(limit);
+        for (int from = 0; from < candidates.size() && hits.size() < limit; from += FILTER_CHUNK) {
+            List<Map.Entry<UUID, Double>> chunk = candidates.subList(from, Math.min(from + FILTER_CHUNK, candidates.size()));
+            Map<UUID, Property> matched = propertyRepository
+                    .findAll(Specification.where(matching(filter)).and(idIn(chunk.stream().map(Map.Entry::getKey).toList())))
+                    .stream()
+                    .collect(Collectors.toMap(Property::getId, Function.identity()));
+            for (Map.Entry<UUID, Double> candidate : chunk) {
+                Property property = matched.get(candidate.getKey());
+                if (property != null && hits.size() < limit) {
+                    hits.add(new NearbyProperty(property, candidate.getValue()));
+                }
+            }
+        }
+        return hits;
+    }
+
+    private static String key(UUID id, GeoPoint point) {
+        return Geohash.encode(point.latitude(), point.longitude()) + id;
+    }
+}
@@ -0,0 +1,58 @@
+package com.propertymanagement.infrastructure.search;
+
+import com.propertymanagement.domain.Property;
+import com.propertymanagement.domain.PropertyFilter;
+import com.propertymanagement.domain.search.BoundingBox;
+import com.propertymanagement.domain.search.GeoPoint;
+import com.propertymanagement.domain.search.LocationSearch;
+import com.propertymanagement.domain.search.NearbyProperty;
+import com.propertymanagement.persistence.repository.PropertyRepository;
+import com.propertymanagement.persistence.repository.PropertySpecifications;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+
+import static com.propertymanagement.persistence.repository.PropertySpecifications.matching;
+import static com.propertymanagement.persistence.repository.PropertySpecifications.near;
+
+/**
+ * Database implementation: one query that range-scans idx_properties_geohash, applies the
+ * list filter and returns the nearest rows. Works on any database, as geohash ranges are
+ * plain string comparisons.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "property-management.search.location-index", havingValue = "geohash", matchIfMissing = true)
+public class GeohashLocationSearch implements LocationSearch {
+
+    private final PropertyRepository propertyRepository;
+
+    @Override
+    public List<NearbyProperty> nearby(GeoPoint center, double radiusKm, PropertyFilter filter, int limit) {
+        List<Property> nearest = propertyRepository.findNearest(
+                Specification.where(matching(filter)).and(near(center, radiusKm)), center, limit);
+        return ranked(nearest, center).stream()
+                .filter(hit -> hit.distanceKm() <= radiusKm)
+                .toList();
+    }
+
+    @Override
+    public List<NearbyProperty> within(BoundingBox box, PropertyFilter filter, int limit) {
+        GeoPoint center = box.center();
+        return ranked(propertyRepository.findNearest(
+                Specification.where(matching(filter)).and(PropertySpecifications.within(box)), center, limit), center);
+    }
+
+    // The database orders by planar distance; re-rank by the exact great-circle distance
+    private static List<NearbyProperty> ranked(List<Property> properties, GeoPoint origin) {
+        return properties.stream()
+                .map(property -> new NearbyProperty(property,
+                        origin.distanceKm(property.getLatitude(), property.getLongitude())))
+                .sorted(Comparator.comparingDouble(NearbyProperty::distanceKm))
+                .toList();
+    }
+}
@@ -0,0 +1,44 @@
+package com.propertymanagement.infrastructure.search;
+
+import com.propertymanagement.domain.PropertyFilter;
+import com.propertymanagement.domain.PropertyStatus;
+import com.propertymanagement.domain.PropertyType;
+import com.propertymanagement.domain.search.FacetSearch;
+import com.propertymanagement.domain.search.PropertyFacets;
+import com.propertymanagement.persistence.repository.PropertyFacetRepository.FacetRow;
+import com.propertymanagement.persistence.repository.PropertyRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static com.propertymanagement.persistence.repository.PropertySpecifications.matching;
+
+/**
+ * Database implementation: one grouped count over the filtered rows, folded into the
+ * three breakdowns. Used unless the in-process snapshot is enabled.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "property-management.snapshot.enabled", havingValue = "false", matchIfMissing = true)
+public class GroupByFacetSearch implements FacetSearch {
+
+    private final PropertyRepository propertyRepository;
+
+    @Override
+    public PropertyFacets facets(PropertyFilter filter) {
+        long[] byStatus = new long[PropertyStatus.values().length];
+        long[] byType = new long[PropertyType.values().length];
+        Map<Integer, Long> byBedrooms = new HashMap<>();
+        for (FacetRow row : propertyRepository.countFacets(matching(filter))) {
+            byStatus[row.status().ordinal()] += row.count();
+            byType[row.type().ordinal()] += row.count();
+            if (row.bedrooms() != null) {
+                byBedrooms.merge(row.bedrooms(), row.count(), Long::sum);
+            }
+        }
+        return PropertyFacets.of(byStatus, byType, byBedrooms);
+    }
+}
@@ -0,0 +1,198 @@
+package com.propertymanagement.infrastructure.search;
+
+import com.propertymanagement.domain.Property;
+import com.propertymanagement.domain.PropertyFilter;
+import com.propertymanagement.domain.event.PropertiesImportedEvent;
+import com.propertymanagement.domain.event.PropertyChangedEvent;
+import com.propertymanagement.domain.pagination.RankCursor;
+import com.propertymanagement.domain.search.TextMatch;
+import com.propertymanagement.domain.search.TextSearch;
+import com.propertymanagement.persistence.repository.PropertyRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static com.propertymanagement.persistence.repository.PropertySpecifications.idIn;
+import static com.propertymanagement.persistence.repository.PropertySpecifications.matching;
+
+/**
+ * In-process stand-in for the tsvector/GIN search, used where the database has no
+ * full-text support (the H2 test profile). Words are lower-cased, stop words dropped
+ * and plurals folded, roughly what the {@code english} configuration does. Rank sums
+ * per-term weights like ts_rank: 1.0 per address occurrence, 0.4 per description
+ * occurrence. Phrases match as their words and {@code or} is ignored; the filter is
+ * applied in the database to the best candidates, one chunk at a time.
+ */
+@Component
+@ConditionalOnProperty(name = "property-management.search.text-index", havingValue = "memory")
+public class InvertedTextIndex implements TextSearch {
+
+    static final float ADDRESS_WEIGHT = 1.0f;
+    static final float DESCRIPTION_WEIGHT = 0.4f;
+
+    private static final int FILTER_CHUNK = 200;
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "an", "and", "are", "as", "at", "be", "by", "for", "from", "in", "is", "it",
+            "of", "on", "or", "the", "to", "with");
+
+    private final PropertyRepository propertyRepository;
+    private final Map<UUID, Map<String, Float>> documents = new ConcurrentHashMap<>();
+    private final Map<String, Map<UUID, Float>> postings = new ConcurrentHashMap<>();
+
+    public InvertedTextIndex(PropertyRepository propertyRepository) {
+        this.propertyRepository = propertyRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        propertyRepository.scan(Specification.where(null),
+                property -> put(property.getId(), property.getAddress(), property.getDescription()));
+    }
+
+    @TransactionalEventListener
+    public void onPropertyChanged(PropertyChangedEvent event) {
+        if (event.isDeletion()) {
+            remove(event.id());
+        } else {
+            put(event.id(), event.property().getAddress(), event.property().getDescription());
+        }
+    }
+
+    // A bulk import names no rows; re-read every document
+    @TransactionalEventListener
+    @Transactional(readOnly = true, propagation = Propagation.REQUIRES_NEW)
+    public void onPropertiesImported(PropertiesImportedEvent event) {
+        rebuild();
+    }
+
+    @Override
+    public List<TextMatch> search(String query, PropertyFilter filter, RankCursor after, int limit) {
+        List<Map.Entry<UUID, Float>> candidates = rank(query).stream()
+                .filter(entry -> after == null || after.precedes(entry.getValue(), entry.getKey()))
+                .toList();
+        
+        List<TextMatch> matches = new ArrayList<>(limit);
+        for (int from = 0; from < candidates.size() && matches.size() < limit; from += FILTER_CHUNK) {
+            List<Map.Entry<UUID, Float>> chunk = candidates.subList(from, Math.min(from + FILTER_CHUNK, candidates.size()));
+            Map<UUID, Property> matched = propertyRepository
+                    .findAll(Specification.where(matching(filter)).and(idIn(chunk.stream().map(Map.Entry::getKey).toList())))
+                    .stream()
+                    .collect(Collectors.toMap(Property::getId, Function.identity()));
+            for (Map.Entry<UUID, Float> candidate : chunk) {
+                Property property = matched.get(candidate.getKey());
+                if (property != null && matches.size() < limit) {
+                    matches.add(new TextMatch(property, candidate.getValue()));
+                }
+            }
+        }
+        return matches;
+    }
+
+    // Every required term must match and no excluded term may; best rank first
+    List<Map.Entry<UUID, Float>> rank(String query) {
+        Set<String> required = new HashSet<>();
+        Set<String> excluded = new HashSet<>();
+        for (String word : query.split("\\s+")) {
+            boolean negated = word.startsWith("-");
+            Set<String> terms = terms(negated ? word.substring(1) : word).keySet();
+            (negated ? excluded : required).addAll(terms);
+        }
+        if (required.isEmpty()) {
+            return List.of();
+        }
+        
+        List<Map<UUID, Float>> lists = required.stream()
+                .map(term -> postings.getOrDefault(term, Map.of()))
+                .sorted(Comparator.comparingInt(Map::size))
+                .toList();
+        Map<UUID, Float> scores = new HashMap<>(lists.get(0));
+        for (int i = 1; i < lists.size() && !scores.isEmpty(); i++) {
+            Map<UUID, Float> list = lists.get(i);
+            scores.keySet().retainAll(list.keySet());
+            scores.replaceAll((id, score) -> score + list.get(id));
+        }
+        for (String term : excluded) {
+            scores.keySet().removeAll(postings.getOrDefault(term, Map.of()).keySet());
+        }
+        
+        // Ties break on the textual id, which matches PostgreSQL's uuid ordering
+        return scores.entrySet().stream()
+                .sorted(Map.Entry.<UUID, Float>comparingByValue().reversed()
+                        .thenComparing(entry -> entry.getKey().toString()))
+                .toList();
+    }
+
+    synchronized void put(UUID id, String address, String description) {
+        remove(id);
+        Map<String, Float> weights = new HashMap<>();
+        terms(address).forEach((term, count) -> weights.merge(term, count * ADDRESS_WEIGHT, Float::sum));
+        terms(description).forEach((term, count) -> weights.merge(term, count * DESCRIPTION_WEIGHT, Float::sum));
+        documents.put(id, weights);
+        weights.forEach((term, weight) ->
+                postings.computeIfAbsent(term, key -> new ConcurrentHashMap<>()).put(id, weight));
+    }
+
+    synchronized void remove(UUID id) {
+        Map<String, Float> previous = documents.remove(id);
+        if (previous == null) {
+            return;
+        }
+        for (String term : previous.keySet()) {
+            Map<UUID, Float> ids = postings.get(term);
+            if (ids != null) {
+                ids.remove(id);
+                if (ids.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+    }
+
+    // Term -> occurrences
+    static Map<String, Integer> terms(String text) {
+        Map<String, Integer> terms = new HashMap<>();
+        if (text == null) {
+            return terms;
+        }
+        for (String word : text.toLowerCase(Locale.ROOT).split("[^\\p{Alnum}]+")) {
+            if (!word.isEmpty() && !STOP_WORDS.contains(word)) {
+                terms.merge(stem(word), 1, Integer::sum);
+            }
+        }
+        return terms;
+    }
+
+    // Folds the common English plurals: balconies -> balcony, boxes -> box, pets -> pet
+    static String stem(String word) {
+        if (word.length() > 4 && word.endsWith("ies")) {
+            return word.substring(0, word.length() - 3) + "y";
+        }
+        if (word.length() > 4 && (word.endsWith("ches") || word.endsWith("shes")
+                || word.endsWith("sses") || word.endsWith("xes"))) {
+            return word.substring(0, word.length() - 2);
+        }
+        if (word.length() > 3 && word.endsWith("s") && !word.endsWith("ss")) {
+            return word.substring(0, word.length() - 1);
+        }
+        return word;
+    }
+}
@@ -0,0 +1,174 @@
+package com.propertymanagement.infrastructure.search;
+
+import com.propertymanagement.domain.Property;
+import com.propertymanagement.domain.event.PropertiesImportedEvent;
+import com.propertymanagement.domain.event.PropertyChangedEvent;
+import com.propertymanagement.domain.pagination.RankCursor;
+import com.propertymanagement.domain.search.AddressMatch;
+import com.propertymanagement.domain.search.AddressSearch;
+import com.propertymanagement.persistence.repository.PropertyRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * In-process stand-in for the pg_trgm index, used where the database has no trigram
+ * support (the H2 test profile). Candidates come from posting lists of raw 3-grams,
+ * are confirmed with a substring check (the ILIKE semantics) and ranked with the
+ * pg_trgm word-trigram similarity, so results match the PostgreSQL implementation.
+ */
+@Component
+@ConditionalOnProperty(name = "property-management.search.address-index", havingValue = "ngram")
+public class NgramAddressIndex implements AddressSearch {
+
+    private static final int N = 3;
+
+    private final PropertyRepository propertyRepository;
+    private final Map<UUID, String> addresses = new ConcurrentHashMap<>();
+    private final Map<String, Set<UUID>> postings = new ConcurrentHashMap<>();
+
+    public NgramAddressIndex(PropertyRepository propertyRepository) {
+        this.propertyRepository = propertyRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        propertyRepository.scan(Specification.where(null),
+                property -> put(property.getId(), property.getAddress()));
+    }
+
+    @TransactionalEventListener
+    public void onPropertyChanged(PropertyChangedEvent event) {
+        if (event.isDeletion()) {
+            remove(event.id());
+        } else {
+            put(event.id(), event.property().getAddress());
+        }
+    }
+
+    // Imported rows are merged in the database without per-row events; the rescan upserts
+    // every row, in a transaction of its own as the import's has already committed
+    @TransactionalEventListener
+    @Transactional(readOnly = true, propagation = Propagation.REQUIRES_NEW)
+    public void onPropertiesImported(PropertiesImportedEvent event) {
+        rebuild();
+    }
+
+    @Override
+    public List<AddressMatch> search(String query, RankCursor after, int limit) {
+        List<RankCursor> ranked = rank(query, after, limit);
+        Map<UUID, Property> loaded = propertyRepository
+                .findAllById(ranked.stream().map(RankCursor::id).toList()).stream()
+                .collect(Collectors.toMap(Property::getId, Function.identity()));
+        return ranked.stream()
+                .filter(hit -> loaded.containsKey(hit.id()))
+                .map(hit -> new AddressMatch(loaded.get(hit.id()), hit.rank()))
+                .toList();
+    }
+
+    // Similarity is narrowed to a float, as pg_trgm computes it, before ranking and paging
+    @Override
+    public List<RankCursor> rank(String query, RankCursor after, int limit) {
+        String needle = query.toLowerCase(Locale.ROOT);
+        Set<String> queryTrigrams = wordTrigrams(needle);
+
+        return candidates(needle)
+                .filter(id -> {
+                    String address = addresses.get(id);
+                    return address != null && address.toLowerCase(Locale.ROOT).contains(needle);
+                })
+                .map(id -> new RankCursor((float) similarity(queryTrigrams, wordTrigrams(addresses.get(id))), id))
+                .filter(hit -> after == null || after.precedes(hit.rank(), hit.id()))
+                // Ties break on the textual id, which matches PostgreSQL's uuid ordering
+                .sorted(Comparator.comparing(RankCursor::rank).reversed()
+                        .thenComparing(hit -> hit.id().toString()))
+                .limit(limit)
+                .toList();
+    }
+
+    synchronized void put(UUID id, String address) {
+        remove(id);
+        addresses.put(id, address);
+        for (String gram : rawGrams(address.toLowerCase(Locale.ROOT))) {
+            postings.computeIfAbsent(gram, key -> ConcurrentHashMap.newKeySet()).add(id);
+        }
+    }
+
+    synchronized void remove(UUID id) {
+        String previous = addresses.remove(id);
+        if (previous == null) {
+            return;
+        }
+        for (String gram : rawGrams(previous.toLowerCase(Locale.ROOT))) {
+            Set<UUID> ids = postings.get(gram);
+            if (ids != null) {
+                ids.remove(id);
+                if (ids.isEmpty()) {
+                    postings.remove(gram);
+                }
+            }
+        }
+    }
+
+    // Intersect the posting lists, smallest first; short queries fall back to a scan
+    private Stream<UUID> candidates(String needle) {
+        Set<String> grams = rawGrams(needle);
+        if (grams.isEmpty()) {
+            return addresses.keySet().stream();
+        }
+        List<Set<UUID>> lists = grams.stream()
+                .map(gram -> postings.getOrDefault(gram, Set.of()))
+                .sorted(Comparator.comparingInt(Set::size))
+                .toList();
+        Set<UUID> result = new HashSet<>(lists.get(0));
+        for (int i = 1; i < lists.size() && !result.isEmpty(); i++) {
+            result.retainAll(lists.get(i));
+        }
+        return result.stream();
+    }
+
+    private static Set<String> rawGrams(String text) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + N <= text.length(); i++) {
+            grams.add(text.substring(i, i + N));
+        }
+        return grams;
+    }
+
+    // pg_trgm: each alphanumeric word is padded with two leading blanks and one trailing blank
+    static Set<String> wordTrigrams(String text) {
+        Set<String> trigrams = new HashSet<>();
+        for (String word : text.toLowerCase(Locale.ROOT).split("[^\\p{Alnum}]+")) {
+            if (!word.isEmpty()) {
+                trigrams.addAll(rawGrams("  " + word + " "));
+            }
+        }
+        return trigrams;
+    }
+
+    static double similarity(Set<String> a, Set<String> b) {
+        if (a.isEmpty() || b.isEmpty()) {
+            return 0.0;
+        }
+        long shared = a.stream().filter(b::contains).count();
+        return (double) shared / (a.size() + b.size() - shared);
+    }
+}
@@ -0,0 +1,55 @@
+package com.propertymanagement.infrastructure.search;
+
+import com.propertymanagement.domain.Property;
+import com.propertymanagement.domain.pagination.RankCursor;
+import com.propertymanagement.domain.search.AddressMatch;
+import com.propertymanagement.domain.search.AddressSearch;
+import com.propertymanagement.persistence.repository.PropertyRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * PostgreSQL implementation served by the pg_trgm GIN index on {@code address}. Ranks ids
+ * first, then loads only the page's rows.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "property-management.search.address-index", havingValue = "trigram", matchIfMissing = true)
+public class TrigramAddressSearch implements AddressSearch {
+
+    private final PropertyRepository propertyRepository;
+
+    @Override
+    public List<AddressMatch> search(String query, RankCursor after, int limit) {
+        List<RankCursor> ranked = rank(query, after, limit);
+        if (ranked.isEmpty()) {
+            return List.of();
+        }
+        Map<UUID, Property> loaded = propertyRepository
+                .findAllById(ranked.stream().map(RankCursor::id).toList()).stream()
+                .collect(Collectors.toMap(Property::getId, Function.identity()));
+        return ranked.stream()
+                .filter(hit -> loaded.containsKey(hit.id()))
+                .map(hit -> new AddressMatch(loaded.get(hit.id()), hit.rank()))
+                .toList();
+    }
+
+    @Override
+    public List<RankCursor> rank(String query, RankCursor after, int limit) {
+        return propertyRepository.rankByAddress(query, escapeLike(query), after, limit);
+    }
+
+    // The query is matched literally, so LIKE wildcards typed by the user must not leak through
+    public static String escapeLike(String value) {
+        return value.replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+    }
+}
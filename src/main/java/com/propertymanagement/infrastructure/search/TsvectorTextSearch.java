@@ -0,0 +1,45 @@
+package com.propertymanagement.infrastructure.search;
+
+import com.propertymanagement.domain.Property;
+import com.propertymanagement.domain.PropertyFilter;
+import com.propertymanagement.domain.pagination.RankCursor;
+import com.propertymanagement.domain.search.TextMatch;
+import com.propertymanagement.domain.search.TextSearch;
+import com.propertymanagement.persistence.repository.PropertyRepository;
+import com.propertymanagement.persistence.repository.PropertyTextSearchRepository.RankedId;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * PostgreSQL implementation served by the GIN index on the generated {@code search_vector}
+ * column. Ranks ids first, then loads only the page's rows.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "property-management.search.text-index", havingValue = "tsvector", matchIfMissing = true)
+public class TsvectorTextSearch implements TextSearch {
+
+    private final PropertyRepository propertyRepository;
+
+    @Override
+    public List<TextMatch> search(String query, PropertyFilter filter, RankCursor after, int limit) {
+        List<RankedId> ranked = propertyRepository.rankByText(query, filter, after, limit);
+        if (ranked.isEmpty()) {
+            return List.of();
+        }
+        Map<UUID, Property> loaded = propertyRepository
+                .findAllById(ranked.stream().map(RankedId::id).toList()).stream()
+                .collect(Collectors.toMap(Property::getId, Function.identity()));
+        return ranked.stream()
+                .filter(hit -> loaded.containsKey(hit.id()))
+                .map(hit -> new TextMatch(loaded.get(hit.id()), hit.rank()))
+                .toList();
+    }
+}
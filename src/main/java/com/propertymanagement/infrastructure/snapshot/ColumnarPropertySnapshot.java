@@ -0,0 +1,252 @@
+package com.propertymanagement.infrastructure.snapshot;
+
+import com.propertymanagement.domain.Property;
+import com.propertymanagement.domain.PropertyFilter;
+import com.propertymanagement.domain.event.PropertyChangeNotifiedEvent;
+import com.propertymanagement.domain.event.PropertyChangedEvent;
+import com.propertymanagement.domain.pagination.Cursor;
+import com.propertymanagement.domain.search.PropertyFacets;
+import com.propertymanagement.domain.search.PropertySnapshot;
+import com.propertymanagement.persistence.repository.PropertyRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import static com.propertymanagement.persistence.repository.PropertySpecifications.idIn;
+
+/**
+ * In-process read model over {@link PropertyColumns}: loaded at startup, then kept
+ * current from the change events {@code PropertyService} publishes after each commit and,
+ * for writes made by other replicas or by COPY imports, by reloading the rows named in
+ * {@link PropertyChangeNotifiedEvent}s. Without those notifications
+ * ({@code property-management.cache.cross-replica-invalidation}) replicas drift apart.
+ * <p>
+ * Reads share a lock and never wait on the database; writes take it exclusively. A row
+ * never replaces a newer version of itself, so a reload racing a local write is harmless.
+ * Out of order inserts and accumulated deletions are absorbed by rebuilding the columns,
+ * which is a sort of the live rows. The entities held are detached and never modified.
+ */
+@Component
+@ConditionalOnProperty(name = "property-management.snapshot.enabled", havingValue = "true")
+public class ColumnarPropertySnapshot implements PropertySnapshot {
+
+    // Rebuild once this many slots, and at least a quarter of the live rows, are deleted
+    private static final int MIN_DELETED_BEFORE_COMPACTION = 1024;
+    // Ids per reload query, well below PostgreSQL's bind parameter limit
+    private static final int RELOAD_BATCH_SIZE = 1000;
+
+    private final PropertyRepository propertyRepository;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private PropertyColumns columns = PropertyColumns.of(List.of());
+    // Ids changed while a rebuild scans, replayed into its result; null outside rebuilds
+    private Set<UUID> changedDuringRebuild;
+
+    public ColumnarPropertySnapshot(PropertyRepository propertyRepository) {
+        this.propertyRepository = propertyRepository;
+    }
+
+    // The new columns are only served once the changes made during the scan are applied
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public synchronized void rebuild() {
+        lock.writeLock().lock();
+        try {
+            changedDuringRebuild = new HashSet<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        try {
+            List<Property> properties = new ArrayList<>();
+            propertyRepository.scan(Specification.where(null), properties::add);
+            PropertyColumns rebuilt = PropertyColumns.of(properties);
+            while (true) {
+                Set<UUID> changed;
+                lock.writeLock().lock();
+                try {
+                    if (changedDuringRebuild.isEmpty()) {
+                        columns = rebuilt;
+                        return;
+                    }
+                    changed = changedDuringRebuild;
+                    changedDuringRebuild = new HashSet<>();
+                } finally {
+                    lock.writeLock().unlock();
+                }
+                rebuilt = apply(rebuilt, changed, load(changed));
+            }
+        } finally {
+            lock.writeLock().lock();
+            try {
+                changedDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    @TransactionalEventListener
+    public void onPropertyChanged(PropertyChangedEvent event) {
+        if (event.isDeletion()) {
+            remove(event.id());
+        } else {
+            put(event.property());
+        }
+    }
+
+    @EventListener
+    @Transactional(readOnly = true)
+    public void onPropertyChangeNotified(PropertyChangeNotifiedEvent event) {
+        if (event.anyChanged()) {
+            rebuild();
+        } else {
+            refresh(event.ids());
+        }
+    }
+
+    @Override
+    public List<Property> find(PropertyFilter filter, Cursor after, int limit) {
+        lock.readLock().lock();
+        try {
+            return columns.find(filter, after, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public PropertyFacets facets(PropertyFilter filter) {
+        lock.readLock().lock();
+        try {
+            return columns.facets(filter);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public SnapshotFootprint footprint() {
+        lock.readLock().lock();
+        try {
+            return columns.footprint();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    void put(Property property) {
+        lock.writeLock().lock();
+        try {
+            recordChange(property.getId());
+            columns = put(columns, property);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void remove(UUID id) {
+        lock.writeLock().lock();
+        try {
+            recordChange(id);
+            columns = remove(columns, id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Reloads the named rows; those no longer in the database are removed
+    void refresh(Collection<UUID> ids) {
+        List<Property> loaded = load(ids);
+        lock.writeLock().lock();
+        try {
+            ids.forEach(this::recordChange);
+            columns = apply(columns, ids, loaded);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void replace(List<Property> properties) {
+        PropertyColumns rebuilt = PropertyColumns.of(properties);
+        lock.writeLock().lock();
+        try {
+            columns = rebuilt;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Under the write lock
+    private void recordChange(UUID id) {
+        if (changedDuringRebuild != null) {
+            changedDuringRebuild.add(id);
+        }
+    }
+
+    // scan detaches every row, so a row reloaded twice in one transaction is read afresh
+    private List<Property> load(Collection<UUID> ids) {
+        List<UUID> remaining = List.copyOf(ids);
+        List<Property> loaded = new ArrayList<>(remaining.size());
+        for (int from = 0; from < remaining.size(); from += RELOAD_BATCH_SIZE) {
+            List<UUID> batch = remaining.subList(from, Math.min(remaining.size(), from + RELOAD_BATCH_SIZE));
+            propertyRepository.scan(idIn(batch), loaded::add);
+        }
+        return loaded;
+    }
+
+    private static PropertyColumns apply(PropertyColumns columns, Collection<UUID> ids, List<Property> loaded) {
+        Set<UUID> missing = new HashSet<>(ids);
+        for (Property property : loaded) {
+            missing.remove(property.getId());
+            columns = put(columns, property);
+        }
+        for (UUID id : missing) {
+            columns = remove(columns, id);
+        }
+        return columns;
+    }
+
+    private static PropertyColumns put(PropertyColumns columns, Property property) {
+        int slot = columns.slotOf(property);
+        if (slot >= 0) {
+            if (!isOlder(property, columns.row(slot))) {
+                columns.set(slot, property);
+            }
+            return columns;
+        }
+        if (columns.append(property)) {
+            return columns;
+        }
+        List<Property> rows = columns.rows();
+        rows.add(property);
+        return PropertyColumns.of(rows);
+    }
+
+    private static PropertyColumns remove(PropertyColumns columns, UUID id) {
+        int slot = columns.slotOf(id);
+        if (slot < 0) {
+            return columns;
+        }
+        columns.clear(slot);
+        if (columns.deleted() >= Math.max(MIN_DELETED_BEFORE_COMPACTION, columns.size() / 4)) {
+            return PropertyColumns.of(columns.rows());
+        }
+        return columns;
+    }
+
+    private static boolean isOlder(Property property, Property held) {
+        return property.getVersion() != null && held.getVersion() != null
+                && property.getVersion() < held.getVersion();
+    }
+}
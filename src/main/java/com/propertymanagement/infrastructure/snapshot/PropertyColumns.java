@@ -0,0 +1,415 @@
+package com.propertymanagement.infrastructure.snapshot;
+
+import com.propertymanagement.domain.Property;
+import com.propertymanagement.domain.PropertyFilter;
+import com.propertymanagement.domain.PropertyStatus;
+import com.propertymanagement.domain.PropertyType;
+import com.propertymanagement.domain.pagination.Cursor;
+import com.propertymanagement.domain.search.PropertyFacets;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * Column store behind {@link ColumnarPropertySnapshot}. Slot i of every array describes
+ * the same property, and slots are kept in (created_at, id) order so keyset pages are a
+ * binary search plus a forward scan. Filterable values are primitives: rent in cents,
+ * enums as ordinals, absent numbers as {@link #NONE} or NaN. Status, type and bedroom
+ * count also have one bitmap per value, so those criteria and the facet counts are
+ * word-wide AND and popcount operations. Deleted slots are cleared from {@code present}
+ * and reclaimed by rebuilding. Not thread-safe; the snapshot guards it with a lock.
+ */
+final class PropertyColumns {
+
+    static final short NONE = -1;
+
+    // Bytes per entity held for the list responses, compressed-oops layout: the object,
+    // id, rent BigDecimal, boxed numbers, two LocalDateTimes and the version; strings extra
+    private static final long ROW_OBJECT_BYTES = 384;
+    private static final long STRING_BYTES = 40;
+    private static final long ARRAY_HEADER_BYTES = 16;
+    private static final long BITSET_BYTES = 40;
+    private static final int MIN_CAPACITY = 16;
+
+    static final Comparator<Property> KEY_ORDER = Comparator
+            .comparing(Property::getCreatedAt)
+            .thenComparing(Property::getId, PropertyColumns::compareIds);
+
+    private int size;
+    private int live;
+    private long[] createdAt;
+    private long[] idHigh;
+    private long[] idLow;
+    private long[] rentCents;
+    private byte[] status;
+    private byte[] type;
+    private short[] bedrooms;
+    private short[] bathrooms;
+    private double[] squareMeters;
+    private Property[] rows;
+
+    private final BitSet present = new BitSet();
+    private final BitSet[] byStatus = bitmaps(PropertyStatus.values().length);
+    private final BitSet[] byType = bitmaps(PropertyType.values().length);
+    private final NavigableMap<Short, BitSet> byBedrooms = new TreeMap<>();
+
+    private PropertyColumns(int capacity) {
+        capacity = Math.max(capacity, MIN_CAPACITY);
+        createdAt = new long[capacity];
+        idHigh = new long[capacity];
+        idLow = new long[capacity];
+        rentCents = new long[capacity];
+        status = new byte[capacity];
+        type = new byte[capacity];
+        bedrooms = new short[capacity];
+        bathrooms = new short[capacity];
+        squareMeters = new double[capacity];
+        rows = new Property[capacity];
+    }
+
+    static PropertyColumns of(List<Property> properties) {
+        List<Property> sorted = new ArrayList<>(properties);
+        sorted.sort(KEY_ORDER);
+        PropertyColumns columns = new PropertyColumns(sorted.size());
+        sorted.forEach(columns::append);
+        return columns;
+    }
+
+    int size() {
+        return live;
+    }
+
+    int deleted() {
+        return size - live;
+    }
+
+    // False when the property sorts before the last slot; the caller rebuilds instead
+    boolean append(Property property) {
+        if (size > 0 && compareToSlot(property.getCreatedAt(), property.getId(), size - 1) <= 0) {
+            return false;
+        }
+        if (size == rows.length) {
+            grow(size + (size >> 1));
+        }
+        set(size++, property);
+        return true;
+    }
+
+    // Slot holding the property, or -1; a binary search when the creation time is known
+    int slotOf(Property property) {
+        if (property.getCreatedAt() == null) {
+            return slotOf(property.getId());
+        }
+        int slot = firstSlotAtOrAfter(property.getCreatedAt(), property.getId());
+        return slot < size && compareToSlot(property.getCreatedAt(), property.getId(), slot) == 0
+                && present.get(slot) ? slot : -1;
+    }
+
+    // Deletions only carry the id: a scan of the two id columns
+    int slotOf(UUID id) {
+        long high = id.getMostSignificantBits();
+        long low = id.getLeastSignificantBits();
+        for (int slot = present.nextSetBit(0); slot >= 0; slot = present.nextSetBit(slot + 1)) {
+            if (idLow[slot] == low && idHigh[slot] == high) {
+                return slot;
+            }
+        }
+        return -1;
+    }
+
+    Property row(int slot) {
+        return rows[slot];
+    }
+
+    void set(int slot, Property property) {
+        if (present.get(slot)) {
+            unindex(slot);
+        } else {
+            present.set(slot);
+            live++;
+        }
+        createdAt[slot] = micros(property.getCreatedAt());
+        idHigh[slot] = property.getId().getMostSignificantBits();
+        idLow[slot] = property.getId().getLeastSignificantBits();
+        rentCents[slot] = property.getRentPrice().setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+        status[slot] = (byte) property.getStatus().ordinal();
+        type[slot] = (byte) property.getType().ordinal();
+        bedrooms[slot] = small(property.getBedrooms());
+        bathrooms[slot] = small(property.getBathrooms());
+        squareMeters[slot] = property.getSquareMeters() != null ? property.getSquareMeters() : Double.NaN;
+        rows[slot] = property;
+
+        byStatus[status[slot]].set(slot);
+        byType[type[slot]].set(slot);
+        if (bedrooms[slot] != NONE) {
+            byBedrooms.computeIfAbsent(bedrooms[slot], key -> new BitSet()).set(slot);
+        }
+    }
+
+    void clear(int slot) {
+        if (present.get(slot)) {
+            unindex(slot);
+            present.clear(slot);
+            rows[slot] = null;
+            live--;
+        }
+    }
+
+    List<Property> rows() {
+        List<Property> result = new ArrayList<>(live);
+        for (int slot = present.nextSetBit(0); slot >= 0; slot = present.nextSetBit(slot + 1)) {
+            result.add(rows[slot]);
+        }
+        return result;
+    }
+
+    List<Property> find(PropertyFilter filter, Cursor after, int limit) {
+        BitSet candidates = candidates(filter);
+        Ranges ranges = new Ranges(filter);
+        int start = after != null ? firstSlotAfter(after) : 0;
+        List<Property> result = new ArrayList<>(Math.min(limit, live));
+        for (int slot = candidates.nextSetBit(start); slot >= 0 && result.size() < limit;
+             slot = candidates.nextSetBit(slot + 1)) {
+            if (ranges.test(slot)) {
+                result.add(rows[slot]);
+            }
+        }
+        return result;
+    }
+
+    PropertyFacets facets(PropertyFilter filter) {
+        BitSet matches = candidates(filter);
+        Ranges ranges = new Ranges(filter);
+        if (!ranges.isEmpty()) {
+            for (int slot = matches.nextSetBit(0); slot >= 0; slot = matches.nextSetBit(slot + 1)) {
+                if (!ranges.test(slot)) {
+                    matches.clear(slot);
+                }
+            }
+        }
+        long[] statusCounts = new long[byStatus.length];
+        for (int i = 0; i < byStatus.length; i++) {
+            statusCounts[i] = intersectionSize(matches, byStatus[i]);
+        }
+        long[] typeCounts = new long[byType.length];
+        for (int i = 0; i < byType.length; i++) {
+            typeCounts[i] = intersectionSize(matches, byType[i]);
+        }
+        Map<Integer, Long> bedroomCounts = new HashMap<>();
+        byBedrooms.forEach((count, slots) -> {
+            long matching = intersectionSize(matches, slots);
+            if (matching > 0) {
+                bedroomCounts.put((int) count, matching);
+            }
+        });
+        return PropertyFacets.of(statusCounts, typeCounts, bedroomCounts);
+    }
+
+    SnapshotFootprint footprint() {
+        int capacity = rows.length;
+        long columnBytes = 4 * array(capacity, Long.BYTES)
+                + 2 * array(capacity, Byte.BYTES)
+                + 2 * array(capacity, Short.BYTES)
+                + array(capacity, Double.BYTES);
+        long bitmapBytes = bitmap(present);
+        for (BitSet bitmap : byStatus) {
+            bitmapBytes += bitmap(bitmap);
+        }
+        for (BitSet bitmap : byType) {
+            bitmapBytes += bitmap(bitmap);
+        }
+        for (BitSet bitmap : byBedrooms.values()) {
+            bitmapBytes += bitmap(bitmap);
+        }
+        long rowBytes = array(capacity, Integer.BYTES);
+        for (int slot = present.nextSetBit(0); slot >= 0; slot = present.nextSetBit(slot + 1)) {
+            Property row = rows[slot];
+            rowBytes += ROW_OBJECT_BYTES + text(row.getAddress()) + text(row.getDescription()) + text(row.getGeohash());
+        }
+        return new SnapshotFootprint(live, columnBytes, bitmapBytes, rowBytes);
+    }
+
+    // Candidates from the bitmap-indexed criteria; the ranges are checked per slot
+    private BitSet candidates(PropertyFilter filter) {
+        BitSet candidates = (BitSet) present.clone();
+        if (filter.status() != null) {
+            candidates.and(byStatus[filter.status().ordinal()]);
+        }
+        if (filter.type() != null) {
+            candidates.and(byType[filter.type().ordinal()]);
+        }
+        if (filter.minBedrooms() != null || filter.maxBedrooms() != null) {
+            BitSet bedroomMatches = new BitSet();
+            short min = filter.minBedrooms() != null ? small(Math.max(filter.minBedrooms(), 0)) : 0;
+            short max = filter.maxBedrooms() != null ? small(filter.maxBedrooms()) : Short.MAX_VALUE;
+            if (min <= max) {
+                byBedrooms.subMap(min, true, max, true).values().forEach(bedroomMatches::or);
+            }
+            candidates.and(bedroomMatches);
+        }
+        return candidates;
+    }
+
+    private void unindex(int slot) {
+        byStatus[status[slot]].clear(slot);
+        byType[type[slot]].clear(slot);
+        if (bedrooms[slot] != NONE) {
+            BitSet slots = byBedrooms.get(bedrooms[slot]);
+            slots.clear(slot);
+            if (slots.isEmpty()) {
+                byBedrooms.remove(bedrooms[slot]);
+            }
+        }
+    }
+
+    // First slot whose key is >= (createdAt, id)
+    private int firstSlotAtOrAfter(LocalDateTime createdAt, UUID id) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (compareToSlot(createdAt, id, mid) > 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private int firstSlotAfter(Cursor cursor) {
+        int slot = firstSlotAtOrAfter(cursor.createdAt(), cursor.id());
+        return slot < size && compareToSlot(cursor.createdAt(), cursor.id(), slot) == 0 ? slot + 1 : slot;
+    }
+
+    private int compareToSlot(LocalDateTime createdAt, UUID id, int slot) {
+        int byTime = Long.compare(micros(createdAt), this.createdAt[slot]);
+        if (byTime != 0) {
+            return byTime;
+        }
+        int byHigh = Long.compareUnsigned(id.getMostSignificantBits(), idHigh[slot]);
+        return byHigh != 0 ? byHigh : Long.compareUnsigned(id.getLeastSignificantBits(), idLow[slot]);
+    }
+
+    // PostgreSQL orders uuids bytewise, i.e. unsigned; UUID.compareTo is signed
+    static int compareIds(UUID a, UUID b) {
+        int byHigh = Long.compareUnsigned(a.getMostSignificantBits(), b.getMostSignificantBits());
+        return byHigh != 0 ? byHigh : Long.compareUnsigned(a.getLeastSignificantBits(), b.getLeastSignificantBits());
+    }
+
+    private void grow(int capacity) {
+        createdAt = Arrays.copyOf(createdAt, capacity);
+        idHigh = Arrays.copyOf(idHigh, capacity);
+        idLow = Arrays.copyOf(idLow, capacity);
+        rentCents = Arrays.copyOf(rentCents, capacity);
+        status = Arrays.copyOf(status, capacity);
+        type = Arrays.copyOf(type, capacity);
+        bedrooms = Arrays.copyOf(bedrooms, capacity);
+        bathrooms = Arrays.copyOf(bathrooms, capacity);
+        squareMeters = Arrays.copyOf(squareMeters, capacity);
+        rows = Arrays.copyOf(rows, capacity);
+    }
+
+    private static long micros(LocalDateTime time) {
+        return time.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + time.getNano() / 1_000;
+    }
+
+    // Requests cap bedrooms at 50 and bathrooms at 20; anything beyond a short saturates
+    private static short small(Integer value) {
+        return value != null ? (short) Math.min(value, Short.MAX_VALUE) : NONE;
+    }
+
+    // Filter bounds beyond the long range saturate rather than fail
+    private static long cents(BigDecimal price, RoundingMode rounding) {
+        BigInteger cents = price.setScale(2, rounding).unscaledValue();
+        if (cents.bitLength() < Long.SIZE) {
+            return cents.longValue();
+        }
+        return cents.signum() < 0 ? Long.MIN_VALUE : Long.MAX_VALUE;
+    }
+
+    private static long intersectionSize(BitSet matches, BitSet bitmap) {
+        BitSet both = (BitSet) bitmap.clone();
+        both.and(matches);
+        return both.cardinality();
+    }
+
+    private static BitSet[] bitmaps(int count) {
+        BitSet[] bitmaps = new BitSet[count];
+        Arrays.setAll(bitmaps, i -> new BitSet());
+        return bitmaps;
+    }
+
+    private static long array(int length, int elementBytes) {
+        return ARRAY_HEADER_BYTES + (long) length * elementBytes;
+    }
+
+    private static long bitmap(BitSet bitmap) {
+        return BITSET_BYTES + (long) bitmap.size() / Byte.SIZE;
+    }
+
+    private static long text(String value) {
+        return value != null ? STRING_BYTES + value.length() : 0;
+    }
+
+    // The criteria without a bitmap, checked against the columns of each candidate slot
+    private final class Ranges {
+
+        private final long minCents;
+        private final long maxCents;
+        private final Integer minBathrooms;
+        private final Integer maxBathrooms;
+        private final Double minSquareMeters;
+        private final Double maxSquareMeters;
+        private final boolean empty;
+
+        Ranges(PropertyFilter filter) {
+            minCents = filter.minPrice() != null ? cents(filter.minPrice(), RoundingMode.CEILING) : Long.MIN_VALUE;
+            maxCents = filter.maxPrice() != null ? cents(filter.maxPrice(), RoundingMode.FLOOR) : Long.MAX_VALUE;
+            minBathrooms = filter.minBathrooms();
+            maxBathrooms = filter.maxBathrooms();
+            minSquareMeters = filter.minSquareMeters();
+            maxSquareMeters = filter.maxSquareMeters();
+            empty = filter.minPrice() == null && filter.maxPrice() == null
+                    && minBathrooms == null && maxBathrooms == null
+                    && minSquareMeters == null && maxSquareMeters == null;
+        }
+
+        boolean isEmpty() {
+            return empty;
+        }
+
+        // Like SQL, a range never matches an absent value
+        boolean test(int slot) {
+            if (empty) {
+                return true;
+            }
+            if (rentCents[slot] < minCents || rentCents[slot] > maxCents) {
+                return false;
+            }
+            if (minBathrooms != null || maxBathrooms != null) {
+                short value = bathrooms[slot];
+                if (value == NONE || (minBathrooms != null && value < minBathrooms)
+                        || (maxBathrooms != null && value > maxBathrooms)) {
+                    return false;
+                }
+            }
+            double area = squareMeters[slot];
+            return (minSquareMeters == null || area >= minSquareMeters)
+                    && (maxSquareMeters == null || area <= maxSquareMeters);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.propertymanagement.infrastructure.snapshot;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@code GET /actuator/propertysnapshot}: heap used by the in-process snapshot, as
+ * measured and scaled to a million rows.
+ */
+@Component
+@Endpoint(id = "propertysnapshot")
+@ConditionalOnProperty(name = "property-management.snapshot.enabled", havingValue = "true")
+public class PropertySnapshotEndpoint {
+
+    private final ColumnarPropertySnapshot snapshot;
+
+    public PropertySnapshotEndpoint(ColumnarPropertySnapshot snapshot) {
+        this.snapshot = snapshot;
+    }
+
+    @ReadOperation
+    public Report footprint() {
+        SnapshotFootprint footprint = snapshot.footprint();
+        return new Report(footprint, footprint.perMillionRows());
+    }
+
+    public record Report(SnapshotFootprint current, SnapshotFootprint perMillionRows) {
+    }
+}
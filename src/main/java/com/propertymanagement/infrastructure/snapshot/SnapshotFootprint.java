@@ -0,0 +1,24 @@
+package com.propertymanagement.infrastructure.snapshot;
+
+/**
+ * Heap held by the property snapshot. Column and bitmap sizes are exact; row bytes
+ * estimate the entities kept to serve list responses.
+ */
+public record SnapshotFootprint(int rows, long columnBytes, long bitmapBytes, long rowBytes) {
+
+    private static final double MILLION = 1_000_000;
+
+    public long totalBytes() {
+        return columnBytes + bitmapBytes + rowBytes;
+    }
+
+    // The same layout scaled to a million rows, for capacity planning
+    public SnapshotFootprint perMillionRows() {
+        if (rows == 0) {
+            return new SnapshotFootprint(0, 0, 0, 0);
+        }
+        double scale = MILLION / rows;
+        return new SnapshotFootprint((int) MILLION,
+                Math.round(columnBytes * scale), Math.round(bitmapBytes * scale), Math.round(rowBytes * scale));
+    }
+}
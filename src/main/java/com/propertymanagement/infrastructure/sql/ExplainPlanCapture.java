@@ -0,0 +1,89 @@
+package com.propertymanagement.infrastructure.sql;
+
+import lombok.extern.slf4j.Slf4j;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.StringJoiner;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Re-runs a slow statement under {@code EXPLAIN} on a background thread, with the bind
+ * values it was executed with. Queries get {@code ANALYZE, BUFFERS}; data-changing
+ * statements are only planned, never executed. Either way the work is rolled back and
+ * bounded by a statement timeout. When the queue is full, captures are dropped rather
+ * than delaying requests.
+ */
+@Slf4j
+class ExplainPlanCapture {
+
+    private final DataSource dataSource;
+    private final Duration statementTimeout;
+    private final ThreadPoolExecutor executor;
+
+    // dataSource must be the unproxied one, so EXPLAIN statements are not sampled in turn
+    ExplainPlanCapture(DataSource dataSource, Duration statementTimeout) {
+        this.dataSource = dataSource;
+        this.statementTimeout = statementTimeout;
+        this.executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(16),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "explain-plan-capture");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.DiscardPolicy());
+    }
+
+    void capture(String sql, List<Object> parameters, Consumer<String> onPlan) {
+        executor.execute(() -> {
+            try {
+                onPlan.accept(explain(sql, parameters));
+            } catch (SQLException e) {
+                log.debug("Could not capture plan for {}: {}", sql, e.getMessage());
+            }
+        });
+    }
+
+    private String explain(String sql, List<Object> parameters) throws SQLException {
+        String explain = (isQuery(sql) ? "EXPLAIN (ANALYZE, BUFFERS) " : "EXPLAIN ") + sql;
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("SET LOCAL statement_timeout = " + statementTimeout.toMillis());
+                }
+                try (PreparedStatement statement = connection.prepareStatement(explain)) {
+                    for (int i = 0; i < parameters.size(); i++) {
+                        statement.setObject(i + 1, parameters.get(i));
+                    }
+                    StringJoiner plan = new StringJoiner("\n");
+                    try (ResultSet rows = statement.executeQuery()) {
+                        while (rows.next()) {
+                            plan.add(rows.getString(1));
+                        }
+                    }
+                    return plan.toString();
+                }
+            } finally {
+                connection.rollback();
+            }
+        }
+    }
+
+    static boolean isQuery(String sql) {
+        String head = sql.stripLeading().toLowerCase(Locale.ROOT);
+        return head.startsWith("select")
+                || (head.startsWith("with") && !head.matches("(?s).*\\b(insert|update|delete|merge)\\b.*"));
+    }
+}
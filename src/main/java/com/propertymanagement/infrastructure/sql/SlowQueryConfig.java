@@ -0,0 +1,30 @@
+package com.propertymanagement.infrastructure.sql;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * Slow statement store and its admin endpoint. The listener that feeds it is attached by
+ * {@link SqlInstrumentationConfig} whenever a {@link SlowQueryLog} bean exists.
+ */
+@Configuration
+@ConditionalOnProperty(name = "property-management.slow-queries.enabled", havingValue = "true", matchIfMissing = true)
+public class SlowQueryConfig {
+
+    @Bean
+    public SlowQueryLog slowQueryLog(
+            @Value("${property-management.slow-queries.threshold:200ms}") Duration threshold,
+            @Value("${property-management.slow-queries.capacity:100}") int capacity) {
+        return new SlowQueryLog(threshold, capacity, Clock.systemUTC());
+    }
+
+    @Bean
+    public SlowQueryEndpoint slowQueryEndpoint(SlowQueryLog slowQueryLog) {
+        return new SlowQueryEndpoint(slowQueryLog);
+    }
+}
@@ -0,0 +1,87 @@
+package com.propertymanagement.infrastructure.sql;
+
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.StringJoiner;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Times every JDBC statement into the {@link SlowQueryLog}. Replaces per-statement SQL
+ * logging: slow statements are always logged, the rest only at {@code sampleRate},
+ * through the asynchronous appender configured in logback-spring.xml.
+ */
+@Slf4j
+class SlowQueryListener implements QueryExecutionListener {
+
+    private final SlowQueryLog slowQueryLog;
+    private final ExplainPlanCapture planCapture;
+    private final double sampleRate;
+    private final Duration planInterval;
+
+    // planCapture is null when EXPLAIN is disabled
+    SlowQueryListener(SlowQueryLog slowQueryLog, ExplainPlanCapture planCapture,
+                      double sampleRate, Duration planInterval) {
+        this.slowQueryLog = slowQueryLog;
+        this.planCapture = planCapture;
+        this.sampleRate = sampleRate;
+        this.planInterval = planInterval;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        long millis = execInfo.getElapsedTime();
+        for (QueryInfo queryInfo : queryInfoList) {
+            String sql = SqlNormalizer.normalize(queryInfo.getQuery());
+            List<List<ParameterSetOperation>> parameterSets = queryInfo.getParametersList();
+            String shape = shape(parameterSets);
+            
+            boolean slow = slowQueryLog.record(sql, shape, millis);
+            if (slow) {
+                log.warn("Slow statement ({} ms) {} {}", millis, sql, shape);
+                if (planCapture != null && slowQueryLog.claimPlanCapture(sql, planInterval)) {
+                    List<Object> values = parameterSets.isEmpty() ? List.of() : values(parameterSets.get(0));
+                    planCapture.capture(queryInfo.getQuery(), values, plan -> slowQueryLog.attachPlan(sql, plan));
+                }
+            } else if (sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate) {
+                log.info("Sampled statement ({} ms) {} {}", millis, sql, shape);
+            }
+        }
+    }
+
+    // Java types of the bind values, e.g. (UUID, BigDecimal, null); batches add their size
+    static String shape(List<List<ParameterSetOperation>> parameterSets) {
+        if (parameterSets.isEmpty()) {
+            return "()";
+        }
+        StringJoiner shape = new StringJoiner(", ", "(", ")");
+        for (Object value : values(parameterSets.get(0))) {
+            shape.add(value == null ? "null" : value.getClass().getSimpleName());
+        }
+        return parameterSets.size() > 1 ? shape + " x" + parameterSets.size() : shape.toString();
+    }
+
+    private static List<Object> values(List<ParameterSetOperation> operations) {
+        List<ParameterSetOperation> ordered = new ArrayList<>(operations);
+        ordered.removeIf(operation -> !(operation.getArgs()[0] instanceof Integer));
+        ordered.sort(Comparator.comparingInt(operation -> (Integer) operation.getArgs()[0]));
+        List<Object> values = new ArrayList<>(ordered.size());
+        for (ParameterSetOperation operation : ordered) {
+            values.add(ParameterSetOperation.isSetNullParameterOperation(operation) || operation.getArgs().length < 2
+                    ? null
+                    : operation.getArgs()[1]);
+        }
+        return values;
+    }
+}
@@ -0,0 +1,143 @@
+package com.propertymanagement.infrastructure.sql;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-query timings keyed by normalized SQL, keeping the {@code capacity} queries with
+ * the worst single execution, plus a ring buffer of the most recent executions that
+ * crossed the threshold. Memory stays bounded however many distinct statements run.
+ */
+public class SlowQueryLog {
+
+    private final Duration threshold;
+    private final int capacity;
+    private final Clock clock;
+    private final Map<String, QueryStats> queries = new ConcurrentHashMap<>();
+    private final Deque<SlowExecution> recent;
+
+    public SlowQueryLog(Duration threshold, int capacity, Clock clock) {
+        this.threshold = threshold;
+        this.capacity = capacity;
+        this.clock = clock;
+        this.recent = new ArrayDeque<>(capacity);
+    }
+
+    public record QuerySummary(String sql, long executions, double meanMillis, long maxMillis,
+                               String parameterShape, String plan, Instant planCapturedAt) {
+    }
+
+    public record SlowExecution(Instant at, String sql, String parameterShape, long millis) {
+    }
+
+    public record Snapshot(long thresholdMillis, List<QuerySummary> slowest, List<SlowExecution> recent) {
+    }
+
+    // Returns true when this execution crossed the threshold
+    boolean record(String sql, String parameterShape, long millis) {
+        queries.computeIfAbsent(sql, key -> new QueryStats()).record(parameterShape, millis);
+        if (queries.size() > capacity * 2) {
+            trim();
+        }
+        if (millis < threshold.toMillis()) {
+            return false;
+        }
+        synchronized (recent) {
+            if (recent.size() == capacity) {
+                recent.removeFirst();
+            }
+            recent.addLast(new SlowExecution(clock.instant(), sql, parameterShape, millis));
+        }
+        return true;
+    }
+
+    // At most one plan per query per interval, however often it runs slowly
+    boolean claimPlanCapture(String sql, Duration interval) {
+        QueryStats stats = queries.get(sql);
+        if (stats == null) {
+            return false;
+        }
+        long now = clock.millis();
+        long last = stats.planClaimedAt.get();
+        return (last == 0 || now - last >= interval.toMillis()) && stats.planClaimedAt.compareAndSet(last, now);
+    }
+
+    void attachPlan(String sql, String plan) {
+        QueryStats stats = queries.get(sql);
+        if (stats != null) {
+            stats.plan = plan;
+            stats.planCapturedAt = clock.instant();
+        }
+    }
+
+    public Snapshot snapshot() {
+        List<QuerySummary> slowest = queries.entrySet().stream()
+                .map(entry -> entry.getValue().summary(entry.getKey()))
+                .sorted(Comparator.comparingLong(QuerySummary::maxMillis).reversed())
+                .limit(capacity)
+                .toList();
+        List<SlowExecution> executions;
+        synchronized (recent) {
+            executions = new ArrayList<>(recent);
+        }
+        Collections.reverse(executions);
+        return new Snapshot(threshold.toMillis(), slowest, executions);
+    }
+
+    public void reset() {
+        queries.clear();
+        synchronized (recent) {
+            recent.clear();
+        }
+    }
+
+    private synchronized void trim() {
+        if (queries.size() <= capacity) {
+            return;
+        }
+        queries.entrySet().stream()
+                .sorted(Comparator.comparingLong(entry -> entry.getValue().maxMillis.get()))
+                .limit(queries.size() - capacity)
+                .map(Map.Entry::getKey)
+                .toList()
+                .forEach(queries::remove);
+    }
+
+    private static final class QueryStats {
+
+        private final LongAdder executions = new LongAdder();
+        private final LongAdder totalMillis = new LongAdder();
+        private final LongAccumulator maxMillis = new LongAccumulator(Math::max, 0);
+        private final AtomicLong planClaimedAt = new AtomicLong();
+        private volatile String parameterShape;
+        private volatile String plan;
+        private volatile Instant planCapturedAt;
+
+        private void record(String shape, long millis) {
+            executions.increment();
+            totalMillis.add(millis);
+            if (millis >= maxMillis.get()) {
+                parameterShape = shape;
+            }
+            maxMillis.accumulate(millis);
+        }
+
+        private QuerySummary summary(String sql) {
+            long count = executions.sum();
+            return new QuerySummary(sql, count, count == 0 ? 0 : (double) totalMillis.sum() / count,
+                    maxMillis.get(), parameterShape, plan, planCapturedAt);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.propertymanagement.infrastructure.sql;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.web.servlet.DispatcherServletAutoConfiguration;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Puts a datasource-proxy in front of the application DataSource. Every statement is
+ * counted for {@link StatementCounter} and, when {@link SlowQueryConfig} is active, timed
+ * by {@link SlowQueryListener}. The proxy unwraps to the pool underneath, so pool metrics
+ * and {@code PGConnection} access keep working.
+ */
+@Configuration
+public class SqlInstrumentationConfig {
+
+    // Static: post-processors are created before regular beans, and before placeholders
+    // can be resolved in slice tests, so settings are bound from the Environment
+    @Bean
+    public static BeanPostProcessor sqlInstrumentationDataSourceProxy(
+            ObjectProvider<SlowQueryLog> slowQueryLog, Environment environment) {
+        Binder binder = Binder.get(environment);
+        double sampleRate = binder.bind("property-management.slow-queries.log-sample-rate", Double.class).orElse(0.001);
+        boolean explain = binder.bind("property-management.slow-queries.explain.enabled", Boolean.class).orElse(true);
+        Duration planInterval = binder.bind("property-management.slow-queries.explain.interval", Duration.class)
+                .orElse(Duration.ofMinutes(10));
+        Duration statementTimeout = binder.bind("property-management.slow-queries.explain.statement-timeout",
+                Duration.class).orElse(Duration.ofSeconds(5));
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof ProxyDataSource) {
+                    return bean;
+                }
+                ProxyDataSourceBuilder proxy = ProxyDataSourceBuilder.create(beanName, dataSource)
+                        .listener(new StatementCountingListener());
+                SlowQueryLog log = slowQueryLog.getIfAvailable();
+                if (log != null) {
+                    ExplainPlanCapture planCapture = explain ? new ExplainPlanCapture(dataSource, statementTimeout) : null;
+                    proxy.listener(new SlowQueryListener(log, planCapture, sampleRate, planInterval));
+                }
+                return proxy.build();
+            }
+        };
+    }
+
+    @Bean
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    public FilterRegistrationBean<StatementBudgetFilter> statementBudgetFilter(
+            @Value("${property-management.statement-budget.enabled:true}") boolean enabled,
+            @Value("${property-management.statement-budget.max-statements:10}") int budget,
+            MeterRegistry meterRegistry) {
+        FilterRegistrationBean<StatementBudgetFilter> registration =
+                new FilterRegistrationBean<>(new StatementBudgetFilter(budget, meterRegistry));
+        registration.setEnabled(enabled);
+        // /api/v2 queries go through R2DBC, which the JDBC proxy never sees
+        registration.setServletNames(List.of(DispatcherServletAutoConfiguration.DEFAULT_DISPATCHER_SERVLET_BEAN_NAME));
+        return registration;
+    }
+}
@@ -0,0 +1,63 @@
+package com.propertymanagement.infrastructure.sql;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Counts the statements each request executes and flags requests over the budget, so an
+ * N+1 or a stray re-read shows up in {@value #EXCEEDED_METRIC} instead of only in latency.
+ */
+@Slf4j
+public class StatementBudgetFilter extends OncePerRequestFilter {
+
+    static final String STATEMENTS_METRIC = "property.request.statements";
+    static final String EXCEEDED_METRIC = "property.request.statement.budget.exceeded";
+
+    private final int budget;
+    private final MeterRegistry meterRegistry;
+
+    public StatementBudgetFilter(int budget, MeterRegistry meterRegistry) {
+        this.budget = budget;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        StatementCounts counts;
+        try (StatementCounter.Scope scope = StatementCounter.open()) {
+            filterChain.doFilter(request, response);
+            counts = scope.counts();
+        }
+        
+        String uri = uri(request);
+        DistributionSummary.builder(STATEMENTS_METRIC)
+                .baseUnit("statements")
+                .tags("method", request.getMethod(), "uri", uri)
+                .register(meterRegistry)
+                .record(counts.total());
+        if (counts.total() > budget) {
+            Counter.builder(EXCEEDED_METRIC)
+                    .tags("method", request.getMethod(), "uri", uri)
+                    .register(meterRegistry)
+                    .increment();
+            log.warn("{} {} executed {}, budget is {}", request.getMethod(), uri, counts, budget);
+        }
+    }
+
+    // Route template rather than the raw path, to keep the tag cardinality bounded
+    private static String uri(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : "UNKNOWN";
+    }
+}
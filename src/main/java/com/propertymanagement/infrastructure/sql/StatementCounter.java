@@ -0,0 +1,62 @@
+package com.propertymanagement.infrastructure.sql;
+
+/**
+ * Counts the statements the current thread sends through the proxied DataSource. Scopes
+ * nest, so a test can count inside a request that {@link StatementBudgetFilter} already
+ * counts; every open scope sees the statement.
+ *
+ * <pre>{@code
+ * try (StatementCounter.Scope scope = StatementCounter.open()) {
+ *     mockMvc.perform(get("/api/v1/properties/{id}", id));
+ *     assertThat(scope.counts()).isEqualTo(StatementCounts.selects(1));
+ * }
+ * }</pre>
+ */
+public final class StatementCounter {
+
+    private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+
+    private StatementCounter() {
+    }
+
+    public static Scope open() {
+        Scope scope = new Scope(CURRENT.get());
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    static void record(StatementType type) {
+        for (Scope scope = CURRENT.get(); scope != null; scope = scope.parent) {
+            scope.counts[type.ordinal()]++;
+        }
+    }
+
+    static boolean counting() {
+        return CURRENT.get() != null;
+    }
+
+    public static final class Scope implements AutoCloseable {
+
+        private final Scope parent;
+        private final int[] counts = new int[StatementType.values().length];
+
+        private Scope(Scope parent) {
+            this.parent = parent;
+        }
+
+        public StatementCounts counts() {
+            return new StatementCounts(counts[StatementType.SELECT.ordinal()], counts[StatementType.INSERT.ordinal()],
+                    counts[StatementType.UPDATE.ordinal()], counts[StatementType.DELETE.ordinal()],
+                    counts[StatementType.OTHER.ordinal()]);
+        }
+
+        @Override
+        public void close() {
+            if (parent != null) {
+                CURRENT.set(parent);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+}
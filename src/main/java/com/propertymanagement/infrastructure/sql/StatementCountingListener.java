@@ -0,0 +1,27 @@
+package com.propertymanagement.infrastructure.sql;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import java.util.List;
+
+/**
+ * Feeds {@link StatementCounter}; a no-op unless the thread has a scope open.
+ */
+class StatementCountingListener implements QueryExecutionListener {
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        if (!StatementCounter.counting()) {
+            return;
+        }
+        for (QueryInfo queryInfo : queryInfoList) {
+            StatementCounter.record(StatementType.of(queryInfo.getQuery()));
+        }
+    }
+}
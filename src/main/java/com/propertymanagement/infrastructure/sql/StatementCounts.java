@@ -0,0 +1,22 @@
+package com.propertymanagement.infrastructure.sql;
+
+/**
+ * Statements executed within a {@link StatementCounter.Scope}. A JDBC batch counts once,
+ * as it is a single round trip.
+ */
+public record StatementCounts(int select, int insert, int update, int delete, int other) {
+
+    public static StatementCounts selects(int select) {
+        return new StatementCounts(select, 0, 0, 0, 0);
+    }
+
+    public int total() {
+        return select + insert + update + delete + other;
+    }
+
+    @Override
+    public String toString() {
+        return total() + " statements (select=" + select + ", insert=" + insert + ", update=" + update
+                + ", delete=" + delete + ", other=" + other + ")";
+    }
+}
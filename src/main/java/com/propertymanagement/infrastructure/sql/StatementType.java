@@ -0,0 +1,34 @@
+package com.propertymanagement.infrastructure.sql;
+
+import java.util.Locale;
+
+/**
+ * Kind of a JDBC statement, taken from its leading keyword. A {@code WITH} query counts
+ * as the statement its CTEs feed, so a data-modifying CTE is not mistaken for a read.
+ */
+public enum StatementType {
+    SELECT, INSERT, UPDATE, DELETE, OTHER;
+
+    static StatementType of(String sql) {
+        String head = sql.stripLeading().toLowerCase(Locale.ROOT);
+        if (head.startsWith("select")) {
+            return SELECT;
+        }
+        if (head.startsWith("insert")) {
+            return INSERT;
+        }
+        if (head.startsWith("update")) {
+            return UPDATE;
+        }
+        if (head.startsWith("delete")) {
+            return DELETE;
+        }
+        if (head.startsWith("with")) {
+            return head.matches("(?s).*\\binsert\\b.*") ? INSERT
+                    : head.matches("(?s).*\\bupdate\\b.*") ? UPDATE
+                    : head.matches("(?s).*\\bdelete\\b.*") ? DELETE
+                    : SELECT;
+        }
+        return OTHER;
+    }
+}
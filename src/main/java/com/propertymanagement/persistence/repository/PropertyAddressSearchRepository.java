@@ -0,0 +1,18 @@
+package com.propertymanagement.persistence.repository;
+
+import com.propertymanagement.domain.pagination.RankCursor;
+
+import java.util.List;
+
+/**
+ * Trigram ranking over {@code address} (PostgreSQL with pg_trgm only).
+ */
+public interface PropertyAddressSearchRepository {
+
+    /**
+     * Ids whose address contains {@code pattern} (a LIKE-escaped substring), by
+     * {@code similarity(address, query)} descending then id, strictly after {@code after}.
+     * Served by idx_properties_address_trgm.
+     */
+    List<RankCursor> rankByAddress(String query, String pattern, RankCursor after, int limit);
+}
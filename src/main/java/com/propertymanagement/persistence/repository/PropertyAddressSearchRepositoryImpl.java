@@ -0,0 +1,45 @@
+package com.propertymanagement.persistence.repository;
+
+import com.propertymanagement.domain.pagination.RankCursor;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@RequiredArgsConstructor
+class PropertyAddressSearchRepositoryImpl implements PropertyAddressSearchRepository {
+
+    private final EntityManager entityManager;
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<RankCursor> rankByAddress(String query, String pattern, RankCursor after, int limit) {
+        // similarity is real; the cursor rank is bound as a float so equality is exact
+        String sql = """
+                SELECT id, rank FROM (
+                    SELECT id, similarity(address, :query) AS rank
+                    FROM properties
+                    WHERE address ILIKE '%%' || :pattern || '%%'
+                ) ranked
+                %s
+                ORDER BY rank DESC, id
+                LIMIT :limit
+                """.formatted(after != null ? "WHERE rank < :afterRank OR (rank = :afterRank AND id > :afterId)" : "");
+
+        Query nativeQuery = entityManager.createNativeQuery(sql)
+                .setParameter("query", query)
+                .setParameter("pattern", pattern)
+                .setParameter("limit", limit);
+        if (after != null) {
+            nativeQuery.setParameter("afterRank", after.rank())
+                    .setParameter("afterId", after.id());
+        }
+
+        List<Object[]> rows = nativeQuery.getResultList();
+        return rows.stream()
+                .map(row -> new RankCursor(((Number) row[1]).floatValue(), (UUID) row[0]))
+                .toList();
+    }
+}
@@ -0,0 +1,169 @@
+package com.propertymanagement.persistence.repository;
+
+import com.propertymanagement.domain.Property;
+import com.propertymanagement.domain.service.ImportRecord;
+import lombok.RequiredArgsConstructor;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+
+/**
+ * PostgreSQL bulk loading through {@code COPY}, orders of magnitude faster than
+ * entity inserts. Must run inside a transaction: the staging table is dropped on commit.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PropertyCopyRepository {
+    
+    private static final int FLUSH_THRESHOLD = 64 * 1024;
+    
+    private static final String CREATE_STAGING_TABLE = """
+            CREATE TEMP TABLE properties_import (
+                line_no BIGINT NOT NULL,
+                id UUID NOT NULL,
+                address VARCHAR(255) NOT NULL,
+                type VARCHAR(50) NOT NULL,
+                bedrooms INTEGER,
+                bathrooms INTEGER,
+                square_meters DOUBLE PRECISION,
+                rent_price DECIMAL(10, 2) NOT NULL,
+                status VARCHAR(50) NOT NULL,
+                description TEXT,
+                latitude DOUBLE PRECISION,
+                longitude DOUBLE PRECISION,
+                geohash VARCHAR(12)
+            ) ON COMMIT DROP
+            """;
+    
+    private static final String COPY_INTO_STAGING = """
+            COPY properties_import (line_no, id, address, type, bedrooms, bathrooms,
+                                    square_meters, rent_price, status, description,
+                                    latitude, longitude, geohash)
+            FROM STDIN WITH (FORMAT csv)
+            """;
+    
+    // Last occurrence of an id in the feed wins. Timestamps are bound from the JVM clock,
+    // like JPA's, not the session's LOCALTIMESTAMP, whose zone may differ
+    private static final String MERGE_INTO_PROPERTIES = """
+            INSERT INTO properties (id, address, type, bedrooms, bathrooms, square_meters,
+                                    rent_price, status, description, latitude, longitude, geohash,
+                                    created_at, updated_at)
+            SELECT DISTINCT ON (id)
+                   id, address, type, bedrooms, bathrooms, square_meters,
+                   rent_price, status, description, latitude, longitude, geohash,
+                   CAST(? AS TIMESTAMP), CAST(? AS TIMESTAMP)
+            FROM properties_import
+            ORDER BY id, line_no DESC
+            ON CONFLICT (id) DO UPDATE SET
+                address = EXCLUDED.address,
+                type = EXCLUDED.type,
+                bedrooms = EXCLUDED.bedrooms,
+                bathrooms = EXCLUDED.bathrooms,
+                square_meters = EXCLUDED.square_meters,
+                rent_price = EXCLUDED.rent_price,
+                status = EXCLUDED.status,
+                description = EXCLUDED.description,
+                latitude = EXCLUDED.latitude,
+                longitude = EXCLUDED.longitude,
+                geohash = EXCLUDED.geohash,
+                updated_at = EXCLUDED.updated_at,
+                version = properties.version + 1
+            """;
+    
+    private final JdbcTemplate jdbcTemplate;
+    
+    /**
+     * Stages every record and merges them into {@code properties}.
+     *
+     * @return number of properties inserted or updated
+     */
+    public long upsert(Iterator<ImportRecord> records) {
+        Long merged = jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute(CREATE_STAGING_TABLE);
+            }
+            copy(connection.unwrap(PGConnection.class), records);
+            try (PreparedStatement statement = connection.prepareStatement(MERGE_INTO_PROPERTIES)) {
+                LocalDateTime now = Property.now();
+                statement.setObject(1, now);
+                statement.setObject(2, now);
+                return statement.executeLargeUpdate();
+            }
+        });
+        return merged != null ? merged : 0;
+    }
+    
+    private static void copy(PGConnection connection, Iterator<ImportRecord> records) throws SQLException {
+        CopyIn copyIn = connection.getCopyAPI().copyIn(COPY_INTO_STAGING);
+        try {
+            StringBuilder buffer = new StringBuilder(FLUSH_THRESHOLD + 1024);
+            while (records.hasNext()) {
+                ImportRecord record = records.next();
+                appendCsvRow(buffer, record.line(), record.property());
+                if (buffer.length() >= FLUSH_THRESHOLD) {
+                    flush(copyIn, buffer);
+                }
+            }
+            flush(copyIn, buffer);
+            copyIn.endCopy();
+        } finally {
+            if (copyIn.isActive()) {
+                copyIn.cancelCopy();
+            }
+        }
+    }
+    
+    private static void flush(CopyIn copyIn, StringBuilder buffer) throws SQLException {
+        if (buffer.isEmpty()) {
+            return;
+        }
+        byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+        copyIn.writeToCopy(bytes, 0, bytes.length);
+        buffer.setLength(0);
+    }
+    
+    // COPY csv reads an unquoted empty field as NULL, so every non-null string is quoted
+    static void appendCsvRow(StringBuilder out, long line, Property property) {
+        out.append(line).append(',')
+                .append(property.getId()).append(',');
+        appendQuoted(out, property.getAddress());
+        out.append(',').append(property.getType().name()).append(',');
+        appendNullable(out, property.getBedrooms());
+        out.append(',');
+        appendNullable(out, property.getBathrooms());
+        out.append(',');
+        appendNullable(out, property.getSquareMeters());
+        out.append(',').append(property.getRentPrice().toPlainString())
+                .append(',').append(property.getStatus().name()).append(',');
+        appendQuoted(out, property.getDescription());
+        out.append(',');
+        appendNullable(out, property.getLatitude());
+        out.append(',');
+        appendNullable(out, property.getLongitude());
+        out.append(',');
+        appendNullable(out, Property.geohash(property.getLatitude(), property.getLongitude()));
+        out.append('\n');
+    }
+    
+    private static void appendNullable(StringBuilder out, Object value) {
+        if (value != null) {
+            out.append(value);
+        }
+    }
+    
+    private static void appendQuoted(StringBuilder out, String value) {
+        if (value == null) {
+            return;
+        }
+        out.append('"').append(value.replace("\"", "\"\"")).append('"');
+    }
+}
@@ -0,0 +1,24 @@
+package com.propertymanagement.persistence.repository;
+
+import com.propertymanagement.domain.Property;
+import com.propertymanagement.domain.PropertyStatus;
+import com.propertymanagement.domain.PropertyType;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+/**
+ * Grouped counts for facet search.
+ */
+public interface PropertyFacetRepository {
+
+    /**
+     * Matching rows counted per (status, type, bedrooms) combination in a single
+     * GROUP BY; the combinations are few however many rows match.
+     */
+    List<FacetRow> countFacets(Specification<Property> spec);
+
+    // bedrooms is null for the properties without a bedroom count
+    record FacetRow(PropertyStatus status, PropertyType type, Integer bedrooms, long count) {
+    }
+}
@@ -0,0 +1,38 @@
+package com.propertymanagement.persistence.repository;
+
+import com.propertymanagement.domain.Property;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+@RequiredArgsConstructor
+class PropertyFacetRepositoryImpl implements PropertyFacetRepository {
+
+    private final EntityManager entityManager;
+
+    @Override
+    public List<FacetRow> countFacets(Specification<Property> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<FacetRow> query = cb.createQuery(FacetRow.class);
+        Root<Property> root = query.from(Property.class);
+
+        Path<?> status = root.get("status");
+        Path<?> type = root.get("type");
+        Path<?> bedrooms = root.get("bedrooms");
+        query.select(cb.construct(FacetRow.class, status, type, bedrooms, cb.count(root)))
+                .groupBy(status, type, bedrooms);
+        Predicate predicate = spec != null ? spec.toPredicate(root, query, cb) : null;
+        if (predicate != null) {
+            query.where(predicate);
+        }
+
+        return entityManager.createQuery(query).getResultList();
+    }
+}
@@ -0,0 +1,19 @@
+package com.propertymanagement.persistence.repository;
+
+import com.propertymanagement.domain.Property;
+import com.propertymanagement.domain.search.GeoPoint;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+/**
+ * Distance-ordered reads for location search.
+ */
+public interface PropertyLocationRepository {
+
+    /**
+     * The {@code limit} matching properties closest to {@code origin}, nearest first. Ordered
+     * in the database by planar distance, so only the returned rows are read and hydrated.
+     */
+    List<Property> findNearest(Specification<Property> spec, GeoPoint origin, int limit);
+}
@@ -0,0 +1,38 @@
+package com.propertymanagement.persistence.repository;
+
+import com.propertymanagement.domain.Property;
+import com.propertymanagement.domain.search.GeoPoint;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+@RequiredArgsConstructor
+class PropertyLocationRepositoryImpl implements PropertyLocationRepository {
+
+    private final EntityManager entityManager;
+
+    @Override
+    public List<Property> findNearest(Specification<Property> spec, GeoPoint origin, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Property> query = cb.createQuery(Property.class);
+        Root<Property> root = query.from(Property.class);
+
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(
+                cb.asc(PropertySpecifications.planarDistanceSquared(root, cb, origin)),
+                cb.asc(root.get("id")));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+}
@@ -0,0 +1,22 @@
+package com.propertymanagement.persistence.repository;
+
+import com.propertymanagement.domain.Property;
+import com.propertymanagement.domain.PropertyPatch;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Writes that skip the read-before-write of a load-modify-save cycle.
+ */
+public interface PropertyPatchRepository {
+
+    /**
+     * Applies the non-null fields of {@code patch} and bumps the version in a single
+     * {@code UPDATE ... RETURNING} (PostgreSQL only).
+     *
+     * @param expectedVersion when non-null, the row is only updated at this version
+     * @return the updated property, or empty when no row matched
+     */
+    Optional<Property> patch(UUID id, PropertyPatch patch, Long expectedVersion);
+}
@@ -0,0 +1,64 @@
+package com.propertymanagement.persistence.repository;
+
+import com.propertymanagement.domain.Property;
+import com.propertymanagement.domain.PropertyPatch;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import lombok.RequiredArgsConstructor;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.StringJoiner;
+import java.util.UUID;
+
+@RequiredArgsConstructor
+class PropertyPatchRepositoryImpl implements PropertyPatchRepository {
+
+    private final EntityManager entityManager;
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Optional<Property> patch(UUID id, PropertyPatch patch, Long expectedVersion) {
+        // Column names are fixed here; only values come from the caller
+        Map<String, Object> changes = new LinkedHashMap<>();
+        putIfPresent(changes, "address", patch.address());
+        putIfPresent(changes, "type", patch.type() != null ? patch.type().name() : null);
+        putIfPresent(changes, "bedrooms", patch.bedrooms());
+        putIfPresent(changes, "bathrooms", patch.bathrooms());
+        putIfPresent(changes, "square_meters", patch.squareMeters());
+        putIfPresent(changes, "rent_price", patch.rentPrice());
+        putIfPresent(changes, "status", patch.status() != null ? patch.status().name() : null);
+        putIfPresent(changes, "description", patch.description());
+        putIfPresent(changes, "latitude", patch.latitude());
+        putIfPresent(changes, "longitude", patch.longitude());
+        putIfPresent(changes, "geohash", Property.geohash(patch.latitude(), patch.longitude()));
+
+        StringJoiner assignments = new StringJoiner(", ");
+        changes.keySet().forEach(column -> assignments.add(column + " = :" + column));
+        // From the JVM clock like JPA's timestamps; the session's LOCALTIMESTAMP may be in another zone
+        assignments.add("version = version + 1").add("updated_at = :updatedAt");
+
+        String sql = "UPDATE properties SET " + assignments + " WHERE id = :id"
+                + (expectedVersion != null ? " AND version = :expectedVersion" : "")
+                + " RETURNING *";
+
+        Query query = entityManager.createNativeQuery(sql, Property.class)
+                .setParameter("id", id)
+                .setParameter("updatedAt", Property.now());
+        changes.forEach(query::setParameter);
+        if (expectedVersion != null) {
+            query.setParameter("expectedVersion", expectedVersion);
+        }
+
+        List<Property> updated = query.getResultList();
+        return updated.stream().findFirst();
+    }
+
+    private static void putIfPresent(Map<String, Object> changes, String column, Object value) {
+        if (value != null) {
+            changes.put(column, value);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.propertymanagement.persistence.repository;
+
+import com.propertymanagement.domain.Property;
+import com.propertymanagement.domain.projection.PropertyField;
+import com.propertymanagement.domain.projection.PropertyProjection;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Column-level reads for summary views.
+ */
+public interface PropertyProjectionRepository {
+
+    /**
+     * Selects only {@code fields} (plus the keyset and version columns) of the matching
+     * properties. No entities are loaded, so unselected columns such as the TEXT
+     * description are never read.
+     */
+    List<PropertyProjection> findProjected(Specification<Property> spec, Set<PropertyField> fields,
+                                           Sort sort, int limit);
+}
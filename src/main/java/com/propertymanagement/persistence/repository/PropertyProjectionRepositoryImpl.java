@@ -0,0 +1,73 @@
+package com.propertymanagement.persistence.repository;
+
+import com.propertymanagement.domain.Property;
+import com.propertymanagement.domain.projection.PropertyField;
+import com.propertymanagement.domain.projection.PropertyProjection;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+@RequiredArgsConstructor
+class PropertyProjectionRepositoryImpl implements PropertyProjectionRepository {
+
+    // Always selected: keyset position and version
+    private static final Set<PropertyField> ALWAYS_SELECTED = EnumSet.of(PropertyField.ID, PropertyField.CREATED_AT);
+    private static final String VERSION = "version";
+
+    private final EntityManager entityManager;
+
+    @Override
+    public List<PropertyProjection> findProjected(Specification<Property> spec, Set<PropertyField> fields,
+                                                  Sort sort, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Property> root = query.from(Property.class);
+
+        List<Selection<?>> selections = new ArrayList<>();
+        ALWAYS_SELECTED.forEach(field -> selections.add(root.get(field.attribute()).alias(field.attribute())));
+        selections.add(root.get(VERSION).alias(VERSION));
+        fields.stream()
+                .filter(field -> !ALWAYS_SELECTED.contains(field))
+                .forEach(field -> selections.add(root.get(field.attribute()).alias(field.attribute())));
+        query.multiselect(selections);
+
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(QueryUtils.toOrders(sort, root, cb));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultStream()
+                .map(tuple -> toProjection(tuple, fields))
+                .toList();
+    }
+
+    private static PropertyProjection toProjection(Tuple tuple, Set<PropertyField> fields) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        fields.forEach(field -> values.put(field.attribute(), tuple.get(field.attribute())));
+        return new PropertyProjection(
+                tuple.get(PropertyField.ID.attribute(), UUID.class),
+                tuple.get(PropertyField.CREATED_AT.attribute(), LocalDateTime.class),
+                tuple.get(VERSION, Long.class),
+                values);
+    }
+}
@@ -1,39 +1,34 @@
 package com.propertymanagement.persistence.repository;
 
 import com.propertymanagement.domain.Property;
-import com.propertymanagement.domain.PropertyStatus;
-import com.propertymanagement.domain.PropertyType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface PropertyRepository extends JpaRepository<Property, UUID> {
+public interface PropertyRepository extends JpaRepository<Property, UUID>,
+        JpaSpecificationExecutor<Property>, PropertyStreamingRepository, PropertyPatchRepository,
+        PropertyProjectionRepository, PropertyLocationRepository, PropertyTextSearchRepository,
+        PropertyAddressSearchRepository, PropertyFacetRepository {
     
-    // Find by status
-    List<Property> findByStatus(PropertyStatus status);
+    // Ids that exist, without loading the rows
+    @Query("SELECT p.id FROM Property p WHERE p.id IN :ids")
+    List<UUID> findExistingIds(@Param("ids") Collection<UUID> ids);
     
-    // Find by type
-    List<Property> findByType(PropertyType type);
+    // Single DELETE; the row count tells whether the property existed
+    @Modifying
+    @Query("DELETE FROM Property p WHERE p.id = :id")
+    int deleteRowById(@Param("id") UUID id);
     
-    // Find by address containing (case-insensitive)
-    List<Property> findByAddressContainingIgnoreCase(String address);
-    
-    // Find by status and type
-    List<Property> findByStatusAndType(PropertyStatus status, PropertyType type);
-    
-    // Find by price range (custom query)
-    @Query("SELECT p FROM Property p WHERE p.rentPrice BETWEEN :minPrice AND :maxPrice")
-    List<Property> findByRentPriceBetween(
-            @Param("minPrice") BigDecimal minPrice,
-            @Param("maxPrice") BigDecimal maxPrice
-    );
-    
-    // Find available properties ordered by price
-    List<Property> findByStatusOrderByRentPriceAsc(PropertyStatus status);
-}
\ No newline at end of file
+    // Revalidation needs only the version, not a hydrated entity
+    @Query("SELECT p.version FROM Property p WHERE p.id = :id")
+    Optional<Long> findVersionById(@Param("id") UUID id);
+}
@@ -0,0 +1,119 @@
+package com.propertymanagement.persistence.repository;
+
+import com.propertymanagement.domain.Property;
+import com.propertymanagement.domain.PropertyFilter;
+import com.propertymanagement.domain.pagination.Cursor;
+import com.propertymanagement.domain.search.BoundingBox;
+import com.propertymanagement.domain.search.GeoPoint;
+import com.propertymanagement.domain.search.Geohash;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Query building blocks for {@link PropertyRepository}. Factories return null for
+ * absent criteria so they can be chained with {@link Specification#and}.
+ */
+public final class PropertySpecifications {
+
+    // Keyset order; backed by idx_properties_created_at_id
+    public static final Sort KEYSET_ORDER = Sort.by("createdAt", "id");
+
+    private static final double KM_PER_DEGREE = Math.toRadians(GeoPoint.EARTH_RADIUS_KM);
+
+    private PropertySpecifications() {
+    }
+
+    // All criteria end up in one WHERE clause; nothing is filtered after fetching
+    public static Specification<Property> matching(PropertyFilter filter) {
+        return Specification.where(equal("status", filter.status()))
+                .and(equal("type", filter.type()))
+                .and(atLeast("rentPrice", filter.minPrice()))
+                .and(atMost("rentPrice", filter.maxPrice()))
+                .and(atLeast("bedrooms", filter.minBedrooms()))
+                .and(atMost("bedrooms", filter.maxBedrooms()))
+                .and(atLeast("bathrooms", filter.minBathrooms()))
+                .and(atMost("bathrooms", filter.maxBathrooms()))
+                .and(atLeast("squareMeters", filter.minSquareMeters()))
+                .and(atMost("squareMeters", filter.maxSquareMeters()));
+    }
+
+    // Rows strictly after the cursor in (created_at, id) order
+    public static Specification<Property> after(Cursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.or(
+                cb.greaterThan(root.get("createdAt"), cursor.createdAt()),
+                cb.and(
+                        cb.equal(root.get("createdAt"), cursor.createdAt()),
+                        cb.greaterThan(root.get("id"), cursor.id())));
+    }
+
+    // Geohash ranges are the index access path; the coordinate check trims the cells' overhang
+    public static Specification<Property> within(BoundingBox box) {
+        return (root, query, cb) -> {
+            Path<String> geohash = root.get("geohash");
+            List<Predicate> cells = Geohash.cover(box).stream()
+                    .map(range -> range.to() != null
+                            ? cb.and(cb.greaterThanOrEqualTo(geohash, range.from()), cb.lessThan(geohash, range.to()))
+                            : cb.greaterThanOrEqualTo(geohash, range.from()))
+                    .toList();
+            return cb.and(
+                    cb.or(cells.toArray(Predicate[]::new)),
+                    cb.between(root.get("latitude"), box.south(), box.north()),
+                    cb.between(root.get("longitude"), box.west(), box.east()));
+        };
+    }
+
+    // Slightly generous planar circle; callers confirm hits with the exact great-circle distance
+    public static Specification<Property> near(GeoPoint center, double radiusKm) {
+        double radiusDegrees = radiusKm * 1.01 / KM_PER_DEGREE;
+        return Specification.where(within(BoundingBox.around(center, radiusKm)))
+                .and((root, query, cb) -> cb.le(planarDistanceSquared(root, cb, center), radiusDegrees * radiusDegrees));
+    }
+
+    /**
+     * Squared equirectangular distance in degrees of latitude. Monotonic in the true distance
+     * to well under a percent at city scale, and plain arithmetic, so it can be sorted on in SQL.
+     */
+    static Expression<Double> planarDistanceSquared(Root<Property> root, CriteriaBuilder cb, GeoPoint origin) {
+        Expression<Double> dLat = cb.diff(root.<Double>get("latitude"), origin.latitude());
+        Expression<Double> dLon = cb.prod(cb.diff(root.<Double>get("longitude"), origin.longitude()),
+                Math.cos(Math.toRadians(origin.latitude())));
+        return cb.sum(cb.prod(dLat, dLat), cb.prod(dLon, dLon));
+    }
+
+    public static Specification<Property> idIn(Collection<UUID> ids) {
+        return (root, query, cb) -> root.get("id").in(ids);
+    }
+
+    private static Specification<Property> equal(String attribute, Object value) {
+        if (value == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.equal(root.get(attribute), value);
+    }
+
+    private static <Y extends Comparable<? super Y>> Specification<Property> atLeast(String attribute, Y value) {
+        if (value == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get(attribute), value);
+    }
+
+    private static <Y extends Comparable<? super Y>> Specification<Property> atMost(String attribute, Y value) {
+        if (value == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.lessThanOrEqualTo(root.get(attribute), value);
+    }
+}
@@ -0,0 +1,65 @@
+package com.propertymanagement.persistence.repository;
+
+import com.propertymanagement.domain.PropertyStatus;
+import com.propertymanagement.domain.PropertyType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads the trigger-maintained {@code property_stats} and {@code property_price_histogram}
+ * tables (V7). Both stay small however many properties exist.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PropertyStatsRepository {
+    
+    public static final String RENT = "RENT";
+    public static final String RENT_PER_SQM = "RENT_PER_SQM";
+    
+    private final JdbcTemplate jdbcTemplate;
+    
+    public List<SummaryRow> findSummary() {
+        return jdbcTemplate.query("""
+                SELECT status, type, property_count, rent_total, sized_count, rent_per_sqm_total
+                FROM property_stats
+                WHERE property_count > 0
+                """,
+                (rs, rowNum) -> new SummaryRow(
+                        PropertyStatus.valueOf(rs.getString("status")),
+                        PropertyType.valueOf(rs.getString("type")),
+                        rs.getLong("property_count"),
+                        rs.getBigDecimal("rent_total"),
+                        rs.getLong("sized_count"),
+                        rs.getBigDecimal("rent_per_sqm_total")));
+    }
+    
+    public Map<Integer, Long> findHistogram(String metric) {
+        Map<Integer, Long> buckets = new HashMap<>();
+        jdbcTemplate.query("""
+                SELECT bucket, property_count
+                FROM property_price_histogram
+                WHERE metric = ? AND property_count > 0
+                """,
+                rs -> {
+                    buckets.put(rs.getInt("bucket"), rs.getLong("property_count"));
+                },
+                metric);
+        return buckets;
+    }
+    
+    public record SummaryRow(
+            PropertyStatus status,
+            PropertyType type,
+            long count,
+            BigDecimal rentTotal,
+            long sizedCount,
+            BigDecimal rentPerSquareMeterTotal
+    ) {
+    }
+}
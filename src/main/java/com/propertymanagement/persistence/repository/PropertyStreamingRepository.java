@@ -0,0 +1,19 @@
+package com.propertymanagement.persistence.repository;
+
+import com.propertymanagement.domain.Property;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.function.Consumer;
+
+/**
+ * Constant-memory iteration over large result sets.
+ */
+public interface PropertyStreamingRepository {
+
+    /**
+     * Feeds every matching property, in keyset order, to {@code action} through a
+     * server-side cursor. Each entity is detached once consumed so the persistence
+     * context does not grow with the result. Must run inside a transaction.
+     */
+    void scan(Specification<Property> spec, Consumer<Property> action);
+}
@@ -0,0 +1,53 @@
+package com.propertymanagement.persistence.repository;
+
+import com.propertymanagement.domain.Property;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+class PropertyStreamingRepositoryImpl implements PropertyStreamingRepository {
+
+    private final EntityManager entityManager;
+    private final int fetchSize;
+
+    PropertyStreamingRepositoryImpl(
+            EntityManager entityManager,
+            @Value("${property-management.export.fetch-size:500}") int fetchSize) {
+        this.entityManager = entityManager;
+        this.fetchSize = fetchSize;
+    }
+
+    @Override
+    public void scan(Specification<Property> spec, Consumer<Property> action) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Property> query = cb.createQuery(Property.class);
+        Root<Property> root = query.from(Property.class);
+
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(QueryUtils.toOrders(PropertySpecifications.KEYSET_ORDER, root, cb));
+
+        // PostgreSQL only opens a server-side cursor for a positive fetch size
+        // inside a transaction; otherwise the driver buffers the whole result
+        try (Stream<Property> rows = entityManager.createQuery(query)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream()) {
+            rows.forEach(property -> {
+                action.accept(property);
+                entityManager.detach(property);
+            });
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.propertymanagement.persistence.repository;
+
+import com.propertymanagement.domain.PropertyFilter;
+import com.propertymanagement.domain.pagination.RankCursor;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Full-text ranking over the generated {@code search_vector} column (PostgreSQL only).
+ */
+public interface PropertyTextSearchRepository {
+
+    /**
+     * Ids matching the web search query and the filter, by {@code ts_rank} descending then
+     * id, strictly after {@code after}. Served by idx_properties_search_vector.
+     */
+    List<RankedId> rankByText(String query, PropertyFilter filter, RankCursor after, int limit);
+
+    record RankedId(UUID id, float rank) {
+    }
+}
@@ -0,0 +1,74 @@
+package com.propertymanagement.persistence.repository;
+
+import com.propertymanagement.domain.PropertyFilter;
+import com.propertymanagement.domain.pagination.RankCursor;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+@RequiredArgsConstructor
+class PropertyTextSearchRepositoryImpl implements PropertyTextSearchRepository {
+
+    private final EntityManager entityManager;
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<RankedId> rankByText(String query, PropertyFilter filter, RankCursor after, int limit) {
+        // Column names are fixed here; only values come from the caller
+        List<String> conditions = new ArrayList<>(List.of("search_vector @@ q"));
+        Map<String, Object> binds = new LinkedHashMap<>();
+        condition(conditions, binds, "status = :status", "status",
+                filter.status() != null ? filter.status().name() : null);
+        condition(conditions, binds, "type = :type", "type",
+                filter.type() != null ? filter.type().name() : null);
+        condition(conditions, binds, "rent_price >= :minPrice", "minPrice", filter.minPrice());
+        condition(conditions, binds, "rent_price <= :maxPrice", "maxPrice", filter.maxPrice());
+        condition(conditions, binds, "bedrooms >= :minBedrooms", "minBedrooms", filter.minBedrooms());
+        condition(conditions, binds, "bedrooms <= :maxBedrooms", "maxBedrooms", filter.maxBedrooms());
+        condition(conditions, binds, "bathrooms >= :minBathrooms", "minBathrooms", filter.minBathrooms());
+        condition(conditions, binds, "bathrooms <= :maxBathrooms", "maxBathrooms", filter.maxBathrooms());
+        condition(conditions, binds, "square_meters >= :minSquareMeters", "minSquareMeters", filter.minSquareMeters());
+        condition(conditions, binds, "square_meters <= :maxSquareMeters", "maxSquareMeters", filter.maxSquareMeters());
+
+        // ts_rank is real; the cursor rank is bound as a float so equality is exact
+        String sql = """
+                SELECT id, rank FROM (
+                    SELECT id, ts_rank(search_vector, q) AS rank
+                    FROM properties, websearch_to_tsquery('english', :query) q
+                    WHERE %s
+                ) ranked
+                %s
+                ORDER BY rank DESC, id
+                LIMIT :limit
+                """.formatted(String.join(" AND ", conditions),
+                after != null ? "WHERE rank < :afterRank OR (rank = :afterRank AND id > :afterId)" : "");
+
+        Query nativeQuery = entityManager.createNativeQuery(sql)
+                .setParameter("query", query)
+                .setParameter("limit", limit);
+        binds.forEach(nativeQuery::setParameter);
+        if (after != null) {
+            nativeQuery.setParameter("afterRank", after.rank())
+                    .setParameter("afterId", after.id());
+        }
+
+        List<Object[]> rows = nativeQuery.getResultList();
+        return rows.stream()
+                .map(row -> new RankedId((UUID) row[0], ((Number) row[1]).floatValue()))
+                .toList();
+    }
+
+    private static void condition(List<String> conditions, Map<String, Object> binds,
+                                  String condition, String name, Object value) {
+        if (value != null) {
+            conditions.add(condition);
+            binds.put(name, value);
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.propertymanagement.persistence.repository;
+
+import com.propertymanagement.domain.Property;
+import com.propertymanagement.domain.PropertyFilter;
+import com.propertymanagement.domain.PropertyStatus;
+import com.propertymanagement.domain.PropertyType;
+import io.r2dbc.spi.Readable;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static com.propertymanagement.infrastructure.search.TrigramAddressSearch.escapeLike;
+
+/**
+ * Non-blocking reads over the {@code properties} table for the v2 API. Results are
+ * fetched {@code fetchSize} rows at a time as subscribers request them, so a slow
+ * client holds back the query instead of buffering it. Lives in the reactive API
+ * context only; writes go through JPA.
+ */
+public class ReactivePropertyRepository {
+
+    private static final String COLUMNS = """
+            id, address, type, bedrooms, bathrooms, square_meters, rent_price,
+            status, description, latitude, longitude, created_at, updated_at, version
+            """;
+
+    private final DatabaseClient databaseClient;
+    private final int fetchSize;
+
+    public ReactivePropertyRepository(DatabaseClient databaseClient, int fetchSize) {
+        this.databaseClient = databaseClient;
+        this.fetchSize = fetchSize;
+    }
+
+    public Mono<Property> findById(UUID id) {
+        return databaseClient.sql("SELECT " + COLUMNS + " FROM properties WHERE id = :id")
+                .bind("id", id)
+                .map(ReactivePropertyRepository::toProperty)
+                .one();
+    }
+
+    /**
+     * Every matching property in keyset order, optionally capped at {@code limit}.
+     */
+    public Flux<Property> findAll(PropertyFilter filter, Integer limit) {
+        List<String> conditions = new ArrayList<>();
+        Map<String, Object> binds = new LinkedHashMap<>();
+        condition(conditions, binds, "status = :status", "status",
+                filter.status() != null ? filter.status().name() : null);
+        condition(conditions, binds, "type = :type", "type",
+                filter.type() != null ? filter.type().name() : null);
+        condition(conditions, binds, "rent_price >= :minPrice", "minPrice", filter.minPrice());
+        condition(conditions, binds, "rent_price <= :maxPrice", "maxPrice", filter.maxPrice());
+        condition(conditions, binds, "bedrooms >= :minBedrooms", "minBedrooms", filter.minBedrooms());
+        condition(conditions, binds, "bedrooms <= :maxBedrooms", "maxBedrooms", filter.maxBedrooms());
+        condition(conditions, binds, "bathrooms >= :minBathrooms", "minBathrooms", filter.minBathrooms());
+        condition(conditions, binds, "bathrooms <= :maxBathrooms", "maxBathrooms", filter.maxBathrooms());
+        condition(conditions, binds, "square_meters >= :minSquareMeters", "minSquareMeters", filter.minSquareMeters());
+        condition(conditions, binds, "square_meters <= :maxSquareMeters", "maxSquareMeters", filter.maxSquareMeters());
+
+        String sql = "SELECT " + COLUMNS + " FROM properties"
+                + (conditions.isEmpty() ? "" : " WHERE " + String.join(" AND ", conditions))
+                + " ORDER BY created_at, id"
+                + (limit != null ? " LIMIT :limit" : "");
+
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(sql);
+        for (Map.Entry<String, Object> bind : binds.entrySet()) {
+            spec = spec.bind(bind.getKey(), bind.getValue());
+        }
+        if (limit != null) {
+            spec = spec.bind("limit", limit);
+        }
+        return fetch(spec);
+    }
+
+    // Same matching and ranking as the trigram search behind /api/v1/properties/search
+    public Flux<Property> searchByAddress(String query, int limit) {
+        return fetch(databaseClient.sql("SELECT " + COLUMNS + """
+                        FROM properties
+                        WHERE address ILIKE '%' || :pattern || '%'
+                        ORDER BY similarity(address, :query) DESC, id
+                        LIMIT :limit
+                        """)
+                .bind("pattern", escapeLike(query))
+                .bind("query", query)
+                .bind("limit", limit));
+    }
+
+    private Flux<Property> fetch(DatabaseClient.GenericExecuteSpec spec) {
+        return spec.filter((statement, next) -> next.execute(statement.fetchSize(fetchSize)))
+                .map(ReactivePropertyRepository::toProperty)
+                .all();
+    }
+
+    private static void condition(List<String> conditions, Map<String, Object> binds,
+                                  String condition, String name, Object value) {
+        if (value != null) {
+            conditions.add(condition);
+            binds.put(name, value);
+        }
+    }
+
+    private static Property toProperty(Readable row) {
+        Property property = new Property();
+        property.setId(row.get("id", UUID.class));
+        property.setAddress(row.get("address", String.class));
+        property.setType(PropertyType.valueOf(row.get("type", String.class)));
+        property.setBedrooms(row.get("bedrooms", Integer.class));
+        property.setBathrooms(row.get("bathrooms", Integer.class));
+        property.setSquareMeters(row.get("square_meters", Double.class));
+        property.setRentPrice(row.get("rent_price", BigDecimal.class));
+        property.setStatus(PropertyStatus.valueOf(row.get("status", String.class)));
+        property.setDescription(row.get("description", String.class));
+        property.setLatitude(row.get("latitude", Double.class));
+        property.setLongitude(row.get("longitude", Double.class));
+        property.setCreatedAt(row.get("created_at", LocalDateTime.class));
+        property.setUpdatedAt(row.get("updated_at", LocalDateTime.class));
+        property.setVersion(row.get("version", Long.class));
+        return property;
+    }
+}
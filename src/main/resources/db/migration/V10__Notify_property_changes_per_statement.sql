@@ -0,0 +1,43 @@
+-- Announces inserts too, and once per statement instead of once per row. Replicas keeping
+-- an in-process copy of the rows (the columnar snapshot) must learn about inserts,
+-- including rows bulk-loaded with COPY, which bypass the application's change events.
+-- Per-row notifications would send a 100k-row import to every listener 100k times, so a
+-- statement names at most 100 rows (comma-separated ids, well below the 8000-byte payload
+-- limit) and sends '*' when it touched more: listeners then drop or reload everything.
+-- Like the stats triggers in V7, the three triggers share this function and pick their
+-- transition table by TG_OP. Cache eviction ignores unknown ids.
+CREATE OR REPLACE FUNCTION notify_property_changed() RETURNS trigger AS $$
+DECLARE
+    ids TEXT[];
+BEGIN
+    EXECUTE format('SELECT array_agg(id::text) FROM (SELECT id FROM %I LIMIT 101) changed',
+                   CASE TG_OP WHEN 'DELETE' THEN 'old_rows' ELSE 'new_rows' END)
+        INTO ids;
+
+    IF ids IS NULL THEN
+        RETURN NULL;
+    ELSIF cardinality(ids) > 100 THEN
+        PERFORM pg_notify('property_changed', '*');
+    ELSE
+        PERFORM pg_notify('property_changed', array_to_string(ids, ','));
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER trg_properties_notify_changed ON properties;
+
+CREATE TRIGGER trg_properties_notify_insert
+    AFTER INSERT ON properties
+    REFERENCING NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION notify_property_changed();
+
+CREATE TRIGGER trg_properties_notify_update
+    AFTER UPDATE ON properties
+    REFERENCING NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION notify_property_changed();
+
+CREATE TRIGGER trg_properties_notify_delete
+    AFTER DELETE ON properties
+    REFERENCING OLD TABLE AS old_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION notify_property_changed();
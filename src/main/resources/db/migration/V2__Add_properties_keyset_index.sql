@@ -0,0 +1,2 @@
+-- Supports keyset pagination ordered by (created_at, id)
+CREATE INDEX idx_properties_created_at_id ON properties(created_at, id);
@@ -0,0 +1,8 @@
+-- Composite indexes for the dynamic list filter.
+-- (status, type, rent_price) serves equality on status/type plus a price range;
+-- (status, created_at, id) lets a status-filtered page walk the keyset order without sorting.
+CREATE INDEX idx_properties_status_type_rent_price ON properties(status, type, rent_price);
+CREATE INDEX idx_properties_status_created_at_id ON properties(status, created_at, id);
+
+-- Leading column of both composites above
+DROP INDEX idx_properties_status;
@@ -0,0 +1,7 @@
+-- Trigram GIN index so ILIKE '%term%' address searches avoid sequential scans
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX idx_properties_address_trgm ON properties USING gin (address gin_trgm_ops);
+
+-- The B-tree index only helps equality/prefix lookups, which no query performs
+DROP INDEX idx_properties_address;
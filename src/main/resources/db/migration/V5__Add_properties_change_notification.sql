@@ -0,0 +1,13 @@
+-- Tells every replica which property changed so it can drop its cached copy.
+-- Inserts are not announced: nothing can be cached for a row that did not exist.
+-- NOTIFY is transactional, so listeners only hear about committed changes.
+CREATE OR REPLACE FUNCTION notify_property_changed() RETURNS trigger AS $$
+BEGIN
+    PERFORM pg_notify('property_changed', OLD.id::text);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_properties_notify_changed
+    AFTER UPDATE OR DELETE ON properties
+    FOR EACH ROW EXECUTE FUNCTION notify_property_changed();
@@ -0,0 +1,3 @@
+-- Optimistic locking counter; doubles as the strong ETag of a property.
+-- A constant default is a metadata-only change, so existing rows are not rewritten.
+ALTER TABLE properties ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
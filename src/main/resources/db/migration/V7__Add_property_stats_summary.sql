@@ -0,0 +1,121 @@
+-- Running totals behind GET /api/v1/properties/stats, so the endpoint reads a handful of
+-- rows instead of aggregating the whole table. Kept exact by statement-level triggers,
+-- which cover every write path (JPA, PATCH, batch, COPY import) and apply one delta per
+-- statement rather than one per row.
+CREATE TABLE property_stats (
+    status VARCHAR(50) NOT NULL,
+    type VARCHAR(50) NOT NULL,
+    property_count BIGINT NOT NULL,
+    rent_total NUMERIC NOT NULL,
+    sized_count BIGINT NOT NULL,           -- rows with square_meters
+    rent_per_sqm_total NUMERIC NOT NULL,   -- sum of rent_price / square_meters over those rows
+    PRIMARY KEY (status, type)
+);
+
+-- Log-scale histograms for median and p90: bucket = floor(ln(value) / ln(1.02)), so each
+-- bucket spans 2% and percentiles are within 1% of the exact value.
+-- PriceHistogram.BUCKET_GROWTH must match.
+CREATE TABLE property_price_histogram (
+    metric VARCHAR(20) NOT NULL,           -- RENT | RENT_PER_SQM
+    bucket INTEGER NOT NULL,
+    property_count BIGINT NOT NULL,
+    PRIMARY KEY (metric, bucket)
+);
+
+-- Transition tables may only be declared on single-event triggers, so the three triggers
+-- share this function and pick their change set by TG_OP. Rows are upserted in key order
+-- so concurrent writers lock summary rows in the same order; groups whose changes cancel
+-- out (e.g. a description edit) are not written at all.
+CREATE OR REPLACE FUNCTION apply_property_stats_delta() RETURNS trigger AS $$
+DECLARE
+    changes TEXT;
+BEGIN
+    changes := CASE TG_OP
+        WHEN 'INSERT' THEN 'SELECT 1 AS sign, status, type, rent_price, square_meters FROM new_rows'
+        WHEN 'DELETE' THEN 'SELECT -1 AS sign, status, type, rent_price, square_meters FROM old_rows'
+        ELSE 'SELECT 1 AS sign, status, type, rent_price, square_meters FROM new_rows
+              UNION ALL
+              SELECT -1, status, type, rent_price, square_meters FROM old_rows'
+    END;
+
+    EXECUTE format($sql$
+        WITH changes AS (%s)
+        INSERT INTO property_stats AS s
+               (status, type, property_count, rent_total, sized_count, rent_per_sqm_total)
+        SELECT status, type,
+               sum(sign),
+               sum(sign * rent_price),
+               coalesce(sum(sign) FILTER (WHERE square_meters IS NOT NULL), 0),
+               coalesce(sum(sign * rent_price / square_meters::numeric), 0)
+        FROM changes
+        GROUP BY status, type
+        HAVING sum(sign) <> 0
+            OR sum(sign * rent_price) <> 0
+            OR coalesce(sum(sign * rent_price / square_meters::numeric), 0) <> 0
+        ORDER BY status, type
+        ON CONFLICT (status, type) DO UPDATE SET
+            property_count = s.property_count + EXCLUDED.property_count,
+            rent_total = s.rent_total + EXCLUDED.rent_total,
+            sized_count = s.sized_count + EXCLUDED.sized_count,
+            rent_per_sqm_total = s.rent_per_sqm_total + EXCLUDED.rent_per_sqm_total
+        $sql$, changes);
+
+    EXECUTE format($sql$
+        WITH changes AS (%s),
+        samples AS (
+            SELECT 'RENT' AS metric, sign, rent_price::double precision AS value
+            FROM changes
+            UNION ALL
+            SELECT 'RENT_PER_SQM', sign, rent_price::double precision / square_meters
+            FROM changes
+            WHERE square_meters IS NOT NULL
+        )
+        INSERT INTO property_price_histogram AS h (metric, bucket, property_count)
+        SELECT metric, floor(ln(value) / ln(1.02))::integer AS bucket, sum(sign)
+        FROM samples
+        GROUP BY metric, bucket
+        HAVING sum(sign) <> 0
+        ORDER BY metric, bucket
+        ON CONFLICT (metric, bucket) DO UPDATE SET
+            property_count = h.property_count + EXCLUDED.property_count
+        $sql$, changes);
+
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_properties_stats_insert
+    AFTER INSERT ON properties
+    REFERENCING NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION apply_property_stats_delta();
+
+CREATE TRIGGER trg_properties_stats_update
+    AFTER UPDATE ON properties
+    REFERENCING OLD TABLE AS old_rows NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION apply_property_stats_delta();
+
+CREATE TRIGGER trg_properties_stats_delete
+    AFTER DELETE ON properties
+    REFERENCING OLD TABLE AS old_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION apply_property_stats_delta();
+
+-- Backfill from the rows that exist before the triggers take over
+INSERT INTO property_stats (status, type, property_count, rent_total, sized_count, rent_per_sqm_total)
+SELECT status, type,
+       count(*),
+       sum(rent_price),
+       count(square_meters),
+       coalesce(sum(rent_price / square_meters::numeric), 0)
+FROM properties
+GROUP BY status, type;
+
+INSERT INTO property_price_histogram (metric, bucket, property_count)
+SELECT metric, floor(ln(value) / ln(1.02))::integer AS bucket, count(*)
+FROM (
+    SELECT 'RENT' AS metric, rent_price::double precision AS value FROM properties
+    UNION ALL
+    SELECT 'RENT_PER_SQM', rent_price::double precision / square_meters
+    FROM properties
+    WHERE square_meters IS NOT NULL
+) samples
+GROUP BY metric, bucket;
@@ -0,0 +1,14 @@
+-- Optional coordinates for location search. The application derives geohash from
+-- latitude/longitude on every write; a bounding box becomes a few range scans on its
+-- B-tree index. COLLATE "C" makes those comparisons follow the geohash alphabet order.
+ALTER TABLE properties
+    ADD COLUMN latitude DOUBLE PRECISION,
+    ADD COLUMN longitude DOUBLE PRECISION,
+    ADD COLUMN geohash VARCHAR(12) COLLATE "C",
+    ADD CONSTRAINT chk_properties_latitude CHECK (latitude BETWEEN -90 AND 90),
+    ADD CONSTRAINT chk_properties_longitude CHECK (longitude BETWEEN -180 AND 180),
+    ADD CONSTRAINT chk_properties_location
+        CHECK ((latitude IS NULL) = (longitude IS NULL) AND (latitude IS NULL) = (geohash IS NULL));
+
+-- Properties without coordinates never match a location search
+CREATE INDEX idx_properties_geohash ON properties(geohash) WHERE geohash IS NOT NULL;
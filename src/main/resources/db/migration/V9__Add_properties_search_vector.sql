@@ -0,0 +1,11 @@
+-- Full-text search over address and description. A generated column stays current on
+-- every write path (JPA, single-statement patch, COPY import) without application code.
+-- Address terms carry weight A and description terms weight B, so ts_rank favours them.
+-- Adding a stored generated column rewrites the table once.
+ALTER TABLE properties ADD COLUMN search_vector tsvector
+    GENERATED ALWAYS AS (
+        setweight(to_tsvector('english', coalesce(address, '')), 'A') ||
+        setweight(to_tsvector('english', coalesce(description, '')), 'B')
+    ) STORED;
+
+CREATE INDEX idx_properties_search_vector ON properties USING gin (search_vector);
@@ -0,0 +1,54 @@
+package com.propertymanagement.api.v1;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability(tracing = false)
+@ActiveProfiles("test")
+class PrometheusMetricsTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void shouldExposeEndpointServicePoolAndHibernateMetrics() throws Exception {
+        mockMvc.perform(post("/api/v1/properties")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"address":"1 Metrics Way","type":"HOUSE","rentPrice":1200.00}"""))
+                .andExpect(status().isCreated());
+        mockMvc.perform(get("/api/v1/properties?limit=10"))
+                .andExpect(status().isOk());
+        
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("http_server_requests_seconds_bucket{")))
+                .andExpect(content().string(containsString("uri=\"/api/v1/properties\"")))
+                .andExpect(content().string(containsString("property_service_seconds_count{")))
+                .andExpect(content().string(containsString("method=\"findPage\"")))
+                .andExpect(content().string(containsString("property_query_results_rows_count{")))
+                .andExpect(content().string(containsString("hikaricp_connections_acquire_seconds")))
+                .andExpect(content().string(containsString("hibernate_query_executions_total")))
+                .andExpect(content().string(containsString("hibernate_flushes_total")));
+    }
+
+    @Test
+    void shouldServeKubernetesProbes() throws Exception {
+        mockMvc.perform(get("/actuator/health/liveness")).andExpect(status().isOk());
+        mockMvc.perform(get("/actuator/health/readiness")).andExpect(status().isOk());
+    }
+}
@@ -0,0 +1,125 @@
+package com.propertymanagement.api.v1;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.propertymanagement.api.dto.request.BatchUpdatePropertyRequest;
+import com.propertymanagement.api.dto.request.CreatePropertyRequest;
+import com.propertymanagement.api.dto.response.PropertyResponse;
+import com.propertymanagement.domain.Property;
+import com.propertymanagement.domain.PropertyStatus;
+import com.propertymanagement.domain.PropertyType;
+import com.propertymanagement.domain.service.BatchItemResult;
+import com.propertymanagement.domain.service.PropertyBatchService;
+import com.propertymanagement.infrastructure.mapper.PropertyMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(PropertyBatchController.class)
+class PropertyBatchControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private PropertyBatchService propertyBatchService;
+
+    @MockBean
+    private PropertyMapper propertyMapper;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void shouldReportPerItemResultsForBatchCreate() throws Exception {
+        CreatePropertyRequest valid = new CreatePropertyRequest();
+        valid.setAddress("123 Main Street");
+        valid.setType(PropertyType.APARTMENT);
+        valid.setRentPrice(new BigDecimal("1500.00"));
+        CreatePropertyRequest invalid = new CreatePropertyRequest();
+        
+        Property property = new Property();
+        property.setId(UUID.randomUUID());
+        PropertyResponse response = new PropertyResponse();
+        response.setId(property.getId());
+        response.setAddress("123 Main Street");
+        
+        when(propertyMapper.toDomain(any(CreatePropertyRequest.class))).thenReturn(property);
+        when(propertyBatchService.createAll(List.of(property)))
+                .thenReturn(List.of(BatchItemResult.succeeded(property.getId(), property)));
+        when(propertyMapper.toResponse(property)).thenReturn(response);
+        
+        mockMvc.perform(post("/api/v1/properties/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(invalid, valid))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(2))
+                .andExpect(jsonPath("$.succeeded").value(1))
+                .andExpect(jsonPath("$.failed").value(1))
+                .andExpect(jsonPath("$.results[0].index").value(0))
+                .andExpect(jsonPath("$.results[0].status").value(400))
+                .andExpect(jsonPath("$.results[0].errors").isArray())
+                .andExpect(jsonPath("$.results[1].index").value(1))
+                .andExpect(jsonPath("$.results[1].status").value(201))
+                .andExpect(jsonPath("$.results[1].property.address").value("123 Main Street"));
+    }
+
+    @Test
+    void shouldMapServiceOutcomesForBatchUpdate() throws Exception {
+        BatchUpdatePropertyRequest request = new BatchUpdatePropertyRequest();
+        request.setId(UUID.randomUUID());
+        request.setAddress("456 New Street");
+        request.setType(PropertyType.HOUSE);
+        request.setRentPrice(new BigDecimal("2000.00"));
+        request.setStatus(PropertyStatus.AVAILABLE);
+        
+        when(propertyMapper.toDomainForUpdate(any())).thenReturn(new Property());
+        when(propertyBatchService.updateAll(anyList()))
+                .thenReturn(List.of(BatchItemResult.notFound(request.getId())));
+        
+        mockMvc.perform(put("/api/v1/properties/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(request))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.results[0].id").value(request.getId().toString()))
+                .andExpect(jsonPath("$.results[0].status").value(404));
+    }
+
+    @Test
+    void shouldDeleteInBatch() throws Exception {
+        UUID id = UUID.randomUUID();
+        when(propertyBatchService.deleteAll(List.of(id)))
+                .thenReturn(List.of(BatchItemResult.succeeded(id, null)));
+        
+        mockMvc.perform(delete("/api/v1/properties/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(id))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.succeeded").value(1))
+                .andExpect(jsonPath("$.results[0].status").value(204));
+    }
+
+    @Test
+    void shouldRejectOversizedBatch() throws Exception {
+        when(propertyBatchService.deleteAll(anyList()))
+                .thenThrow(new IllegalArgumentException("Batch must not exceed 10000 items"));
+        
+        mockMvc.perform(delete("/api/v1/properties/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(UUID.randomUUID()))))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Batch must not exceed 10000 items"));
+    }
+}
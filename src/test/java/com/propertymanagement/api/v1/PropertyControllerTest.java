@@ -1,32 +1,62 @@
 package com.propertymanagement.api.v1;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
 import com.propertymanagement.api.dto.request.CreatePropertyRequest;
+import com.propertymanagement.api.dto.request.PatchPropertyRequest;
 import com.propertymanagement.api.dto.request.UpdatePropertyRequest;
+import com.propertymanagement.api.dto.response.NearbyPropertyResponse;
 import com.propertymanagement.api.dto.response.PropertyResponse;
 import com.propertymanagement.domain.Property;
+import com.propertymanagement.domain.PropertyFilter;
+import com.propertymanagement.domain.PropertyPatch;
 import com.propertymanagement.domain.PropertyStatus;
 import com.propertymanagement.domain.PropertyType;
 import com.propertymanagement.domain.exception.PropertyNotFoundException;
+import com.propertymanagement.domain.exception.PropertyVersionMismatchException;
+import com.propertymanagement.domain.pagination.CursorPage;
+import com.propertymanagement.domain.projection.PropertyField;
+import com.propertymanagement.domain.projection.PropertyProjection;
+import com.propertymanagement.domain.search.GeoPoint;
+import com.propertymanagement.domain.search.NearbyProperty;
+import com.propertymanagement.domain.search.PropertyFacets;
 import com.propertymanagement.domain.service.PropertyService;
+import com.propertymanagement.infrastructure.cache.PropertyResponseByteCache;
+import com.propertymanagement.infrastructure.codec.PropertyProtobuf;
+import com.propertymanagement.infrastructure.codec.PropertyProtobufHttpMessageConverter;
+import com.propertymanagement.infrastructure.codec.ResponseBodyEncoder;
 import com.propertymanagement.infrastructure.mapper.PropertyMapper;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.CannotCreateTransactionException;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.math.BigDecimal;
+import java.sql.SQLTransientConnectionException;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Consumer;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(PropertyController.class)
+@Import({ResponseBodyEncoder.class, PropertyResponseByteCache.class})
 class PropertyControllerTest {
 
     @Autowired
@@ -46,13 +76,102 @@ class PropertyControllerTest {
         Property property = createTestProperty();
         PropertyResponse response = createTestPropertyResponse(property);
         
-        when(propertyService.findAll()).thenReturn(List.of(property));
+        when(propertyService.findPage(PropertyFilter.none(), null, PropertyService.DEFAULT_PAGE_SIZE))
+                .thenReturn(new CursorPage<>(List.of(property), null));
         when(propertyMapper.toResponse(any(Property.class))).thenReturn(response);
         
         mockMvc.perform(get("/api/v1/properties"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$").isArray())
-                .andExpect(jsonPath("$[0].address").value("123 Main Street"));
+                .andExpect(jsonPath("$[0].address").value("123 Main Street"))
+                .andExpect(header().doesNotExist(PropertyController.NEXT_CURSOR_HEADER));
+    }
+
+    @Test
+    void shouldAdvertiseNextPageCursor() throws Exception {
+        Property property = createTestProperty();
+        PropertyResponse response = createTestPropertyResponse(property);
+        PropertyFilter filter = new PropertyFilter(PropertyStatus.AVAILABLE, null, null, null,
+                2, null, null, null, null, null);
+        
+        when(propertyService.findPage(filter, "abc", 1))
+                .thenReturn(new CursorPage<>(List.of(property), "def"));
+        when(propertyMapper.toResponse(any(Property.class))).thenReturn(response);
+        
+        mockMvc.perform(get("/api/v1/properties?status=AVAILABLE&minBedrooms=2&cursor=abc&limit=1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(header().string(PropertyController.NEXT_CURSOR_HEADER, "def"))
+                .andExpect(header().string("Link",
+                        "<http://localhost/api/v1/properties?status=AVAILABLE&minBedrooms=2&limit=1&cursor=def>; rel=\"next\""));
+    }
+
+    @Test
+    void shouldReturnOnlyRequestedFields() throws Exception {
+        UUID id = UUID.randomUUID();
+        Map<String, Object> values = new LinkedHashMap<>();
+        values.put("id", id);
+        values.put("address", "123 Main Street");
+        values.put("rentPrice", new BigDecimal("1500.00"));
+        PropertyProjection projection = new PropertyProjection(id, LocalDateTime.now(), 1, values);
+        
+        when(propertyService.findPage(PropertyFilter.none(), PropertyField.parse("address,rentPrice"),
+                null, PropertyService.DEFAULT_PAGE_SIZE))
+                .thenReturn(new CursorPage<>(List.of(projection), null));
+        
+        mockMvc.perform(get("/api/v1/properties").param("fields", "address,rentPrice"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andExpect(jsonPath("$[0].id").value(id.toString()))
+                .andExpect(jsonPath("$[0].address").value("123 Main Street"))
+                .andExpect(jsonPath("$[0].rentPrice").value(1500.00))
+                .andExpect(jsonPath("$[0].description").doesNotExist());
+        
+        verifyNoInteractions(propertyMapper);
+    }
+
+    @Test
+    void shouldRejectUnknownField() throws Exception {
+        mockMvc.perform(get("/api/v1/properties/search")
+                        .param("address", "main")
+                        .param("fields", "address,colour"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Unknown field: colour"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldStreamPropertiesAsNdjson() throws Exception {
+        Property first = createTestProperty();
+        Property second = createTestProperty();
+        second.setAddress("456 Oak Avenue");
+        
+        doAnswer(invocation -> {
+            Consumer<Property> sink = invocation.getArgument(1);
+            sink.accept(first);
+            sink.accept(second);
+            return null;
+        }).when(propertyService).export(eq(PropertyFilter.none()), any(Consumer.class));
+        when(propertyMapper.toResponse(first)).thenReturn(createTestPropertyResponse(first));
+        when(propertyMapper.toResponse(second)).thenReturn(createTestPropertyResponse(second));
+        
+        MvcResult result = mockMvc.perform(get("/api/v1/properties")
+                        .accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString();
+        
+        String[] lines = body.split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(objectMapper.readValue(lines[0], PropertyResponse.class).getAddress())
+                .isEqualTo("123 Main Street");
+        assertThat(objectMapper.readValue(lines[1], PropertyResponse.class).getAddress())
+                .isEqualTo("456 Oak Avenue");
+        assertThat(body).endsWith("\n");
     }
 
     @Test
@@ -71,6 +190,139 @@ class PropertyControllerTest {
                 .andExpect(jsonPath("$.address").value("123 Main Street"));
     }
 
+    @Test
+    void shouldReturnVersionAsEtag() throws Exception {
+        Property property = createTestProperty();
+        
+        when(propertyService.findById(property.getId())).thenReturn(property);
+        when(propertyMapper.toResponse(property)).thenReturn(createTestPropertyResponse(property));
+        
+        mockMvc.perform(get("/api/v1/properties/{id}", property.getId()))
+                .andExpect(status().isOk())
+                .andExpect(header().stringValues("ETag", "\"3\""));
+    }
+
+    @Test
+    void shouldAnswerNotModifiedFromVersionAlone() throws Exception {
+        UUID id = UUID.randomUUID();
+        
+        when(propertyService.findVersion(id)).thenReturn(3L);
+        
+        mockMvc.perform(get("/api/v1/properties/{id}", id)
+                        .header("If-None-Match", "\"3\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+        
+        verify(propertyService, never()).findById(id);
+        verifyNoInteractions(propertyMapper);
+    }
+
+    @Test
+    void shouldReturnBodyWhenEtagIsStale() throws Exception {
+        Property property = createTestProperty();
+        
+        when(propertyService.findVersion(property.getId())).thenReturn(3L);
+        when(propertyService.findById(property.getId())).thenReturn(property);
+        when(propertyMapper.toResponse(property)).thenReturn(createTestPropertyResponse(property));
+        
+        mockMvc.perform(get("/api/v1/properties/{id}", property.getId())
+                        .header("If-None-Match", "\"2\""))
+                .andExpect(status().isOk())
+                .andExpect(header().stringValues("ETag", "\"3\""))
+                .andExpect(jsonPath("$.address").value("123 Main Street"));
+    }
+
+    @Test
+    void shouldReuseEncodedBodyUntilVersionChanges() throws Exception {
+        Property property = createTestProperty();
+        
+        when(propertyService.findById(property.getId())).thenReturn(property);
+        when(propertyMapper.toResponse(property)).thenReturn(createTestPropertyResponse(property));
+        
+        String first = mockMvc.perform(get("/api/v1/properties/{id}", property.getId()))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        mockMvc.perform(get("/api/v1/properties/{id}", property.getId()))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(content().string(first));
+        verify(propertyMapper, times(1)).toResponse(property);
+        
+        property.setVersion(4L);
+        mockMvc.perform(get("/api/v1/properties/{id}", property.getId()))
+                .andExpect(header().stringValues("ETag", "\"4\""));
+        verify(propertyMapper, times(2)).toResponse(property);
+    }
+
+    @Test
+    void shouldEncodePropertyPerNegotiatedMediaType() throws Exception {
+        Property property = createTestProperty();
+        PropertyResponse response = createTestPropertyResponse(property);
+        
+        when(propertyService.findById(property.getId())).thenReturn(property);
+        when(propertyMapper.toResponse(property)).thenReturn(response);
+        
+        byte[] protobuf = mockMvc.perform(get("/api/v1/properties/{id}", property.getId())
+                        .accept(PropertyProtobufHttpMessageConverter.APPLICATION_PROTOBUF))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(PropertyProtobufHttpMessageConverter.APPLICATION_PROTOBUF))
+                .andReturn().getResponse().getContentAsByteArray();
+        mockMvc.perform(get("/api/v1/properties/{id}", property.getId())
+                        .accept(MediaType.APPLICATION_XML, MediaType.APPLICATION_JSON))
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.address").value("123 Main Street"));
+        mockMvc.perform(get("/api/v1/properties/{id}", property.getId())
+                        .accept(MediaType.APPLICATION_XML))
+                .andExpect(status().isNotAcceptable());
+        
+        assertThat(PropertyProtobuf.readResponse(new ByteArrayInputStream(protobuf))).isEqualTo(response);
+    }
+
+    @Test
+    void shouldGiveEachRepresentationItsOwnEtag() throws Exception {
+        Property property = createTestProperty();
+        
+        when(propertyService.findVersion(property.getId())).thenReturn(3L);
+        when(propertyService.findById(property.getId())).thenReturn(property);
+        when(propertyMapper.toResponse(property)).thenReturn(createTestPropertyResponse(property));
+        
+        mockMvc.perform(get("/api/v1/properties/{id}", property.getId())
+                        .accept(PropertyProtobufHttpMessageConverter.APPLICATION_PROTOBUF))
+                .andExpect(header().stringValues("ETag", "\"3-x-protobuf\""));
+        mockMvc.perform(get("/api/v1/properties/{id}", property.getId())
+                        .accept(PropertyProtobufHttpMessageConverter.APPLICATION_PROTOBUF)
+                        .header("If-None-Match", "\"3-x-protobuf\""))
+                .andExpect(status().isNotModified());
+        mockMvc.perform(get("/api/v1/properties/{id}", property.getId())
+                        .accept(PropertyProtobufHttpMessageConverter.APPLICATION_PROTOBUF)
+                        .header("If-None-Match", "\"3\""))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(PropertyProtobufHttpMessageConverter.APPLICATION_PROTOBUF));
+    }
+
+    @Test
+    void shouldAnswerNotModifiedForUnchangedPage() throws Exception {
+        Property property = createTestProperty();
+        
+        when(propertyService.findPage(PropertyFilter.none(), null, PropertyService.DEFAULT_PAGE_SIZE))
+                .thenReturn(new CursorPage<>(List.of(property), null));
+        when(propertyMapper.toResponse(any(Property.class))).thenReturn(createTestPropertyResponse(property));
+        
+        String etag = mockMvc.perform(get("/api/v1/properties"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+        assertThat(etag).startsWith("W/\"");
+        
+        mockMvc.perform(get("/api/v1/properties").header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+        
+        property.setVersion(4L);
+        mockMvc.perform(get("/api/v1/properties").header("If-None-Match", etag))
+                .andExpect(status().isOk());
+        
+        verify(propertyMapper, times(2)).toResponse(property);
+    }
+
     @Test
     void shouldReturn404WhenPropertyNotFound() throws Exception {
         UUID id = UUID.randomUUID();
@@ -83,6 +335,38 @@ class PropertyControllerTest {
                 .andExpect(jsonPath("$.error").value("Not Found"));
     }
 
+    @Test
+    void shouldReturn404ForUnmappedPaths() throws Exception {
+        mockMvc.perform(get("/api/v2/properties"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.message").value("No endpoint GET /api/v2/properties"));
+    }
+
+    @Test
+    void shouldShedLoadWhenNoConnectionIsAvailable() throws Exception {
+        UUID id = UUID.randomUUID();
+        
+        when(propertyService.findById(id))
+                .thenThrow(new CannotCreateTransactionException("Connection is not available"));
+        
+        mockMvc.perform(get("/api/v1/properties/{id}", id))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "1"))
+                .andExpect(jsonPath("$.message").value("Database temporarily unavailable, please retry"));
+    }
+
+    @Test
+    void shouldShedLoadWhenALazilyAcquiredConnectionTimesOut() throws Exception {
+        UUID id = UUID.randomUUID();
+        
+        when(propertyService.findById(id)).thenThrow(new CannotGetJdbcConnectionException(
+                "Failed to obtain JDBC Connection", new SQLTransientConnectionException("Connection is not available")));
+        
+        mockMvc.perform(get("/api/v1/properties/{id}", id))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "1"));
+    }
+
     @Test
     void shouldCreateProperty() throws Exception {
         CreatePropertyRequest request = new CreatePropertyRequest();
@@ -133,16 +417,83 @@ class PropertyControllerTest {
         PropertyResponse response = createTestPropertyResponse(property);
         
         when(propertyMapper.toDomainForUpdate(any(UpdatePropertyRequest.class))).thenReturn(property);
-        when(propertyService.update(eq(id), any(Property.class))).thenReturn(property);
+        when(propertyService.update(eq(id), any(Property.class), isNull())).thenReturn(property);
         when(propertyMapper.toResponse(property)).thenReturn(response);
         
         mockMvc.perform(put("/api/v1/properties/{id}", id)
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(request)))
                 .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"3\""))
                 .andExpect(jsonPath("$.address").value("456 New Street"));
     }
 
+    @Test
+    void shouldPassIfMatchVersionToUpdate() throws Exception {
+        UUID id = UUID.randomUUID();
+        UpdatePropertyRequest request = new UpdatePropertyRequest();
+        request.setAddress("456 New Street");
+        request.setType(PropertyType.HOUSE);
+        request.setRentPrice(new BigDecimal("2000.00"));
+        request.setStatus(PropertyStatus.AVAILABLE);
+        
+        when(propertyMapper.toDomainForUpdate(any(UpdatePropertyRequest.class))).thenReturn(new Property());
+        when(propertyService.update(eq(id), any(Property.class), eq(2L)))
+                .thenThrow(new PropertyVersionMismatchException(id, 2L));
+        
+        mockMvc.perform(put("/api/v1/properties/{id}", id)
+                        .header("If-Match", "\"2\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(jsonPath("$.status").value(412));
+    }
+
+    // Tags that went out weakened by gzip or naming another representation carry the same version
+    @Test
+    void shouldReadVersionFromWeakAndRepresentationEtags() throws Exception {
+        UUID id = UUID.randomUUID();
+        Map<String, Object> request = Map.of("rentPrice", 2000);
+        
+        when(propertyService.patch(eq(id), any(), eq(2L))).thenThrow(new PropertyVersionMismatchException(id, 2L));
+        
+        for (String ifMatch : List.of("W/\"2\"", "\"2-cbor\"")) {
+            mockMvc.perform(patch("/api/v1/properties/{id}", id)
+                            .header("If-Match", ifMatch)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isPreconditionFailed());
+        }
+        verify(propertyService, times(2)).patch(eq(id), any(), eq(2L));
+    }
+
+    @Test
+    void shouldPatchProperty() throws Exception {
+        Property property = createTestProperty();
+        PropertyPatch patch = new PropertyPatch(null, null, 3, null, null, null, null, null, null, null);
+        
+        when(propertyMapper.toPatch(any(PatchPropertyRequest.class))).thenReturn(patch);
+        when(propertyService.patch(property.getId(), patch, 3L)).thenReturn(property);
+        when(propertyMapper.toResponse(property)).thenReturn(createTestPropertyResponse(property));
+        
+        mockMvc.perform(patch("/api/v1/properties/{id}", property.getId())
+                        .header("If-Match", "\"3\"")
+                        .contentType("application/merge-patch+json")
+                        .content("{\"bedrooms\": 3}"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"3\""));
+    }
+
+    @Test
+    void shouldRejectInvalidPatchField() throws Exception {
+        mockMvc.perform(patch("/api/v1/properties/{id}", UUID.randomUUID())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"rentPrice\": -5}"))
+                .andExpect(status().isBadRequest());
+        
+        verifyNoInteractions(propertyService);
+    }
+
     @Test
     void shouldDeleteProperty() throws Exception {
         UUID id = UUID.randomUUID();
@@ -159,14 +510,137 @@ class PropertyControllerTest {
         Property property = createTestProperty();
         PropertyResponse response = createTestPropertyResponse(property);
         
-        when(propertyService.searchByAddress("main")).thenReturn(List.of(property));
+        when(propertyService.searchByAddress("main", "previous-token", PropertyService.DEFAULT_PAGE_SIZE))
+                .thenReturn(new CursorPage<>(List.of(property), "next-token"));
         when(propertyMapper.toResponse(any(Property.class))).thenReturn(response);
         
         mockMvc.perform(get("/api/v1/properties/search")
-                        .param("address", "main"))
+                        .param("address", "main")
+                        .param("cursor", "previous-token"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$").isArray())
-                .andExpect(jsonPath("$[0].address").value("123 Main Street"));
+                .andExpect(jsonPath("$[0].address").value("123 Main Street"))
+                .andExpect(header().string(PropertyController.NEXT_CURSOR_HEADER, "next-token"));
+    }
+
+    @Test
+    void shouldReturnFacetCountsForTheFilter() throws Exception {
+        PropertyFilter filter = new PropertyFilter(null, null, null, null, 2, null, null, null, null, null);
+        PropertyFacets facets = PropertyFacets.of(new long[]{3, 1, 0, 0}, new long[]{4, 0, 0, 0}, Map.of(2, 3L, 3, 1L));
+        when(propertyService.facets(filter)).thenReturn(facets);
+        
+        mockMvc.perform(get("/api/v1/properties/facets").param("minBedrooms", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(4))
+                .andExpect(jsonPath("$.byStatus.AVAILABLE").value(3))
+                .andExpect(jsonPath("$.byStatus.MAINTENANCE").value(0))
+                .andExpect(jsonPath("$.byType.APARTMENT").value(4))
+                .andExpect(jsonPath("$.byBedrooms.2").value(3));
+    }
+
+    @Test
+    void shouldSearchFullTextWithFiltersAndCursor() throws Exception {
+        Property property = createTestProperty();
+        PropertyResponse response = createTestPropertyResponse(property);
+        PropertyFilter filter = new PropertyFilter(null, PropertyType.APARTMENT, null, null,
+                null, null, null, null, null, null);
+        
+        when(propertyService.searchText("pet friendly", filter, null, 1))
+                .thenReturn(new CursorPage<>(List.of(property), "next-token"));
+        when(propertyMapper.toResponse(any(Property.class))).thenReturn(response);
+        
+        mockMvc.perform(get("/api/v1/properties/search/text")
+                        .param("q", "pet friendly")
+                        .param("type", "APARTMENT")
+                        .param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].address").value("123 Main Street"))
+                .andExpect(header().string(PropertyController.NEXT_CURSOR_HEADER, "next-token"));
+    }
+
+    @Test
+    void shouldFindNearbyPropertiesWithFilters() throws Exception {
+        Property property = createTestProperty();
+        PropertyResponse response = createTestPropertyResponse(property);
+        PropertyFilter filter = new PropertyFilter(PropertyStatus.AVAILABLE, null, null, null,
+                null, null, null, null, null, null);
+        
+        when(propertyService.findNearby(new GeoPoint(52.52, 13.405), 2.5, filter, 20))
+                .thenReturn(List.of(new NearbyProperty(property, 0.4321)));
+        when(propertyMapper.toResponse(any(NearbyProperty.class)))
+                .thenReturn(new NearbyPropertyResponse(response, 0.432));
+        
+        mockMvc.perform(get("/api/v1/properties/nearby")
+                        .param("lat", "52.52")
+                        .param("lon", "13.405")
+                        .param("radiusKm", "2.5")
+                        .param("status", "AVAILABLE")
+                        .param("limit", "20"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].address").value("123 Main Street"))
+                .andExpect(jsonPath("$[0].distanceKm").value(0.432));
+    }
+
+    @Test
+    void shouldRejectInvalidCoordinates() throws Exception {
+        mockMvc.perform(get("/api/v1/properties/within")
+                        .param("minLat", "52.6")
+                        .param("minLon", "13.3")
+                        .param("maxLat", "52.5")
+                        .param("maxLon", "13.5"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/v1/properties/nearby")
+                        .param("lat", "95")
+                        .param("lon", "13.405")
+                        .param("radiusKm", "2"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void shouldNegotiateBinaryListFormats() throws Exception {
+        Property property = createTestProperty();
+        PropertyResponse response = createTestPropertyResponse(property);
+
+        when(propertyService.findPage(PropertyFilter.none(), null, PropertyService.DEFAULT_PAGE_SIZE))
+                .thenReturn(new CursorPage<>(List.of(property), null));
+        when(propertyMapper.toResponse(any(Property.class))).thenReturn(response);
+
+        byte[] cbor = mockMvc.perform(get("/api/v1/properties").accept(MediaType.parseMediaType("application/cbor")))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/cbor"))
+                .andReturn().getResponse().getContentAsByteArray();
+        byte[] protobuf = mockMvc.perform(get("/api/v1/properties")
+                        .accept(PropertyProtobufHttpMessageConverter.APPLICATION_PROTOBUF))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(PropertyProtobufHttpMessageConverter.APPLICATION_PROTOBUF))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        assertThat(new CBORMapper().readValue(cbor, PropertyResponse[].class)).containsExactly(response);
+        assertThat(PropertyProtobuf.readList(new ByteArrayInputStream(protobuf))).containsExactly(response);
+        mockMvc.perform(get("/api/v1/properties").accept(MediaType.ALL))
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON));
+    }
+
+    @Test
+    void shouldCreatePropertyFromProtobuf() throws Exception {
+        CreatePropertyRequest request = new CreatePropertyRequest();
+        request.setAddress("123 Main Street");
+        request.setType(PropertyType.APARTMENT);
+        request.setBedrooms(2);
+        request.setRentPrice(new BigDecimal("1500.00"));
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        PropertyProtobuf.write(request, body);
+
+        Property property = createTestProperty();
+        when(propertyMapper.toDomain(request)).thenReturn(property);
+        when(propertyService.create(property)).thenReturn(property);
+        when(propertyMapper.toResponse(property)).thenReturn(createTestPropertyResponse(property));
+
+        mockMvc.perform(post("/api/v1/properties")
+                        .contentType(PropertyProtobufHttpMessageConverter.APPLICATION_PROTOBUF)
+                        .content(body.toByteArray()))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.address").value("123 Main Street"));
     }
 
     // Helper methods
@@ -179,6 +653,7 @@ class PropertyControllerTest {
         property.setBathrooms(1);
         property.setRentPrice(new BigDecimal("1500.00"));
         property.setStatus(PropertyStatus.AVAILABLE);
+        property.setVersion(3L);
         return property;
     }
 
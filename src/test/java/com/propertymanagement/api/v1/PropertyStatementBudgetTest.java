@@ -0,0 +1,122 @@
+package com.propertymanagement.api.v1;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.propertymanagement.infrastructure.sql.StatementCounter;
+import com.propertymanagement.infrastructure.sql.StatementCounts;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Statement counts per endpoint; a change here usually means an N+1 or an extra read
+@SpringBootTest(properties = "property-management.statement-budget.max-statements=1")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class PropertyStatementBudgetTest {
+
+    private static final String PROPERTY = """
+            {"address":"1 Budget Lane","type":"APARTMENT","rentPrice":1500.00,"status":"AVAILABLE"}""";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void shouldCreateWithOneInsert() throws Exception {
+        try (StatementCounter.Scope scope = StatementCounter.open()) {
+            mockMvc.perform(post("/api/v1/properties").contentType(MediaType.APPLICATION_JSON).content(PROPERTY))
+                    .andExpect(status().isCreated());
+            
+            assertThat(scope.counts()).isEqualTo(new StatementCounts(0, 1, 0, 0, 0));
+        }
+    }
+
+    @Test
+    void shouldGetByIdWithOneSelect() throws Exception {
+        String id = create();
+        
+        try (StatementCounter.Scope scope = StatementCounter.open()) {
+            mockMvc.perform(get("/api/v1/properties/{id}", id)).andExpect(status().isOk());
+            
+            assertThat(scope.counts()).isEqualTo(StatementCounts.selects(1));
+        }
+    }
+
+    @Test
+    void shouldListWithOneSelect() throws Exception {
+        create();
+        
+        try (StatementCounter.Scope scope = StatementCounter.open()) {
+            mockMvc.perform(get("/api/v1/properties?limit=10")).andExpect(status().isOk());
+            
+            assertThat(scope.counts()).isEqualTo(StatementCounts.selects(1));
+        }
+    }
+
+    @Test
+    void shouldUpdateWithAtMostTwoStatements() throws Exception {
+        String id = create();
+        
+        try (StatementCounter.Scope scope = StatementCounter.open()) {
+            mockMvc.perform(put("/api/v1/properties/{id}", id)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(PROPERTY.replace("1500.00", "1600.00")))
+                    .andExpect(status().isOk());
+            
+            assertThat(scope.counts().total()).isLessThanOrEqualTo(2);
+            assertThat(scope.counts().update()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void shouldDeleteWithoutReadingTheRow() throws Exception {
+        String id = create();
+        
+        try (StatementCounter.Scope scope = StatementCounter.open()) {
+            mockMvc.perform(delete("/api/v1/properties/{id}", id)).andExpect(status().isNoContent());
+            
+            assertThat(scope.counts()).isEqualTo(new StatementCounts(0, 0, 0, 1, 0));
+        }
+    }
+
+    @Test
+    void shouldFlagRequestsOverTheBudget() throws Exception {
+        String id = create();
+        
+        mockMvc.perform(put("/api/v1/properties/{id}", id)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(PROPERTY.replace("AVAILABLE", "RENTED")))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/v1/properties/{id}", id)).andExpect(status().isOk());
+        
+        assertThat(meterRegistry.get("property.request.statement.budget.exceeded")
+                .tags("method", "PUT", "uri", "/api/v1/properties/{id}")
+                .counter().count()).isGreaterThanOrEqualTo(1);
+        assertThat(meterRegistry.get("property.request.statements")
+                .tags("method", "GET", "uri", "/api/v1/properties/{id}")
+                .summary().max()).isLessThanOrEqualTo(1);
+    }
+
+    private String create() throws Exception {
+        String body = mockMvc.perform(post("/api/v1/properties").contentType(MediaType.APPLICATION_JSON).content(PROPERTY))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body).get("id").asText();
+    }
+}
@@ -0,0 +1,37 @@
+package com.propertymanagement.api.v1;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.web.servlet.DispatcherServletAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// The reactive API under /api/v2 is a servlet of its own and must bypass the MVC filters
+@SpringBootTest
+@ActiveProfiles("test")
+class ServletFilterMappingTest {
+
+    @Autowired
+    private List<FilterRegistrationBean<?>> registrations;
+
+    @Test
+    void shouldMapApplicationFiltersToTheDispatcherServletOnly() {
+        List<FilterRegistrationBean<?>> own = registrations.stream()
+                .filter(registration -> registration.getFilter().getClass().getPackageName()
+                        .startsWith("com.propertymanagement"))
+                .toList();
+
+        assertThat(own).extracting(registration -> registration.getFilter().getClass().getSimpleName())
+                .contains("ZstdCompressionFilter", "StatementBudgetFilter"); // read-your-writes needs replicas
+        assertThat(own).allSatisfy(registration -> {
+            assertThat(registration.getServletNames())
+                    .containsExactly(DispatcherServletAutoConfiguration.DEFAULT_DISPATCHER_SERVLET_BEAN_NAME);
+            assertThat(registration.getUrlPatterns()).isEmpty();
+        });
+    }
+}
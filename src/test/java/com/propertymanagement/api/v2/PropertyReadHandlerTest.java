@@ -0,0 +1,127 @@
+package com.propertymanagement.api.v2;
+
+import com.propertymanagement.api.dto.response.PropertyResponse;
+import com.propertymanagement.domain.Property;
+import com.propertymanagement.domain.PropertyFilter;
+import com.propertymanagement.domain.PropertyStatus;
+import com.propertymanagement.domain.PropertyType;
+import com.propertymanagement.domain.service.PropertyService;
+import com.propertymanagement.infrastructure.mapper.PropertyMapper;
+import com.propertymanagement.persistence.repository.ReactivePropertyRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PropertyReadHandlerTest {
+
+    @Mock
+    private ReactivePropertyRepository repository;
+
+    @Mock
+    private PropertyMapper propertyMapper;
+
+    private WebTestClient client;
+
+    @BeforeEach
+    void setUp() {
+        client = WebTestClient.bindToRouterFunction(new PropertyReadHandler(repository, propertyMapper).routes())
+                .build();
+    }
+
+    @Test
+    void shouldStreamFilteredListAsNdjson() {
+        Property first = createTestProperty("1 First Street");
+        Property second = createTestProperty("2 Second Street");
+        PropertyFilter filter = new PropertyFilter(PropertyStatus.AVAILABLE, null, null, new BigDecimal("2000"),
+                null, null, null, null, null, null);
+        when(repository.findAll(filter, null)).thenReturn(Flux.just(first, second));
+        when(propertyMapper.toResponse(any(Property.class))).thenAnswer(invocation -> toResponse(invocation.getArgument(0)));
+        
+        String body = client.get().uri("/properties?status=AVAILABLE&maxPrice=2000")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(MediaType.APPLICATION_NDJSON)
+                .expectBody(String.class).returnResult().getResponseBody();
+        
+        assertThat(body.split("\n")).hasSize(2);
+        assertThat(body).contains("1 First Street", "2 Second Street");
+    }
+
+    @Test
+    void shouldListAsJsonArrayByDefault() {
+        Property property = createTestProperty("1 First Street");
+        when(repository.findAll(PropertyFilter.none(), 10)).thenReturn(Flux.just(property));
+        when(propertyMapper.toResponse(property)).thenReturn(toResponse(property));
+        
+        client.get().uri("/properties?limit=10")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(1)
+                .jsonPath("$[0].address").isEqualTo("1 First Street");
+    }
+
+    @Test
+    void shouldReturn404ForMissingProperty() {
+        UUID id = UUID.randomUUID();
+        when(repository.findById(id)).thenReturn(Mono.empty());
+        
+        client.get().uri("/properties/{id}", id)
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody()
+                .jsonPath("$.status").isEqualTo(404);
+    }
+
+    @Test
+    void shouldCapSearchLimitAndRejectBadParameters() {
+        when(repository.searchByAddress("main", PropertyService.MAX_PAGE_SIZE)).thenReturn(Flux.empty());
+        
+        client.get().uri("/properties/search?address= main &limit=10000")
+                .exchange()
+                .expectStatus().isOk();
+        client.get().uri("/properties?minBedrooms=two")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("Invalid value for minBedrooms: two");
+        
+        verify(repository).searchByAddress("main", PropertyService.MAX_PAGE_SIZE);
+        verifyNoMoreInteractions(repository);
+    }
+
+    private Property createTestProperty(String address) {
+        Property property = new Property();
+        property.setId(UUID.randomUUID());
+        property.setAddress(address);
+        property.setType(PropertyType.HOUSE);
+        property.setRentPrice(new BigDecimal("1500.00"));
+        property.setStatus(PropertyStatus.AVAILABLE);
+        return property;
+    }
+
+    private PropertyResponse toResponse(Property property) {
+        PropertyResponse response = new PropertyResponse();
+        response.setId(property.getId());
+        response.setAddress(property.getAddress());
+        response.setType(property.getType());
+        response.setRentPrice(property.getRentPrice());
+        response.setStatus(property.getStatus());
+        return response;
+    }
+}
@@ -0,0 +1,61 @@
+package com.propertymanagement.domain.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class GeohashTest {
+
+    @Test
+    void shouldEncodeLikeTheReferenceImplementation() {
+        assertThat(Geohash.encode(57.64911, 10.40744, 11)).isEqualTo("u4pruydqqvj");
+        assertThat(Geohash.encode(-25.382708, -49.265506, 8)).isEqualTo("6gkzwgjz");
+        assertThat(Geohash.encode(52.52, 13.405)).hasSize(Geohash.PRECISION).startsWith("u33dc");
+    }
+
+    @Test
+    void shouldCoverEveryPointInsideTheBox() {
+        Random random = new Random(42);
+        for (int i = 0; i < 200; i++) {
+            GeoPoint center = new GeoPoint(random.nextDouble() * 160 - 80, random.nextDouble() * 340 - 170);
+            BoundingBox box = BoundingBox.around(center, 0.1 + random.nextDouble() * 50);
+            List<Geohash.Range> cover = Geohash.cover(box);
+            
+            assertThat(cover).hasSizeLessThanOrEqualTo(Geohash.MAX_COVER_CELLS);
+            for (int j = 0; j < 20; j++) {
+                double latitude = box.south() + random.nextDouble() * (box.north() - box.south());
+                double longitude = box.west() + random.nextDouble() * (box.east() - box.west());
+                String key = Geohash.encode(latitude, longitude);
+                assertThat(cover).anyMatch(range -> range.contains(key));
+            }
+        }
+    }
+
+    @Test
+    void shouldMergeAdjacentCellsAndCoverTheWorldWithOneRange() {
+        assertThat(Geohash.cover(new BoundingBox(-90, -180, 90, 180)))
+                .containsExactly(new Geohash.Range("", null));
+        
+        List<Geohash.Range> cover = Geohash.cover(new BoundingBox(52.50, 13.35, 52.55, 13.45));
+        for (int i = 1; i < cover.size(); i++) {
+            assertThat(cover.get(i).from()).isGreaterThan(cover.get(i - 1).to());
+        }
+    }
+
+    @Test
+    void shouldBoundCirclesTightly() {
+        GeoPoint berlin = new GeoPoint(52.52, 13.405);
+        BoundingBox box = BoundingBox.around(berlin, 10);
+        
+        assertThat(berlin.distanceKm(box.north(), berlin.longitude())).isCloseTo(10, within(0.01));
+        assertThat(berlin.distanceKm(berlin.latitude(), box.east())).isBetween(10.0, 10.05);
+        assertThat(new GeoPoint(0, 0).distanceKm(0, 1)).isCloseTo(111.195, within(0.001));
+        assertThatThrownBy(() -> new GeoPoint(91, 0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new BoundingBox(53, 13, 52, 14)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,140 @@
+package com.propertymanagement.domain.service;
+
+import com.propertymanagement.domain.Property;
+import com.propertymanagement.domain.PropertyStatus;
+import com.propertymanagement.domain.PropertyType;
+import com.propertymanagement.domain.event.PropertyChangedEvent;
+import com.propertymanagement.persistence.repository.PropertyRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PropertyBatchServiceTest {
+
+    @Mock
+    private PropertyRepository propertyRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private PropertyBatchService batchService;
+
+    @BeforeEach
+    void setUp() {
+        batchService = new PropertyBatchService(propertyRepository, eventPublisher, transactionManager, 2, 5);
+    }
+
+    @Test
+    void shouldCreateValidItemsInChunksAndRejectInvalidOnes() {
+        Property first = createTestProperty("1 First Street");
+        Property invalid = createTestProperty("2 Second Street");
+        invalid.setRentPrice(BigDecimal.ZERO);
+        Property third = createTestProperty("3 Third Street");
+        when(propertyRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        
+        List<BatchItemResult> results = batchService.createAll(List.of(first, invalid, third));
+        
+        assertThat(results).extracting(BatchItemResult::outcome).containsExactly(
+                BatchItemResult.Outcome.SUCCEEDED,
+                BatchItemResult.Outcome.REJECTED,
+                BatchItemResult.Outcome.SUCCEEDED);
+        assertThat(results.get(1).error()).contains("Rent price must be greater than zero");
+        // Chunks of two: [first, invalid] then [third]
+        verify(propertyRepository).saveAll(List.of(first));
+        verify(propertyRepository).saveAll(List.of(third));
+        verify(transactionManager, times(2)).commit(any());
+    }
+
+    @Test
+    void shouldMarkRolledBackChunkAsFailedAndContinue() {
+        Property first = createTestProperty("1 First Street");
+        Property second = createTestProperty("2 Second Street");
+        Property third = createTestProperty("3 Third Street");
+        when(propertyRepository.saveAll(List.of(first, second)))
+                .thenThrow(new DataIntegrityViolationException("constraint"));
+        when(propertyRepository.saveAll(List.of(third))).thenReturn(List.of(third));
+        
+        List<BatchItemResult> results = batchService.createAll(List.of(first, second, third));
+        
+        assertThat(results).extracting(BatchItemResult::outcome).containsExactly(
+                BatchItemResult.Outcome.FAILED,
+                BatchItemResult.Outcome.FAILED,
+                BatchItemResult.Outcome.SUCCEEDED);
+        assertThat(results.get(0).id()).isNull();
+    }
+
+    @Test
+    void shouldUpdateExistingItemsAndReportMissingOnes() {
+        Property existing = createTestProperty("1 Old Street");
+        existing.setId(UUID.randomUUID());
+        Property change = createTestProperty("1 New Street");
+        change.setId(existing.getId());
+        Property missing = createTestProperty("9 Nowhere");
+        missing.setId(UUID.randomUUID());
+        when(propertyRepository.findAllById(Set.of(existing.getId(), missing.getId())))
+                .thenReturn(List.of(existing));
+        
+        List<BatchItemResult> results = batchService.updateAll(List.of(change, missing));
+        
+        assertThat(results).extracting(BatchItemResult::outcome).containsExactly(
+                BatchItemResult.Outcome.SUCCEEDED,
+                BatchItemResult.Outcome.NOT_FOUND);
+        assertThat(existing.getAddress()).isEqualTo("1 New Street");
+        verify(eventPublisher).publishEvent(PropertyChangedEvent.updated(existing));
+    }
+
+    @Test
+    void shouldDeleteExistingIdsWithOneStatement() {
+        UUID present = UUID.randomUUID();
+        UUID absent = UUID.randomUUID();
+        when(propertyRepository.findExistingIds(List.of(present, absent))).thenReturn(List.of(present));
+        
+        List<BatchItemResult> results = batchService.deleteAll(List.of(present, absent));
+        
+        assertThat(results).extracting(BatchItemResult::outcome).containsExactly(
+                BatchItemResult.Outcome.SUCCEEDED,
+                BatchItemResult.Outcome.NOT_FOUND);
+        verify(propertyRepository).deleteAllByIdInBatch(Set.of(present));
+        verify(eventPublisher).publishEvent(PropertyChangedEvent.deleted(present));
+    }
+
+    @Test
+    void shouldRejectBatchesAboveTheLimit() {
+        List<UUID> ids = List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(),
+                UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+        
+        assertThatThrownBy(() -> batchService.deleteAll(ids))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("must not exceed 5 items");
+        verifyNoInteractions(propertyRepository);
+    }
+
+    private Property createTestProperty(String address) {
+        Property property = new Property();
+        property.setAddress(address);
+        property.setType(PropertyType.APARTMENT);
+        property.setRentPrice(new BigDecimal("1500.00"));
+        property.setStatus(PropertyStatus.AVAILABLE);
+        return property;
+    }
+}
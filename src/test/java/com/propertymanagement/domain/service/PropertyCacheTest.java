@@ -0,0 +1,113 @@
+package com.propertymanagement.domain.service;
+
+import com.propertymanagement.domain.Property;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PropertyCacheTest {
+
+    private static final UUID ID = UUID.randomUUID();
+
+    private final MutableClock clock = new MutableClock();
+    private final PropertyCache cache = new PropertyCache(new ConcurrentMapCache(PropertyService.PROPERTY_CACHE),
+            Duration.ofSeconds(2), clock);
+
+    // The write committed on the primary and evicted; the replica replays it a second later
+    @Test
+    void shouldNotCacheWhatALaggingReplicaReturnsRightAfterAWrite() {
+        LaggingReplica replica = new LaggingReplica(property(1));
+        cache.get(replica.id(), replica::load);
+
+        replica.primary = property(2);
+        cache.evict(replica.id());
+
+        assertThat(cache.get(replica.id(), replica::load).getVersion()).isEqualTo(1);
+        clock.advance(Duration.ofSeconds(1));
+        replica.catchUp();
+        assertThat(cache.get(replica.id(), replica::load).getVersion()).isEqualTo(2);
+        assertThat(replica.loads.get()).isEqualTo(3);
+
+        clock.advance(Duration.ofSeconds(2));
+        assertThat(cache.get(replica.id(), replica::load).getVersion()).isEqualTo(2);
+        assertThat(cache.get(replica.id(), replica::load).getVersion()).isEqualTo(2);
+        assertThat(replica.loads.get()).isEqualTo(4);
+    }
+
+    @Test
+    void shouldCacheRightAwayWithoutReplicas() {
+        PropertyCache primaryOnly = new PropertyCache(new ConcurrentMapCache(PropertyService.PROPERTY_CACHE));
+        LaggingReplica primary = new LaggingReplica(property(1));
+
+        primaryOnly.evict(primary.id());
+        primaryOnly.get(primary.id(), primary::load);
+        primaryOnly.get(primary.id(), primary::load);
+
+        assertThat(primary.loads.get()).isEqualTo(1);
+    }
+
+    private static Property property(long version) {
+        Property property = new Property();
+        property.setId(ID);
+        property.setVersion(version);
+        return property;
+    }
+
+    private static final class LaggingReplica {
+
+        private final AtomicInteger loads = new AtomicInteger();
+        private Property primary;
+        private Property replicated;
+
+        private LaggingReplica(Property property) {
+            this.primary = property;
+            this.replicated = property;
+        }
+
+        UUID id() {
+            return primary.getId();
+        }
+
+        void catchUp() {
+            replicated = primary;
+        }
+
+        Property load() {
+            loads.incrementAndGet();
+            return replicated;
+        }
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now = Instant.parse("2024-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
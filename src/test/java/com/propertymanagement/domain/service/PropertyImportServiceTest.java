@@ -0,0 +1,101 @@
+package com.propertymanagement.domain.service;
+
+import com.propertymanagement.domain.Property;
+import com.propertymanagement.domain.PropertyStatus;
+import com.propertymanagement.domain.PropertyType;
+import com.propertymanagement.domain.event.PropertiesImportedEvent;
+import com.propertymanagement.persistence.repository.PropertyCopyRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PropertyImportServiceTest {
+
+    @Mock
+    private PropertyCopyRepository propertyCopyRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private PropertyImportService importService;
+
+    private final List<Property> copied = new ArrayList<>();
+
+    @Test
+    void shouldCopyValidRecordsAndReportRejectedOnes() {
+        stubCopy();
+        Property cheap = createTestProperty("2 Cheap Street");
+        cheap.setRentPrice(BigDecimal.ZERO);
+        
+        ImportResult result = importService.importProperties(List.of(
+                ImportRecord.valid(2, createTestProperty("1 Good Street")),
+                ImportRecord.valid(3, cheap),
+                ImportRecord.invalid(4, List.of("type: invalid value 'CASTLE'"))).iterator());
+        
+        assertThat(result.imported()).isEqualTo(1);
+        assertThat(result.rejected()).isEqualTo(2);
+        assertThat(result.rejections()).containsExactly(
+                new ImportResult.RejectedRow(3, List.of("Rent price must be greater than zero")),
+                new ImportResult.RejectedRow(4, List.of("type: invalid value 'CASTLE'")));
+        assertThat(copied).extracting(Property::getAddress).containsExactly("1 Good Street");
+        verify(eventPublisher).publishEvent(new PropertiesImportedEvent(1));
+    }
+
+    @Test
+    void shouldAssignIdsAndDefaultStatusBeforeCopying() {
+        stubCopy();
+        
+        importService.importProperties(List.of(ImportRecord.valid(1, createTestProperty("1 Good Street"))).iterator());
+        
+        assertThat(copied.get(0).getId()).isNotNull();
+        assertThat(copied.get(0).getStatus()).isEqualTo(PropertyStatus.AVAILABLE);
+    }
+
+    @Test
+    void shouldCapReportedRejections() {
+        stubCopy();
+        Iterator<ImportRecord> records = LongStream.rangeClosed(1, PropertyImportService.MAX_REPORTED_REJECTIONS + 5)
+                .mapToObj(line -> ImportRecord.invalid(line, List.of("bad")))
+                .iterator();
+        
+        ImportResult result = importService.importProperties(records);
+        
+        assertThat(result.rejected()).isEqualTo(PropertyImportService.MAX_REPORTED_REJECTIONS + 5);
+        assertThat(result.rejections()).hasSize(PropertyImportService.MAX_REPORTED_REJECTIONS);
+        verify(eventPublisher, never()).publishEvent(any(PropertiesImportedEvent.class));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void stubCopy() {
+        when(propertyCopyRepository.upsert(any())).thenAnswer(invocation -> {
+            Iterator<ImportRecord> records = invocation.getArgument(0);
+            records.forEachRemaining(record -> copied.add(record.property()));
+            return (long) copied.size();
+        });
+    }
+
+    private Property createTestProperty(String address) {
+        Property property = new Property();
+        property.setAddress(address);
+        property.setType(PropertyType.HOUSE);
+        property.setRentPrice(new BigDecimal("1000.00"));
+        return property;
+    }
+}
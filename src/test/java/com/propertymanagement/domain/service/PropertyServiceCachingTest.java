@@ -0,0 +1,186 @@
+package com.propertymanagement.domain.service;
+
+import com.propertymanagement.domain.Property;
+import com.propertymanagement.domain.PropertyStatus;
+import com.propertymanagement.domain.PropertyType;
+import com.propertymanagement.domain.exception.PropertyNotFoundException;
+import com.propertymanagement.domain.search.AddressSearch;
+import com.propertymanagement.domain.search.FacetSearch;
+import com.propertymanagement.domain.search.LocationSearch;
+import com.propertymanagement.domain.search.TextSearch;
+import com.propertymanagement.infrastructure.cache.PropertyCacheInvalidator;
+import com.propertymanagement.infrastructure.cache.PropertyResponseByteCache;
+import com.propertymanagement.persistence.repository.PropertyRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.convert.ApplicationConversionService;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@SpringJUnitConfig(PropertyServiceCachingTest.Config.class)
+class PropertyServiceCachingTest {
+
+    @Configuration
+    @EnableCaching
+    @Import({PropertyService.class, PropertyCacheInvalidator.class, PropertyResponseByteCache.class})
+    static class Config {
+
+        @Bean
+        CacheManager cacheManager() {
+            return new CaffeineCacheManager(PropertyService.PROPERTY_CACHE);
+        }
+
+        @Bean
+        PropertyCache propertyCache(CacheManager cacheManager) {
+            return new PropertyCache(cacheManager.getCache(PropertyService.PROPERTY_CACHE));
+        }
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        @Bean
+        ReadCoalescer readCoalescer(MeterRegistry meterRegistry) {
+            return new ReadCoalescer(TransactionOperations.withoutTransaction(), true,
+                    Duration.ofSeconds(1), () -> false, meterRegistry);
+        }
+
+        // Converts @Value sizes such as 64MB, as in the application
+        @Bean
+        static ConversionService conversionService() {
+            return ApplicationConversionService.getSharedInstance();
+        }
+    }
+
+    @MockBean
+    private PropertyRepository propertyRepository;
+
+    @MockBean
+    private AddressSearch addressSearch;
+
+    @MockBean
+    private LocationSearch locationSearch;
+
+    @MockBean
+    private TextSearch textSearch;
+
+    @MockBean
+    private FacetSearch facetSearch;
+
+    @Autowired
+    private PropertyService propertyService;
+
+    @Autowired
+    private PropertyCacheInvalidator invalidator;
+
+    @Autowired
+    private PropertyResponseByteCache responseBytes;
+
+    @Test
+    void shouldServeRepeatedLookupsFromCache() {
+        Property property = createTestProperty();
+        when(propertyRepository.findById(property.getId())).thenReturn(Optional.of(property));
+        
+        assertThat(propertyService.findById(property.getId())).isSameAs(property);
+        assertThat(propertyService.findById(property.getId())).isSameAs(property);
+        
+        verify(propertyRepository, times(1)).findById(property.getId());
+    }
+
+    @Test
+    void shouldReloadAfterEviction() {
+        Property property = createTestProperty();
+        when(propertyRepository.findById(property.getId())).thenReturn(Optional.of(property));
+        
+        propertyService.findById(property.getId());
+        invalidator.evict(property.getId());
+        propertyService.findById(property.getId());
+        
+        verify(propertyRepository, times(2)).findById(property.getId());
+    }
+
+    // The reader loaded version 1 before the write committed and evicted
+    @Test
+    void shouldNotCacheARowLoadedBeforeAnEviction() {
+        Property stale = createTestProperty();
+        stale.setVersion(1L);
+        Property current = createTestProperty();
+        current.setId(stale.getId());
+        current.setVersion(2L);
+        when(propertyRepository.findById(stale.getId())).thenAnswer(invocation -> {
+            invalidator.evict(stale.getId());
+            return Optional.of(stale);
+        }).thenReturn(Optional.of(current));
+        
+        assertThat(propertyService.findById(stale.getId())).isSameAs(stale);
+        assertThat(propertyService.findById(stale.getId())).isSameAs(current);
+        assertThat(propertyService.findById(stale.getId())).isSameAs(current);
+        
+        verify(propertyRepository, times(2)).findById(stale.getId());
+    }
+
+    @Test
+    void shouldEvictEncodedResponsesWithProperty() {
+        UUID id = UUID.randomUUID();
+        byte[] encoded = responseBytes.get(id, 1, MediaType.APPLICATION_JSON, () -> new byte[10]);
+        
+        invalidator.evict(id);
+        
+        assertThat(responseBytes.get(id, 1, MediaType.APPLICATION_JSON, () -> new byte[10])).isNotSameAs(encoded);
+    }
+
+    @Test
+    void shouldNotCacheMissingProperties() {
+        UUID id = UUID.randomUUID();
+        when(propertyRepository.findById(id)).thenReturn(Optional.empty());
+        
+        assertThatThrownBy(() -> propertyService.findById(id)).isInstanceOf(PropertyNotFoundException.class);
+        assertThatThrownBy(() -> propertyService.findById(id)).isInstanceOf(PropertyNotFoundException.class);
+        
+        verify(propertyRepository, times(2)).findById(id);
+    }
+
+    @Test
+    void shouldLoadFromRepositoryForWritesEvenWhenCached() {
+        Property property = createTestProperty();
+        when(propertyRepository.findById(property.getId())).thenReturn(Optional.of(property));
+        when(propertyRepository.save(any(Property.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        
+        propertyService.findById(property.getId());
+        propertyService.update(property.getId(), createTestProperty());
+        
+        verify(propertyRepository, times(2)).findById(property.getId());
+    }
+
+    private Property createTestProperty() {
+        Property property = new Property();
+        property.setId(UUID.randomUUID());
+        property.setAddress("123 Main Street");
+        property.setType(PropertyType.APARTMENT);
+        property.setRentPrice(new BigDecimal("1500.00"));
+        property.setStatus(PropertyStatus.AVAILABLE);
+        return property;
+    }
+}
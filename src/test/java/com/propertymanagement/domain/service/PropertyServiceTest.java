@@ -1,25 +1,60 @@
 package com.propertymanagement.domain.service;
 
 import com.propertymanagement.domain.Property;
+import com.propertymanagement.domain.PropertyFilter;
+import com.propertymanagement.domain.PropertyPatch;
 import com.propertymanagement.domain.PropertyStatus;
 import com.propertymanagement.domain.PropertyType;
+import com.propertymanagement.domain.event.PropertyChangedEvent;
 import com.propertymanagement.domain.exception.PropertyNotFoundException;
+import com.propertymanagement.domain.exception.PropertyVersionMismatchException;
+import com.propertymanagement.domain.pagination.Cursor;
+import com.propertymanagement.domain.pagination.CursorPage;
+import com.propertymanagement.domain.pagination.RankCursor;
+import com.propertymanagement.domain.projection.PropertyField;
+import com.propertymanagement.domain.projection.PropertyProjection;
+import com.propertymanagement.domain.search.AddressMatch;
+import com.propertymanagement.domain.search.AddressSearch;
+import com.propertymanagement.domain.search.GeoPoint;
+import com.propertymanagement.domain.search.LocationSearch;
+import com.propertymanagement.domain.search.FacetSearch;
+import com.propertymanagement.domain.search.NearbyProperty;
+import com.propertymanagement.domain.search.PropertySnapshot;
+import com.propertymanagement.domain.search.TextMatch;
+import com.propertymanagement.domain.search.TextSearch;
 import com.propertymanagement.persistence.repository.PropertyRepository;
+import com.propertymanagement.persistence.repository.PropertySpecifications;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.support.NoOpCache;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.transaction.support.TransactionOperations;
 
 import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -28,6 +63,34 @@ class PropertyServiceTest {
     @Mock
     private PropertyRepository propertyRepository;
 
+    @Mock
+    private AddressSearch addressSearch;
+
+    @Mock
+    private LocationSearch locationSearch;
+
+    @Mock
+    private TextSearch textSearch;
+
+    @Mock
+    private FacetSearch facetSearch;
+
+    @Mock
+    private ObjectProvider<PropertySnapshot> snapshot;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Spy
+    private ReadCoalescer reads = new ReadCoalescer(TransactionOperations.withoutTransaction(), true,
+            Duration.ofSeconds(1), () -> false, new SimpleMeterRegistry());
+
+    @Spy
+    private PropertyCache cache = new PropertyCache(new NoOpCache(PropertyService.PROPERTY_CACHE));
+
     @InjectMocks
     private PropertyService propertyService;
 
@@ -54,6 +117,7 @@ class PropertyServiceTest {
         assertThat(created).isNotNull();
         assertThat(created.getAddress()).isEqualTo("123 Main Street");
         verify(propertyRepository).save(testProperty);
+        verify(eventPublisher).publishEvent(PropertyChangedEvent.created(testProperty));
     }
 
     @Test
@@ -97,13 +161,58 @@ class PropertyServiceTest {
     }
 
     @Test
-    void shouldFindAllProperties() {
-        when(propertyRepository.findAll()).thenReturn(List.of(testProperty));
+    @SuppressWarnings("unchecked")
+    void shouldReturnNextCursorWhenMoreRowsExist() {
+        Property first = pagedProperty(1);
+        Property second = pagedProperty(2);
+        Property third = pagedProperty(3);
+        when(propertyRepository.findBy(any(Specification.class), any(Function.class)))
+                .thenReturn(List.of(first, second, third));
         
-        List<Property> properties = propertyService.findAll();
+        CursorPage<Property> page = propertyService.findPage(PropertyFilter.none(), null, 2);
         
-        assertThat(properties).hasSize(1);
-        verify(propertyRepository).findAll();
+        assertThat(page.items()).containsExactly(first, second);
+        assertThat(page.nextCursor()).isEqualTo(Cursor.of(second).encode());
+    }
+
+    @Test
+    void shouldServePagesFromTheSnapshotWhenEnabled() {
+        PropertySnapshot propertySnapshot = mock(PropertySnapshot.class);
+        Property first = pagedProperty(1);
+        Property second = pagedProperty(2);
+        when(snapshot.getIfAvailable()).thenReturn(propertySnapshot);
+        when(propertySnapshot.find(PropertyFilter.none(), Cursor.of(first), 2)).thenReturn(List.of(second));
+        
+        CursorPage<Property> page = propertyService.findPage(PropertyFilter.none(), Cursor.of(first).encode(), 1);
+        
+        assertThat(page.items()).containsExactly(second);
+        assertThat(page.hasNext()).isFalse();
+        verifyNoInteractions(propertyRepository);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldReturnLastPageWithoutCursor() {
+        when(propertyRepository.findBy(any(Specification.class), any(Function.class)))
+                .thenReturn(List.of(pagedProperty(1)));
+        
+        CursorPage<Property> page = propertyService.findPage(PropertyFilter.none(), null, 2);
+        
+        assertThat(page.items()).hasSize(1);
+        assertThat(page.hasNext()).isFalse();
+    }
+
+    @Test
+    void shouldRejectNonPositiveLimit() {
+        assertThatThrownBy(() -> propertyService.findPage(PropertyFilter.none(), null, 0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Limit must be greater than zero");
+    }
+
+    @Test
+    void shouldRejectMalformedCursor() {
+        assertThatThrownBy(() -> propertyService.findPage(PropertyFilter.none(), "not-a-cursor", 10))
+                .isInstanceOf(IllegalArgumentException.class);
     }
 
     @Test
@@ -126,13 +235,225 @@ class PropertyServiceTest {
     }
 
     @Test
-    void shouldDeleteProperty() {
+    void shouldRejectUpdateAgainstStaleVersion() {
         UUID id = testProperty.getId();
+        testProperty.setVersion(4L);
         when(propertyRepository.findById(id)).thenReturn(Optional.of(testProperty));
-        doNothing().when(propertyRepository).delete(testProperty);
+        
+        assertThatThrownBy(() -> propertyService.update(id, testProperty, 3L))
+                .isInstanceOf(PropertyVersionMismatchException.class);
+        
+        verify(propertyRepository, never()).save(any(Property.class));
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void shouldFindVersionWithoutLoadingProperty() {
+        UUID id = testProperty.getId();
+        when(propertyRepository.findVersionById(id)).thenReturn(Optional.of(7L));
+        
+        assertThat(propertyService.findVersion(id)).isEqualTo(7L);
+        verify(propertyRepository, never()).findById(id);
+    }
+
+    @Test
+    void shouldPatchInSingleStatement() {
+        UUID id = testProperty.getId();
+        PropertyPatch patch = new PropertyPatch(null, null, null, null, null,
+                new BigDecimal("1600.00"), null, null, null, null);
+        when(propertyRepository.patch(id, patch, null)).thenReturn(Optional.of(testProperty));
+        
+        Property result = propertyService.patch(id, patch, null);
+        
+        assertThat(result).isSameAs(testProperty);
+        verify(propertyRepository, never()).findById(id);
+        verify(eventPublisher).publishEvent(PropertyChangedEvent.updated(testProperty));
+    }
+
+    @Test
+    void shouldRejectEmptyOrInvalidPatch() {
+        UUID id = testProperty.getId();
+        
+        assertThatThrownBy(() -> propertyService.patch(id,
+                new PropertyPatch(null, null, null, null, null, null, null, null, null, null), null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Patch must change at least one field");
+        assertThatThrownBy(() -> propertyService.patch(id,
+                new PropertyPatch("  ", null, null, null, null, null, null, null, null, null), null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Address is required");
+        verifyNoInteractions(propertyRepository);
+    }
+
+    @Test
+    void shouldTellMissingFromStaleWhenPatchMatchesNothing() {
+        UUID id = testProperty.getId();
+        PropertyPatch patch = new PropertyPatch(null, null, 3, null, null, null, null, null, null, null);
+        when(propertyRepository.patch(id, patch, 2L)).thenReturn(Optional.empty());
+        when(propertyRepository.findVersionById(id)).thenReturn(Optional.of(5L));
+        when(propertyRepository.patch(id, patch, null)).thenReturn(Optional.empty());
+        
+        assertThatThrownBy(() -> propertyService.patch(id, patch, 2L))
+                .isInstanceOf(PropertyVersionMismatchException.class);
+        assertThatThrownBy(() -> propertyService.patch(id, patch, null))
+                .isInstanceOf(PropertyNotFoundException.class);
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void shouldDeleteProperty() {
+        UUID id = testProperty.getId();
+        when(propertyRepository.deleteRowById(id)).thenReturn(1);
         
         propertyService.delete(id);
         
-        verify(propertyRepository).delete(testProperty);
+        verify(propertyRepository, never()).findById(id);
+        verify(eventPublisher).publishEvent(PropertyChangedEvent.deleted(id));
+    }
+
+    @Test
+    void shouldThrowWhenDeletingMissingProperty() {
+        UUID id = UUID.randomUUID();
+        when(propertyRepository.deleteRowById(id)).thenReturn(0);
+        
+        assertThatThrownBy(() -> propertyService.delete(id))
+                .isInstanceOf(PropertyNotFoundException.class);
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void shouldSearchByTrimmedAddressWithCappedLimit() {
+        when(addressSearch.search("main", null, PropertyService.MAX_PAGE_SIZE + 1))
+                .thenReturn(List.of(new AddressMatch(testProperty, 0.5f)));
+        
+        CursorPage<Property> page = propertyService.searchByAddress("  main ", null, 10_000);
+        
+        assertThat(page.items()).containsExactly(testProperty);
+        assertThat(page.hasNext()).isFalse();
+    }
+
+    @Test
+    void shouldPageAddressSearchByRankAndId() {
+        Property second = new Property();
+        second.setId(UUID.randomUUID());
+        RankCursor after = new RankCursor(0.8f, UUID.randomUUID());
+        when(addressSearch.search("main", after, 2)).thenReturn(List.of(
+                new AddressMatch(testProperty, 0.5f), new AddressMatch(second, 0.4f)));
+        
+        CursorPage<Property> page = propertyService.searchByAddress("main", after.encode(), 1);
+        
+        assertThat(page.items()).containsExactly(testProperty);
+        assertThat(RankCursor.decode(page.nextCursor())).isEqualTo(new RankCursor(0.5f, testProperty.getId()));
+    }
+
+    @Test
+    void shouldRecordResultSizePerQuery() {
+        when(addressSearch.search("main", null, 21)).thenReturn(List.of(new AddressMatch(testProperty, 0.5f)));
+        
+        propertyService.searchByAddress("main", null, 20);
+        
+        DistributionSummary results = meterRegistry.get(PropertyService.RESULT_SIZE_METRIC)
+                .tag("query", "search").summary();
+        assertThat(results.count()).isEqualTo(1);
+        assertThat(results.totalAmount()).isEqualTo(1.0);
+    }
+
+    @Test
+    void shouldReturnProjectedSearchHitsInRankOrder() {
+        UUID best = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        Set<PropertyField> fields = PropertyField.parse("address");
+        when(addressSearch.rank("main", null, 2)).thenReturn(List.of(
+                new RankCursor(0.9f, best), new RankCursor(0.7f, second)));
+        when(propertyRepository.findProjected(any(), eq(fields), any(), eq(2))).thenReturn(List.of(
+                new PropertyProjection(second, LocalDateTime.now(), 0, Map.of("id", second)),
+                new PropertyProjection(best, LocalDateTime.now(), 0, Map.of("id", best))));
+        
+        CursorPage<PropertyProjection> page = propertyService.searchByAddress("main", fields, null, 1);
+        
+        assertThat(page.items()).extracting(PropertyProjection::id).containsExactly(best);
+        assertThat(page.nextCursor()).isEqualTo(new RankCursor(0.9f, best).encode());
+        verify(addressSearch, never()).search(any(), any(), anyInt());
+    }
+
+    @Test
+    void shouldPageProjectionsByKeyset() {
+        Set<PropertyField> fields = PropertyField.parse("rentPrice");
+        List<PropertyProjection> rows = List.of(
+                new PropertyProjection(UUID.randomUUID(), LocalDateTime.now(), 0, Map.of()),
+                new PropertyProjection(UUID.randomUUID(), LocalDateTime.now(), 0, Map.of()));
+        when(propertyRepository.findProjected(any(), eq(fields), eq(PropertySpecifications.KEYSET_ORDER), eq(2)))
+                .thenReturn(rows);
+        
+        CursorPage<PropertyProjection> page = propertyService.findPage(PropertyFilter.none(), fields, null, 1);
+        
+        assertThat(page.items()).containsExactly(rows.get(0));
+        assertThat(page.nextCursor()).isEqualTo(rows.get(0).cursor().encode());
+    }
+
+    @Test
+    void shouldRejectBlankSearchTerm() {
+        assertThatThrownBy(() -> propertyService.searchByAddress(" ", null, 10))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Search term is required");
+    }
+
+    @Test
+    void shouldSearchNearbyWithCappedLimit() {
+        GeoPoint center = new GeoPoint(52.52, 13.405);
+        List<NearbyProperty> hits = List.of(new NearbyProperty(testProperty, 0.4));
+        when(locationSearch.nearby(center, 2.5, PropertyFilter.none(), PropertyService.MAX_PAGE_SIZE)).thenReturn(hits);
+        
+        assertThat(propertyService.findNearby(center, 2.5, PropertyFilter.none(), 10_000)).isEqualTo(hits);
+    }
+
+    @Test
+    void shouldRejectRadiusOutOfRange() {
+        GeoPoint center = new GeoPoint(52.52, 13.405);
+        
+        assertThatThrownBy(() -> propertyService.findNearby(center, 0, PropertyFilter.none(), 10))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Radius");
+        assertThatThrownBy(() -> propertyService.findNearby(center, 500, PropertyFilter.none(), 10))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Radius");
+        verifyNoInteractions(locationSearch);
+    }
+
+    @Test
+    void shouldRequireBothCoordinates() {
+        testProperty.setLatitude(52.52);
+        
+        assertThatThrownBy(() -> propertyService.create(testProperty))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Latitude and longitude must be given together");
+        verify(propertyRepository, never()).save(any());
+    }
+
+    @Test
+    void shouldPageTextMatchesByRank() {
+        Property first = pagedProperty(1);
+        Property second = pagedProperty(2);
+        List<TextMatch> matches = List.of(new TextMatch(first, 0.9f), new TextMatch(second, 0.5f));
+        when(textSearch.search("balcony", PropertyFilter.none(), null, 2)).thenReturn(matches);
+        
+        CursorPage<Property> page = propertyService.searchText(" balcony ", PropertyFilter.none(), null, 1);
+        
+        assertThat(page.items()).containsExactly(first);
+        assertThat(RankCursor.decode(page.nextCursor())).isEqualTo(new RankCursor(0.9f, first.getId()));
+        
+        when(textSearch.search("balcony", PropertyFilter.none(), new RankCursor(0.9f, first.getId()), 2))
+                .thenReturn(matches.subList(1, 2));
+        CursorPage<Property> next = propertyService.searchText("balcony", PropertyFilter.none(), page.nextCursor(), 1);
+        
+        assertThat(next.items()).containsExactly(second);
+        assertThat(next.hasNext()).isFalse();
+    }
+
+    private Property pagedProperty(int minute) {
+        Property property = new Property();
+        property.setId(UUID.randomUUID());
+        property.setCreatedAt(LocalDateTime.of(2024, 1, 1, 12, minute));
+        return property;
     }
-}
\ No newline at end of file
+}
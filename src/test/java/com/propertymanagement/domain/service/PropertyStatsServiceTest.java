@@ -0,0 +1,92 @@
+package com.propertymanagement.domain.service;
+
+import com.propertymanagement.domain.PropertyStatus;
+import com.propertymanagement.domain.PropertyType;
+import com.propertymanagement.persistence.repository.PropertyStatsRepository;
+import com.propertymanagement.persistence.repository.PropertyStatsRepository.SummaryRow;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PropertyStatsServiceTest {
+
+    @Mock
+    private PropertyStatsRepository statsRepository;
+
+    @InjectMocks
+    private PropertyStatsService statsService;
+
+    @Test
+    void shouldCombineSummaryRowsIntoPortfolioFigures() {
+        when(statsRepository.findSummary()).thenReturn(List.of(
+                new SummaryRow(PropertyStatus.RENTED, PropertyType.APARTMENT, 3,
+                        new BigDecimal("4500.00"), 2, new BigDecimal("40.00")),
+                new SummaryRow(PropertyStatus.AVAILABLE, PropertyType.APARTMENT, 1,
+                        new BigDecimal("1000.00"), 0, BigDecimal.ZERO)));
+        when(statsRepository.findHistogram(PropertyStatsRepository.RENT))
+                .thenReturn(histogram(1000, 1, 1500, 3));
+        when(statsRepository.findHistogram(PropertyStatsRepository.RENT_PER_SQM))
+                .thenReturn(histogram(20, 2));
+        
+        PropertyStats stats = statsService.stats();
+        
+        assertThat(stats.total()).isEqualTo(4);
+        assertThat(stats.byStatus()).containsEntry(PropertyStatus.RENTED, 3L)
+                .containsEntry(PropertyStatus.AVAILABLE, 1L)
+                .containsEntry(PropertyStatus.MAINTENANCE, 0L);
+        assertThat(stats.byType()).containsEntry(PropertyType.APARTMENT, 4L)
+                .containsEntry(PropertyType.HOUSE, 0L);
+        assertThat(stats.occupancyRate()).isEqualTo(0.75);
+        assertThat(stats.rent().average()).isEqualByComparingTo("1375.00");
+        assertThat(stats.rent().median().doubleValue()).isCloseTo(1500, within(15.0));
+        assertThat(stats.rent().p90().doubleValue()).isCloseTo(1500, within(15.0));
+        assertThat(stats.rentPerSquareMeter().average()).isEqualByComparingTo("20.00");
+        assertThat(stats.rentPerSquareMeter().median().doubleValue()).isCloseTo(20, within(0.2));
+    }
+
+    @Test
+    void shouldReportEmptyPortfolioWithoutReadingHistograms() {
+        when(statsRepository.findSummary()).thenReturn(List.of());
+        
+        PropertyStats stats = statsService.stats();
+        
+        assertThat(stats.total()).isZero();
+        assertThat(stats.occupancyRate()).isZero();
+        assertThat(stats.rent()).isEqualTo(new PropertyStats.PriceStats(null, null, null));
+        verify(statsRepository, never()).findHistogram(anyString());
+    }
+
+    @Test
+    void shouldReadPercentilesWithinOnePercent() {
+        Map<Integer, Long> buckets = new HashMap<>();
+        for (int price = 1; price <= 10_000; price++) {
+            buckets.merge(PriceHistogram.bucketOf(price), 1L, Long::sum);
+        }
+        PriceHistogram histogram = new PriceHistogram(buckets);
+        
+        assertThat(histogram.count()).isEqualTo(10_000);
+        assertThat(histogram.percentile(0.5).doubleValue()).isCloseTo(5000, within(50.0));
+        assertThat(histogram.percentile(0.9).doubleValue()).isCloseTo(9000, within(90.0));
+        assertThat(new PriceHistogram(Map.of()).percentile(0.5)).isNull();
+    }
+
+    private static Map<Integer, Long> histogram(double... valueCountPairs) {
+        Map<Integer, Long> buckets = new HashMap<>();
+        for (int i = 0; i < valueCountPairs.length; i += 2) {
+            buckets.merge(PriceHistogram.bucketOf(valueCountPairs[i]), (long) valueCountPairs[i + 1], Long::sum);
+        }
+        return buckets;
+    }
+}
@@ -0,0 +1,186 @@
+package com.propertymanagement.domain.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ReadCoalescerTest {
+
+    private static final int CALLERS = 8;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<Thread> callers = new CopyOnWriteArrayList<>();
+    private final ExecutorService executor = Executors.newFixedThreadPool(CALLERS, runnable -> {
+        Thread thread = new Thread(runnable);
+        callers.add(thread);
+        return thread;
+    });
+    private final AtomicInteger executions = new AtomicInteger();
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private ReadCoalescer coalescer = coalescer(Duration.ofSeconds(5), false);
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.shutdownNow();
+    }
+
+    @Test
+    void shouldShareOneExecutionBetweenConcurrentIdenticalReads() throws Exception {
+        List<Future<Object>> results = submit(CALLERS,
+                () -> coalescer.read("page", List.of("a", 50), this::blockingQuery));
+        awaitFollowers(CALLERS - 1);
+        release.countDown();
+
+        Object first = results.get(0).get(5, TimeUnit.SECONDS);
+        for (Future<Object> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isSameAs(first);
+        }
+        assertThat(executions).hasValue(1);
+        assertThat(count("page", "leader")).isEqualTo(1);
+        assertThat(count("page", "follower")).isEqualTo(CALLERS - 1);
+        assertThat(coalescer.inFlight()).isZero();
+    }
+
+    @Test
+    void shouldRunDistinctKeysSeparately() {
+        release.countDown();
+
+        coalescer.read("page", List.of("a", 50), this::blockingQuery);
+        coalescer.read("page", List.of("a", 20), this::blockingQuery);
+        coalescer.read("search", List.of("a", 50), this::blockingQuery);
+
+        assertThat(executions).hasValue(3);
+    }
+
+    @Test
+    void shouldShareLeaderFailureWithFollowers() throws Exception {
+        List<Future<Object>> results = submit(CALLERS, () -> coalescer.read("by_id", List.of(1), () -> {
+            blockingQuery();
+            throw new IllegalArgumentException("no such row");
+        }));
+        awaitFollowers(CALLERS - 1);
+        release.countDown();
+
+        for (Future<Object> result : results) {
+            assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS))
+                    .isInstanceOf(ExecutionException.class)
+                    .hasCauseInstanceOf(IllegalArgumentException.class);
+        }
+        assertThat(executions).hasValue(1);
+        assertThat(coalescer.inFlight()).isZero();
+    }
+
+    @Test
+    void shouldRunOwnQueryWhenLeaderTakesLongerThanTimeout() throws Exception {
+        coalescer = coalescer(Duration.ofMillis(50), false);
+        Future<Object> leader = submit(1, () -> coalescer.read("facets", List.of("a"), this::blockingQuery)).get(0);
+        awaitExecutions(1);
+
+        Object own = coalescer.read("facets", List.of("a"), () -> "own result");
+        release.countDown();
+
+        assertThat(own).isEqualTo("own result");
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isNotNull();
+        assertThat(count("facets", "timeout")).isEqualTo(1);
+    }
+
+    @Test
+    void shouldNotJoinAQueryThatStartedBeforeAWrite() throws Exception {
+        Future<Object> before = submit(1, () -> coalescer.read("by_id", List.of(1), this::blockingQuery)).get(0);
+        awaitExecutions(1);
+        coalescer.recordWrite();
+
+        List<Future<Object>> after = submit(3, () -> coalescer.read("by_id", List.of(1), this::blockingQuery));
+        awaitFollowers(3); // the earlier leader blocks too
+        release.countDown();
+
+        Object shared = after.get(0).get(5, TimeUnit.SECONDS);
+        for (Future<Object> result : after) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isSameAs(shared);
+        }
+        assertThat(before.get(5, TimeUnit.SECONDS)).isNotSameAs(shared);
+        assertThat(executions).hasValue(2);
+        assertThat(count("by_id", "stale")).isEqualTo(1);
+        assertThat(count("by_id", "follower")).isEqualTo(2);
+        assertThat(coalescer.inFlight()).isZero();
+    }
+
+    @Test
+    void shouldNotShareReadsInsideTransactionsOrWhenBypassed() {
+        release.countDown();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        try {
+            coalescer.read("by_id", List.of(1), this::blockingQuery);
+        } finally {
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+        }
+        coalescer(Duration.ofSeconds(5), true).read("by_id", List.of(1), this::blockingQuery);
+
+        assertThat(executions).hasValue(2);
+        assertThat(count("by_id", "bypass")).isEqualTo(2);
+    }
+
+    private ReadCoalescer coalescer(Duration timeout, boolean bypass) {
+        return new ReadCoalescer(TransactionOperations.withoutTransaction(), true, timeout, () -> bypass,
+                meterRegistry);
+    }
+
+    private Object blockingQuery() {
+        executions.incrementAndGet();
+        try {
+            release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return new Object();
+    }
+
+    private List<Future<Object>> submit(int count, Supplier<Object> read) {
+        List<Future<Object>> results = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            results.add(executor.submit(read::get));
+        }
+        return results;
+    }
+
+    // The leader blocks in the query and every follower in its wait for the shared result
+    private void awaitFollowers(int followers) throws InterruptedException {
+        awaitExecutions(1);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (callers.stream().filter(thread -> thread.getState() == Thread.State.TIMED_WAITING).count()
+                < followers + 1 && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+
+    private void awaitExecutions(int count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (executions.get() < count && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+
+    private double count(String query, String role) {
+        return meterRegistry.get(ReadCoalescer.METRIC).tag("query", query).tag("role", role).counter().count();
+    }
+}
@@ -0,0 +1,62 @@
+package com.propertymanagement.infrastructure.cache;
+
+import com.propertymanagement.domain.event.PropertyChangeNotifiedEvent;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.postgresql.PGNotification;
+import org.postgresql.core.Notification;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.Set;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class PropertyChangeNotificationListenerTest {
+
+    @Mock
+    private PropertyCacheInvalidator invalidator;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Test
+    void shouldEvictEveryIdAStatementNamed() {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        UUID third = UUID.randomUUID();
+        
+        listener().handle(new PGNotification[]{notification(first + "," + second), notification(third.toString())});
+        
+        verify(invalidator).evict(first);
+        verify(invalidator).evict(second);
+        verify(invalidator).evict(third);
+        verify(eventPublisher).publishEvent(PropertyChangeNotifiedEvent.of(Set.of(first, second, third)));
+    }
+
+    @Test
+    void shouldDropEverythingWhenAStatementChangedTooManyRowsToName() {
+        UUID named = UUID.randomUUID();
+        
+        listener().handle(new PGNotification[]{
+                notification(named.toString()), notification(PropertyChangeNotificationListener.ANY)});
+        
+        verify(invalidator).evictAll();
+        verify(invalidator, never()).evict(any());
+        verify(eventPublisher).publishEvent(PropertyChangeNotifiedEvent.any());
+    }
+
+    private PropertyChangeNotificationListener listener() {
+        return new PropertyChangeNotificationListener(new DataSourceProperties(), invalidator, eventPublisher);
+    }
+
+    private static PGNotification notification(String payload) {
+        return new Notification(PropertyChangeNotificationListener.CHANNEL, 0, payload);
+    }
+}
@@ -0,0 +1,88 @@
+package com.propertymanagement.infrastructure.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.util.unit.DataSize;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PropertyResponseByteCacheTest {
+
+    private static final MediaType PROTOBUF = MediaType.parseMediaType("application/x-protobuf");
+
+    private final PropertyResponseByteCache cache = new PropertyResponseByteCache(DataSize.ofKilobytes(64));
+    private final AtomicInteger encodings = new AtomicInteger();
+
+    @Test
+    void shouldEncodeOncePerVersionAndMediaType() {
+        UUID id = UUID.randomUUID();
+
+        byte[] json = cache.get(id, 1, MediaType.APPLICATION_JSON, encoder(100));
+        assertThat(cache.get(id, 1, MediaType.APPLICATION_JSON, encoder(100))).isSameAs(json);
+        cache.get(id, 1, PROTOBUF, encoder(40));
+        assertThat(encodings).hasValue(2);
+
+        assertThat(cache.get(id, 2, MediaType.APPLICATION_JSON, encoder(100))).isNotSameAs(json);
+        assertThat(encodings).hasValue(3);
+    }
+
+    @Test
+    void shouldNotReplaceNewerVersionWithOlderOne() {
+        UUID id = UUID.randomUUID();
+        byte[] current = cache.get(id, 5, MediaType.APPLICATION_JSON, encoder(100));
+
+        cache.get(id, 4, MediaType.APPLICATION_JSON, encoder(100));
+
+        assertThat(cache.get(id, 5, MediaType.APPLICATION_JSON, encoder(100))).isSameAs(current);
+        assertThat(encodings).hasValue(2);
+    }
+
+    @Test
+    void shouldEvictEveryMediaTypeOfProperty() {
+        UUID id = UUID.randomUUID();
+        UUID other = UUID.randomUUID();
+        cache.get(id, 1, MediaType.APPLICATION_JSON, encoder(100));
+        cache.get(id, 1, PROTOBUF, encoder(40));
+        cache.get(other, 1, MediaType.APPLICATION_JSON, encoder(100));
+
+        cache.evict(id);
+
+        cache.get(id, 1, MediaType.APPLICATION_JSON, encoder(100));
+        cache.get(id, 1, PROTOBUF, encoder(40));
+        cache.get(other, 1, MediaType.APPLICATION_JSON, encoder(100));
+        assertThat(encodings).hasValue(5);
+    }
+
+    @Test
+    void shouldBoundTotalEncodedBytes() {
+        for (int i = 0; i < 200; i++) {
+            cache.get(UUID.randomUUID(), 1, MediaType.APPLICATION_JSON, encoder(1_000));
+        }
+
+        long weight = cache.weightedSize();
+        assertThat(weight).isLessThanOrEqualTo(DataSize.ofKilobytes(64).toBytes());
+        assertThat(weight).isGreaterThan(DataSize.ofKilobytes(32).toBytes());
+    }
+
+    @Test
+    void shouldReportSizeInBytes() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        cache.bindTo(registry);
+        cache.get(UUID.randomUUID(), 1, MediaType.APPLICATION_JSON, encoder(1_000));
+
+        assertThat(registry.get("cache.weighted.size").tag("cache", PropertyResponseByteCache.CACHE_NAME)
+                .gauge().value()).isEqualTo(1_000 + PropertyResponseByteCache.ENTRY_OVERHEAD_BYTES);
+    }
+
+    private Supplier<byte[]> encoder(int length) {
+        return () -> {
+            encodings.incrementAndGet();
+            return new byte[length];
+        };
+    }
+}
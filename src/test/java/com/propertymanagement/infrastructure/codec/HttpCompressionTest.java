@@ -0,0 +1,88 @@
+package com.propertymanagement.infrastructure.codec;
+
+import com.github.luben.zstd.ZstdInputStream;
+import com.propertymanagement.domain.Property;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayInputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Through Tomcat itself: its gzip refuses responses with a strong ETag, which MockMvc cannot show
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class HttpCompressionTest {
+
+    // java.net.http leaves Content-Encoding and the compressed body as they came
+    private final HttpClient client = HttpClient.newHttpClient();
+    private final List<UUID> ids = new ArrayList<>();
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void insertAPageWellAboveTheMinimumSize() {
+        for (int i = 0; i < 20; i++) {
+            UUID id = UUID.randomUUID();
+            jdbcTemplate.update("""
+                    INSERT INTO properties (id, address, type, rent_price, status, description,
+                                            created_at, updated_at, version)
+                    VALUES (?, ?, 'APARTMENT', 1500.00, 'AVAILABLE', 'Bright two-bedroom flat close to the station', ?, ?, 0)
+                    """, id, i + " Compression Crescent", Property.now(), Property.now());
+            ids.add(id);
+        }
+    }
+
+    @AfterEach
+    void deleteInsertedRows() {
+        ids.forEach(id -> jdbcTemplate.update("DELETE FROM properties WHERE id = ?", id));
+    }
+
+    @Test
+    void shouldGzipListsForGzipOnlyClients() throws Exception {
+        HttpResponse<byte[]> response = get("/api/v1/properties", "gzip");
+
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.headers().firstValue(HttpHeaders.CONTENT_ENCODING)).hasValue("gzip");
+        assertThat(response.headers().firstValue(HttpHeaders.ETAG)).hasValueSatisfying(etag -> assertThat(etag).startsWith("W/"));
+        try (GZIPInputStream body = new GZIPInputStream(new ByteArrayInputStream(response.body()))) {
+            assertThat(new String(body.readAllBytes())).contains("Compression Crescent");
+        }
+    }
+
+    @Test
+    void shouldPreferZstdWhenBothAreAccepted() throws Exception {
+        HttpResponse<byte[]> response = get("/api/v1/properties", "gzip, zstd");
+
+        assertThat(response.headers().firstValue(HttpHeaders.CONTENT_ENCODING)).hasValue("zstd");
+        try (ZstdInputStream body = new ZstdInputStream(new ByteArrayInputStream(response.body()))) {
+            assertThat(new String(body.readAllBytes())).contains("Compression Crescent");
+        }
+    }
+
+    private HttpResponse<byte[]> get(String path, String acceptEncoding) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .header(HttpHeaders.ACCEPT_ENCODING, acceptEncoding)
+                .build();
+        return client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+    }
+}
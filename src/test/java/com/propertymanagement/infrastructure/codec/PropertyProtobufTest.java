@@ -0,0 +1,104 @@
+package com.propertymanagement.infrastructure.codec;
+
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.UnknownFieldSet;
+import com.propertymanagement.api.dto.request.CreatePropertyRequest;
+import com.propertymanagement.api.dto.response.PropertyResponse;
+import com.propertymanagement.domain.PropertyStatus;
+import com.propertymanagement.domain.PropertyType;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PropertyProtobufTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2024, 3, 1, 9, 30, 15, 123_456_000);
+
+    @Test
+    void shouldRoundTripPropertyLists() throws IOException {
+        PropertyResponse full = response();
+        PropertyResponse sparse = new PropertyResponse();
+        sparse.setId(UUID.randomUUID());
+        sparse.setAddress("1 Sparse Lane");
+        sparse.setType(PropertyType.OTHER);
+        sparse.setBedrooms(0);
+        sparse.setRentPrice(new BigDecimal("999.90"));
+        sparse.setStatus(PropertyStatus.AVAILABLE);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        PropertyProtobuf.writeList(List.of(full, sparse), out);
+
+        assertThat(PropertyProtobuf.readList(new ByteArrayInputStream(out.toByteArray())))
+                .containsExactly(full, sparse);
+    }
+
+    // Field numbers and wire types as declared in property.proto
+    @Test
+    void shouldWriteTheFieldsDeclaredInTheSchema() throws IOException {
+        PropertyResponse response = response();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        PropertyProtobuf.write(response, out);
+
+        UnknownFieldSet fields = UnknownFieldSet.parseFrom(out.toByteArray());
+
+        assertThat(fields.getField(1).getLengthDelimitedList().get(0).toStringUtf8())
+                .isEqualTo(response.getId().toString());
+        assertThat(fields.getField(2).getLengthDelimitedList().get(0).toStringUtf8()).isEqualTo("10 Downing Street");
+        assertThat(fields.getField(3).getVarintList()).containsExactly(2L);
+        assertThat(fields.getField(4).getVarintList()).containsExactly(3L);
+        assertThat(fields.getField(6).getFixed64List()).containsExactly(Double.doubleToLongBits(82.5));
+        assertThat(fields.getField(7).getVarintList()).containsExactly(245_050L);
+        assertThat(fields.getField(8).getVarintList()).containsExactly(2L);
+        assertThat(fields.getField(10).getFixed64List()).containsExactly(Double.doubleToLongBits(51.5034));
+        UnknownFieldSet createdAt = UnknownFieldSet.parseFrom(fields.getField(12).getLengthDelimitedList().get(0));
+        assertThat(createdAt.getField(1).getVarintList()).containsExactly(CREATED_AT.toEpochSecond(ZoneOffset.UTC));
+        assertThat(createdAt.getField(2).getVarintList()).containsExactly(123_456_000L);
+        assertThat(fields.hasField(5)).isFalse();
+    }
+
+    @Test
+    void shouldReadCreateRequestsAndSkipUnknownFields() throws IOException {
+        CreatePropertyRequest request = new CreatePropertyRequest("5 Proto Road", PropertyType.APARTMENT,
+                2, 1, 60.0, new BigDecimal("1200.50"), null, "Quiet", 48.8566, 2.3522);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        PropertyProtobuf.write(request, out);
+        CodedOutputStream extra = CodedOutputStream.newInstance(out);
+        extra.writeString(99, "added by a newer client");
+        extra.writeEnum(42, 7);
+        extra.flush();
+
+        assertThat(PropertyProtobuf.readRequest(new ByteArrayInputStream(out.toByteArray()))).isEqualTo(request);
+    }
+
+    @Test
+    void shouldTreatUnspecifiedAndUnknownEnumNumbersAsAbsent() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        CodedOutputStream coded = CodedOutputStream.newInstance(out);
+        coded.writeString(1, "7 Enum Street");
+        coded.writeEnum(2, 0);
+        coded.writeEnum(7, 42);
+        coded.flush();
+
+        CreatePropertyRequest request = PropertyProtobuf.readRequest(new ByteArrayInputStream(out.toByteArray()));
+
+        assertThat(request.getAddress()).isEqualTo("7 Enum Street");
+        assertThat(request.getType()).isNull();
+        assertThat(request.getStatus()).isNull();
+        assertThat(request.getRentPrice()).isNull();
+    }
+
+    private static PropertyResponse response() {
+        return new PropertyResponse(UUID.randomUUID(), "10 Downing Street", PropertyType.HOUSE, 3, null, 82.5,
+                new BigDecimal("2450.50"), PropertyStatus.RENTED, "Central, with garden", 51.5034, -0.1276,
+                CREATED_AT, CREATED_AT.plusDays(2));
+    }
+}
@@ -0,0 +1,121 @@
+package com.propertymanagement.infrastructure.codec;
+
+import com.github.luben.zstd.ZstdInputStream;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.MimeType;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static com.propertymanagement.infrastructure.codec.ZstdCompressionFilter.accepts;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ZstdCompressionFilterTest {
+
+    private static final String LARGE_BODY = "{\"address\":\"10 Downing Street\"},".repeat(200);
+
+    private final ZstdCompressionFilter filter = new ZstdCompressionFilter(
+            List.of(MimeType.valueOf("application/json")), 2048, 3);
+
+    @Test
+    void shouldCompressLargeBodiesOfCompressibleTypes() throws Exception {
+        MockHttpServletResponse response = filter(request("gzip, zstd"), MediaType.APPLICATION_JSON_VALUE, LARGE_BODY);
+
+        assertThat(response.getHeader(HttpHeaders.CONTENT_ENCODING)).isEqualTo("zstd");
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo("\"v1-zstd\"");
+        assertThat(response.getHeader(HttpHeaders.VARY)).isEqualTo(HttpHeaders.ACCEPT_ENCODING);
+        assertThat(response.getContentAsByteArray().length).isLessThan(LARGE_BODY.length() / 10);
+        assertThat(decompress(response.getContentAsByteArray())).isEqualTo(LARGE_BODY);
+    }
+
+    @Test
+    void shouldLeaveSmallBodiesUnchanged() throws Exception {
+        MockHttpServletResponse response = filter(request("zstd"), MediaType.APPLICATION_JSON_VALUE, "{\"id\":1}");
+
+        assertThat(response.getHeader(HttpHeaders.CONTENT_ENCODING)).isNull();
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo("\"v1\"");
+        assertThat(response.getContentAsString()).isEqualTo("{\"id\":1}");
+    }
+
+    @Test
+    void shouldLeaveOtherTypesAndEncodingsUnchanged() throws Exception {
+        MockHttpServletResponse image = filter(request("zstd"), MediaType.IMAGE_PNG_VALUE, LARGE_BODY);
+        MockHttpServletResponse gzipOnly = filter(request("gzip"), MediaType.APPLICATION_JSON_VALUE, LARGE_BODY);
+
+        assertThat(image.getHeader(HttpHeaders.CONTENT_ENCODING)).isNull();
+        assertThat(image.getContentAsString()).isEqualTo(LARGE_BODY);
+        assertThat(gzipOnly.getHeader(HttpHeaders.CONTENT_ENCODING)).isNull();
+        assertThat(gzipOnly.getHeader(HttpHeaders.VARY)).isNull();
+        assertThat(gzipOnly.getContentAsString()).isEqualTo(LARGE_BODY);
+    }
+
+    // Tomcat will not gzip a response whose ETag is strong
+    @Test
+    void shouldWeakenTheEtagOfBodiesLeftToGzip() throws Exception {
+        MockHttpServletResponse large = filter(request("gzip"), MediaType.APPLICATION_JSON_VALUE, LARGE_BODY);
+        MockHttpServletResponse small = filter(request("gzip"), MediaType.APPLICATION_JSON_VALUE, "{\"id\":1}");
+
+        assertThat(large.getHeader(HttpHeaders.ETAG)).isEqualTo("W/\"v1\"");
+        assertThat(small.getHeader(HttpHeaders.ETAG)).isEqualTo("\"v1\"");
+    }
+
+    @Test
+    void shouldStripTheZstdSuffixFromConditionalHeaders() throws Exception {
+        MockHttpServletRequest request = request("gzip");
+        request.addHeader(HttpHeaders.IF_MATCH, "\"3-zstd\"");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, "\"3-cbor-zstd\", W/\"abc\"");
+        List<String> seen = new ArrayList<>();
+
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            seen.add(((HttpServletRequest) req).getHeader(HttpHeaders.IF_MATCH));
+            seen.addAll(Collections.list(((HttpServletRequest) req).getHeaders(HttpHeaders.IF_NONE_MATCH)));
+        });
+
+        assertThat(seen).containsExactly("\"3\"", "\"3-cbor\", W/\"abc\"");
+    }
+
+    @Test
+    void shouldHonourZeroQualityInAcceptEncoding() {
+        assertThat(accepts("gzip, deflate, br, zstd", ZstdCompressionFilter.ZSTD)).isTrue();
+        assertThat(accepts("ZSTD;q=0.5", ZstdCompressionFilter.ZSTD)).isTrue();
+        assertThat(accepts("zstd;q=0, gzip", ZstdCompressionFilter.ZSTD)).isFalse();
+        assertThat(accepts("zstd; q=0.000", ZstdCompressionFilter.ZSTD)).isFalse();
+        assertThat(accepts("gzip", ZstdCompressionFilter.ZSTD)).isFalse();
+        assertThat(accepts(null, ZstdCompressionFilter.ZSTD)).isFalse();
+    }
+
+    private MockHttpServletResponse filter(MockHttpServletRequest request, String contentType, String body)
+            throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FilterChain chain = (req, res) -> {
+            res.setContentType(contentType);
+            ((HttpServletResponse) res).setHeader(HttpHeaders.ETAG, "\"v1\"");
+            res.getOutputStream().write(body.getBytes(StandardCharsets.UTF_8));
+        };
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+
+    private static MockHttpServletRequest request(String acceptEncoding) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/properties");
+        request.addHeader(HttpHeaders.ACCEPT_ENCODING, acceptEncoding);
+        return request;
+    }
+
+    private static String decompress(byte[] bytes) throws IOException {
+        try (ZstdInputStream in = new ZstdInputStream(new ByteArrayInputStream(bytes))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.propertymanagement.infrastructure.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReadWriteRoutingDataSourceTest {
+
+    @Mock
+    private DataSource primary;
+
+    @Mock
+    private DataSource replicaA;
+
+    @Mock
+    private DataSource replicaB;
+
+    @Mock
+    private Connection primaryConnection;
+
+    @Mock
+    private Connection connectionA;
+
+    @Mock
+    private Connection connectionB;
+
+    private ReadWriteRoutingDataSource routing;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        replicas.put("replica-0", replicaA);
+        replicas.put("replica-1", replicaB);
+        routing = new ReadWriteRoutingDataSource(primary, replicas);
+        
+        lenient().when(primary.getConnection()).thenReturn(primaryConnection);
+        lenient().when(replicaA.getConnection()).thenReturn(connectionA);
+        lenient().when(replicaB.getConnection()).thenReturn(connectionB);
+        lenient().when(connectionA.isValid(anyInt())).thenReturn(true);
+        lenient().when(connectionB.isValid(anyInt())).thenReturn(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+        ReadYourWrites.unbind();
+    }
+
+    @Test
+    void shouldReadFromPrimaryUntilReplicasPassAHealthCheck() throws SQLException {
+        readOnlyTransaction();
+        
+        assertThat(routing.getConnection()).isSameAs(primaryConnection);
+        
+        routing.checkReplicas();
+        
+        assertThat(routing.getConnection()).isIn(connectionA, connectionB);
+    }
+
+    @Test
+    void shouldRoundRobinReadOnlyTransactionsAcrossReplicas() throws SQLException {
+        routing.checkReplicas();
+        readOnlyTransaction();
+        
+        List<Connection> connections = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            connections.add(routing.getConnection());
+        }
+        
+        assertThat(connections).containsExactly(connectionA, connectionB, connectionA, connectionB);
+        verify(primary, never()).getConnection();
+    }
+
+    @Test
+    void shouldSendWriteTransactionsToPrimary() throws SQLException {
+        routing.checkReplicas();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        
+        assertThat(routing.getConnection()).isSameAs(primaryConnection);
+    }
+
+    @Test
+    void shouldFailOverToPrimaryAndSkipFailedReplica() throws SQLException {
+        routing.checkReplicas();
+        readOnlyTransaction();
+        when(replicaA.getConnection()).thenThrow(new SQLException("connection refused"));
+        
+        assertThat(routing.getConnection()).isSameAs(primaryConnection);
+        assertThat(routing.isHealthy("replica-0")).isFalse();
+        assertThat(routing.getConnection()).isSameAs(connectionB);
+        assertThat(routing.getConnection()).isSameAs(connectionB);
+    }
+
+    @Test
+    void shouldKeepClientOnPrimaryWithinReadYourWritesWindow() throws SQLException {
+        routing.checkReplicas();
+        MutableClock clock = new MutableClock();
+        List<Long> marks = new ArrayList<>();
+        ReadYourWrites.bind(new ReadYourWrites.Session(Duration.ofSeconds(2), clock, 0, marks::add));
+        
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        routing.getConnection();
+        routing.getConnection();
+        readOnlyTransaction();
+        
+        assertThat(marks).containsExactly(clock.millis());
+        assertThat(routing.getConnection()).isSameAs(primaryConnection);
+        
+        clock.advance(Duration.ofSeconds(3));
+        
+        assertThat(routing.getConnection()).isIn(connectionA, connectionB);
+    }
+
+    private static void readOnlyTransaction() {
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now = Instant.parse("2024-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
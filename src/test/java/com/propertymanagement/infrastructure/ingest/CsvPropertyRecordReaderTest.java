@@ -0,0 +1,89 @@
+package com.propertymanagement.infrastructure.ingest;
+
+import com.propertymanagement.api.dto.request.ImportPropertyRequest;
+import com.propertymanagement.domain.PropertyStatus;
+import com.propertymanagement.domain.PropertyType;
+import com.propertymanagement.domain.service.ImportRecord;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CsvPropertyRecordReaderTest {
+
+    private final List<ImportPropertyRequest> requests = new ArrayList<>();
+
+    @Test
+    void shouldMapColumnsByHeader() throws IOException {
+        UUID id = UUID.randomUUID();
+        List<ImportRecord> records = read("""
+                rent_price,Address,type,bedrooms,status,id
+                1500.00,123 Main Street,apartment,2,RENTED,%s
+                """.formatted(id));
+        
+        assertThat(records).extracting(ImportRecord::line).containsExactly(2L);
+        ImportPropertyRequest request = requests.get(0);
+        assertThat(request.getId()).isEqualTo(id);
+        assertThat(request.getAddress()).isEqualTo("123 Main Street");
+        assertThat(request.getType()).isEqualTo(PropertyType.APARTMENT);
+        assertThat(request.getBedrooms()).isEqualTo(2);
+        assertThat(request.getRentPrice()).isEqualByComparingTo(new BigDecimal("1500.00"));
+        assertThat(request.getStatus()).isEqualTo(PropertyStatus.RENTED);
+    }
+
+    @Test
+    void shouldParseQuotedFieldsAndTrackLinesAcrossEmbeddedNewlines() throws IOException {
+        List<ImportRecord> records = read("""
+                address,type,rent_price,description
+                "1 Quoted, Street",HOUSE,900,"Says ""hi""
+                over two lines"
+                
+                2 Plain Street,HOUSE,800,
+                """.replace("\n", "\r\n"));
+        
+        assertThat(records).extracting(ImportRecord::line).containsExactly(2L, 5L);
+        assertThat(requests.get(0).getAddress()).isEqualTo("1 Quoted, Street");
+        assertThat(requests.get(0).getDescription()).isEqualTo("Says \"hi\"\r\nover two lines");
+        assertThat(requests.get(1).getDescription()).isNull();
+    }
+
+    @Test
+    void shouldReportBadRowsWithoutStopping() throws IOException {
+        List<ImportRecord> records = read("""
+                address,type,rent_price
+                1 Bad Type,CASTLE,900
+                2 Too Few,HOUSE
+                3 Good Street,HOUSE,700
+                """);
+        
+        assertThat(records).extracting(ImportRecord::isValid).containsExactly(false, false, true);
+        assertThat(records.get(0).errors()).containsExactly("type: invalid value 'CASTLE'");
+        assertThat(records.get(1).errors()).containsExactly("Expected 3 fields but found 2");
+        assertThat(records.get(2).line()).isEqualTo(4L);
+    }
+
+    @Test
+    void shouldRejectUnknownColumns() {
+        assertThatThrownBy(() -> read("address,colour\n"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Unknown CSV column: colour");
+    }
+
+    private List<ImportRecord> read(String csv) throws IOException {
+        List<ImportRecord> records = new ArrayList<>();
+        try (CsvPropertyRecordReader reader = new CsvPropertyRecordReader(new StringReader(csv), (line, request) -> {
+            requests.add(request);
+            return ImportRecord.valid(line, null);
+        })) {
+            reader.forEachRemaining(records::add);
+        }
+        return records;
+    }
+}
@@ -0,0 +1,115 @@
+package com.propertymanagement.infrastructure.search;
+
+import com.propertymanagement.domain.Property;
+import com.propertymanagement.domain.PropertyFilter;
+import com.propertymanagement.domain.PropertyType;
+import com.propertymanagement.domain.event.PropertyChangedEvent;
+import com.propertymanagement.domain.search.BoundingBox;
+import com.propertymanagement.domain.search.GeoPoint;
+import com.propertymanagement.domain.search.NearbyProperty;
+import com.propertymanagement.persistence.repository.PropertyRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class GeohashLocationIndexTest {
+
+    private static final GeoPoint ALEXANDERPLATZ = new GeoPoint(52.5219, 13.4132);
+
+    @Mock
+    private PropertyRepository propertyRepository;
+
+    private GeohashLocationIndex index;
+
+    private final List<Property> stored = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        index = new GeohashLocationIndex(propertyRepository);
+    }
+
+    @Test
+    void shouldReturnPropertiesInsideTheRadiusNearestFirst() {
+        Property museumIsland = store(52.5169, 13.4019);
+        Property hackescherMarkt = store(52.5225, 13.4022);
+        Property potsdam = store(52.3906, 13.0645);
+        stubRepository();
+        
+        List<NearbyProperty> hits = index.nearby(ALEXANDERPLATZ, 2, PropertyFilter.none(), 10);
+        
+        assertThat(hits).extracting(NearbyProperty::property).containsExactly(hackescherMarkt, museumIsland);
+        assertThat(hits.get(0).distanceKm()).isLessThan(hits.get(1).distanceKm()).isLessThan(2);
+        assertThat(index.nearby(ALEXANDERPLATZ, 30, PropertyFilter.none(), 10))
+                .extracting(NearbyProperty::property).contains(potsdam);
+        assertThat(index.nearby(ALEXANDERPLATZ, 30, PropertyFilter.none(), 1))
+                .extracting(NearbyProperty::property).containsExactly(hackescherMarkt);
+    }
+
+    @Test
+    void shouldOrderBoundingBoxHitsByDistanceFromItsCenter() {
+        Property corner = store(52.501, 13.301);
+        Property middle = store(52.525, 13.399);
+        store(52.60, 13.40);
+        stubRepository();
+        
+        List<NearbyProperty> hits = index.within(new BoundingBox(52.50, 13.30, 52.55, 13.50), PropertyFilter.none(), 10);
+        
+        assertThat(hits).extracting(NearbyProperty::property).containsExactly(middle, corner);
+    }
+
+    @Test
+    void shouldFollowPropertyChanges() {
+        Property property = property(52.5169, 13.4019);
+        stored.add(property);
+        stubRepository();
+        
+        index.onPropertyChanged(PropertyChangedEvent.created(property));
+        assertThat(index.nearby(ALEXANDERPLATZ, 2, PropertyFilter.none(), 10)).hasSize(1);
+        
+        property.setLatitude(52.3906);
+        property.setLongitude(13.0645);
+        index.onPropertyChanged(PropertyChangedEvent.updated(property));
+        assertThat(index.nearby(ALEXANDERPLATZ, 2, PropertyFilter.none(), 10)).isEmpty();
+        assertThat(index.nearby(new GeoPoint(52.3906, 13.0645), 1, PropertyFilter.none(), 10)).hasSize(1);
+        
+        index.onPropertyChanged(PropertyChangedEvent.deleted(property.getId()));
+        assertThat(index.nearby(new GeoPoint(52.3906, 13.0645), 1, PropertyFilter.none(), 10)).isEmpty();
+    }
+
+    // Stands in for the filter query: returns whichever stored properties were asked for
+    @SuppressWarnings("unchecked")
+    private void stubRepository() {
+        when(propertyRepository.findAll(any(Specification.class))).thenAnswer(invocation -> List.copyOf(stored));
+    }
+
+    private Property store(double latitude, double longitude) {
+        Property property = property(latitude, longitude);
+        stored.add(property);
+        index.put(property.getId(), latitude, longitude);
+        return property;
+    }
+
+    private static Property property(double latitude, double longitude) {
+        Property property = new Property();
+        property.setId(UUID.randomUUID());
+        property.setAddress(latitude + ", " + longitude);
+        property.setType(PropertyType.APARTMENT);
+        property.setRentPrice(new BigDecimal("1000.00"));
+        property.setLatitude(latitude);
+        property.setLongitude(longitude);
+        return property;
+    }
+}
@@ -0,0 +1,71 @@
+package com.propertymanagement.infrastructure.search;
+
+import com.propertymanagement.domain.Property;
+import com.propertymanagement.domain.PropertyFilter;
+import com.propertymanagement.domain.event.PropertiesImportedEvent;
+import com.propertymanagement.domain.search.AddressSearch;
+import com.propertymanagement.domain.search.GeoPoint;
+import com.propertymanagement.domain.search.LocationSearch;
+import com.propertymanagement.domain.search.TextSearch;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// The in-process indexes (ngram, memory) must pick up rows an import merged in SQL
+@SpringBootTest
+@ActiveProfiles("test")
+class ImportedPropertySearchTest {
+
+    private static final GeoPoint LOCATION = new GeoPoint(48.1374, 11.5755);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private AddressSearch addressSearch;
+
+    @Autowired
+    private LocationSearch locationSearch;
+
+    @Autowired
+    private TextSearch textSearch;
+
+    @Test
+    void shouldFindImportedRowsInEverySearch() {
+        UUID id = UUID.randomUUID();
+        
+        // Like PropertyCopyRepository's merge: plain SQL, then one event for the whole import
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.update("""
+                    INSERT INTO properties (id, address, type, rent_price, status, description,
+                                            latitude, longitude, geohash, created_at, updated_at, version)
+                    VALUES (?, '7 Quarantine Quay', 'HOUSE', 1800.00, 'AVAILABLE', 'Imported overnight',
+                            ?, ?, ?, ?, ?, 0)
+                    """, id, LOCATION.latitude(), LOCATION.longitude(),
+                    Property.geohash(LOCATION.latitude(), LOCATION.longitude()),
+                    Property.now(), Property.now());
+            eventPublisher.publishEvent(new PropertiesImportedEvent(1));
+        });
+        
+        assertThat(addressSearch.search("quarantine", null, 10))
+                .extracting(match -> match.property().getId()).containsExactly(id);
+        assertThat(locationSearch.nearby(LOCATION, 1, PropertyFilter.none(), 10))
+                .extracting(hit -> hit.property().getId()).contains(id);
+        assertThat(textSearch.search("overnight", PropertyFilter.none(), null, 10))
+                .extracting(match -> match.property().getId()).containsExactly(id);
+    }
+}
@@ -0,0 +1,122 @@
+package com.propertymanagement.infrastructure.search;
+
+import com.propertymanagement.domain.Property;
+import com.propertymanagement.domain.PropertyFilter;
+import com.propertymanagement.domain.PropertyType;
+import com.propertymanagement.domain.event.PropertyChangedEvent;
+import com.propertymanagement.domain.pagination.RankCursor;
+import com.propertymanagement.domain.search.TextMatch;
+import com.propertymanagement.persistence.repository.PropertyRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class InvertedTextIndexTest {
+
+    @Mock
+    private PropertyRepository propertyRepository;
+
+    private InvertedTextIndex index;
+
+    private final List<Property> stored = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        index = new InvertedTextIndex(propertyRepository);
+    }
+
+    @Test
+    void shouldFoldCaseStopWordsAndPlurals() {
+        assertThat(InvertedTextIndex.terms("Two Balconies, and a garden with BOXES of pets"))
+                .containsOnlyKeys("two", "balcony", "garden", "box", "pet");
+        assertThat(InvertedTextIndex.stem("glass")).isEqualTo("glass");
+    }
+
+    @Test
+    void shouldRequireEveryWordAndRankAddressMatchesFirst() {
+        UUID inDescription = UUID.randomUUID();
+        UUID inAddress = UUID.randomUUID();
+        UUID partial = UUID.randomUUID();
+        index.put(inDescription, "1 Oak Road", "Sunny flat with a balcony, pets welcome");
+        index.put(inAddress, "2 Balcony Court", "Pet friendly");
+        index.put(partial, "3 Elm Row", "Large balcony");
+        
+        assertThat(index.rank("balconies pet")).extracting(Map.Entry::getKey)
+                .containsExactly(inAddress, inDescription);
+        assertThat(index.rank("\"pet friendly\"")).extracting(Map.Entry::getKey).containsExactly(inAddress);
+        assertThat(index.rank("balcony -court")).extracting(Map.Entry::getKey)
+                .containsExactlyInAnyOrder(inDescription, partial);
+        assertThat(index.rank("the")).isEmpty();
+    }
+
+    @Test
+    void shouldPageAfterTheCursorPosition() {
+        Property first = store("1 Balcony Court", null);
+        Property second = store("2 Oak Road", "Balcony");
+        Property third = store("3 Elm Row", "Balcony");
+        stubRepository();
+        
+        List<TextMatch> page = index.search("balcony", PropertyFilter.none(), null, 2);
+        assertThat(page).extracting(TextMatch::property).containsExactly(first,
+                second.getId().toString().compareTo(third.getId().toString()) < 0 ? second : third);
+        
+        RankCursor cursor = page.get(1).cursor();
+        List<TextMatch> next = index.search("balcony", PropertyFilter.none(), cursor, 2);
+        assertThat(next).extracting(TextMatch::property).containsExactly(page.get(1).property() == second ? third : second);
+    }
+
+    @Test
+    void shouldFollowPropertyChanges() {
+        Property property = property("1 Old Road", "Garden");
+        stored.add(property);
+        stubRepository();
+        
+        index.onPropertyChanged(PropertyChangedEvent.created(property));
+        assertThat(index.search("garden", PropertyFilter.none(), null, 10)).hasSize(1);
+        
+        property.setDescription("Balcony");
+        index.onPropertyChanged(PropertyChangedEvent.updated(property));
+        assertThat(index.search("garden", PropertyFilter.none(), null, 10)).isEmpty();
+        assertThat(index.search("balcony", PropertyFilter.none(), null, 10)).hasSize(1);
+        
+        index.onPropertyChanged(PropertyChangedEvent.deleted(property.getId()));
+        assertThat(index.rank("balcony")).isEmpty();
+    }
+
+    // Stands in for the filter query: returns whichever stored properties were asked for
+    @SuppressWarnings("unchecked")
+    private void stubRepository() {
+        when(propertyRepository.findAll(any(Specification.class))).thenAnswer(invocation -> List.copyOf(stored));
+    }
+
+    private Property store(String address, String description) {
+        Property property = property(address, description);
+        stored.add(property);
+        index.put(property.getId(), address, description);
+        return property;
+    }
+
+    private static Property property(String address, String description) {
+        Property property = new Property();
+        property.setId(UUID.randomUUID());
+        property.setAddress(address);
+        property.setDescription(description);
+        property.setType(PropertyType.APARTMENT);
+        property.setRentPrice(new BigDecimal("1000.00"));
+        return property;
+    }
+}
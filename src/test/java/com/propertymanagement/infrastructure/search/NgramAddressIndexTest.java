@@ -0,0 +1,128 @@
+package com.propertymanagement.infrastructure.search;
+
+import com.propertymanagement.domain.Property;
+import com.propertymanagement.domain.PropertyType;
+import com.propertymanagement.domain.event.PropertyChangedEvent;
+import com.propertymanagement.domain.pagination.RankCursor;
+import com.propertymanagement.domain.search.AddressMatch;
+import com.propertymanagement.persistence.repository.PropertyRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class NgramAddressIndexTest {
+
+    @Mock
+    private PropertyRepository propertyRepository;
+
+    private NgramAddressIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new NgramAddressIndex(propertyRepository);
+    }
+
+    @Test
+    void shouldMatchSubstringsCaseInsensitively() {
+        UUID main = UUID.randomUUID();
+        UUID oak = UUID.randomUUID();
+        index.put(main, "123 Main Street");
+        index.put(oak, "456 Oak Avenue");
+        
+        assertThat(ids("MAIN st", 10)).containsExactly(main);
+        assertThat(ids("ak av", 10)).containsExactly(oak);
+        assertThat(ids("elm", 10)).isEmpty();
+    }
+
+    @Test
+    void shouldRankCloserAddressesFirst() {
+        UUID exact = UUID.randomUUID();
+        UUID longer = UUID.randomUUID();
+        index.put(longer, "Flat 12, Main Street Business Park, Springfield");
+        index.put(exact, "Main Street");
+        
+        assertThat(ids("main street", 10)).containsExactly(exact, longer);
+        assertThat(ids("main street", 1)).containsExactly(exact);
+    }
+
+    @Test
+    void shouldScanForQueriesShorterThanATrigram() {
+        UUID id = UUID.randomUUID();
+        index.put(id, "7 Elm Row");
+        
+        assertThat(ids("el", 10)).containsExactly(id);
+    }
+
+    @Test
+    void shouldFollowPropertyChanges() {
+        Property property = new Property();
+        property.setId(UUID.randomUUID());
+        property.setAddress("1 Old Road");
+        property.setType(PropertyType.HOUSE);
+        property.setRentPrice(new BigDecimal("900.00"));
+        index.onPropertyChanged(PropertyChangedEvent.created(property));
+        
+        property.setAddress("2 New Road");
+        index.onPropertyChanged(PropertyChangedEvent.updated(property));
+        assertThat(ids("old", 10)).isEmpty();
+        assertThat(ids("new", 10)).containsExactly(property.getId());
+        
+        index.onPropertyChanged(PropertyChangedEvent.deleted(property.getId()));
+        assertThat(ids("road", 10)).isEmpty();
+    }
+
+    @Test
+    void shouldComputePgTrgmSimilarity() {
+        // pg_trgm: similarity('word', 'two words') = 0.36363637
+        double similarity = NgramAddressIndex.similarity(
+                NgramAddressIndex.wordTrigrams("word"),
+                NgramAddressIndex.wordTrigrams("two words"));
+        
+        assertThat(similarity).isCloseTo(0.3636, within(0.0001));
+    }
+
+    @Test
+    void shouldReturnLoadedPropertiesInRankOrder() {
+        Property first = new Property();
+        first.setId(UUID.randomUUID());
+        Property second = new Property();
+        second.setId(UUID.randomUUID());
+        index.put(first.getId(), "Main Street");
+        index.put(second.getId(), "Main Street North End");
+        when(propertyRepository.findAllById(List.of(first.getId(), second.getId())))
+                .thenReturn(List.of(second, first));
+        
+        assertThat(index.search("main", null, 10)).extracting(AddressMatch::property).containsExactly(first, second);
+    }
+
+    @Test
+    void shouldPageStrictlyAfterTheCursor() {
+        UUID exact = UUID.randomUUID();
+        UUID longer = UUID.randomUUID();
+        UUID longest = UUID.randomUUID();
+        index.put(longest, "Flat 12, Main Street Business Park, Springfield");
+        index.put(longer, "Main Street North");
+        index.put(exact, "Main Street");
+        
+        List<RankCursor> first = index.rank("main street", null, 2);
+        List<RankCursor> second = index.rank("main street", first.get(1), 2);
+        
+        assertThat(first).extracting(RankCursor::id).containsExactly(exact, longer);
+        assertThat(second).extracting(RankCursor::id).containsExactly(longest);
+    }
+
+    private List<UUID> ids(String query, int limit) {
+        return index.rank(query, null, limit).stream().map(RankCursor::id).toList();
+    }
+}
@@ -0,0 +1,267 @@
+package com.propertymanagement.infrastructure.snapshot;
+
+import com.propertymanagement.domain.Property;
+import com.propertymanagement.domain.PropertyFilter;
+import com.propertymanagement.domain.PropertyStatus;
+import com.propertymanagement.domain.PropertyType;
+import com.propertymanagement.domain.event.PropertyChangeNotifiedEvent;
+import com.propertymanagement.domain.event.PropertyChangedEvent;
+import com.propertymanagement.domain.pagination.Cursor;
+import com.propertymanagement.domain.search.PropertyFacets;
+import com.propertymanagement.persistence.repository.PropertyRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+
+@ExtendWith(MockitoExtension.class)
+class ColumnarPropertySnapshotTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    @Mock
+    private PropertyRepository propertyRepository;
+
+    private ColumnarPropertySnapshot snapshot;
+
+    @BeforeEach
+    void setUp() {
+        snapshot = new ColumnarPropertySnapshot(propertyRepository);
+    }
+
+    @Test
+    void shouldMatchTheDatabaseSemanticsOfEveryCriterion() {
+        List<Property> properties = randomProperties(2_000, new Random(7));
+        snapshot.replace(properties);
+
+        List<PropertyFilter> filters = List.of(
+                PropertyFilter.none(),
+                new PropertyFilter(PropertyStatus.AVAILABLE, PropertyType.APARTMENT, null, null,
+                        null, null, null, null, null, null),
+                new PropertyFilter(null, null, new BigDecimal("1200.005"), new BigDecimal("2500"),
+                        2, 3, null, null, null, null),
+                new PropertyFilter(PropertyStatus.RENTED, null, null, null,
+                        null, null, 1, 2, 40.0, 90.5),
+                new PropertyFilter(null, PropertyType.HOUSE, null, null, 5, 1, null, null, null, null));
+
+        for (PropertyFilter filter : filters) {
+            List<Property> expected = properties.stream()
+                    .filter(matches(filter))
+                    .sorted(PropertyColumns.KEY_ORDER)
+                    .toList();
+            assertThat(snapshot.find(filter, null, Integer.MAX_VALUE)).as(filter.toString())
+                    .containsExactlyElementsOf(expected);
+            assertThat(snapshot.facets(filter)).as(filter.toString()).isEqualTo(facetsOf(expected));
+        }
+    }
+
+    @Test
+    void shouldPageInCreationOrderAfterTheCursor() {
+        List<Property> properties = randomProperties(50, new Random(11));
+        snapshot.replace(properties);
+        List<Property> ordered = properties.stream().sorted(PropertyColumns.KEY_ORDER).toList();
+
+        List<Property> firstPage = snapshot.find(PropertyFilter.none(), null, 20);
+        List<Property> secondPage = snapshot.find(PropertyFilter.none(), Cursor.of(firstPage.get(19)), 20);
+
+        assertThat(firstPage).containsExactlyElementsOf(ordered.subList(0, 20));
+        assertThat(secondPage).containsExactlyElementsOf(ordered.subList(20, 40));
+    }
+
+    @Test
+    void shouldFollowPropertyChanges() {
+        Property property = property(0, PropertyStatus.AVAILABLE, 2);
+        PropertyFilter available = new PropertyFilter(PropertyStatus.AVAILABLE, null, null, null,
+                null, null, null, null, null, null);
+
+        snapshot.onPropertyChanged(PropertyChangedEvent.created(property));
+        assertThat(snapshot.find(available, null, 10)).containsExactly(property);
+
+        Property rented = copy(property, PropertyStatus.RENTED, 3);
+        snapshot.onPropertyChanged(PropertyChangedEvent.updated(rented));
+        assertThat(snapshot.find(available, null, 10)).isEmpty();
+        assertThat(snapshot.facets(PropertyFilter.none()).byStatus()).containsEntry(PropertyStatus.RENTED, 1L);
+        assertThat(snapshot.facets(PropertyFilter.none()).byBedrooms()).containsExactly(Map.entry(3, 1L));
+
+        snapshot.onPropertyChanged(PropertyChangedEvent.deleted(property.getId()));
+        assertThat(snapshot.facets(PropertyFilter.none()).total()).isZero();
+    }
+
+    // A write committed while the rebuild scans must survive the swap to the new columns
+    @Test
+    void shouldReplayChangesMadeDuringARebuild() {
+        Property deleted = property(1, PropertyStatus.AVAILABLE, 1);
+        Property kept = property(2, PropertyStatus.AVAILABLE, 1);
+        Property created = property(3, PropertyStatus.AVAILABLE, 1);
+        doAnswer(invocation -> {
+            Consumer<Property> rows = invocation.getArgument(1);
+            rows.accept(deleted);
+            snapshot.onPropertyChanged(PropertyChangedEvent.created(created));
+            snapshot.onPropertyChanged(PropertyChangedEvent.deleted(deleted.getId()));
+            rows.accept(kept);
+            return null;
+        }).doAnswer(invocation -> {
+            invocation.<Consumer<Property>>getArgument(1).accept(created);
+            return null;
+        }).when(propertyRepository).scan(any(), any());
+
+        snapshot.rebuild();
+
+        assertThat(snapshot.find(PropertyFilter.none(), null, 10)).containsExactly(kept, created);
+    }
+
+    @Test
+    void shouldReloadNotifiedRowsAndDropDeletedOnes() {
+        Property updated = property(1, PropertyStatus.AVAILABLE, 1);
+        updated.setVersion(1L);
+        Property deleted = property(2, PropertyStatus.AVAILABLE, 1);
+        snapshot.replace(List.of(updated, deleted));
+        Property reloaded = copy(updated, PropertyStatus.RENTED, 1);
+        reloaded.setVersion(2L);
+        doAnswer(invocation -> {
+            invocation.<Consumer<Property>>getArgument(1).accept(reloaded);
+            return null;
+        }).when(propertyRepository).scan(any(), any());
+
+        snapshot.onPropertyChangeNotified(PropertyChangeNotifiedEvent.of(Set.of(updated.getId(), deleted.getId())));
+
+        assertThat(snapshot.find(PropertyFilter.none(), null, 10)).containsExactly(reloaded);
+    }
+
+    @Test
+    void shouldNotReplaceANewerVersionOfARow() {
+        Property current = property(1, PropertyStatus.RENTED, 1);
+        current.setVersion(3L);
+        Property stale = copy(current, PropertyStatus.AVAILABLE, 1);
+        stale.setVersion(2L);
+
+        snapshot.put(current);
+        snapshot.put(stale);
+
+        assertThat(snapshot.find(PropertyFilter.none(), null, 10)).containsExactly(current);
+    }
+
+    @Test
+    void shouldKeepOrderWhenChangesArriveOutOfOrder() {
+        Property later = property(10, PropertyStatus.AVAILABLE, 1);
+        Property earlier = property(5, PropertyStatus.AVAILABLE, 1);
+
+        snapshot.put(later);
+        snapshot.put(earlier);
+
+        assertThat(snapshot.find(PropertyFilter.none(), null, 10)).containsExactly(earlier, later);
+        assertThat(snapshot.find(PropertyFilter.none(), Cursor.of(earlier), 10)).containsExactly(later);
+    }
+
+    @Test
+    void shouldCompactAfterManyDeletions() {
+        List<Property> properties = randomProperties(3_000, new Random(3));
+        snapshot.replace(properties);
+
+        properties.subList(0, 2_000).forEach(property -> snapshot.remove(property.getId()));
+
+        assertThat(snapshot.facets(PropertyFilter.none()).total()).isEqualTo(1_000);
+        assertThat(snapshot.find(PropertyFilter.none(), null, Integer.MAX_VALUE))
+                .containsExactlyElementsOf(properties.subList(2_000, 3_000).stream()
+                        .sorted(PropertyColumns.KEY_ORDER).toList());
+        assertThat(snapshot.footprint().rows()).isEqualTo(1_000);
+    }
+
+    @Test
+    void shouldReportFootprintPerMillionRows() {
+        snapshot.replace(randomProperties(100_000, new Random(5)));
+
+        SnapshotFootprint perMillion = snapshot.footprint().perMillionRows();
+
+        // 46 bytes of columns per row plus about two bits per row for each indexed dimension
+        assertThat(perMillion.rows()).isEqualTo(1_000_000);
+        assertThat(perMillion.columnBytes()).isBetween(46_000_000L, 47_000_000L);
+        assertThat(perMillion.bitmapBytes()).isLessThan(4_000_000L);
+        assertThat(perMillion.rowBytes()).isGreaterThan(perMillion.columnBytes());
+    }
+
+    private static Predicate<Property> matches(PropertyFilter filter) {
+        return property -> (filter.status() == null || property.getStatus() == filter.status())
+                && (filter.type() == null || property.getType() == filter.type())
+                && (filter.minPrice() == null || property.getRentPrice().compareTo(filter.minPrice()) >= 0)
+                && (filter.maxPrice() == null || property.getRentPrice().compareTo(filter.maxPrice()) <= 0)
+                && inRange(property.getBedrooms(), filter.minBedrooms(), filter.maxBedrooms())
+                && inRange(property.getBathrooms(), filter.minBathrooms(), filter.maxBathrooms())
+                && (filter.minSquareMeters() == null || property.getSquareMeters() != null
+                        && property.getSquareMeters() >= filter.minSquareMeters())
+                && (filter.maxSquareMeters() == null || property.getSquareMeters() != null
+                        && property.getSquareMeters() <= filter.maxSquareMeters());
+    }
+
+    private static boolean inRange(Integer value, Integer min, Integer max) {
+        return (min == null || value != null && value >= min) && (max == null || value != null && value <= max);
+    }
+
+    private static PropertyFacets facetsOf(List<Property> properties) {
+        long[] byStatus = new long[PropertyStatus.values().length];
+        long[] byType = new long[PropertyType.values().length];
+        properties.forEach(property -> {
+            byStatus[property.getStatus().ordinal()]++;
+            byType[property.getType().ordinal()]++;
+        });
+        Map<Integer, Long> byBedrooms = properties.stream()
+                .filter(property -> property.getBedrooms() != null)
+                .collect(Collectors.groupingBy(Property::getBedrooms, Collectors.counting()));
+        return PropertyFacets.of(byStatus, byType, byBedrooms);
+    }
+
+    // Several rows share each creation time so the id tiebreak is exercised
+    private static List<Property> randomProperties(int count, Random random) {
+        List<Property> properties = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Property property = new Property();
+            property.setId(UUID.randomUUID());
+            property.setAddress(i + " Snapshot Street");
+            property.setType(PropertyType.values()[random.nextInt(PropertyType.values().length)]);
+            property.setStatus(PropertyStatus.values()[random.nextInt(PropertyStatus.values().length)]);
+            property.setBedrooms(random.nextInt(8) == 0 ? null : random.nextInt(6));
+            property.setBathrooms(random.nextInt(8) == 0 ? null : random.nextInt(4));
+            property.setSquareMeters(random.nextInt(8) == 0 ? null : 20 + random.nextInt(2_000) / 10.0);
+            property.setRentPrice(BigDecimal.valueOf(50_000 + random.nextInt(300_000), 2));
+            property.setCreatedAt(START.plusSeconds(random.nextInt(count / 3 + 1)));
+            properties.add(property);
+        }
+        return properties;
+    }
+
+    private static Property property(int minute, PropertyStatus status, Integer bedrooms) {
+        Property property = new Property();
+        property.setId(UUID.randomUUID());
+        property.setAddress(minute + " Event Street");
+        property.setType(PropertyType.APARTMENT);
+        property.setStatus(status);
+        property.setBedrooms(bedrooms);
+        property.setRentPrice(new BigDecimal("1000.00"));
+        property.setCreatedAt(START.plusMinutes(minute));
+        return property;
+    }
+
+    private static Property copy(Property source, PropertyStatus status, Integer bedrooms) {
+        Property property = property(0, status, bedrooms);
+        property.setId(source.getId());
+        property.setCreatedAt(source.getCreatedAt());
+        return property;
+    }
+}
@@ -0,0 +1,88 @@
+package com.propertymanagement.infrastructure.sql;
+
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.Types;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SlowQueryLogTest {
+
+    private final Clock clock = Clock.fixed(Instant.parse("2024-01-01T00:00:00Z"), ZoneOffset.UTC);
+
+    @Test
+    void shouldNormalizeLiteralsInListsAndWhitespace() {
+        String sql = SqlNormalizer.normalize("""
+                select p1_0.id from properties p1_0
+                where p1_0.id in (?,?, ?) and p1_0.status = 'RENTED' and p1_0.rent_price > 12.50
+                fetch first 51 rows only""");
+        
+        assertThat(sql).isEqualTo("select p1_0.id from properties p1_0 where p1_0.id in (?, ...) "
+                + "and p1_0.status = ? and p1_0.rent_price > ? fetch first ? rows only");
+    }
+
+    @Test
+    void shouldKeepOnlyTheSlowestQueriesAndRecentSlowExecutions() {
+        SlowQueryLog log = new SlowQueryLog(Duration.ofMillis(100), 2, clock);
+        
+        assertThat(log.record("select 1", "()", 5)).isFalse();
+        assertThat(log.record("select 2", "()", 150)).isTrue();
+        log.record("select 3", "()", 300);
+        log.record("select 4", "()", 120);
+        log.record("select 5", "()", 1);
+        log.record("select 2", "(UUID)", 400);
+        
+        SlowQueryLog.Snapshot snapshot = log.snapshot();
+        assertThat(snapshot.slowest()).extracting(SlowQueryLog.QuerySummary::sql)
+                .containsExactly("select 2", "select 3");
+        assertThat(snapshot.slowest().get(0).executions()).isEqualTo(2);
+        assertThat(snapshot.slowest().get(0).meanMillis()).isEqualTo(275.0);
+        assertThat(snapshot.slowest().get(0).parameterShape()).isEqualTo("(UUID)");
+        assertThat(snapshot.recent()).extracting(SlowQueryLog.SlowExecution::millis)
+                .containsExactly(400L, 120L);
+    }
+
+    @Test
+    void shouldCaptureAtMostOnePlanPerInterval() {
+        SlowQueryLog log = new SlowQueryLog(Duration.ofMillis(100), 10, clock);
+        log.record("select 1", "()", 500);
+        
+        assertThat(log.claimPlanCapture("select 1", Duration.ofMinutes(10))).isTrue();
+        assertThat(log.claimPlanCapture("select 1", Duration.ofMinutes(10))).isFalse();
+        assertThat(log.claimPlanCapture("select 2", Duration.ofMinutes(10))).isFalse();
+        
+        log.attachPlan("select 1", "Seq Scan on properties");
+        assertThat(log.snapshot().slowest().get(0).plan()).isEqualTo("Seq Scan on properties");
+    }
+
+    @Test
+    void shouldDescribeBindParameterShapes() throws NoSuchMethodException {
+        Method setObject = PreparedStatement.class.getMethod("setObject", int.class, Object.class);
+        Method setNull = PreparedStatement.class.getMethod("setNull", int.class, int.class);
+        List<ParameterSetOperation> parameters = List.of(
+                new ParameterSetOperation(setObject, new Object[]{2, new BigDecimal("10.00")}),
+                new ParameterSetOperation(setObject, new Object[]{1, UUID.randomUUID()}),
+                new ParameterSetOperation(setNull, new Object[]{3, Types.VARCHAR}));
+        
+        assertThat(SlowQueryListener.shape(List.of(parameters))).isEqualTo("(UUID, BigDecimal, null)");
+        assertThat(SlowQueryListener.shape(List.of(parameters, parameters))).isEqualTo("(UUID, BigDecimal, null) x2");
+    }
+
+    @Test
+    void shouldOnlyAnalyzeStatementsThatDoNotChangeData() {
+        assertThat(ExplainPlanCapture.isQuery("  SELECT * FROM properties")).isTrue();
+        assertThat(ExplainPlanCapture.isQuery("with ids as (select id from properties) select * from ids")).isTrue();
+        assertThat(ExplainPlanCapture.isQuery("UPDATE properties SET status = ? RETURNING *")).isFalse();
+        assertThat(ExplainPlanCapture.isQuery("with gone as (delete from properties returning id) select 1")).isFalse();
+    }
+}
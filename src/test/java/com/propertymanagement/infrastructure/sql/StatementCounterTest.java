@@ -0,0 +1,40 @@
+package com.propertymanagement.infrastructure.sql;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StatementCounterTest {
+
+    @Test
+    void shouldClassifyStatementsByLeadingKeyword() {
+        assertThat(StatementType.of("  select * from properties")).isEqualTo(StatementType.SELECT);
+        assertThat(StatementType.of("INSERT INTO properties VALUES (?)")).isEqualTo(StatementType.INSERT);
+        assertThat(StatementType.of("update properties set status = ?")).isEqualTo(StatementType.UPDATE);
+        assertThat(StatementType.of("delete from properties where id = ?")).isEqualTo(StatementType.DELETE);
+        assertThat(StatementType.of("with ids as (select id from properties) select * from ids"))
+                .isEqualTo(StatementType.SELECT);
+        assertThat(StatementType.of("with gone as (delete from properties returning id) select count(*) from gone"))
+                .isEqualTo(StatementType.DELETE);
+        assertThat(StatementType.of("NOTIFY property_changed")).isEqualTo(StatementType.OTHER);
+    }
+
+    @Test
+    void shouldCountIntoEveryOpenScope() {
+        StatementCounter.record(StatementType.SELECT);
+        
+        try (StatementCounter.Scope outer = StatementCounter.open()) {
+            StatementCounter.record(StatementType.SELECT);
+            try (StatementCounter.Scope inner = StatementCounter.open()) {
+                StatementCounter.record(StatementType.UPDATE);
+                
+                assertThat(inner.counts()).isEqualTo(new StatementCounts(0, 0, 1, 0, 0));
+            }
+            StatementCounter.record(StatementType.INSERT);
+            
+            assertThat(outer.counts()).isEqualTo(new StatementCounts(1, 1, 1, 0, 0));
+            assertThat(outer.counts().total()).isEqualTo(3);
+        }
+        assertThat(StatementCounter.counting()).isFalse();
+    }
+}
@@ -1,27 +1,51 @@
 package com.propertymanagement.persistence.repository;
 
 import com.propertymanagement.domain.Property;
+import com.propertymanagement.domain.PropertyFilter;
 import com.propertymanagement.domain.PropertyStatus;
 import com.propertymanagement.domain.PropertyType;
+import com.propertymanagement.domain.pagination.Cursor;
+import com.propertymanagement.domain.projection.PropertyField;
+import com.propertymanagement.domain.projection.PropertyProjection;
+import com.propertymanagement.domain.search.BoundingBox;
+import com.propertymanagement.domain.search.GeoPoint;
+import com.propertymanagement.domain.search.Geohash;
+import com.propertymanagement.domain.search.NearbyProperty;
+import com.propertymanagement.domain.search.PropertyFacets;
+import com.propertymanagement.infrastructure.search.GeohashLocationSearch;
+import com.propertymanagement.infrastructure.search.GroupByFacetSearch;
+import com.propertymanagement.infrastructure.sql.SqlInstrumentationConfig;
+import com.propertymanagement.infrastructure.sql.StatementCounter;
+import com.propertymanagement.infrastructure.sql.StatementCounts;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
 @DataJpaTest
+@Import(SqlInstrumentationConfig.class)
 @ActiveProfiles("test") 
 class PropertyRepositoryTest {
 
     @Autowired
     private PropertyRepository propertyRepository;
 
+    @Autowired
+    private TestEntityManager entityManager;
+
     private Property testProperty;
 
     @BeforeEach
@@ -57,46 +81,242 @@ class PropertyRepositoryTest {
     }
 
     @Test
-    void shouldFindPropertiesByStatus() {
+    void shouldPageThroughPropertiesInKeysetOrder() {
+        for (int i = 0; i < 5; i++) {
+            Property property = new Property();
+            property.setAddress(i + " Keyset Lane");
+            property.setType(PropertyType.APARTMENT);
+            property.setRentPrice(new BigDecimal("1000.00"));
+            propertyRepository.save(property);
+        }
+        
+        List<Property> firstPage = propertyRepository.findBy(
+                Specification.where(null),
+                query -> query.sortBy(PropertySpecifications.KEYSET_ORDER).limit(3).all());
+        Cursor cursor = Cursor.of(firstPage.get(2));
+        List<Property> secondPage = propertyRepository.findBy(
+                PropertySpecifications.after(cursor),
+                query -> query.sortBy(PropertySpecifications.KEYSET_ORDER).limit(3).all());
+        
+        assertThat(firstPage).hasSize(3);
+        assertThat(secondPage).hasSize(2);
+        assertThat(secondPage).doesNotContainAnyElementsOf(firstPage);
+    }
+
+    @Test
+    void shouldFilterByStatusAndPriceRangeInQuery() {
         propertyRepository.save(testProperty);
         
-        Property rentedProperty = new Property();
-        rentedProperty.setAddress("456 Oak Avenue");
-        rentedProperty.setType(PropertyType.HOUSE);
-        rentedProperty.setRentPrice(new BigDecimal("2000.00"));
-        rentedProperty.setStatus(PropertyStatus.RENTED);
-        propertyRepository.save(rentedProperty);
+        Property expensive = new Property();
+        expensive.setAddress("1 Luxury Row");
+        expensive.setType(PropertyType.APARTMENT);
+        expensive.setRentPrice(new BigDecimal("9000.00"));
+        expensive.setStatus(PropertyStatus.AVAILABLE);
+        propertyRepository.save(expensive);
         
-        List<Property> availableProperties = propertyRepository.findByStatus(PropertyStatus.AVAILABLE);
+        PropertyFilter filter = new PropertyFilter(PropertyStatus.AVAILABLE, PropertyType.APARTMENT,
+                new BigDecimal("1000.00"), new BigDecimal("2000.00"), null, null, null, null, null, null);
+        List<Property> found = propertyRepository.findAll(PropertySpecifications.matching(filter));
         
-        assertThat(availableProperties).hasSize(1);
-        assertThat(availableProperties.get(0).getStatus()).isEqualTo(PropertyStatus.AVAILABLE);
+        assertThat(found).extracting(Property::getAddress).containsExactly("123 Main Street");
     }
 
     @Test
-    void shouldFindPropertiesByType() {
+    void shouldFilterByRoomCountsAndSizeInQuery() {
         propertyRepository.save(testProperty);
         
-        Property house = new Property();
-        house.setAddress("789 Pine Road");
-        house.setType(PropertyType.HOUSE);
-        house.setRentPrice(new BigDecimal("2500.00"));
-        house.setStatus(PropertyStatus.AVAILABLE);
-        propertyRepository.save(house);
+        Property studio = new Property();
+        studio.setAddress("9 Studio Court");
+        studio.setType(PropertyType.APARTMENT);
+        studio.setBedrooms(0);
+        studio.setBathrooms(1);
+        studio.setSquareMeters(28.0);
+        studio.setRentPrice(new BigDecimal("800.00"));
+        propertyRepository.save(studio);
         
-        List<Property> apartments = propertyRepository.findByType(PropertyType.APARTMENT);
+        PropertyFilter filter = new PropertyFilter(null, null, null, null, 1, 3, 1, 1, 50.0, null);
+        List<Property> found = propertyRepository.findAll(PropertySpecifications.matching(filter));
         
-        assertThat(apartments).hasSize(1);
-        assertThat(apartments.get(0).getType()).isEqualTo(PropertyType.APARTMENT);
+        assertThat(found).extracting(Property::getAddress).containsExactly("123 Main Street");
     }
 
     @Test
-    void shouldFindPropertiesByAddressContaining() {
+    void shouldScanMatchingPropertiesAndDetachThem() {
         propertyRepository.save(testProperty);
         
-        List<Property> found = propertyRepository.findByAddressContainingIgnoreCase("main");
+        Property rented = new Property();
+        rented.setAddress("456 Oak Avenue");
+        rented.setType(PropertyType.HOUSE);
+        rented.setRentPrice(new BigDecimal("2000.00"));
+        rented.setStatus(PropertyStatus.RENTED);
+        propertyRepository.save(rented);
+        
+        PropertyFilter filter = new PropertyFilter(PropertyStatus.AVAILABLE, null, null, null,
+                null, null, null, null, null, null);
+        List<Property> scanned = new ArrayList<>();
+        propertyRepository.scan(PropertySpecifications.matching(filter), scanned::add);
+        
+        assertThat(scanned).extracting(Property::getAddress).containsExactly("123 Main Street");
+        assertThat(entityManager.getEntityManager().contains(scanned.get(0))).isFalse();
+    }
+
+    @Test
+    void shouldFindOnlyExistingIds() {
+        Property saved = propertyRepository.save(testProperty);
+        
+        List<UUID> existing = propertyRepository.findExistingIds(List.of(saved.getId(), UUID.randomUUID()));
+        
+        assertThat(existing).containsExactly(saved.getId());
+    }
+
+    @Test
+    void shouldDeleteByIdReportingAffectedRows() {
+        Property saved = propertyRepository.save(testProperty);
+        entityManager.flush();
+        
+        assertThat(propertyRepository.deleteRowById(saved.getId())).isEqualTo(1);
+        assertThat(propertyRepository.deleteRowById(saved.getId())).isZero();
+    }
+
+    @Test
+    void shouldSelectOnlyRequestedFields() {
+        Property saved = propertyRepository.save(testProperty);
+        entityManager.flush();
+        entityManager.clear();
+        
+        List<PropertyProjection> found = propertyRepository.findProjected(
+                PropertySpecifications.matching(PropertyFilter.none()),
+                PropertyField.parse("rentPrice,address"),
+                PropertySpecifications.KEYSET_ORDER, 10);
         
         assertThat(found).hasSize(1);
-        assertThat(found.get(0).getAddress()).containsIgnoringCase("main");
+        PropertyProjection projection = found.get(0);
+        assertThat(projection.id()).isEqualTo(saved.getId());
+        assertThat(projection.cursor()).isEqualTo(Cursor.of(saved));
+        assertThat(projection.fields()).containsOnlyKeys("id", "address", "rentPrice");
+        assertThat(projection.fields().get("address")).isEqualTo("123 Main Street");
+        assertThat(entityManager.getEntityManager().contains(saved)).isFalse();
+    }
+
+    @Test
+    void shouldLoadPropertyWithOneSelect() {
+        Property saved = propertyRepository.save(testProperty);
+        entityManager.flush();
+        entityManager.clear();
+        
+        try (StatementCounter.Scope scope = StatementCounter.open()) {
+            propertyRepository.findById(saved.getId());
+            
+            assertThat(scope.counts()).isEqualTo(StatementCounts.selects(1));
+        }
+    }
+
+    @Test
+    void shouldDeleteWithoutReadingTheRow() {
+        Property saved = propertyRepository.save(testProperty);
+        entityManager.flush();
+        entityManager.clear();
+        
+        try (StatementCounter.Scope scope = StatementCounter.open()) {
+            propertyRepository.deleteRowById(saved.getId());
+            
+            assertThat(scope.counts()).isEqualTo(new StatementCounts(0, 0, 0, 1, 0));
+        }
+    }
+
+    @Test
+    void shouldPageWithOneSelectRegardlessOfPageSize() {
+        for (int i = 0; i < 20; i++) {
+            Property property = new Property();
+            property.setAddress(i + " Budget Lane");
+            property.setType(PropertyType.APARTMENT);
+            property.setRentPrice(new BigDecimal("1000.00"));
+            propertyRepository.save(property);
+        }
+        entityManager.flush();
+        entityManager.clear();
+        
+        try (StatementCounter.Scope scope = StatementCounter.open()) {
+            List<Property> page = propertyRepository.findBy(
+                    PropertySpecifications.matching(PropertyFilter.none()),
+                    query -> query.sortBy(PropertySpecifications.KEYSET_ORDER).limit(20).all());
+            
+            assertThat(page).hasSize(20);
+            assertThat(scope.counts()).isEqualTo(StatementCounts.selects(1));
+        }
+    }
+
+    @Test
+    void shouldFindNearestMatchingPropertiesInOneQuery() {
+        propertyRepository.save(testProperty);
+        Property hackescherMarkt = located("Hackescher Markt", 52.5225, 13.4022, PropertyStatus.AVAILABLE);
+        located("Alexanderplatz", 52.5220, 13.4130, PropertyStatus.RENTED);
+        located("Museum Island", 52.5169, 13.4019, PropertyStatus.AVAILABLE);
+        located("Potsdam", 52.3906, 13.0645, PropertyStatus.AVAILABLE);
+        entityManager.flush();
+        entityManager.clear();
+        
+        GeohashLocationSearch search = new GeohashLocationSearch(propertyRepository);
+        PropertyFilter available = new PropertyFilter(PropertyStatus.AVAILABLE, null, null, null,
+                null, null, null, null, null, null);
+        try (StatementCounter.Scope scope = StatementCounter.open()) {
+            List<NearbyProperty> hits = search.nearby(new GeoPoint(52.5219, 13.4132), 2, available, 10);
+            
+            assertThat(hits).extracting(hit -> hit.property().getAddress())
+                    .containsExactly("Hackescher Markt", "Museum Island");
+            assertThat(hits.get(0).property().getGeohash()).isEqualTo(Geohash.encode(52.5225, 13.4022));
+            assertThat(scope.counts()).isEqualTo(StatementCounts.selects(1));
+        }
+        assertThat(search.nearby(new GeoPoint(52.5219, 13.4132), 50, available, 1))
+                .extracting(hit -> hit.property().getId()).containsExactly(hackescherMarkt.getId());
+    }
+
+    @Test
+    void shouldFindPropertiesInsideBoundingBox() {
+        located("Hackescher Markt", 52.5225, 13.4022, PropertyStatus.AVAILABLE);
+        located("Potsdam", 52.3906, 13.0645, PropertyStatus.AVAILABLE);
+        entityManager.flush();
+        entityManager.clear();
+        
+        List<NearbyProperty> hits = new GeohashLocationSearch(propertyRepository)
+                .within(new BoundingBox(52.45, 13.30, 52.60, 13.50), PropertyFilter.none(), 10);
+        
+        assertThat(hits).extracting(hit -> hit.property().getAddress()).containsExactly("Hackescher Markt");
+    }
+
+    @Test
+    void shouldCountFacetsInOneGroupedQuery() {
+        propertyRepository.save(testProperty);
+        located("Hackescher Markt", 52.5225, 13.4022, PropertyStatus.AVAILABLE);
+        located("Alexanderplatz", 52.5220, 13.4130, PropertyStatus.RENTED);
+        entityManager.flush();
+        entityManager.clear();
+        
+        GroupByFacetSearch search = new GroupByFacetSearch(propertyRepository);
+        try (StatementCounter.Scope scope = StatementCounter.open()) {
+            PropertyFacets facets = search.facets(PropertyFilter.none());
+            
+            assertThat(facets.total()).isEqualTo(3);
+            assertThat(facets.byStatus()).containsEntry(PropertyStatus.AVAILABLE, 2L)
+                    .containsEntry(PropertyStatus.RENTED, 1L)
+                    .containsEntry(PropertyStatus.MAINTENANCE, 0L);
+            assertThat(facets.byType()).containsEntry(PropertyType.APARTMENT, 3L);
+            assertThat(facets.byBedrooms()).containsExactly(Map.entry(2, 1L));
+            assertThat(scope.counts()).isEqualTo(StatementCounts.selects(1));
+        }
+        PropertyFilter rented = new PropertyFilter(PropertyStatus.RENTED, null, null, null,
+                null, null, null, null, null, null);
+        assertThat(search.facets(rented).total()).isEqualTo(1);
+    }
+
+    private Property located(String address, double latitude, double longitude, PropertyStatus status) {
+        Property property = new Property();
+        property.setAddress(address);
+        property.setType(PropertyType.APARTMENT);
+        property.setRentPrice(new BigDecimal("1000.00"));
+        property.setStatus(status);
+        property.setLatitude(latitude);
+        property.setLongitude(longitude);
+        return propertyRepository.save(property);
     }
-}
\ No newline at end of file
+}